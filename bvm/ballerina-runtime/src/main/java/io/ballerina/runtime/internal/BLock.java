@@ -19,8 +19,10 @@ package io.ballerina.runtime.internal;
 
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.metrics.LockMetrics;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
@@ -29,21 +31,40 @@ import java.util.ArrayDeque;
  */
 public class BLock {
 
+    private final String name;
+
     private ArrayDeque<Strand> current;
 
     private ArrayDeque<Strand> waitingForLock;
 
-    public BLock() {
+    /**
+     * Time at which the current owner acquired the lock, used for lock metrics.
+     */
+    private long acquiredTime;
+
+    public BLock(String name) {
+        this.name = name;
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
     }
 
     public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+        if (isLockFree()) {
+            if (LockMetrics.isEnabled()) {
+                recordAcquisition(strand);
+            }
+            acquire(strand);
+            return true;
+        }
+
+        if (lockedBySameContext(strand)) {
+            acquire(strand);
             return true;
         }
 
+        if (LockMetrics.isEnabled() && strand.lockWaitStartTime == 0) {
+            strand.lockWaitStartTime = System.nanoTime();
+        }
         this.waitingForLock.offerLast(strand);
 
         // Strand state change
@@ -54,7 +75,12 @@ public class BLock {
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
+        Strand owner = this.current.removeLast();
+        owner.acquiredLocks.remove(this);
+        if (acquiredTime != 0 && isLockFree()) {
+            LockMetrics.recordHoldTime(name, System.nanoTime() - acquiredTime);
+            acquiredTime = 0;
+        }
         if (!waitingForLock.isEmpty()) {
             Strand strand = this.waitingForLock.removeFirst();
             strand.scheduler.unblockStrand(strand);
@@ -68,4 +94,25 @@ public class BLock {
     public boolean lockedBySameContext(Strand ctx) {
         return this.current.getLast() == ctx;
     }
+
+    public String getName() {
+        return name;
+    }
+
+    private void acquire(Strand strand) {
+        this.current.offerLast(strand);
+        if (strand.acquiredLocks == null) {
+            strand.acquiredLocks = new ArrayList<>();
+        }
+        strand.acquiredLocks.add(this);
+    }
+
+    private void recordAcquisition(Strand strand) {
+        long now = System.nanoTime();
+        if (strand.lockWaitStartTime != 0) {
+            LockMetrics.recordWaitTime(name, now - strand.lockWaitStartTime);
+            strand.lockWaitStartTime = 0;
+        }
+        this.acquiredTime = now;
+    }
 }
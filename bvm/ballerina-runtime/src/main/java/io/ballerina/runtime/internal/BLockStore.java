@@ -41,21 +41,20 @@ public class BLockStore {
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, new BLock(lockName));
     }
 
     public BLock getLockFromMap(String lockName) {
-        return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
-        });
+        return globalLockMap.computeIfAbsent(lockName, BLock::new);
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
-        for (BLock lock : globalLockMap.values()) {
-            if (lock.isLockFree()) {
-                continue;
-            }
-            if (lock.lockedBySameContext(strand)) {
+        if (strand.acquiredLocks == null) {
+            return;
+        }
+        // Only the locks held by the given strand need to be checked, and of those only the ones from this store.
+        for (BLock lock : strand.acquiredLocks) {
+            if (globalLockMap.get(lock.getName()) == lock) {
                 throw ErrorCreator.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
             }
         }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * An open addressing hash index, which maps the shape hashes of Ballerina values, as generated by
+ * {@link TableUtils#hash}, to integer ids such as row positions. Hashes are kept as primitive longs in parallel arrays,
+ * so adding an id allocates nothing but the occasional resize.
+ * <p>
+ * Several ids can be added with the same hash, either because the values are equal or because their hashes collide.
+ * The index does not know the values, so lookups take a predicate to tell the matching ids apart.
+ *
+ * @since 2.0.0
+ */
+public class HashIndex {
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] hashes;
+    private int[] ids;
+    private int mask;
+    private int size;
+
+    public HashIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds an id for the given hash.
+     *
+     * @param hash hash of the value
+     * @param id   id to be added
+     */
+    public void add(long hash, int id) {
+        if ((size + 1) * 2 > ids.length) {
+            resize(ids.length * 2);
+        }
+        int slot = slot(hash);
+        while (ids[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        ids[slot] = id;
+        size++;
+    }
+
+    /**
+     * Removes an id added for the given hash.
+     *
+     * @param hash hash the id was added with
+     * @param id   id to be removed
+     * @return true if the id was found
+     */
+    public boolean remove(long hash, int id) {
+        for (int slot = slot(hash); ids[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (ids[slot] == id && hashes[slot] == hash) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds an id added for the given hash, which is accepted by the matcher.
+     *
+     * @param hash    hash of the value
+     * @param matcher predicate to check whether the value of an id matches
+     * @return the first matching id, or -1 if there is none
+     */
+    public int find(long hash, IntPredicate matcher) {
+        for (int slot = slot(hash); ids[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matcher.test(ids[slot])) {
+                return ids[slot];
+            }
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Passes all the ids added for the given hash to the consumer, in no particular order.
+     *
+     * @param hash     hash of the value
+     * @param consumer consumer of the ids
+     */
+    public void forEach(long hash, IntConsumer consumer) {
+        for (int slot = slot(hash); ids[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash) {
+                consumer.accept(ids[slot]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    private int slot(long hash) {
+        // Spread the bits, since the shape hashes of small integers and strings are poorly distributed.
+        long h = hash * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Fills the freed slot by moving back the following entries of the probe sequence, which would not be found
+     * otherwise. This keeps the probe sequences short without tombstones.
+     */
+    private void shiftBack(int freedSlot) {
+        int gap = freedSlot;
+        int slot = freedSlot;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (ids[slot] == EMPTY) {
+                break;
+            }
+            int home = slot(hashes[slot]);
+            // Move the entry to the gap unless its home slot lies cyclically between the gap and its current slot.
+            boolean movable = gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (movable) {
+                hashes[gap] = hashes[slot];
+                ids[gap] = ids[slot];
+                gap = slot;
+            }
+        }
+        ids[gap] = EMPTY;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHashes = hashes;
+        int[] oldIds = ids;
+        allocate(capacity);
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int slot = slot(oldHashes[i]);
+                while (ids[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                hashes[slot] = oldHashes[i];
+                ids[slot] = oldIds[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        hashes = new long[capacity];
+        ids = new int[capacity];
+        Arrays.fill(ids, EMPTY);
+        mask = capacity - 1;
+    }
+}
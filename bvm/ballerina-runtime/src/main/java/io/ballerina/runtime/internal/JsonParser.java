@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
@@ -138,6 +139,20 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Parses the contents in the given {@link Reader} directly into a value of the given type, without creating an
+     * intermediate json value.
+     *
+     * @param reader     reader which contains the JSON content
+     * @param targetType the type of the value to be created
+     * @return a value belonging to the target type
+     * @throws BError for any parsing error or if the content cannot be converted to the target type
+     * @see TypedJsonParser
+     */
+    public static Object parse(Reader reader, Type targetType) throws BError {
+        return TypedJsonParser.parse(reader, targetType);
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
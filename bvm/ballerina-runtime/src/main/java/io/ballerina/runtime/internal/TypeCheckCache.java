@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe memo of type-only subtype checks done by the {@link TypeChecker}.
+ * <p>
+ * Type descriptors are immutable once created, hence a computed result stays valid for the lifetime of the types
+ * and entries never need to be invalidated. The cache is a fixed size, direct-mapped table keyed on the identities
+ * of the source and target types. A colliding entry simply replaces the existing one, which keeps both lookups and
+ * updates lock-free and bounds the memory used.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private static final int CACHE_SIZE = 4096;
+    private static final int INDEX_MASK = CACHE_SIZE - 1;
+
+    private static final Entry[] entries = new Entry[CACHE_SIZE];
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return cached result, or null if the result is not cached
+     */
+    static Boolean get(Type sourceType, Type targetType) {
+        Entry entry = entries[indexOf(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType) {
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @param result     result of the check
+     */
+    static void put(Type sourceType, Type targetType, boolean result) {
+        entries[indexOf(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    /**
+     * Returns the number of type checks that were answered from the cache.
+     *
+     * @return number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of type checks that had to be computed.
+     *
+     * @return number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    private static int indexOf(Type sourceType, Type targetType) {
+        int hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & INDEX_MASK;
+    }
+
+    /**
+     * An immutable cache entry. Final fields guarantee that a racing reader never observes a partially constructed
+     * entry.
+     */
+    private static class Entry {
+        private final Type sourceType;
+        private final Type targetType;
+        private final boolean result;
+
+        private Entry(Type sourceType, Type targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
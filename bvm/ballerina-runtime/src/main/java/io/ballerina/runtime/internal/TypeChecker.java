@@ -690,8 +690,19 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes != null && !unresolvedTypes.isEmpty()) {
+                    // Results computed while resolving a recursive check depend on the pairs assumed to hold so far,
+                    // hence only the results of checks that do not assume any pair are cached.
+                    return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
+                }
+                Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+                if (cachedResult != null) {
+                    return cachedResult;
+                }
+                boolean result = checkIsRecursiveType(sourceType, targetType,
+                                                      unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                TypeCheckCache.put(sourceType, targetType, result);
+                return result;
         }
     }
 
@@ -0,0 +1,796 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.ArrayType.ArrayState;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
+import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pull based JSON parser which materializes a value of a given target type directly from the character stream.
+ * <p>
+ * Unlike {@link JsonParser} followed by a {@code fromJsonWithType} conversion, records, maps and arrays of the target
+ * type are created while the input is read, and {@code int}, {@code float} and {@code boolean} array members are
+ * stored without boxing. The result is the same value the two phase path produces. Only the conversions that map a
+ * JSON value to exactly one candidate type are handled here (basic types, nilable basic types, records, maps,
+ * arrays, {@code json} and {@code anydata}); any other target type, or any input that needs a lossy or ambiguous
+ * conversion, fails with an error, so callers that need the exact diagnostics of the two phase path can retry it.
+ *
+ * @since 2.0.0
+ */
+public class TypedJsonParser {
+
+    private static final char EOF = (char) -1;
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 34;
+
+    private final Reader reader;
+    private final BTypedesc typedesc;
+    private final char[] buff = new char[1024];
+    private int pos;
+    private int limit;
+    private int line = 1;
+    private int column;
+
+    private char[] charBuff = new char[256];
+    private int charBuffIndex;
+
+    private final Map<RecordType, RecordDescriptor> recordDescriptors = new IdentityHashMap<>();
+
+    private TypedJsonParser(Reader reader, BTypedesc typedesc) {
+        this.reader = reader;
+        this.typedesc = typedesc;
+    }
+
+    /**
+     * Parses the contents in the given {@link Reader} into a value of the given type.
+     *
+     * @param reader     reader which contains the JSON content
+     * @param targetType the type of the value to be created
+     * @return a value belonging to the target type
+     * @throws BError for any parsing error or if the content cannot be converted to the target type
+     */
+    public static Object parse(Reader reader, Type targetType) throws BError {
+        return new TypedJsonParser(reader, null).execute(targetType);
+    }
+
+    /**
+     * Parses the given string into a value of the type described by the given typedesc. Records of the described
+     * type are instantiated through the typedesc, so that their default field values are populated.
+     *
+     * @param jsonStr  the string which contains the JSON content
+     * @param typedesc the typedesc of the value to be created
+     * @return a value belonging to the described type
+     * @throws BError for any parsing error or if the content cannot be converted to the described type
+     */
+    public static Object parse(String jsonStr, BTypedesc typedesc) throws BError {
+        return new TypedJsonParser(new StringReader(jsonStr), typedesc).execute(typedesc.getDescribingType());
+    }
+
+    private Object execute(Type targetType) {
+        try {
+            Object value = readValue(targetType);
+            if (skipWhitespace() != EOF) {
+                throw syntaxError("JSON document has already ended");
+            }
+            return value;
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    private Object readValue(Type targetType) throws IOException {
+        char ch = skipWhitespace();
+        if (ch == 'n') {
+            readLiteral("null");
+            if (!targetType.isNilable()) {
+                throw conversionError(PredefinedTypes.TYPE_NULL, targetType);
+            }
+            return null;
+        }
+
+        switch (targetType.getTag()) {
+            case TypeTags.INT_TAG:
+                return readInt(ch, targetType);
+            case TypeTags.FLOAT_TAG:
+                return readFloat(ch, targetType);
+            case TypeTags.DECIMAL_TAG:
+                return readDecimal(ch, targetType);
+            case TypeTags.STRING_TAG:
+                if (ch != '"') {
+                    throw conversionError(ch, targetType);
+                }
+                return readString();
+            case TypeTags.BOOLEAN_TAG:
+                return readBoolean(ch, targetType);
+            case TypeTags.JSON_TAG:
+                if (targetType.isReadOnly()) {
+                    throw conversionError(ch, targetType);
+                }
+                return readJson(ch);
+            case TypeTags.ANYDATA_TAG:
+                if (targetType.isReadOnly()) {
+                    throw conversionError(ch, targetType);
+                }
+                return readAnydata(ch, targetType);
+            case TypeTags.RECORD_TYPE_TAG:
+                return readRecord(ch, (RecordType) targetType);
+            case TypeTags.MAP_TAG:
+                return readMap(ch, (MapType) targetType);
+            case TypeTags.ARRAY_TAG:
+                return readArray(ch, (ArrayType) targetType);
+            case TypeTags.UNION_TAG:
+                Type nonNilType = getNonNilMemberType((UnionType) targetType);
+                if (nonNilType == null) {
+                    throw conversionError(ch, targetType);
+                }
+                return readValue(nonNilType);
+            default:
+                throw conversionError(ch, targetType);
+        }
+    }
+
+    private long readInt(char ch, Type targetType) throws IOException {
+        if (!isNumberStart(ch)) {
+            throw conversionError(ch, targetType);
+        }
+        int kind = readNumber();
+        if (kind != NUMBER_INTEGER || isNegativeZero()) {
+            throw conversionError(numberType(kind), targetType);
+        }
+        return parseLong(targetType);
+    }
+
+    private double readFloat(char ch, Type targetType) throws IOException {
+        if (!isNumberStart(ch)) {
+            throw conversionError(ch, targetType);
+        }
+        int kind = readNumber();
+        if (isNegativeZero()) {
+            return -0.0;
+        }
+        switch (kind) {
+            case NUMBER_INTEGER:
+                return parseLong(targetType);
+            case NUMBER_FRACTION:
+                if (numberDigits() <= MAX_EXACT_DOUBLE_DIGITS) {
+                    return Double.parseDouble(value());
+                }
+                return toDecimal(targetType).floatValue();
+            default:
+                return toDecimal(targetType).floatValue();
+        }
+    }
+
+    private DecimalValue readDecimal(char ch, Type targetType) throws IOException {
+        if (!isNumberStart(ch)) {
+            throw conversionError(ch, targetType);
+        }
+        int kind = readNumber();
+        if (isNegativeZero()) {
+            throw conversionError(PredefinedTypes.TYPE_FLOAT, targetType);
+        }
+        if (kind == NUMBER_INTEGER) {
+            return (DecimalValue) TypeConverter.convertValues(targetType, parseLong(targetType));
+        }
+        return toDecimal(targetType);
+    }
+
+    private boolean readBoolean(char ch, Type targetType) throws IOException {
+        if (ch == 't') {
+            readLiteral("true");
+            return true;
+        } else if (ch == 'f') {
+            readLiteral("false");
+            return false;
+        }
+        throw conversionError(ch, targetType);
+    }
+
+    private BMap<BString, Object> readRecord(char ch, RecordType recordType) throws IOException {
+        if (ch != '{' || recordType.isReadOnly()) {
+            throw conversionError(ch, recordType);
+        }
+        RecordDescriptor descriptor = getRecordDescriptor(recordType);
+        BMap<BString, Object> record = createRecord(recordType);
+        boolean[] seenRequiredFields = new boolean[descriptor.requiredFieldCount];
+        int seenRequiredFieldCount = 0;
+
+        next();
+        if (skipWhitespace() != '}') {
+            do {
+                String fieldName = readFieldName();
+                Field field = descriptor.fields.get(fieldName);
+                Type fieldType;
+                if (field != null) {
+                    fieldType = field.getFieldType();
+                    Integer requiredIndex = descriptor.requiredFieldIndexes.get(fieldName);
+                    if (requiredIndex != null && !seenRequiredFields[requiredIndex]) {
+                        seenRequiredFields[requiredIndex] = true;
+                        seenRequiredFieldCount++;
+                    }
+                } else if (!recordType.isSealed()) {
+                    fieldType = recordType.getRestFieldType();
+                } else {
+                    throw conversionError(PredefinedTypes.TYPE_JSON, recordType);
+                }
+                record.put(StringUtils.fromString(fieldName), readValue(fieldType));
+            } while (nextMember('}'));
+        }
+        next();
+
+        if (seenRequiredFieldCount != descriptor.requiredFieldCount) {
+            throw conversionError(PredefinedTypes.TYPE_JSON, recordType);
+        }
+        return record;
+    }
+
+    private BMap<BString, Object> createRecord(RecordType recordType) {
+        if (typedesc != null && typedesc.getDescribingType() == recordType) {
+            return (BMap<BString, Object>) typedesc.instantiate(Scheduler.getStrand());
+        }
+        return ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+    }
+
+    private BMap<BString, Object> readMap(char ch, MapType mapType) throws IOException {
+        if (ch != '{' || mapType.isReadOnly()) {
+            throw conversionError(ch, mapType);
+        }
+        Type constraintType = mapType.getConstrainedType();
+        BMap<BString, Object> map = ValueCreator.createMapValue(mapType);
+        next();
+        if (skipWhitespace() != '}') {
+            do {
+                BString key = StringUtils.fromString(readFieldName());
+                map.put(key, readValue(constraintType));
+            } while (nextMember('}'));
+        }
+        next();
+        return map;
+    }
+
+    private BArray readArray(char ch, ArrayType arrayType) throws IOException {
+        if (ch != '[' || arrayType.isReadOnly() || arrayType.getState() == ArrayState.CLOSED) {
+            throw conversionError(ch, arrayType);
+        }
+        Type elementType = arrayType.getElementType();
+        BArray array = ValueCreator.createArrayValue(arrayType);
+        next();
+        if (skipWhitespace() == ']') {
+            next();
+            return array;
+        }
+
+        int index = 0;
+        // Primitive members are added through the typed overloads, which store them in the unboxed backing arrays.
+        switch (elementType.getTag()) {
+            case TypeTags.INT_TAG:
+                do {
+                    array.add(index++, readInt(skipWhitespace(), elementType));
+                } while (nextMember(']'));
+                break;
+            case TypeTags.FLOAT_TAG:
+                do {
+                    array.add(index++, readFloat(skipWhitespace(), elementType));
+                } while (nextMember(']'));
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                do {
+                    array.add(index++, readBoolean(skipWhitespace(), elementType));
+                } while (nextMember(']'));
+                break;
+            case TypeTags.STRING_TAG:
+                do {
+                    if (skipWhitespace() != '"') {
+                        throw conversionError(peek(), elementType);
+                    }
+                    array.add(index++, readString());
+                } while (nextMember(']'));
+                break;
+            default:
+                do {
+                    array.add(index++, readValue(elementType));
+                } while (nextMember(']'));
+                break;
+        }
+        next();
+        return array;
+    }
+
+    /**
+     * Reads a JSON value in the same shape {@link JsonParser} creates it.
+     */
+    private Object readJson(char ch) throws IOException {
+        switch (ch) {
+            case '{':
+                MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_JSON));
+                next();
+                if (skipWhitespace() != '}') {
+                    do {
+                        BString key = StringUtils.fromString(readFieldName());
+                        map.put(key, readJson(skipWhitespace()));
+                    } while (nextMember('}'));
+                }
+                next();
+                return map;
+            case '[':
+                ArrayValueImpl array = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+                next();
+                if (skipWhitespace() != ']') {
+                    do {
+                        array.append(readJson(skipWhitespace()));
+                    } while (nextMember(']'));
+                }
+                next();
+                return array;
+            default:
+                return readJsonScalar(ch, PredefinedTypes.TYPE_JSON);
+        }
+    }
+
+    /**
+     * Reads a value for an {@code anydata} target. This follows the matching type resolution of the conversion from
+     * JSON: objects become {@code map<anydata>}, arrays become {@code anydata[]} and simple values retain their type.
+     */
+    private Object readAnydata(char ch, Type anydataType) throws IOException {
+        switch (ch) {
+            case '{':
+                MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(anydataType));
+                next();
+                if (skipWhitespace() != '}') {
+                    do {
+                        BString key = StringUtils.fromString(readFieldName());
+                        map.put(key, readAnydataMember(anydataType));
+                    } while (nextMember('}'));
+                }
+                next();
+                return map;
+            case '[':
+                BArray array = ValueCreator.createArrayValue(new BArrayType(anydataType));
+                int index = 0;
+                next();
+                if (skipWhitespace() != ']') {
+                    do {
+                        array.add(index++, readAnydataMember(anydataType));
+                    } while (nextMember(']'));
+                }
+                next();
+                return array;
+            default:
+                return readJsonScalar(ch, anydataType);
+        }
+    }
+
+    private Object readAnydataMember(Type anydataType) throws IOException {
+        char ch = skipWhitespace();
+        if (ch == 'n') {
+            readLiteral("null");
+            return null;
+        }
+        return readAnydata(ch, anydataType);
+    }
+
+    private Object readJsonScalar(char ch, Type targetType) throws IOException {
+        switch (ch) {
+            case '"':
+                return readString();
+            case 't':
+            case 'f':
+                return readBoolean(ch, targetType);
+            case 'n':
+                readLiteral("null");
+                return null;
+            default:
+                if (!isNumberStart(ch)) {
+                    throw syntaxError("unrecognized token '" + ch + "'");
+                }
+                int kind = readNumber();
+                if (isNegativeZero()) {
+                    return Double.parseDouble(value());
+                }
+                if (kind == NUMBER_INTEGER) {
+                    return parseLong(targetType);
+                }
+                return toDecimal(targetType);
+        }
+    }
+
+    // ------------------------ Tokens ---------------------------------------------------------------------
+
+    private static final int NUMBER_INTEGER = 0;
+    private static final int NUMBER_FRACTION = 1;
+    private static final int NUMBER_EXPONENT = 2;
+
+    /**
+     * Reads a number token into the character buffer. Only the strict JSON number grammar is accepted; exponents are
+     * accepted only along with a fraction, matching the literals {@link JsonParser} can read.
+     *
+     * @return the kind of the number
+     */
+    private int readNumber() throws IOException {
+        charBuffIndex = 0;
+        char ch = peek();
+        if (ch == '-') {
+            append(next());
+            ch = peek();
+        }
+        if (ch == '0') {
+            append(next());
+        } else if (isDigit(ch)) {
+            readDigits();
+        } else {
+            throw syntaxError("unrecognized token '" + value() + ch + "'");
+        }
+
+        int kind = NUMBER_INTEGER;
+        if (peek() == '.') {
+            append(next());
+            if (!isDigit(peek())) {
+                throw syntaxError("unrecognized token '" + value() + "'");
+            }
+            readDigits();
+            kind = NUMBER_FRACTION;
+            ch = peek();
+            if (ch == 'e' || ch == 'E') {
+                append(next());
+                ch = peek();
+                if (ch == '+' || ch == '-') {
+                    append(next());
+                }
+                if (!isDigit(peek())) {
+                    throw syntaxError("unrecognized token '" + value() + "'");
+                }
+                readDigits();
+                kind = NUMBER_EXPONENT;
+            }
+        }
+
+        ch = peek();
+        if (!isWhitespace(ch) && ch != ',' && ch != '}' && ch != ']' && ch != EOF) {
+            throw syntaxError("unrecognized token '" + value() + ch + "'");
+        }
+        return kind;
+    }
+
+    private void readDigits() throws IOException {
+        while (isDigit(peek())) {
+            append(next());
+        }
+    }
+
+    private int numberDigits() {
+        int digits = 0;
+        for (int i = 0; i < charBuffIndex; i++) {
+            if (isDigit(charBuff[i])) {
+                digits++;
+            }
+        }
+        return digits;
+    }
+
+    private boolean isNegativeZero() {
+        if (charBuff[0] != '-') {
+            return false;
+        }
+        for (int i = 1; i < charBuffIndex; i++) {
+            char ch = charBuff[i];
+            if (ch == 'e' || ch == 'E') {
+                break;
+            }
+            if (ch != '0' && ch != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long parseLong(Type targetType) {
+        try {
+            return Long.parseLong(value());
+        } catch (NumberFormatException e) {
+            throw conversionError(PredefinedTypes.TYPE_DECIMAL, targetType);
+        }
+    }
+
+    private DecimalValue toDecimal(Type targetType) {
+        try {
+            return new DecimalValue(value());
+        } catch (NumberFormatException e) {
+            throw syntaxError("unrecognized token '" + value() + "'");
+        }
+    }
+
+    private String readFieldName() throws IOException {
+        if (skipWhitespace() != '"') {
+            throw syntaxError("expected '\"'");
+        }
+        String fieldName = readString().getValue();
+        if (skipWhitespace() != ':') {
+            throw syntaxError("expected ':'");
+        }
+        next();
+        return fieldName;
+    }
+
+    private BString readString() throws IOException {
+        next();
+        charBuffIndex = 0;
+        while (true) {
+            char ch = next();
+            if (ch == '"') {
+                return StringUtils.fromString(value());
+            } else if (ch == '\\') {
+                append(readEscapedChar());
+            } else if (ch == EOF) {
+                throw syntaxError("unexpected end of JSON document");
+            } else {
+                append(ch);
+            }
+        }
+    }
+
+    private char readEscapedChar() throws IOException {
+        char ch = next();
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                return ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codePoint = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("expected hexadecimal value of an unicode character");
+                    }
+                    codePoint = (codePoint << 4) | digit;
+                }
+                return (char) codePoint;
+            default:
+                throw syntaxError("expected escaped characters");
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) {
+                throw syntaxError("unrecognized token, expected '" + literal + "'");
+            }
+        }
+        char ch = peek();
+        if (!isWhitespace(ch) && ch != ',' && ch != '}' && ch != ']' && ch != EOF) {
+            throw syntaxError("unrecognized token '" + literal + ch + "'");
+        }
+    }
+
+    /**
+     * Consumes the separator after an object or array member.
+     *
+     * @param end the character which ends the enclosing object or array
+     * @return true if another member follows, false if the end character is the next character
+     */
+    private boolean nextMember(char end) throws IOException {
+        char ch = skipWhitespace();
+        if (ch == ',') {
+            next();
+            return true;
+        } else if (ch == end) {
+            return false;
+        }
+        throw syntaxError("expected ',' or '" + end + "'");
+    }
+
+    // ------------------------ Input ----------------------------------------------------------------------
+
+    private char peek() throws IOException {
+        if (pos == limit && !fill()) {
+            return EOF;
+        }
+        return buff[pos];
+    }
+
+    private char next() throws IOException {
+        if (pos == limit && !fill()) {
+            return EOF;
+        }
+        char ch = buff[pos++];
+        if (ch == '\n') {
+            line++;
+            column = 0;
+        } else {
+            column++;
+        }
+        return ch;
+    }
+
+    private char skipWhitespace() throws IOException {
+        char ch = peek();
+        while (isWhitespace(ch)) {
+            next();
+            ch = peek();
+        }
+        return ch;
+    }
+
+    private boolean fill() throws IOException {
+        int count = reader.read(buff);
+        if (count <= 0) {
+            return false;
+        }
+        pos = 0;
+        limit = count;
+        return true;
+    }
+
+    private void append(char ch) {
+        if (charBuffIndex == charBuff.length) {
+            char[] newBuff = new char[charBuff.length * 2];
+            System.arraycopy(charBuff, 0, newBuff, 0, charBuff.length);
+            charBuff = newBuff;
+        }
+        charBuff[charBuffIndex++] = ch;
+    }
+
+    private String value() {
+        return new String(charBuff, 0, charBuffIndex);
+    }
+
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isNumberStart(char ch) {
+        return ch == '-' || isDigit(ch);
+    }
+
+    // ------------------------ Types and errors -----------------------------------------------------------
+
+    private static Type getNonNilMemberType(UnionType unionType) {
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+            return memberTypes.get(1);
+        } else if (memberTypes.get(1).getTag() == TypeTags.NULL_TAG) {
+            return memberTypes.get(0);
+        }
+        return null;
+    }
+
+    private RecordDescriptor getRecordDescriptor(RecordType recordType) {
+        RecordDescriptor descriptor = recordDescriptors.get(recordType);
+        if (descriptor == null) {
+            descriptor = new RecordDescriptor(recordType);
+            recordDescriptors.put(recordType, descriptor);
+        }
+        return descriptor;
+    }
+
+    private static Type numberType(int kind) {
+        return kind == NUMBER_INTEGER ? PredefinedTypes.TYPE_INT : PredefinedTypes.TYPE_DECIMAL;
+    }
+
+    private BError conversionError(char ch, Type targetType) {
+        Type sourceType;
+        switch (ch) {
+            case '{':
+                sourceType = PredefinedTypes.TYPE_MAP;
+                break;
+            case '[':
+                sourceType = PredefinedTypes.TYPE_JSON_ARRAY;
+                break;
+            case '"':
+                sourceType = PredefinedTypes.TYPE_STRING;
+                break;
+            case 't':
+            case 'f':
+                sourceType = PredefinedTypes.TYPE_BOOLEAN;
+                break;
+            case 'n':
+                sourceType = PredefinedTypes.TYPE_NULL;
+                break;
+            case EOF:
+                return syntaxError("unexpected end of JSON document");
+            default:
+                sourceType = isNumberStart(ch) ? PredefinedTypes.TYPE_INT : PredefinedTypes.TYPE_JSON;
+                break;
+        }
+        return conversionError(sourceType, targetType);
+    }
+
+    private BError conversionError(Type sourceType, Type targetType) {
+        return ErrorCreator.createError(BallerinaErrorReasons.JSON_CONVERSION_ERROR,
+                                        BLangExceptionHelper.getErrorMessage(
+                                                RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION, sourceType, targetType)
+                                                .concat(StringUtils.fromString(location())));
+    }
+
+    private BError syntaxError(String message) {
+        return ErrorCreator.createError(StringUtils.fromString(message + location()));
+    }
+
+    private String location() {
+        return " at line: " + line + " column: " + column;
+    }
+
+    /**
+     * The field lookup information of a record type, computed once per parse.
+     */
+    private static class RecordDescriptor {
+
+        private final Map<String, Field> fields;
+        private final Map<String, Integer> requiredFieldIndexes = new HashMap<>();
+        private final int requiredFieldCount;
+
+        RecordDescriptor(RecordType recordType) {
+            this.fields = recordType.getFields();
+            for (Field field : fields.values()) {
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED)) {
+                    requiredFieldIndexes.put(field.getFieldName(), requiredFieldIndexes.size());
+                }
+            }
+            this.requiredFieldCount = requiredFieldIndexes.size();
+        }
+    }
+}
@@ -29,14 +29,13 @@ import io.ballerina.runtime.internal.util.RuntimeUtils;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
+import io.ballerina.runtime.observability.metrics.SchedulerMetrics;
 
 import java.io.PrintStream;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -61,14 +60,21 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
+    /**
+     * Number of strand worker threads running strands. Only maintained while scheduler metrics are enabled.
+     */
+    private final AtomicInteger busyThreads = new AtomicInteger();
+
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -92,15 +98,49 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads, readSchedulerMode());
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, readSchedulerMode());
+    }
+
+    public Scheduler(int numThreads, boolean immortal, boolean workStealing) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads, workStealing);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private static RunQueue createRunQueue(int numThreads, boolean workStealing) {
+        if (workStealing) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        return new GlobalRunQueue();
+    }
+
+    /**
+     * Reads the scheduling mode from the BALLERINA_SCHEDULER_MODE system variable. Strand worker threads share a
+     * single run queue by default, while the `work-stealing` mode gives each worker a run queue of its own.
+     *
+     * @return true if the work stealing mode is selected
+     */
+    private static boolean readSchedulerMode() {
+        if (schedulerModeConf == null ||
+                RuntimeConstants.BALLERINA_SCHEDULER_MODE_GLOBAL.equalsIgnoreCase(schedulerModeConf)) {
+            return false;
+        }
+        if (RuntimeConstants.BALLERINA_SCHEDULER_MODE_WORK_STEALING.equalsIgnoreCase(schedulerModeConf)) {
+            return true;
+        }
+        // Log and continue with default
+        PrintStream err = System.err;
+        err.println("ballerina: invalid value '" + schedulerModeConf + "' for system variable:" +
+                            RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", using the default scheduler mode");
+        return false;
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -152,6 +192,7 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        item.onCreated();
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
@@ -215,6 +256,7 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        item.onCreated();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
@@ -241,6 +283,7 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        item.onCreated();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
@@ -249,11 +292,13 @@ public class Scheduler {
     }
 
     public void start() {
+        SchedulerMetrics.registerScheduler(runnableList::size, totalStrands::get, busyThreads::get, numThreads);
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -264,8 +309,9 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
+            runnableList.registerWorker(workerId);
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
@@ -290,12 +336,23 @@ public class Scheduler {
                 break;
             }
 
+            boolean recordMetrics = SchedulerMetrics.isEnabled();
+            if (recordMetrics) {
+                busyThreads.incrementAndGet();
+            }
             while (!group.items.empty()) {
                 Object result = null;
                 Throwable panic = null;
 
                 item = group.get();
 
+                long startTime = 0;
+                if (recordMetrics) {
+                    startTime = System.nanoTime();
+                    if (item.readyTime != 0) {
+                        SchedulerMetrics.recordSchedulingLatency(startTime - item.readyTime);
+                    }
+                }
                 try {
                     strandHolder.get().strand = item.future.strand;
                     result = item.execute();
@@ -314,11 +371,17 @@ public class Scheduler {
                 } finally {
                     strandHolder.get().strand = null;
                 }
+                if (recordMetrics) {
+                    SchedulerMetrics.recordExecutionTime(System.nanoTime() - startTime);
+                }
                 postProcess(item, result, panic);
                 if (group.items.empty()) {
                     group.scheduled.set(false);
                 }
             }
+            if (recordMetrics) {
+                busyThreads.decrementAndGet();
+            }
         }
     }
 
@@ -328,6 +391,7 @@ public class Scheduler {
     private void postProcess(SchedulerItem item, Object result, Throwable panic) {
         switch (item.getState()) {
             case BLOCK_AND_YIELD:
+                item.onBlocked();
                 item.future.strand.lock();
                 // need to recheck due to concurrency, unblockStrand() may have changed state
                 if (item.getState().getStatus() == State.YIELD.getStatus()) {
@@ -339,6 +403,7 @@ public class Scheduler {
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
+                item.onBlocked();
                 WaitContext waitContext = item.future.strand.waitContext;
                 waitContext.lock();
                 waitContext.intermediate = false;
@@ -349,6 +414,7 @@ public class Scheduler {
                 waitContext.unLock();
                 break;
             case YIELD:
+                SchedulerMetrics.recordYield();
                 reschedule(item);
                 break;
             case RUNNABLE:
@@ -389,6 +455,7 @@ public class Scheduler {
                 }
 
                 cleanUp(justCompleted);
+                item.onCompleted();
 
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
@@ -462,6 +529,7 @@ public class Scheduler {
         if (!item.getState().equals(State.RUNNABLE)) {
             ItemGroup group = item.future.strand.strandGroup;
             item.setState(State.RUNNABLE);
+            item.onReady();
             group.add(item);
 
             // Group maybe not picked by any thread at the moment because,
@@ -551,6 +619,11 @@ class SchedulerItem {
     final FutureValue future;
     boolean parked;
 
+    // Timestamps for scheduler metrics, only set while the metrics are enabled. Zero means not recorded.
+    private long createdTime;
+    long readyTime;
+    private long blockedTime;
+
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
         this.function = function;
@@ -571,6 +644,39 @@ class SchedulerItem {
         return this.function.apply(this.params);
     }
 
+    void onCreated() {
+        if (SchedulerMetrics.isEnabled()) {
+            SchedulerMetrics.recordStrandCreated();
+            this.createdTime = System.nanoTime();
+            this.readyTime = this.createdTime;
+        }
+    }
+
+    void onReady() {
+        if (!SchedulerMetrics.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (this.blockedTime != 0) {
+            SchedulerMetrics.recordBlockedTime(now - this.blockedTime);
+            this.blockedTime = 0;
+        }
+        this.readyTime = now;
+    }
+
+    void onBlocked() {
+        if (SchedulerMetrics.isEnabled()) {
+            SchedulerMetrics.recordBlock();
+            this.blockedTime = System.nanoTime();
+        }
+    }
+
+    void onCompleted() {
+        if (this.createdTime != 0) {
+            SchedulerMetrics.recordStrandCompleted(System.nanoTime() - this.createdTime);
+        }
+    }
+
     public boolean isYielded() {
         return this.future.strand.isYielded();
     }
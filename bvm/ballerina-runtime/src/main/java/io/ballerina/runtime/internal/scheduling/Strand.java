@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BLock;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -71,6 +72,8 @@ public class Strand {
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public boolean cancel;
+    public List<BLock> acquiredLocks;
+    public long lockWaitStartTime;
 
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link RunQueue} implementation where each strand worker thread owns a deque of runnable groups.
+ * <p>
+ * Groups made runnable by a worker thread (new strands, unblocked strands) are pushed to that worker's own deque.
+ * Groups submitted from other threads (e.g. I/O callbacks) go to a shared injection queue. A worker first drains
+ * its own deque, then the injection queue, and when both are empty steals from the tail of another worker's deque
+ * before going idle.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private final Deque<ItemGroup>[] localQueues;
+    private final Queue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Integer> workerId = new ThreadLocal<>();
+
+    /**
+     * Idle workers wait on this semaphore. A permit is released whenever work is added while some worker is idle.
+     */
+    private final Semaphore idlePermits = new Semaphore(0);
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new Deque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        this.workerId.set(workerId);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Integer id = workerId.get();
+        if (id != null && group != ItemGroup.POISON_PILL) {
+            localQueues[id].addLast(group);
+        } else {
+            injectionQueue.add(group);
+        }
+        signalIdleWorker();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        int id = workerId.get();
+        while (true) {
+            ItemGroup group = poll(id);
+            if (group != null) {
+                return group;
+            }
+
+            idleWorkers.incrementAndGet();
+            try {
+                // Recheck after announcing idleness so that a concurrent add either is seen here or signals us.
+                group = poll(id);
+                if (group != null) {
+                    return group;
+                }
+                idlePermits.acquire();
+            } finally {
+                idleWorkers.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = injectionQueue.size();
+        for (Deque<ItemGroup> queue : localQueues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    private ItemGroup poll(int id) {
+        ItemGroup group = localQueues[id].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = injectionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(id);
+    }
+
+    private ItemGroup steal(int id) {
+        int numWorkers = localQueues.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            int victim = (start + i) % numWorkers;
+            if (victim == id) {
+                continue;
+            }
+            ItemGroup group = localQueues[victim].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalIdleWorker() {
+        // Surplus permits only cause spurious wakeups, so cap them to the number of workers.
+        if (idleWorkers.get() > 0 && idlePermits.availablePermits() < localQueues.length) {
+            idlePermits.release();
+        }
+    }
+}
@@ -19,36 +19,46 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel has a single sending worker and a single receiving worker. Async sends and receives go through a
+ * lock-free {@link WorkerDataQueue} and only touch the channel lock when a sync send, a flush or an error/panic is
+ * involved. The sender wakes the receiver up only if the receiver has parked itself on an empty channel, so a
+ * receiver that keeps up with the sender is never rescheduled and one that falls behind is woken once per batch of
+ * messages it finds queued.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
-    private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    // Stands for a nil value in the queue, where null means that the queue is empty.
+    private static final Object NIL_VALUE = new Object();
+
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
+    private volatile WaitingSender waitingSender;
+    private volatile WaitingSender flushSender;
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
+    // senderCounter is only updated by the sender and receiverCounter only by the receiver
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
+    private WorkerResult syncResult;
 
     private Lock channelLock;
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final WorkerDataQueue channel = new WorkerDataQueue();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -70,19 +80,28 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
+        this.channel.offer(data == null ? NIL_VALUE : data);
+        this.senderCounter++;
+        wakeUpReceiver();
+    }
+
+    /**
+     * Reschedules the receiver if it is parked on this channel. Must be called after the state the receiver waits
+     * for is published.
+     *
+     * @return true if a parked receiver was woken up
+     */
+    private boolean wakeUpReceiver() {
+        if (this.receiver.get() == null) {
+            return false;
+        }
+        Strand waiting = this.receiver.getAndSet(null);
+        if (waiting == null) {
+            return false;
         }
+        waiting.scheduler.unblockStrand(waiting);
+        return true;
     }
 
     /**
@@ -97,21 +116,22 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
+                this.syncResult = new WorkerResult(data, true);
                 this.waitingSender = new WaitingSender(strand, -1);
+                this.channel.offer(this.syncResult);
+                this.senderCounter++;
 
-                if (this.receiver != null) {
-                    // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
-                } else if (this.panic != null) {
-                    Throwable panic = this.panic;
-                    this.panic = null;
-                    throw panic;
-                } else if (this.error != null) {
-                    ErrorValue ret = this.error;
-                    return ret;
+                // the receiver can take the message right away, but has to acquire the channel lock to resume this
+                // strand, which happens only after this strand is marked as blocked below
+                if (!wakeUpReceiver()) {
+                    if (this.panic != null) {
+                        Throwable panic = this.panic;
+                        this.panic = null;
+                        throw panic;
+                    } else if (this.error != null) {
+                        ErrorValue ret = this.error;
+                        return ret;
+                    }
                 }
 
                 reschedule = true;
@@ -120,10 +140,12 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            boolean taken = this.syncResult.taken;
+            this.syncResult = null;
+            if (this.panic != null && !taken) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && !taken) {
                 ErrorValue ret = this.error;
                 return ret;
             }
@@ -135,50 +157,90 @@ public class WorkerDataChannel {
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
-        try {
-            acquireChannelLock();
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+        boolean parked = false;
+        while (true) {
+            if (parked) {
+                // Re-check after publishing the receiver, as the sender may have missed it.
+                if (!hasPendingData() || !this.receiver.compareAndSet(strand, null)) {
+                    // either nothing arrived yet, or a sender is already waking this strand up
+                    return null;
                 }
-                return result.value;
+                strand.setState(RUNNABLE);
+                parked = false;
+            }
+
+            Object data = this.channel.poll();
+            if (data != null) {
+                this.receiverCounter++;
+                return onDataTaken(data);
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
-                return null;
             }
-        } finally {
-            releaseChannelLock();
+
+            strand.setState(BLOCK_AND_YIELD);
+            this.receiver.set(strand);
+            parked = true;
         }
     }
 
+    private boolean hasPendingData() {
+        return this.channel.peek() != null ||
+                ((this.panic != null || this.error != null) && this.senderCounter == this.receiverCounter + 1);
+    }
+
+    private Object onDataTaken(Object data) {
+        if (data instanceof WorkerResult) {
+            // sync sender will pick the this.error as result, which is null
+            WorkerResult result = (WorkerResult) data;
+            acquireChannelLock();
+            try {
+                result.taken = true;
+                Strand waiting = this.waitingSender.waitingStrand;
+                waiting.scheduler.unblockStrand(waiting);
+                this.waitingSender = null;
+            } finally {
+                releaseChannelLock();
+            }
+            return result.value;
+        }
+
+        if (this.flushSender != null) {
+            acquireChannelLock();
+            try {
+                completeFlush();
+            } finally {
+                releaseChannelLock();
+            }
+        }
+        return data == NIL_VALUE ? null : data;
+    }
+
+    /**
+     * Notifies the flushing sender if all the messages it waits for are received. Must be called holding the channel
+     * lock.
+     */
+    private void completeFlush() {
+        WaitingSender flushSender = this.flushSender;
+        if (flushSender == null || this.receiverCounter < flushSender.flushCount) {
+            return;
+        }
+        Strand flushStrand = flushSender.waitingStrand;
+        flushStrand.flushDetail.flushLock.lock();
+        flushStrand.flushDetail.flushedCount++;
+        if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                flushStrand.isBlocked()) {
+            //will continue if this is a sync wait, will try to flush again if blocked on flush
+            flushStrand.scheduler.unblockStrand(flushStrand);
+        }
+        flushStrand.flushDetail.flushLock.unlock();
+        this.flushSender = null;
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      * @param error the BError of the receiving worker
@@ -187,10 +249,7 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.error = error;
         this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        wakeUpReceiver();
         releaseChannelLock();
     }
 
@@ -241,6 +300,9 @@ public class WorkerDataChannel {
                 return null;
             }
             this.flushSender = new WaitingSender(strand, this.senderCounter);
+            // The receiver takes messages without the channel lock, hence it may have taken the last message before
+            // the flush sender was visible to it.
+            completeFlush();
             return null;
         } finally {
             releaseChannelLock();
@@ -263,10 +325,7 @@ public class WorkerDataChannel {
             acquireChannelLock();
             this.panic  = panic;
             this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            wakeUpReceiver();
         } finally {
             releaseChannelLock();
         }
@@ -309,6 +368,8 @@ public class WorkerDataChannel {
 
         public Object value;
         public boolean isSync;
+        // set, holding the channel lock, once the receiver has taken a sync message
+        boolean taken;
 
 
         public WorkerResult(Object value) {
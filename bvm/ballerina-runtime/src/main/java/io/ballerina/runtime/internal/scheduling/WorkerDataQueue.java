@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unbounded single-producer single-consumer queue backing a {@link WorkerDataChannel}.
+ * <p>
+ * A worker channel always has exactly one sending worker and one receiving worker, so the queue does not need locks
+ * or CAS loops. Values are written to fixed size chunks which are linked together as the producer fills them up;
+ * the consumer follows the links and drops consumed chunks. Publishing a value is a single volatile array store,
+ * which also orders it before any volatile read the producer does afterwards (e.g. checking for a parked receiver).
+ *
+ * @since 2.0.0
+ */
+final class WorkerDataQueue {
+
+    // worker channels carry a statically bounded, usually small, number of messages per call
+    private static final int CHUNK_SIZE = 8;
+
+    // accessed by the producer only
+    private Chunk producerChunk;
+    private int producerIndex;
+
+    // accessed by the consumer only
+    private Chunk consumerChunk;
+    private int consumerIndex;
+
+    WorkerDataQueue() {
+        Chunk chunk = new Chunk();
+        this.producerChunk = chunk;
+        this.consumerChunk = chunk;
+    }
+
+    /**
+     * Appends a value. Must only be called by the producer.
+     *
+     * @param value non-null value
+     */
+    void offer(Object value) {
+        if (this.producerIndex == CHUNK_SIZE) {
+            Chunk next = new Chunk();
+            this.producerChunk.next = next;
+            this.producerChunk = next;
+            this.producerIndex = 0;
+        }
+        this.producerChunk.slots.set(this.producerIndex++, value);
+    }
+
+    /**
+     * Returns the next value without removing it. Must only be called by the consumer.
+     *
+     * @return next value or null if the queue is empty
+     */
+    Object peek() {
+        if (this.consumerIndex == CHUNK_SIZE) {
+            Chunk next = this.consumerChunk.next;
+            if (next == null) {
+                return null;
+            }
+            this.consumerChunk = next;
+            this.consumerIndex = 0;
+        }
+        return this.consumerChunk.slots.get(this.consumerIndex);
+    }
+
+    /**
+     * Removes and returns the next value. Must only be called by the consumer.
+     *
+     * @return next value or null if the queue is empty
+     */
+    Object poll() {
+        Object value = peek();
+        if (value != null) {
+            // the producer never revisits a slot, so the consumed value only needs to be released for GC
+            this.consumerChunk.slots.lazySet(this.consumerIndex++, null);
+        }
+        return value;
+    }
+
+    private static final class Chunk {
+
+        final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(CHUNK_SIZE);
+        volatile Chunk next;
+    }
+}
@@ -31,6 +31,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.CycleUtils;
+import io.ballerina.runtime.internal.HashIndex;
 import io.ballerina.runtime.internal.IteratorUtils;
 import io.ballerina.runtime.internal.TableUtils;
 import io.ballerina.runtime.internal.TypeChecker;
@@ -45,15 +46,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -64,6 +61,9 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 
 /**
  * The runtime representation of table.
+ * <p>
+ * The rows are kept in insertion order in parallel arrays, where a removed row leaves a gap until the arrays are
+ * compacted. Keyed tables look up rows through a {@link HashIndex} on the key hashes.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -72,19 +72,25 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_ROW_CAPACITY = 8;
+
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    // The rows in insertion order. The value of a removed row is null.
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private long[] rowKeyHashes;
+    private int rowCount;
+    private int size;
+
+    private HashIndex keyIndex;
+
+    // Tells the live iterators how the rows moved, when the rows are compacted
+    private Compaction compaction = new Compaction();
 
     private boolean nextKeySupported;
 
@@ -93,13 +99,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
+        this.rowKeys = new Object[INITIAL_ROW_CAPACITY];
+        this.rowValues = new Object[INITIAL_ROW_CAPACITY];
+        this.rowKeyHashes = new long[INITIAL_ROW_CAPACITY];
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.keyIndex = new HashIndex();
             this.valueHolder = new KeyHashValueHolder();
         } else {
             this.valueHolder = new ValueHolder();
@@ -212,23 +217,42 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entries = new LinkedHashSet<>(size);
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] != null) {
+                entries.add(new AbstractMap.SimpleEntry<>((K) rowKeys[row], (V) rowValues[row]));
+            }
+        }
+        return entries;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        List<V> values = new ArrayList<>(size);
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] != null) {
+                values.add((V) rowValues[row]);
+            }
+        }
+        return values;
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        // All the rows are gone, so the live iterators continue from the first row added after this.
+        compaction.positions = new int[rowCount + 1];
+        compaction.next = new Compaction();
+        compaction = compaction.next;
+
+        rowKeys = new Object[INITIAL_ROW_CAPACITY];
+        rowValues = new Object[INITIAL_ROW_CAPACITY];
+        rowKeyHashes = new long[INITIAL_ROW_CAPACITY];
+        rowCount = 0;
+        size = 0;
+        if (keyIndex != null) {
+            keyIndex.clear();
+        }
     }
 
     @Override
@@ -257,7 +281,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -285,17 +309,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (keyIndex == null) {
+            return (K[]) new Object[]{};
+        }
+        Object[] keys = new Object[size];
+        int i = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] != null) {
+                keys[i++] = rowKeys[row];
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -320,8 +354,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(parent);
     }
 
     @Override
@@ -331,21 +364,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
-                                              new CycleUtils.Node(this, parent)));
+        for (V struct : values()) {
+            sj.add(StringUtils.getStringValue(struct, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -354,10 +384,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                 keyJoiner.add(keysList[i]);
             }
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
-                                                        new CycleUtils.Node(this, parent)));
+        for (V struct : values()) {
+            sj.add(StringUtils.getExpressionStringValue(struct, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
     }
@@ -385,40 +413,135 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
+    private int findRow(Object key, long hash) {
+        return keyIndex.find(hash, row -> TypeChecker.isEqual(rowKeys[row], key));
+    }
+
+    private void addRow(K key, long hash, V data) {
+        if (rowCount == rowValues.length) {
+            if (rowCount - size >= rowCount / 2) {
+                compactRows();
+            } else {
+                int capacity = rowValues.length * 2;
+                rowKeys = Arrays.copyOf(rowKeys, capacity);
+                rowValues = Arrays.copyOf(rowValues, capacity);
+                rowKeyHashes = Arrays.copyOf(rowKeyHashes, capacity);
+            }
+        }
+        int row = rowCount++;
+        rowKeys[row] = key;
+        rowValues[row] = data;
+        rowKeyHashes[row] = hash;
+        size++;
+        if (keyIndex != null) {
+            keyIndex.add(hash, row);
+        }
+    }
+
+    private V replaceRow(int row, K key, V data) {
+        V oldData = (V) rowValues[row];
+        rowKeys[row] = key;
+        rowValues[row] = data;
+        return oldData;
+    }
+
+    private V removeRow(int row) {
+        if (keyIndex != null) {
+            keyIndex.remove(rowKeyHashes[row], row);
+        }
+        V data = (V) rowValues[row];
+        rowKeys[row] = null;
+        rowValues[row] = null;
+        size--;
+        if (row == rowCount - 1) {
+            rowCount--;
+        }
+        return data;
+    }
+
+    /**
+     * Moves the live rows over the gaps left by the removed rows, keeping their order, and rebuilds the indexes.
+     */
+    private void compactRows() {
+        int[] positions = new int[rowCount + 1];
+        int newRowCount = 0;
+        for (int row = 0; row < rowCount; row++) {
+            positions[row] = newRowCount;
+            if (rowValues[row] != null) {
+                rowKeys[newRowCount] = rowKeys[row];
+                rowValues[newRowCount] = rowValues[row];
+                rowKeyHashes[newRowCount] = rowKeyHashes[row];
+                newRowCount++;
+            }
+        }
+        positions[rowCount] = newRowCount;
+        Arrays.fill(rowKeys, newRowCount, rowCount, null);
+        Arrays.fill(rowValues, newRowCount, rowCount, null);
+        rowCount = newRowCount;
+
+        if (keyIndex != null) {
+            keyIndex.clear();
+            for (int row = 0; row < rowCount; row++) {
+                keyIndex.add(rowKeyHashes[row], row);
+            }
+        }
+
+        compaction.positions = positions;
+        compaction.next = new Compaction();
+        compaction = compaction.next;
+    }
+
+    /**
+     * Records the new positions of the rows when the rows are compacted. Each iterator holds the compaction that was
+     * pending when it was created, and follows the chain to find the new position of its cursor.
+     */
+    private static class Compaction {
+        // positions[i] is the new position of the first live row at or after the old position i
+        private int[] positions;
+        private Compaction next;
+    }
+
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        private Compaction compaction;
 
         TableIterator() {
             this.cursor = 0;
+            this.compaction = TableValueImpl.this.compaction;
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
-            }
+            skipRemovedRows();
+            K key = (K) rowKeys[cursor];
+            V value = (V) rowValues[cursor];
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            skipRemovedRows();
+            return cursor < rowCount;
+        }
+
+        private void skipRemovedRows() {
+            while (compaction.positions != null) {
+                cursor = compaction.positions[Math.min(cursor, compaction.positions.length - 1)];
+                compaction = compaction.next;
+            }
+            while (cursor < rowCount && rowValues[cursor] == null) {
+                cursor++;
+            }
         }
     }
 
@@ -440,11 +563,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            addRow((K) data, 0, data);
+            return null;
         }
 
         public V remove(K key) {
@@ -479,69 +599,59 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            long hash = TableUtils.hash(key, null);
 
-            if (containsKey((K) key)) {
+            if (findRow(key, hash) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            addRow(key, hash, data);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int row = findRow(key, TableUtils.hash(key, null));
+            return row < 0 ? null : (V) rowValues[row];
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putData(K key, V data, long hash) {
+            int row = findRow(key, hash);
+            if (row >= 0) {
+                return replaceRow(row, key, data);
+            }
+            addRow(key, hash, data);
+            return null;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            return values.remove(hash);
+            int row = findRow(key, TableUtils.hash(key, null));
+            return row < 0 ? null : removeRow(row);
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return findRow(key, TableUtils.hash(key, null)) >= 0;
         }
 
         public Type getKeyType() {
@@ -592,15 +702,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
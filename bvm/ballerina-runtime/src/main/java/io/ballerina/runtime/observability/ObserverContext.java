@@ -42,6 +42,11 @@ public class ObserverContext {
      */
     private final Map<String, Tag> tags;
 
+    /**
+     * Hash code of the set of tags, maintained as tags are added.
+     */
+    private int tagsHashCode;
+
     /**
      * {@link Map} of custom Tags, which are relevant to metrics  .
      */
@@ -81,7 +86,11 @@ public class ObserverContext {
     public void addTag(String key, String value) {
         String sanitizedValue = value != null ? value : "";
         Tag tag = Tag.of(key, sanitizedValue);
-        tags.put(key, tag);
+        Tag previousTag = tags.put(key, tag);
+        if (previousTag != null) {
+            tagsHashCode -= previousTag.hashCode();
+        }
+        tagsHashCode += tag.hashCode();
     }
 
     public Tag getTag(String key) {
@@ -92,6 +101,24 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Returns the number of tags without copying them.
+     *
+     * @return number of tags added to this context
+     */
+    public int getTagCount() {
+        return tags.size();
+    }
+
+    /**
+     * Returns the hash code of the tags without copying them. This is equal to {@code getAllTags().hashCode()}.
+     *
+     * @return hash code of the tags added to this context
+     */
+    public int getTagsHashCode() {
+        return tagsHashCode;
+    }
+
     public String getEntrypointFunctionModule() {
         return entrypointFunctionModule;
     }
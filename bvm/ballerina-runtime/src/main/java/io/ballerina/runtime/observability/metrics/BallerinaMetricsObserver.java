@@ -22,8 +22,6 @@ import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
@@ -40,8 +38,6 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private static final PrintStream consoleError = System.err;
 
-    private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
-
     private static final StatisticConfig[] responseTimeStatisticConfigs = new StatisticConfig[]{
             StatisticConfig.builder()
                     .expiry(Duration.ofMinutes(1))
@@ -57,6 +53,29 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    private static final Tag[] statusCodeGroupTags = new Tag[10];
+
+    static {
+        for (int i = 0; i < statusCodeGroupTags.length; i++) {
+            statusCodeGroupTags[i] = Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, i + STATUS_CODE_GROUP_SUFFIX);
+        }
+    }
+
+    private final MetricRegistry metricRegistry;
+    private final MetricHandleCache<Gauge> inProgressGauges;
+    private final MetricHandleCache<ResponseMetrics> responseMetrics;
+
+    public BallerinaMetricsObserver() {
+        this(DefaultMetricRegistry.getInstance());
+    }
+
+    public BallerinaMetricsObserver(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+        this.inProgressGauges = new MetricHandleCache<>(metricRegistry, tags -> metricRegistry.gauge(
+                new MetricId("inprogress_requests", "In-progress requests", tags)));
+        this.responseMetrics = new MetricHandleCache<>(metricRegistry, ResponseMetrics::new);
+    }
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -87,10 +106,8 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private void startObservation(ObserverContext observerContext) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = inProgressGauges.get(observerContext, false, null);
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -99,35 +116,36 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
              */
             observerContext.addProperty(PROPERTY_IN_PROGRESS_COUNTER, inProgressGauge);
         } catch (RuntimeException e) {
-            handleError("inprogress_requests", tags, e);
+            handleError("inprogress_requests", observerContext.getAllTags(), e);
         }
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
-        Map<String, Tag> customTags = observerContext.customMetricTags;
-        if (customTags != null) {
-            tags.addAll(customTags.values());
-        }
-        tags.addAll(observerContext.getAllTags());
-
         // Add status_code_group tag
+        Tag statusCodeGroupTag = null;
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
         if (statusCode != null && statusCode > 0) {
-            tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, (statusCode / 100) + STATUS_CODE_GROUP_SUFFIX));
+            int statusCodeGroup = statusCode / 100;
+            statusCodeGroupTag = statusCodeGroup < statusCodeGroupTags.length ? statusCodeGroupTags[statusCodeGroup]
+                    : Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup + STATUS_CODE_GROUP_SUFFIX);
         }
 
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ResponseMetrics metrics = responseMetrics.get(observerContext, true, statusCodeGroupTag);
+            metrics.responseTime.record(duration / 1E9);
+            metrics.responseTimeTotal.increment(duration);
+            metrics.requestsTotal.increment();
         } catch (RuntimeException e) {
+            Set<Tag> tags = observerContext.getAllTags();
+            if (observerContext.customMetricTags != null) {
+                tags.addAll(observerContext.customMetricTags.values());
+            }
+            if (statusCodeGroupTag != null) {
+                tags.add(statusCodeGroupTag);
+            }
             handleError("multiple metrics", tags, e);
         }
     }
@@ -137,4 +155,23 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Response metrics resolved for a single tag combination.
+     */
+    private class ResponseMetrics {
+
+        private final Histogram responseTime;
+        private final Counter responseTimeTotal;
+        private final Counter requestsTotal;
+
+        private ResponseMetrics(Set<Tag> tags) {
+            responseTime = metricRegistry.histogram(new MetricId("response_time_seconds",
+                    "Response time", tags), responseTimeStatisticConfigs);
+            responseTimeTotal = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            requestsTotal = metricRegistry.counter(new MetricId("requests_total",
+                    "Total number of requests", tags));
+        }
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Histogram is used to track the distribution of recorded values, such as response times. Unlike a {@link Gauge},
+ * a histogram does not track a value that goes up and down, it only records samples, which are summarized based on
+ * the given {@link StatisticConfig statistic configurations}.
+ *
+ * @since 2.0.0
+ */
+public interface Histogram extends Metric {
+
+    /**
+     * Create new builder for {@link Histogram}.
+     *
+     * @param name The name of the metric.
+     * @return The builder for {@link Histogram}.
+     */
+    static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Builder for {@link Histogram}s.
+     */
+    class Builder implements Metric.Builder<Builder, Histogram> {
+
+        private final String name;
+        // Expecting at least 10 tags
+        private final Set<Tag> tags = new HashSet<>(10);
+        private String description;
+        private final List<StatisticConfig> statisticConfigs = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        @Override
+        public Builder tags(String... keyValues) {
+            Tags.tags(this.tags, keyValues);
+            return this;
+        }
+
+        @Override
+        public Builder tags(Iterable<Tag> tags) {
+            Tags.tags(this.tags, tags);
+            return this;
+        }
+
+        @Override
+        public Builder tag(String key, String value) {
+            Tags.tags(this.tags, key, value);
+            return this;
+        }
+
+        @Override
+        public Builder tags(Map<String, String> tags) {
+            Tags.tags(this.tags, tags);
+            return this;
+        }
+
+        /**
+         * Summarize recorded values using given {@link StatisticConfig statistic configuration}.
+         *
+         * @param statisticConfig The {@link StatisticConfig} used for summarization.
+         * @return The builder with added statistic configuration for summarization.
+         */
+        public Builder summarize(StatisticConfig statisticConfig) {
+            statisticConfigs.add(statisticConfig);
+            return this;
+        }
+
+        @Override
+        public Histogram register() {
+            return register(DefaultMetricRegistry.getInstance());
+        }
+
+        @Override
+        public Histogram register(MetricRegistry registry) {
+            return registry.histogram(new MetricId(name, description, tags), statisticConfigs.toArray(
+                    new StatisticConfig[statisticConfigs.size()]));
+        }
+
+        @Override
+        public Histogram build() {
+            return DefaultMetricRegistry.getInstance().getMetricProvider().
+                    newHistogram(new MetricId(name, description, tags), statisticConfigs.toArray(
+                            new StatisticConfig[statisticConfigs.size()]));
+        }
+    }
+
+    /**
+     * Registers the histogram instance to the metrics registry.
+     *
+     * @return The registered Histogram instance.
+     */
+    default Histogram register() {
+        return DefaultMetricRegistry.getInstance().register(this);
+    }
+
+    /**
+     * Unregisters the metric to the registry.
+     */
+    default void unregister() {
+        DefaultMetricRegistry.getInstance().unregister(this);
+    }
+
+    /**
+     * Record a value in the histogram.
+     *
+     * @param value The value to record.
+     */
+    void record(double value);
+
+    /**
+     * Returns the most recently recorded value.
+     *
+     * @return The last value recorded in the histogram.
+     */
+    double getValue();
+
+    /**
+     * Returns the number of values recorded since this histogram was created.
+     *
+     * @return The number of recorded values.
+     */
+    long getCount();
+
+    /**
+     * Returns the total amount of all recorded values.
+     *
+     * @return The sum of values.
+     */
+    double getSum();
+
+    /**
+     * Returns snapshots of the values for each of the statistic configurations.
+     *
+     * @return Snapshots of all distribution statistics at a point in time.
+     */
+    Snapshot[] getSnapshots();
+
+    /**
+     * Returns statistics configs added for summarization.
+     *
+     * @return Array of statistics configurations.
+     */
+    StatisticConfig[] getStatisticsConfig();
+}
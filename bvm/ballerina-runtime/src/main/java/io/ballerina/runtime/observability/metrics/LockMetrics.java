@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records contention metrics of the locks used by Ballerina {@code lock} statements.
+ * <p>
+ * Recording is disabled by default and gets enabled by the observability module once the metrics registry is
+ * initialized. The metrics of each lock are resolved once and cached, so that recording an event is only a map
+ * lookup followed by the metric update.
+ *
+ * @since 2.0.0
+ */
+public class LockMetrics {
+
+    private static final String TAG_KEY_LOCK_NAME = "lock";
+
+    private static volatile boolean enabled = false;
+
+    private static final Map<String, LockMetricHandles> lockMetrics = new ConcurrentHashMap<>();
+
+    private LockMetrics() {
+    }
+
+    /**
+     * Enable recording lock metrics in the {@link DefaultMetricRegistry}.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Check if recording lock metrics is enabled or not.
+     *
+     * @return true if lock metrics are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record the time a strand had to wait before acquiring a lock.
+     *
+     * @param lockName     name of the lock
+     * @param waitTimeNano time spent waiting in nanoseconds
+     */
+    public static void recordWaitTime(String lockName, long waitTimeNano) {
+        LockMetricHandles handles = getHandles(lockName);
+        handles.contendedAcquisitions.increment();
+        handles.waitTime.record(waitTimeNano / 1E9);
+    }
+
+    /**
+     * Record the time a lock was held by a strand.
+     *
+     * @param lockName     name of the lock
+     * @param holdTimeNano time the lock was held in nanoseconds
+     */
+    public static void recordHoldTime(String lockName, long holdTimeNano) {
+        LockMetricHandles handles = getHandles(lockName);
+        handles.acquisitions.increment();
+        handles.holdTime.record(holdTimeNano / 1E9);
+    }
+
+    private static LockMetricHandles getHandles(String lockName) {
+        LockMetricHandles handles = lockMetrics.get(lockName);
+        if (handles == null) {
+            handles = lockMetrics.computeIfAbsent(lockName, LockMetricHandles::new);
+        }
+        return handles;
+    }
+
+    /**
+     * Metrics registered for a single lock.
+     */
+    private static class LockMetricHandles {
+        private final Counter acquisitions;
+        private final Counter contendedAcquisitions;
+        private final Histogram waitTime;
+        private final Histogram holdTime;
+
+        private LockMetricHandles(String lockName) {
+            MetricRegistry registry = DefaultMetricRegistry.getInstance();
+            this.acquisitions = Counter.builder("lock_acquisitions_total")
+                    .description("Total number of times the lock was acquired")
+                    .tag(TAG_KEY_LOCK_NAME, lockName)
+                    .register(registry);
+            this.contendedAcquisitions = Counter.builder("lock_contended_acquisitions_total")
+                    .description("Total number of times a strand had to wait for the lock")
+                    .tag(TAG_KEY_LOCK_NAME, lockName)
+                    .register(registry);
+            this.waitTime = Histogram.builder("lock_wait_time_seconds")
+                    .description("Time spent waiting to acquire the lock")
+                    .tag(TAG_KEY_LOCK_NAME, lockName)
+                    .summarize(StatisticConfig.DEFAULT)
+                    .register(registry);
+            this.holdTime = Histogram.builder("lock_hold_time_seconds")
+                    .description("Time the lock was held")
+                    .tag(TAG_KEY_LOCK_NAME, lockName)
+                    .summarize(StatisticConfig.DEFAULT)
+                    .register(registry);
+        }
+    }
+}
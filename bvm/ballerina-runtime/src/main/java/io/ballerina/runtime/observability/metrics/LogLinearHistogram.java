@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-memory histogram with log-linear buckets, which can be used by {@link Histogram} implementations.
+ * <p>
+ * Each power of two is divided into {@code 2^subBucketBits} linear sub-buckets, so that the bucket of a value is
+ * taken directly from the exponent and the leading mantissa bits of its IEEE 754 representation. Recording is
+ * therefore O(1) and lock-free. The sub-bucket counts of an exponent are allocated when the first value within that
+ * power of two is recorded, and the range of exponents is fixed, so the memory used by a histogram is bounded.
+ * Histograms with the same precision can be merged with {@link #add(LogLinearHistogram)}.
+ * <p>
+ * Values less than {@code 2^MIN_EXPONENT} (including zero and negative values) are counted in the lowest bucket and
+ * values greater than or equal to {@code 2^MAX_EXPONENT} are counted in the highest bucket. The exact minimum,
+ * maximum and sum of the recorded values are tracked separately.
+ *
+ * @since 2.0.0
+ */
+public final class LogLinearHistogram {
+
+    static final int MIN_EXPONENT = -40;
+    static final int MAX_EXPONENT = 40;
+    private static final int EXPONENT_COUNT = MAX_EXPONENT - MIN_EXPONENT;
+    private static final int MANTISSA_BITS = 52;
+    private static final int EXPONENT_BIAS = 1023;
+    private static final double LOG2_10 = Math.log(10) / Math.log(2);
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final AtomicReferenceArray<AtomicLongArray> counts = new AtomicReferenceArray<>(EXPONENT_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+    private final AtomicLong minBits = new AtomicLong(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+    private final AtomicLong maxBits = new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+
+    /**
+     * Creates a histogram, which maintains values with the given number of significant decimal digits.
+     *
+     * @param precisionDigits number of significant decimal digits, between 0 and 5
+     */
+    public LogLinearHistogram(int precisionDigits) {
+        if (precisionDigits < 0 || precisionDigits > 5) {
+            throw new IllegalArgumentException("precision cannot be " + precisionDigits +
+                    ". It must be a non-negative integer between 0 and 5");
+        }
+        this.subBucketBits = Math.max(1, (int) Math.ceil(precisionDigits * LOG2_10));
+        this.subBucketCount = 1 << subBucketBits;
+    }
+
+    /**
+     * Records a value in the histogram.
+     *
+     * @param value value to record
+     */
+    public void record(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        int exponentIndex;
+        int subBucket;
+        long bits = Double.doubleToRawLongBits(value);
+        int exponent = (int) ((bits >>> MANTISSA_BITS) & 0x7ff) - EXPONENT_BIAS;
+        if (value <= 0 || exponent < MIN_EXPONENT) {
+            exponentIndex = 0;
+            subBucket = 0;
+        } else if (exponent >= MAX_EXPONENT) {
+            exponentIndex = EXPONENT_COUNT - 1;
+            subBucket = subBucketCount - 1;
+        } else {
+            exponentIndex = exponent - MIN_EXPONENT;
+            subBucket = (int) ((bits >>> (MANTISSA_BITS - subBucketBits)) & (subBucketCount - 1));
+        }
+        getOrCreateCounts(exponentIndex).incrementAndGet(subBucket);
+        totalCount.increment();
+        sum.add(value);
+        updateMin(value);
+        updateMax(value);
+    }
+
+    /**
+     * Adds all the values recorded in the given histogram to this histogram.
+     *
+     * @param other histogram with the same precision as this histogram
+     */
+    public void add(LogLinearHistogram other) {
+        if (other.subBucketBits != subBucketBits) {
+            throw new IllegalArgumentException("cannot add a histogram with a different precision");
+        }
+        long otherCount = other.totalCount.sum();
+        if (otherCount == 0) {
+            return;
+        }
+        for (int i = 0; i < EXPONENT_COUNT; i++) {
+            AtomicLongArray otherCounts = other.counts.get(i);
+            if (otherCounts == null) {
+                continue;
+            }
+            AtomicLongArray subBuckets = getOrCreateCounts(i);
+            for (int j = 0; j < subBucketCount; j++) {
+                long count = otherCounts.get(j);
+                if (count != 0) {
+                    subBuckets.addAndGet(j, count);
+                }
+            }
+        }
+        totalCount.add(otherCount);
+        sum.add(other.sum.sum());
+        updateMin(other.getMin());
+        updateMax(other.getMax());
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return number of recorded values
+     */
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Returns the sum of recorded values.
+     *
+     * @return sum of recorded values
+     */
+    public double getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the smallest recorded value, or zero if no values were recorded.
+     *
+     * @return minimum value
+     */
+    public double getMin() {
+        double min = Double.longBitsToDouble(minBits.get());
+        return min == Double.POSITIVE_INFINITY ? 0 : min;
+    }
+
+    /**
+     * Returns the largest recorded value, or zero if no values were recorded.
+     *
+     * @return maximum value
+     */
+    public double getMax() {
+        double max = Double.longBitsToDouble(maxBits.get());
+        return max == Double.NEGATIVE_INFINITY ? 0 : max;
+    }
+
+    /**
+     * Returns the mean of recorded values, or zero if no values were recorded.
+     *
+     * @return mean value
+     */
+    public double getMean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : sum.sum() / count;
+    }
+
+    /**
+     * Returns the standard deviation of recorded values, computed using the mid point of each bucket.
+     *
+     * @return standard deviation
+     */
+    public double getStdDeviation() {
+        long count = totalCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+        double mean = getMean();
+        double squaredDeviations = 0;
+        for (int i = 0; i < EXPONENT_COUNT; i++) {
+            AtomicLongArray subBuckets = counts.get(i);
+            if (subBuckets == null) {
+                continue;
+            }
+            for (int j = 0; j < subBucketCount; j++) {
+                long bucketCount = subBuckets.get(j);
+                if (bucketCount != 0) {
+                    double deviation = (lowerBound(i, j) + upperBound(i, j)) / 2 - mean;
+                    squaredDeviations += deviation * deviation * bucketCount;
+                }
+            }
+        }
+        return Math.sqrt(squaredDeviations / count);
+    }
+
+    /**
+     * Returns the value at the given percentile. The returned value is the upper bound of the bucket containing the
+     * percentile, limited to the range of recorded values.
+     *
+     * @param percentile percentile in domain [0, 1]
+     * @return value at the percentile, or zero if no values were recorded
+     */
+    public double getValueAtPercentile(double percentile) {
+        long count = totalCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+        double min = getMin();
+        double max = getMax();
+        long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 1) * count));
+        long seen = 0;
+        for (int i = 0; i < EXPONENT_COUNT; i++) {
+            AtomicLongArray subBuckets = counts.get(i);
+            if (subBuckets == null) {
+                continue;
+            }
+            for (int j = 0; j < subBucketCount; j++) {
+                seen += subBuckets.get(j);
+                if (seen >= rank) {
+                    if (i == 0 && j == 0) {
+                        // Lowest bucket also contains all the values below its range
+                        return min;
+                    } else if (i == EXPONENT_COUNT - 1 && j == subBucketCount - 1) {
+                        // Highest bucket also contains all the values above its range
+                        return max;
+                    }
+                    return Math.min(Math.max(upperBound(i, j), min), max);
+                }
+            }
+        }
+        return max;
+    }
+
+    private double lowerBound(int exponentIndex, int subBucket) {
+        return Math.scalb(1.0 + (double) subBucket / subBucketCount, exponentIndex + MIN_EXPONENT);
+    }
+
+    private double upperBound(int exponentIndex, int subBucket) {
+        return Math.scalb(1.0 + (double) (subBucket + 1) / subBucketCount, exponentIndex + MIN_EXPONENT);
+    }
+
+    private AtomicLongArray getOrCreateCounts(int exponentIndex) {
+        AtomicLongArray subBuckets = counts.get(exponentIndex);
+        if (subBuckets == null) {
+            subBuckets = new AtomicLongArray(subBucketCount);
+            if (!counts.compareAndSet(exponentIndex, null, subBuckets)) {
+                subBuckets = counts.get(exponentIndex);
+            }
+        }
+        return subBuckets;
+    }
+
+    private void updateMin(double value) {
+        long current = minBits.get();
+        while (value < Double.longBitsToDouble(current)
+                && !minBits.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+            current = minBits.get();
+        }
+    }
+
+    private void updateMax(double value) {
+        long current = maxBits.get();
+        while (value > Double.longBitsToDouble(current)
+                && !maxBits.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+            current = maxBits.get();
+        }
+    }
+}
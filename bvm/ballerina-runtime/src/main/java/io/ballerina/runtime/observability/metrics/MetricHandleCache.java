@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import io.ballerina.runtime.observability.ObserverContext;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Caches metric handles resolved for a set of tags, so that the handles of a recurring tag combination
+ * (service, resource, status code group, ...) can be found without building a tag set or {@link MetricId}.
+ * <p>
+ * Lookups take the hash and size of the tag set directly from the {@link ObserverContext} and compare the cached tags
+ * by key against the context while walking an immutable bucket chain, hence they take no locks and, unless custom
+ * metric tags are present, do not allocate. New entries are published with a CAS on the bucket head. The number of
+ * cached combinations is bounded; once the limit is reached, handles for unseen combinations are resolved on every
+ * call, as they would be without the cache.
+ * <p>
+ * The handles are metrics of a {@link MetricRegistry}. When metrics are removed from the registry, the cached entries
+ * are discarded, so that the handles are resolved again instead of updating metrics which are no longer registered.
+ *
+ * @param <H> type of the resolved handles
+ * @since 2.0.0
+ */
+final class MetricHandleCache<H> {
+
+    private static final int BUCKET_COUNT = 1024;
+    private static final int MAX_ENTRIES = 4096;
+
+    private final AtomicReferenceArray<Entry<H>> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+    private final AtomicInteger size = new AtomicInteger();
+    private final MetricRegistry metricRegistry;
+    private final Function<Set<Tag>, H> resolver;
+    private volatile int removalCount;
+
+    MetricHandleCache(MetricRegistry metricRegistry, Function<Set<Tag>, H> resolver) {
+        this.metricRegistry = metricRegistry;
+        this.resolver = resolver;
+        this.removalCount = metricRegistry.getRemovalCount();
+    }
+
+    /**
+     * Returns the handles for the tags of the given context.
+     *
+     * @param context          observer context
+     * @param includeCustomTag whether the custom metric tags of the context are part of the tag set
+     * @param extraTag         additional tag which is part of the tag set, or null
+     * @return the cached or newly resolved handles
+     */
+    H get(ObserverContext context, boolean includeCustomTag, Tag extraTag) {
+        int currentRemovalCount = metricRegistry.getRemovalCount();
+        if (currentRemovalCount != removalCount) {
+            clear(currentRemovalCount);
+        }
+        Map<String, Tag> customTags = includeCustomTag ? context.customMetricTags : null;
+
+        // Hash and size of the tag set are computed the same way as Set.hashCode() and Set.size(),
+        // skipping the tags which would be duplicates in the set.
+        int hash = context.getTagsHashCode();
+        int tagCount = context.getTagCount();
+        if (customTags != null) {
+            for (Tag tag : customTags.values()) {
+                if (!tag.equals(context.getTag(tag.getKey()))) {
+                    hash += tag.hashCode();
+                    tagCount++;
+                }
+            }
+        }
+        if (extraTag != null && !containsTag(context, customTags, null, extraTag)) {
+            hash += extraTag.hashCode();
+            tagCount++;
+        }
+
+        int index = (hash ^ (hash >>> 16)) & (BUCKET_COUNT - 1);
+        Entry<H> head = buckets.get(index);
+        H handles = find(head, currentRemovalCount, hash, tagCount, context, customTags, extraTag);
+        if (handles != null) {
+            return handles;
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        if (customTags != null) {
+            tags.addAll(customTags.values());
+        }
+        tags.addAll(context.getAllTags());
+        if (extraTag != null) {
+            tags.add(extraTag);
+        }
+        handles = resolver.apply(tags);
+        if (size.get() >= MAX_ENTRIES) {
+            return handles;
+        }
+        // An entry is only found while no metrics are removed after the removal count it was resolved with
+        Entry<H> entry = new Entry<>(currentRemovalCount, hash, tags.toArray(new Tag[0]), handles);
+        while (true) {
+            entry.next = head;
+            if (buckets.compareAndSet(index, head, entry)) {
+                size.incrementAndGet();
+                return handles;
+            }
+            head = buckets.get(index);
+            H existing = find(head, currentRemovalCount, hash, tagCount, context, customTags, extraTag);
+            if (existing != null) {
+                return existing;
+            }
+        }
+    }
+
+    private H find(Entry<H> entry, int removalCount, int hash, int tagCount, ObserverContext context,
+                   Map<String, Tag> customTags, Tag extraTag) {
+        for (; entry != null; entry = entry.next) {
+            if (entry.removalCount == removalCount && entry.hash == hash && entry.tags.length == tagCount &&
+                    matches(entry.tags, context, customTags, extraTag)) {
+                return entry.handles;
+            }
+        }
+        return null;
+    }
+
+    private synchronized void clear(int currentRemovalCount) {
+        if (currentRemovalCount == removalCount) {
+            return;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, null);
+        }
+        size.set(0);
+        removalCount = currentRemovalCount;
+    }
+
+    private static boolean matches(Tag[] tags, ObserverContext context, Map<String, Tag> customTags, Tag extraTag) {
+        // Sizes are equal, so the sets are equal if every cached tag is in the tag set of the context
+        for (Tag tag : tags) {
+            if (!containsTag(context, customTags, extraTag, tag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsTag(ObserverContext context, Map<String, Tag> customTags, Tag extraTag,
+                                       Tag tag) {
+        return tag.equals(context.getTag(tag.getKey())) || tag.equals(extraTag) ||
+                (customTags != null && tag.equals(customTags.get(tag.getKey())));
+    }
+
+    private static final class Entry<H> {
+
+        private final int removalCount;
+        private final int hash;
+        private final Tag[] tags;
+        private final H handles;
+        private Entry<H> next;
+
+        private Entry(int removalCount, int hash, Tag[] tags, H handles) {
+            this.removalCount = removalCount;
+            this.hash = hash;
+            this.tags = tags;
+            this.handles = handles;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -35,6 +36,8 @@ public class MetricRegistry {
     private final MetricProvider metricProvider;
     // Metrics Map by ID
     private final ConcurrentMap<MetricId, Metric> metrics;
+    // Number of times metrics were removed, which tells the cached metric handles that they may be stale
+    private final AtomicInteger removalCount = new AtomicInteger();
 
     public MetricRegistry(MetricProvider metricProvider) {
         this.metricProvider = metricProvider;
@@ -132,6 +135,36 @@ public class MetricRegistry {
         unregister(gauge, PolledGauge.class);
     }
 
+    /**
+     * Use {@link Histogram#builder(String)}.
+     *
+     * @param id               The {@link MetricId}.
+     * @param statisticConfigs {@link StatisticConfig statistic configurations} to summarize recorded values.
+     * @return A existing or a new {@link Histogram} metric.
+     */
+    public Histogram histogram(MetricId id, StatisticConfig... statisticConfigs) {
+        return getOrCreate(id, Histogram.class, () -> metricProvider.newHistogram(id, statisticConfigs));
+    }
+
+    /**
+     * Registers the histogram metrics instance.
+     *
+     * @param histogram The {@link Histogram} instance.
+     * @return A existing or a newly registered {@link Histogram} metric.
+     */
+    public Histogram register(Histogram histogram) {
+        return register(histogram, Histogram.class);
+    }
+
+    /**
+     * Unregister the histogram metrics instance.
+     *
+     * @param histogram The {@link Histogram} instance.
+     */
+    public void unregister(Histogram histogram) {
+        unregister(histogram, Histogram.class);
+    }
+
     private <M extends Metric> M getOrCreate(MetricId id, Class<M> metricClass, Supplier<M> metricSupplier) {
         M metric = readMetric(id, metricClass);
         if (metric == null) {
@@ -181,6 +214,7 @@ public class MetricRegistry {
         Metric metric = readMetric(registerMetric.getId(), metricClass);
         if (metric != null) {
             metrics.remove(registerMetric.getId());
+            removalCount.incrementAndGet();
         }
     }
 
@@ -193,6 +227,13 @@ public class MetricRegistry {
         List<MetricId> ids = metrics.keySet().stream()
                 .filter(id -> id.getName().equals(name)).collect(Collectors.toList());
         ids.forEach(metrics::remove);
+        if (!ids.isEmpty()) {
+            removalCount.incrementAndGet();
+        }
+    }
+
+    int getRemovalCount() {
+        return removalCount.get();
     }
 
     public MetricProvider getMetricProvider() {
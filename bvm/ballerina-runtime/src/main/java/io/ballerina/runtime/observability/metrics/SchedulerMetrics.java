@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Records metrics of the strand scheduler, to help sizing the strand worker pool.
+ * <p>
+ * Recording is disabled by default and gets enabled by the observability module once the metrics registry is
+ * initialized. While disabled, the scheduler only pays for a volatile read per scheduling event. Durations are
+ * recorded in seconds into histograms, which do not lock while recording and only summarize when they are read.
+ * The instantaneous state of the scheduler (run queue length, active strands, busy threads) is exposed as polled
+ * gauges.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetrics {
+
+    private static volatile SchedulerMetricHandles handles;
+
+    private static volatile SchedulerState schedulerState;
+
+    private SchedulerMetrics() {
+    }
+
+    /**
+     * Enable recording scheduler metrics in the {@link DefaultMetricRegistry}.
+     */
+    public static synchronized void enable() {
+        if (handles == null) {
+            handles = new SchedulerMetricHandles(DefaultMetricRegistry.getInstance());
+        }
+    }
+
+    /**
+     * Check if recording scheduler metrics is enabled or not.
+     *
+     * @return true if scheduler metrics are recorded
+     */
+    public static boolean isEnabled() {
+        return handles != null;
+    }
+
+    /**
+     * Register the scheduler whose state is reported by the polled gauges. Only the last started scheduler is
+     * reported.
+     *
+     * @param runQueueLength supplies the number of strand groups waiting in the run queue
+     * @param activeStrands  supplies the number of strands that are not completed yet
+     * @param busyThreads    supplies the number of strand worker threads that are running strands
+     * @param poolSize       number of strand worker threads
+     */
+    public static void registerScheduler(IntSupplier runQueueLength, IntSupplier activeStrands,
+                                         IntSupplier busyThreads, int poolSize) {
+        schedulerState = new SchedulerState(runQueueLength, activeStrands, busyThreads, poolSize);
+    }
+
+    /**
+     * Record the creation of a strand.
+     */
+    public static void recordStrandCreated() {
+        SchedulerMetricHandles handles = SchedulerMetrics.handles;
+        if (handles != null) {
+            handles.strandsCreated.increment();
+        }
+    }
+
+    /**
+     * Record the completion of a strand.
+     *
+     * @param lifetimeNano time from the creation to the completion of the strand in nanoseconds
+     */
+    public static void recordStrandCompleted(long lifetimeNano) {
+        SchedulerMetricHandles handles = SchedulerMetrics.handles;
+        if (handles != null) {
+            handles.strandLifetime.record(lifetimeNano / 1E9);
+        }
+    }
+
+    /**
+     * Record the time a strand waited in the run queue before a thread picked it up.
+     *
+     * @param latencyNano time from the strand becoming runnable to it being run in nanoseconds
+     */
+    public static void recordSchedulingLatency(long latencyNano) {
+        SchedulerMetricHandles handles = SchedulerMetrics.handles;
+        if (handles != null) {
+            handles.schedulingLatency.record(latencyNano / 1E9);
+        }
+    }
+
+    /**
+     * Record the time a strand ran on a thread until it completed, yielded or blocked.
+     *
+     * @param executionTimeNano time the strand ran in nanoseconds
+     */
+    public static void recordExecutionTime(long executionTimeNano) {
+        SchedulerMetricHandles handles = SchedulerMetrics.handles;
+        if (handles != null) {
+            handles.executionTime.record(executionTimeNano / 1E9);
+        }
+    }
+
+    /**
+     * Record a strand yielding its thread while remaining runnable.
+     */
+    public static void recordYield() {
+        SchedulerMetricHandles handles = SchedulerMetrics.handles;
+        if (handles != null) {
+            handles.yields.increment();
+        }
+    }
+
+    /**
+     * Record a strand yielding its thread to wait for another strand, a worker message, a lock or an async call.
+     */
+    public static void recordBlock() {
+        SchedulerMetricHandles handles = SchedulerMetrics.handles;
+        if (handles != null) {
+            handles.blocks.increment();
+        }
+    }
+
+    /**
+     * Record the time a strand was blocked.
+     *
+     * @param blockedTimeNano time from the strand blocking to it becoming runnable again in nanoseconds
+     */
+    public static void recordBlockedTime(long blockedTimeNano) {
+        SchedulerMetricHandles handles = SchedulerMetrics.handles;
+        if (handles != null) {
+            handles.blockedTime.record(blockedTimeNano / 1E9);
+        }
+    }
+
+    private static int getState(Function<SchedulerState, IntSupplier> selector) {
+        SchedulerState state = schedulerState;
+        return state == null ? 0 : selector.apply(state).getAsInt();
+    }
+
+    /**
+     * State of the registered scheduler.
+     */
+    private static class SchedulerState {
+        private final IntSupplier runQueueLength;
+        private final IntSupplier activeStrands;
+        private final IntSupplier busyThreads;
+        private final IntSupplier poolSize;
+
+        private SchedulerState(IntSupplier runQueueLength, IntSupplier activeStrands, IntSupplier busyThreads,
+                               int poolSize) {
+            this.runQueueLength = runQueueLength;
+            this.activeStrands = activeStrands;
+            this.busyThreads = busyThreads;
+            this.poolSize = () -> poolSize;
+        }
+    }
+
+    /**
+     * Metrics registered for the scheduler.
+     */
+    private static class SchedulerMetricHandles {
+        private final Counter strandsCreated;
+        private final Counter yields;
+        private final Counter blocks;
+        private final Histogram schedulingLatency;
+        private final Histogram executionTime;
+        private final Histogram blockedTime;
+        private final Histogram strandLifetime;
+
+        private SchedulerMetricHandles(MetricRegistry registry) {
+            this.strandsCreated = Counter.builder("scheduler_strands_created_total")
+                    .description("Total number of strands created")
+                    .register(registry);
+            this.yields = Counter.builder("scheduler_strand_yields_total")
+                    .description("Total number of times a strand yielded its thread while remaining runnable")
+                    .register(registry);
+            this.blocks = Counter.builder("scheduler_strand_blocks_total")
+                    .description("Total number of times a strand blocked")
+                    .register(registry);
+            this.schedulingLatency = Histogram.builder("scheduler_scheduling_latency_seconds")
+                    .description("Time a runnable strand waited to be run")
+                    .summarize(StatisticConfig.DEFAULT)
+                    .register(registry);
+            this.executionTime = Histogram.builder("scheduler_strand_execution_time_seconds")
+                    .description("Time a strand ran before completing, yielding or blocking")
+                    .summarize(StatisticConfig.DEFAULT)
+                    .register(registry);
+            this.blockedTime = Histogram.builder("scheduler_strand_blocked_time_seconds")
+                    .description("Time a strand was blocked before becoming runnable again")
+                    .summarize(StatisticConfig.DEFAULT)
+                    .register(registry);
+            this.strandLifetime = Histogram.builder("scheduler_strand_lifetime_seconds")
+                    .description("Time from the creation to the completion of a strand")
+                    .summarize(StatisticConfig.DEFAULT)
+                    .register(registry);
+            registerPolledGauge(registry, "scheduler_run_queue_length",
+                                "Number of strand groups waiting for a thread", state -> state.runQueueLength);
+            registerPolledGauge(registry, "scheduler_active_strands",
+                                "Number of strands that are not completed yet", state -> state.activeStrands);
+            registerPolledGauge(registry, "scheduler_busy_threads",
+                                "Number of strand worker threads running strands", state -> state.busyThreads);
+            registerPolledGauge(registry, "scheduler_pool_size",
+                                "Number of strand worker threads", state -> state.poolSize);
+        }
+
+        private static void registerPolledGauge(MetricRegistry registry, String name, String description,
+                                                Function<SchedulerState, IntSupplier> selector) {
+            PolledGauge.builder(name, selector, SchedulerMetrics::getState)
+                    .description(description)
+                    .register(registry);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package io.ballerina.runtime.observability.metrics.spi;
 
 import io.ballerina.runtime.observability.metrics.Counter;
 import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Histogram;
 import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
@@ -71,4 +72,13 @@ public interface MetricProvider {
      * @return PolledGauge Instance created.
      */
     <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction);
+
+    /**
+     * This returns the new instance of the Histogram metric.
+     *
+     * @param metricId ID of the metric that needs to be returned.
+     * @param statisticConfigs array of {@link StatisticConfig}s which configures the distribution statistics.
+     * @return Histogram Instance created.
+     */
+    Histogram newHistogram(MetricId metricId, StatisticConfig... statisticConfigs);
 }
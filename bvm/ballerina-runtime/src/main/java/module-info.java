@@ -39,8 +39,8 @@ module io.ballerina.runtime {
     // export only for Langlib , Cli and Testerina
     exports io.ballerina.runtime.internal to io.ballerina.testerina.core, io.ballerina.testerina.runtime,
             io.ballerina.lang, io.ballerina.lang.map, io.ballerina.lang.test, io.ballerina.lang.array,
-            io.ballerina.lang.table, io.ballerina.lang.value, io.ballerina.lang.xml, ballerina.debug.adapter.core,
-            io.ballerina.cli;
+            io.ballerina.lang.table, io.ballerina.lang.value, io.ballerina.lang.xml, io.ballerina.lang.query,
+            ballerina.debug.adapter.core, io.ballerina.cli;
     exports io.ballerina.runtime.internal.commons to io.ballerina.lang.value;
     exports io.ballerina.runtime.internal.launch to io.ballerina.testerina.runtime, io.ballerina.packerina,
             ballerina.test.listener, io.ballerina.cli;
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the {@link RunQueue} implementations used by the {@link Scheduler}.
+ *
+ * @since 2.0.0
+ */
+public class RunQueueTests {
+
+    private static final int NUM_WORKERS = 4;
+    private static final int NUM_GROUPS = 100_000;
+
+    @Test
+    public void testGlobalQueueOrdering() throws InterruptedException {
+        RunQueue queue = new GlobalRunQueue();
+        queue.registerWorker(0);
+        List<ItemGroup> groups = createGroups(3);
+        groups.forEach(queue::add);
+
+        Assert.assertEquals(queue.size(), 3);
+        for (ItemGroup group : groups) {
+            Assert.assertSame(queue.take(), group);
+        }
+        Assert.assertEquals(queue.size(), 0);
+    }
+
+    @Test
+    public void testLocalQueueOrdering() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RunQueue queue = new WorkStealingRunQueue(NUM_WORKERS);
+            List<ItemGroup> local = createGroups(3);
+            List<ItemGroup> injected = createGroups(2);
+            injected.forEach(queue::add);
+
+            List<ItemGroup> taken = executor.submit(() -> {
+                queue.registerWorker(0);
+                local.forEach(queue::add);
+                List<ItemGroup> groups = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    groups.add(queue.take());
+                }
+                return groups;
+            }).get(10, TimeUnit.SECONDS);
+
+            // A worker runs its own groups in the order it added them, before the groups submitted from outside.
+            List<ItemGroup> expected = new ArrayList<>(local);
+            expected.addAll(injected);
+            assertSameGroups(taken, expected);
+            Assert.assertEquals(queue.size(), 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPoisonPillIsSharedByAllWorkers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            RunQueue queue = new WorkStealingRunQueue(2);
+            executor.submit(() -> {
+                queue.registerWorker(0);
+                queue.add(ItemGroup.POISON_PILL);
+                queue.add(ItemGroup.POISON_PILL);
+            }).get(10, TimeUnit.SECONDS);
+
+            Future<ItemGroup> first = executor.submit(() -> {
+                queue.registerWorker(0);
+                return queue.take();
+            });
+            Future<ItemGroup> second = executor.submit(() -> {
+                queue.registerWorker(1);
+                return queue.take();
+            });
+            Assert.assertSame(first.get(10, TimeUnit.SECONDS), ItemGroup.POISON_PILL);
+            Assert.assertSame(second.get(10, TimeUnit.SECONDS), ItemGroup.POISON_PILL);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStealFromTail() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            RunQueue queue = new WorkStealingRunQueue(2);
+            List<ItemGroup> groups = createGroups(3);
+            executor.submit(() -> {
+                queue.registerWorker(0);
+                groups.forEach(queue::add);
+            }).get(10, TimeUnit.SECONDS);
+
+            ItemGroup stolen = executor.submit(() -> {
+                queue.registerWorker(1);
+                return queue.take();
+            }).get(10, TimeUnit.SECONDS);
+
+            // The thief takes the most recently added group, leaving the owner's next group untouched.
+            Assert.assertSame(stolen, groups.get(2));
+            Assert.assertEquals(queue.size(), 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testIdleWorkerWakesUpOnAdd() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RunQueue queue = new WorkStealingRunQueue(NUM_WORKERS);
+            CountDownLatch registered = new CountDownLatch(1);
+            Future<ItemGroup> taken = executor.submit(() -> {
+                queue.registerWorker(1);
+                registered.countDown();
+                return queue.take();
+            });
+            registered.await();
+
+            ItemGroup group = new ItemGroup(null);
+            queue.add(group);
+            Assert.assertSame(taken.get(10, TimeUnit.SECONDS), group);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStealUnderContention() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_WORKERS);
+        try {
+            RunQueue queue = new WorkStealingRunQueue(NUM_WORKERS);
+            List<ItemGroup> groups = createGroups(NUM_GROUPS);
+            executor.submit(() -> {
+                queue.registerWorker(0);
+                groups.forEach(queue::add);
+            }).get(10, TimeUnit.SECONDS);
+
+            // The owner drains its deque from the head while the other workers steal from the tail. Exactly as many
+            // takes as groups are issued, so no worker waits on an empty queue.
+            AtomicInteger remaining = new AtomicInteger(NUM_GROUPS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<ItemGroup>>> results = new ArrayList<>();
+            for (int id = 0; id < NUM_WORKERS; id++) {
+                int workerId = id;
+                results.add(executor.submit(() -> {
+                    queue.registerWorker(workerId);
+                    List<ItemGroup> taken = new ArrayList<>();
+                    start.await();
+                    while (remaining.getAndDecrement() > 0) {
+                        taken.add(queue.take());
+                    }
+                    return taken;
+                }));
+            }
+            start.countDown();
+
+            Set<ItemGroup> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int id = 0; id < NUM_WORKERS; id++) {
+                List<ItemGroup> taken = results.get(id).get(60, TimeUnit.SECONDS);
+                for (ItemGroup group : taken) {
+                    Assert.assertTrue(seen.add(group), "Group taken more than once by worker " + id);
+                }
+                if (id == 0) {
+                    assertInOrder(taken, groups);
+                }
+            }
+            Assert.assertEquals(seen.size(), NUM_GROUPS);
+            Assert.assertEquals(queue.size(), 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<ItemGroup> createGroups(int count) {
+        List<ItemGroup> groups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            groups.add(new ItemGroup(null));
+        }
+        return groups;
+    }
+
+    private static void assertSameGroups(List<ItemGroup> actual, List<ItemGroup> expected) {
+        Assert.assertEquals(actual.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertSame(actual.get(i), expected.get(i), "Unexpected group at index " + i);
+        }
+    }
+
+    private static void assertInOrder(List<ItemGroup> taken, List<ItemGroup> added) {
+        Map<ItemGroup, Integer> indexes = new IdentityHashMap<>();
+        for (int i = 0; i < added.size(); i++) {
+            indexes.put(added.get(i), i);
+        }
+        int last = -1;
+        for (ItemGroup group : taken) {
+            int index = indexes.get(group);
+            Assert.assertTrue(index > last, "Owner took groups out of order");
+            last = index;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the async messages of a {@link WorkerDataChannel}.
+ *
+ * @since 2.0.0
+ */
+public class WorkerDataChannelTests {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Test
+    public void testReceiverWokenOncePerBatch() throws Throwable {
+        List<Strand> unblocked = new ArrayList<>();
+        Scheduler scheduler = createScheduler(unblocked);
+        Strand sender = new Strand("sender", null, scheduler, null, null);
+        Strand receiver = new Strand("receiver", null, scheduler, null, null);
+        WorkerDataChannel channel = new WorkerDataChannel("channel");
+
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertEquals(receiver.getState(), State.BLOCK_AND_YIELD);
+
+        for (long i = 0; i < BATCH_SIZE; i++) {
+            channel.sendData(i, sender);
+        }
+        Assert.assertEquals(unblocked.size(), 1);
+        Assert.assertSame(unblocked.get(0), receiver);
+
+        receiver.setState(State.RUNNABLE);
+        for (long i = 0; i < BATCH_SIZE; i++) {
+            Assert.assertEquals(channel.tryTakeData(receiver), i);
+            Assert.assertEquals(receiver.getState(), State.RUNNABLE);
+        }
+        Assert.assertEquals(unblocked.size(), 1);
+
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertEquals(receiver.getState(), State.BLOCK_AND_YIELD);
+    }
+
+    @Test
+    public void testNoWakeUpIfReceiverIsNotParked() throws Throwable {
+        List<Strand> unblocked = new ArrayList<>();
+        Scheduler scheduler = createScheduler(unblocked);
+        Strand sender = new Strand("sender", null, scheduler, null, null);
+        Strand receiver = new Strand("receiver", null, scheduler, null, null);
+        WorkerDataChannel channel = new WorkerDataChannel("channel");
+
+        channel.sendData("a", sender);
+        channel.sendData("b", sender);
+        Assert.assertEquals(channel.tryTakeData(receiver), "a");
+        channel.sendData("c", sender);
+        Assert.assertEquals(channel.tryTakeData(receiver), "b");
+        Assert.assertEquals(channel.tryTakeData(receiver), "c");
+
+        Assert.assertEquals(receiver.getState(), State.RUNNABLE);
+        Assert.assertTrue(unblocked.isEmpty());
+    }
+
+    @Test
+    public void testNilMessage() throws Throwable {
+        List<Strand> unblocked = new ArrayList<>();
+        Scheduler scheduler = createScheduler(unblocked);
+        Strand sender = new Strand("sender", null, scheduler, null, null);
+        Strand receiver = new Strand("receiver", null, scheduler, null, null);
+        WorkerDataChannel channel = new WorkerDataChannel("channel");
+
+        channel.sendData(null, sender);
+        channel.sendData("a", sender);
+
+        // a nil message is taken without blocking the receiver
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertEquals(receiver.getState(), State.RUNNABLE);
+        Assert.assertEquals(channel.tryTakeData(receiver), "a");
+        Assert.assertTrue(unblocked.isEmpty());
+    }
+
+    /**
+     * Creates a scheduler that only records the strands woken up by a channel, as the strands in these tests are not
+     * run by it.
+     */
+    private static Scheduler createScheduler(List<Strand> unblocked) {
+        return new Scheduler(1, false) {
+            @Override
+            public void unblockStrand(Strand strand) {
+                unblocked.add(strand);
+            }
+        };
+    }
+}
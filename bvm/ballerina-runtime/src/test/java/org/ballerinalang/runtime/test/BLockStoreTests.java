@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.BLockStore;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link BLockStore}.
+ *
+ * @since 2.0.0
+ */
+public class BLockStoreTests {
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = ".*AsyncCallInsideLockError.*")
+    public void testPanicIfInLockAfterWait() {
+        List<Strand> unblocked = new ArrayList<>();
+        Scheduler scheduler = createScheduler(unblocked);
+        Strand strand = new Strand("strand", null, scheduler, null, null);
+        Strand other = new Strand("other", null, scheduler, null, null);
+        BLockStore store = new BLockStore();
+        BLock held = store.getLockFromMap("held");
+        BLock contended = store.getLockFromMap("contended");
+
+        Assert.assertTrue(held.lock(strand));
+        Assert.assertTrue(contended.lock(other));
+
+        // The strand blocks on the second lock while holding the first one, and resumes once it is released.
+        Assert.assertFalse(contended.lock(strand));
+        Assert.assertEquals(strand.getState(), State.BLOCK_AND_YIELD);
+        contended.unlock();
+        Assert.assertEquals(unblocked.size(), 1);
+        Assert.assertSame(unblocked.get(0), strand);
+        strand.setState(State.RUNNABLE);
+        Assert.assertTrue(contended.lock(strand));
+        contended.unlock();
+
+        store.panicIfInLock("strand", strand);
+    }
+
+    @Test
+    public void testNoPanicAfterUnlock() {
+        Strand strand = new Strand("strand", null, createScheduler(new ArrayList<>()), null, null);
+        BLockStore store = new BLockStore();
+        BLock lock = store.getLockFromMap("lock");
+
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        lock.unlock();
+        lock.unlock();
+
+        store.panicIfInLock("strand", strand);
+    }
+
+    @Test
+    public void testNoPanicForLockOfOtherStore() {
+        Strand strand = new Strand("strand", null, createScheduler(new ArrayList<>()), null, null);
+        BLockStore store = new BLockStore();
+        BLockStore otherStore = new BLockStore();
+        store.addLockToMap("lock");
+        BLock lock = otherStore.getLockFromMap("lock");
+
+        Assert.assertTrue(lock.lock(strand));
+        store.panicIfInLock("strand", strand);
+        lock.unlock();
+    }
+
+    /**
+     * Creates a scheduler that only records the strands unblocked by a lock being released, as the strands in these
+     * tests are not run by it.
+     */
+    private static Scheduler createScheduler(List<Strand> unblocked) {
+        return new Scheduler(1, false) {
+            @Override
+            public void unblockStrand(Strand strand) {
+                unblocked.add(strand);
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.observability.metrics.LogLinearHistogram;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests for {@link LogLinearHistogram}.
+ *
+ * @since 2.0.0
+ */
+public class LogLinearHistogramTests {
+
+    private static final double[] PERCENTILES = new double[]{0.0, 0.33, 0.5, 0.75, 0.95, 0.99, 0.999, 1.0};
+
+    @Test
+    public void testPercentiles() {
+        LogLinearHistogram histogram = new LogLinearHistogram(2);
+        Random random = new Random(42);
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            // Log-normal values similar to response times in seconds
+            values[i] = Math.exp(random.nextGaussian() * 2 - 5);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        Assert.assertEquals(histogram.getTotalCount(), values.length);
+        Assert.assertEquals(histogram.getMin(), values[0]);
+        Assert.assertEquals(histogram.getMax(), values[values.length - 1]);
+        Assert.assertEquals(histogram.getMean(), Arrays.stream(values).average().getAsDouble(), 1e-9);
+        for (double percentile : PERCENTILES) {
+            double expected = values[Math.max(0, (int) Math.ceil(percentile * values.length) - 1)];
+            Assert.assertEquals(histogram.getValueAtPercentile(percentile), expected, expected * 0.01,
+                                "Unexpected value at percentile " + percentile);
+        }
+    }
+
+    @Test
+    public void testStdDeviation() {
+        LogLinearHistogram histogram = new LogLinearHistogram(2);
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        // Standard deviation of the numbers from 1 to n is sqrt((n^2 - 1) / 12)
+        double expected = Math.sqrt((1000.0 * 1000.0 - 1) / 12);
+        Assert.assertEquals(histogram.getStdDeviation(), expected, expected * 0.01);
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        LogLinearHistogram histogram = new LogLinearHistogram(2);
+        Assert.assertEquals(histogram.getTotalCount(), 0);
+        Assert.assertEquals(histogram.getMin(), 0.0);
+        Assert.assertEquals(histogram.getMax(), 0.0);
+        Assert.assertEquals(histogram.getMean(), 0.0);
+        Assert.assertEquals(histogram.getStdDeviation(), 0.0);
+        Assert.assertEquals(histogram.getValueAtPercentile(0.5), 0.0);
+    }
+
+    @Test
+    public void testValuesOutOfRange() {
+        LogLinearHistogram histogram = new LogLinearHistogram(2);
+        histogram.record(-1);
+        histogram.record(0);
+        histogram.record(1e30);
+        histogram.record(Double.NaN);
+        Assert.assertEquals(histogram.getTotalCount(), 3);
+        Assert.assertEquals(histogram.getValueAtPercentile(0.0), -1.0);
+        Assert.assertEquals(histogram.getValueAtPercentile(0.5), -1.0);
+        Assert.assertEquals(histogram.getValueAtPercentile(1.0), 1e30);
+    }
+
+    @Test
+    public void testAdd() {
+        LogLinearHistogram first = new LogLinearHistogram(2);
+        LogLinearHistogram second = new LogLinearHistogram(2);
+        for (int i = 1; i <= 500; i++) {
+            first.record(i);
+            second.record(i + 500);
+        }
+        LogLinearHistogram merged = new LogLinearHistogram(2);
+        merged.add(first);
+        merged.add(second);
+        Assert.assertEquals(merged.getTotalCount(), 1000);
+        Assert.assertEquals(merged.getSum(), 500500.0);
+        Assert.assertEquals(merged.getMin(), 1.0);
+        Assert.assertEquals(merged.getMax(), 1000.0);
+        Assert.assertEquals(merged.getValueAtPercentile(0.5), 500.0, 5.0);
+        Assert.assertEquals(merged.getValueAtPercentile(0.99), 990.0, 9.9);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testAddWithDifferentPrecision() {
+        new LogLinearHistogram(2).add(new LogLinearHistogram(3));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidPrecision() {
+        new LogLinearHistogram(6);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        LogLinearHistogram histogram = new LogLinearHistogram(2);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 1; i <= 100_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(histogram.getTotalCount(), 400_000);
+        Assert.assertEquals(histogram.getMin(), 1.0);
+        Assert.assertEquals(histogram.getMax(), 100_000.0);
+        Assert.assertEquals(histogram.getValueAtPercentile(0.5), 50_000.0, 500.0);
+    }
+}
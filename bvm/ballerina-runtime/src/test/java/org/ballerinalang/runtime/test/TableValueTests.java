@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.HashIndex;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the row storage and the indexes of {@link TableValueImpl}.
+ */
+public class TableValueTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString GROUP = StringUtils.fromString("group");
+
+    @Test
+    public void testHashIndexWithCollidingHashes() {
+        HashIndex index = new HashIndex();
+        for (int id = 0; id < 100; id++) {
+            index.add(id % 3, id);
+        }
+        for (int id = 0; id < 100; id += 2) {
+            Assert.assertTrue(index.remove(id % 3, id));
+        }
+        Assert.assertFalse(index.remove(0, 0));
+        Assert.assertEquals(index.size(), 50);
+
+        List<Integer> ids = new ArrayList<>();
+        index.forEach(1, ids::add);
+        ids.sort(null);
+        Assert.assertEquals(ids.size(), 17);
+        Assert.assertEquals(index.find(1, id -> id > 95), 97);
+        Assert.assertEquals(index.find(1, id -> id > 97), -1);
+    }
+
+    @Test
+    public void testKeyedTableOperations() {
+        BMapType rowType = new BMapType(PredefinedTypes.TYPE_INT);
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(new BTableType(rowType, new String[]{"id"}, false));
+        for (long id = 0; id < 100; id++) {
+            table.add(createRow(rowType, id, id % 3));
+        }
+        for (long id = 0; id < 90; id++) {
+            table.remove(id);
+        }
+        table.put(95L, createRow(rowType, 95, 7));
+
+        Assert.assertEquals(table.size(), 10);
+        Assert.assertFalse(table.containsKey(5L));
+        Assert.assertEquals(((MapValueImpl) table.get(95L)).get(GROUP), 7L);
+        Assert.assertEquals(table.getKeys()[0], 90L);
+        try {
+            table.add(createRow(rowType, 99, 0));
+            Assert.fail("Expected an error for a duplicate key");
+        } catch (BError e) {
+            Assert.assertTrue(e.getMessage().contains("KeyConstraintViolation"));
+        }
+    }
+
+    @Test
+    public void testIterationWhileRowsAreCompacted() {
+        BMapType rowType = new BMapType(PredefinedTypes.TYPE_INT);
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(new BTableType(rowType, new String[]{"id"}, false));
+        for (long id = 0; id < 100; id++) {
+            table.add(createRow(rowType, id, 0));
+        }
+
+        List<Object> iteratedKeys = new ArrayList<>();
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            iteratedKeys.add(((TupleValueImpl) iterator.next()).get(0));
+            if (iteratedKeys.size() == 10) {
+                // Removing most of the rows and adding new ones compacts the rows under the iterator
+                for (long id = 0; id < 90; id++) {
+                    table.remove(id);
+                }
+                for (long id = 200; id < 300; id++) {
+                    table.add(createRow(rowType, id, 0));
+                }
+            }
+        }
+
+        Assert.assertEquals(iteratedKeys.size(), 120);
+        Assert.assertEquals(iteratedKeys.get(10), 90L);
+        Assert.assertEquals(iteratedKeys.get(119), 299L);
+    }
+
+    private static MapValueImpl<BString, Object> createRow(BMapType rowType, long id, long group) {
+        MapValueImpl<BString, Object> row = new MapValueImpl<>(rowType);
+        row.populateInitialValue(ID, id);
+        row.populateInitialValue(GROUP, group);
+        return row;
+    }
+}
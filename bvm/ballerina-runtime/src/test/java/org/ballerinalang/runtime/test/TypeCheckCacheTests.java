@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    @Test
+    public void testRepeatedCheckIsServedFromCache() {
+        Type sourceType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        Type targetType = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        long hits = TypeCheckCache.getHitCount();
+        long misses = TypeCheckCache.getMissCount();
+
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+        Assert.assertEquals(TypeCheckCache.getMissCount(), misses);
+    }
+
+    @Test
+    public void testNegativeResultIsCached() {
+        Type sourceType = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+        Type targetType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        long hits = TypeCheckCache.getHitCount();
+
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.JsonUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypedJsonParser;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * Test cases for {@link TypedJsonParser}.
+ */
+public class TypedJsonParserTests {
+
+    @Test
+    public void testPrimitiveArrays() {
+        BArray ints = (BArray) parse("[1, -2, 9223372036854775807]",
+                                     TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(ints.size(), 3);
+        Assert.assertEquals(ints.getInt(0), 1);
+        Assert.assertEquals(ints.getInt(1), -2);
+        Assert.assertEquals(ints.getInt(2), Long.MAX_VALUE);
+
+        BArray floats = (BArray) parse("[1, 2.5, -0, 1.25e2]", TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT));
+        Assert.assertEquals(floats.size(), 4);
+        Assert.assertEquals(floats.getFloat(0), 1.0);
+        Assert.assertEquals(floats.getFloat(1), 2.5);
+        Assert.assertEquals(floats.getFloat(3), 125.0);
+        Assert.assertEquals(Double.doubleToRawLongBits(floats.getFloat(2)), Double.doubleToRawLongBits(-0.0));
+
+        BArray booleans = (BArray) parse(" [ true,false ] ", TypeCreator.createArrayType(PredefinedTypes.TYPE_BOOLEAN));
+        Assert.assertEquals(booleans.size(), 2);
+        Assert.assertTrue(booleans.getBoolean(0));
+        Assert.assertFalse(booleans.getBoolean(1));
+
+        BArray empty = (BArray) parse("[]", TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(empty.size(), 0);
+    }
+
+    @Test
+    public void testMapsAndNilableMembers() {
+        Type type = TypeCreator.createMapType(
+                TypeCreator.createArrayType(TypeCreator.createUnionType(List.of(PredefinedTypes.TYPE_STRING,
+                                                                                PredefinedTypes.TYPE_NULL))));
+        BMap<BString, Object> map = (BMap<BString, Object>) parse(
+                "{\"a\": [\"x\\ty\", null, \"\\u0041\\\"\"], \"b\": []}", type);
+
+        Assert.assertEquals(map.getType(), type);
+        BArray a = (BArray) map.get(StringUtils.fromString("a"));
+        Assert.assertEquals(a.size(), 3);
+        Assert.assertEquals(a.get(0).toString(), "x\ty");
+        Assert.assertNull(a.get(1));
+        Assert.assertEquals(a.get(2).toString(), "A\"");
+        Assert.assertEquals(((BArray) map.get(StringUtils.fromString("b"))).size(), 0);
+    }
+
+    @Test
+    public void testDecimalTarget() {
+        BArray decimals = (BArray) parse("[1, 2.50]", TypeCreator.createArrayType(PredefinedTypes.TYPE_DECIMAL));
+        Assert.assertEquals(decimals.get(0), new DecimalValue("1"));
+        Assert.assertEquals(decimals.get(1), new DecimalValue("2.50"));
+    }
+
+    @Test
+    public void testJsonTargetMatchesJsonParser() {
+        String json = "{\"name\": \"ballerina\", \"values\": [1, 2.5, -0.0, true, null, {\"nested\": []}], " +
+                "\"empty\": {}}";
+        Object expected = JsonParser.parse(json);
+        Object actual = parse(json, PredefinedTypes.TYPE_JSON);
+        Assert.assertTrue(TypeChecker.isEqual(expected, actual));
+        Assert.assertEquals(TypeChecker.getType(actual).getTag(), TypeTags.MAP_TAG);
+    }
+
+    @Test
+    public void testLargeDocumentMatchesConversion() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"series").append(i).append("\": [");
+            for (int j = 0; j < 100; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append(i * j).append('.').append(j % 10);
+            }
+            sb.append(']');
+        }
+        String json = sb.append('}').toString();
+        Type type = TypeCreator.createMapType(TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT));
+
+        // Parsing straight into the target type gives the same value as parsing into json and converting it
+        Object expected = JsonUtils.convertJSON(JsonParser.parse(json), type);
+        BMap<BString, Object> actual = (BMap<BString, Object>) parse(json, type);
+        Assert.assertTrue(TypeChecker.isEqual(expected, actual));
+        Assert.assertEquals(actual.getType(), type);
+        Assert.assertEquals(actual.size(), 100);
+        BArray series = (BArray) actual.get(StringUtils.fromString("series99"));
+        Assert.assertEquals(series.size(), 100);
+        Assert.assertEquals(series.getFloat(99), 9801.9);
+    }
+
+    @Test
+    public void testAnydataTarget() {
+        Object value = parse("{\"a\": [1, {\"b\": \"c\"}], \"d\": 1.5}", PredefinedTypes.TYPE_ANYDATA);
+        MapType mapType = (MapType) TypeChecker.getType(value);
+        Assert.assertEquals(mapType.getConstrainedType(), PredefinedTypes.TYPE_ANYDATA);
+        BArray a = (BArray) ((BMap<BString, Object>) value).get(StringUtils.fromString("a"));
+        Assert.assertEquals(a.getElementType(), PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertEquals(((BMap<BString, Object>) value).get(StringUtils.fromString("d")), new DecimalValue("1.5"));
+    }
+
+    @Test
+    public void testIncompatibleValues() {
+        Type intArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        assertError("[1, 1.5]", intArray, "'decimal' value cannot be converted to 'int'");
+        assertError("[1, null]", intArray, "'()' value cannot be converted to 'int'");
+        assertError("{\"a\": 1}", intArray, "'map' value cannot be converted to 'int[]'");
+        assertError("[1, \"2\"]", intArray, "'string' value cannot be converted to 'int'");
+        assertError("[92233720368547758070]", intArray, "'decimal' value cannot be converted to 'int'");
+        assertError("[1, 2] 3", intArray, "JSON document has already ended");
+        assertError("[1 2]", intArray, "expected ',' or ']'");
+        assertError("[1, 2", intArray, "expected ',' or ']'");
+        assertError("[01]", intArray, "unrecognized token '01'");
+        assertError("[\"a]", TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING),
+                    "unexpected end of JSON document");
+    }
+
+    private static Object parse(String json, Type targetType) {
+        return TypedJsonParser.parse(new StringReader(json), targetType);
+    }
+
+    private static void assertError(String json, Type targetType, String message) {
+        try {
+            parse(json, targetType);
+            Assert.fail("expected an error for " + json);
+        } catch (BError e) {
+            String errorMessage = e.toString();
+            Assert.assertTrue(errorMessage.contains(message), errorMessage);
+        }
+    }
+}
@@ -147,6 +147,10 @@ public class BuildCommand implements BLauncherCmd {
             "JAR file(s).")
     private Boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--enable-cache", description = "reuse the modules compiled by a previous build " +
+            "which have not changed since.")
+    private Boolean enableCache;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -258,6 +262,7 @@ public class BuildCommand implements BLauncherCmd {
                 .observabilityIncluded(observabilityIncluded)
                 .dumpBir(dumpBIR)
                 .dumpBirFile(dumpBIRFile)
+                .enableCache(enableCache)
                 .build();
     }
 
@@ -21,6 +21,7 @@ package io.ballerina.cli.task;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
@@ -30,6 +31,8 @@ import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 
 import java.io.PrintStream;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
 
@@ -67,6 +70,11 @@ public class CompileTask implements Task {
         try {
             PackageCompilation packageCompilation = project.currentPackage().getCompilation();
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_11);
+            List<ModuleName> cachedModules = packageCompilation.modulesLoadedFromCache();
+            if (!cachedModules.isEmpty()) {
+                this.out.println("\tUnchanged modules loaded from the compilation cache: " + cachedModules.stream()
+                        .map(ModuleName::toString).collect(Collectors.joining(", ")));
+            }
             DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
             diagnosticResult.diagnostics().forEach(d -> err.println(convertDiagnosticToString(d)));
             if (diagnosticResult.hasErrors()) {
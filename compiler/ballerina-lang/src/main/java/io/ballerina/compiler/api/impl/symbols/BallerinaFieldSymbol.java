@@ -53,7 +53,7 @@ public class BallerinaFieldSymbol extends BallerinaSymbol implements FieldSymbol
         super(bField.name.value, bField.symbol.pkgID, SymbolKind.FIELD, bField.symbol);
         this.context = context;
         this.bField = bField;
-        this.docAttachment = new BallerinaDocumentation(bField.symbol.markdownDocumentation);
+        this.docAttachment = new BallerinaDocumentation(bField.symbol.getMarkdownDocAttachment());
         this.deprecated = Symbols.isFlagOn(bField.symbol.flags, Flags.DEPRECATED);
     }
 
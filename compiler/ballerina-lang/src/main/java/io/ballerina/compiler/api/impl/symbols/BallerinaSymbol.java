@@ -116,7 +116,7 @@ public class BallerinaSymbol implements Symbol {
     }
 
     Documentation getDocAttachment(BSymbol symbol) {
-        return symbol == null ? null : new BallerinaDocumentation(symbol.markdownDocumentation);
+        return symbol == null ? null : new BallerinaDocumentation(symbol.getMarkdownDocAttachment());
     }
 
     /**
@@ -59,6 +59,10 @@ public class BuildOptions {
         return this.compilationOptions.observabilityIncluded();
     }
 
+    public boolean enableCache() {
+        return this.compilationOptions.enableCache();
+    }
+
     CompilationOptions compilationOptions() {
         return compilationOptions;
     }
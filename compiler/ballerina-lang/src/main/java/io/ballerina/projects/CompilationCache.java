@@ -42,4 +42,53 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the BIR of a module which a previous build compiled from the same inputs.
+     * <p>
+     * Caches which do not outlive a build do not keep modules by their inputs, hence this returns an empty array
+     * unless overridden.
+     *
+     * @param moduleName name of the module
+     * @param inputHash  hash of the sources and dependencies of the module and the compiler version
+     * @return the BIR of the module or an empty array if the module has not been compiled from the same inputs
+     */
+    public byte[] getBir(ModuleName moduleName, String inputHash) {
+        return new byte[0];
+    }
+
+    /**
+     * Returns the platform-specific library of a module which a previous build compiled from the same inputs.
+     *
+     * @param moduleName      name of the module
+     * @param inputHash       hash of the sources and dependencies of the module and the compiler version
+     * @param compilerBackend compiler backend which generated the library
+     * @param libraryName     name of the library without the file extension
+     * @return the path of the library if the module has been compiled from the same inputs
+     */
+    public Optional<Path> getPlatformSpecificLibrary(ModuleName moduleName,
+                                                     String inputHash,
+                                                     CompilerBackend compilerBackend,
+                                                     String libraryName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Keeps the BIR and the platform-specific library of a module by the hash of its inputs, so that later builds
+     * load the module instead of compiling it again until its inputs change.
+     * <p>
+     * The library should already be cached through {@link #cachePlatformSpecificLibrary}.
+     *
+     * @param moduleName      name of the module
+     * @param inputHash       hash of the sources and dependencies of the module and the compiler version
+     * @param birContent      BIR of the module
+     * @param compilerBackend compiler backend which generated the library
+     * @param libraryName     name of the library without the file extension
+     */
+    public void cacheModule(ModuleName moduleName,
+                            String inputHash,
+                            byte[] birContent,
+                            CompilerBackend compilerBackend,
+                            String libraryName) {
+    }
 }
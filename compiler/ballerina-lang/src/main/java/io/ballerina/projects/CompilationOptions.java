@@ -31,15 +31,18 @@ class CompilationOptions {
     private Boolean observabilityIncluded;
     private Boolean dumpBir;
     private String dumpBirFile;
+    private Boolean enableCache;
 
     public CompilationOptions(Boolean skipTests, Boolean offlineBuild, Boolean experimental,
-                              Boolean observabilityIncluded, Boolean dumpBir, String dumpBirFile) {
+                              Boolean observabilityIncluded, Boolean dumpBir, String dumpBirFile,
+                              Boolean enableCache) {
         this.skipTests = skipTests;
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
         this.dumpBirFile = dumpBirFile;
+        this.enableCache = enableCache;
     }
 
     boolean skipTests() {
@@ -66,6 +69,10 @@ class CompilationOptions {
         return dumpBirFile;
     }
 
+    boolean enableCache() {
+        return toBooleanDefaultIfNull(enableCache);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -84,6 +91,8 @@ class CompilationOptions {
                 theirOptions.observabilityIncluded, () -> toBooleanDefaultIfNull(this.observabilityIncluded));
         this.dumpBir = Objects.requireNonNullElseGet(theirOptions.dumpBir, () -> toBooleanDefaultIfNull(this.dumpBir));
         this.dumpBirFile = theirOptions.dumpBirFile;
+        this.enableCache = Objects.requireNonNullElseGet(
+                theirOptions.enableCache, () -> toBooleanDefaultIfNull(this.enableCache));
         return this;
     }
 
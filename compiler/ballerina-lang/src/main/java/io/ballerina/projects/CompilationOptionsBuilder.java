@@ -31,6 +31,7 @@ class CompilationOptionsBuilder {
     private Boolean observabilityIncluded;
     private Boolean dumpBir;
     private String dumpBirFile;
+    private Boolean enableCache;
 
     public CompilationOptionsBuilder() {
     }
@@ -65,9 +66,14 @@ class CompilationOptionsBuilder {
         return this;
     }
 
+    public CompilationOptionsBuilder enableCache(Boolean value) {
+        enableCache = value;
+        return this;
+    }
+
     public CompilationOptions build() {
         return new CompilationOptions(skipTests, buildOffline, experimental, observabilityIncluded, dumpBir,
-                                      dumpBirFile);
+                                      dumpBirFile, enableCache);
     }
 
 
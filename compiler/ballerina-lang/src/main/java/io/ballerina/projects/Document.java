@@ -19,6 +19,7 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 
 /**
  * {@code Document} represents a Ballerina source file(.bal).
@@ -72,15 +73,18 @@ public class Document {
      */
     public static class Modifier {
         private String content;
+        private TextDocumentChange textDocumentChange;
         private String name;
         private DocumentId documentId;
         private Module oldModule;
+        private DocumentContext oldDocumentContext;
 
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
-            this.content = oldDocument.syntaxTree().textDocument().toString();
+            this.content = oldDocument.textDocument().toString();
             this.oldModule = oldDocument.module();
+            this.oldDocumentContext = oldDocument.documentContext;
         }
 
         /**
@@ -91,6 +95,19 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.textDocumentChange = null;
+            return this;
+        }
+
+        /**
+         * Sets the change to be applied to the existing content. Only the parts of the syntax tree affected by the
+         * change are parsed again.
+         *
+         * @param textDocumentChange change to the existing content
+         * @return Document.Modifier that holds the change to be applied
+         */
+        public Modifier withContentChange(TextDocumentChange textDocumentChange) {
+            this.textDocumentChange = textDocumentChange;
             return this;
         }
 
@@ -100,9 +117,14 @@ public class Document {
          * @return document with updated content
          */
         public Document apply() {
-            DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
-                    this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig);
+            DocumentContext documentContext;
+            if (this.textDocumentChange != null) {
+                documentContext = DocumentContext.from(this.oldDocumentContext, this.textDocumentChange);
+            } else {
+                DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
+                        this.name);
+                documentContext = DocumentContext.from(documentConfig);
+            }
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
@@ -26,6 +26,7 @@ import io.ballerina.projects.environment.ModuleLoadRequest;
 import io.ballerina.projects.internal.TransactionImportValidator;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.SourceKind;
@@ -70,6 +71,23 @@ class DocumentContext {
         return new DocumentContext(documentConfig.documentId(), documentConfig.name(), documentConfig.content());
     }
 
+    /**
+     * Creates the context of a document by applying a change to an existing document. The syntax tree is updated
+     * incrementally from the syntax tree of the existing document.
+     *
+     * @param oldDocumentContext context of the existing document
+     * @param textDocumentChange change to the content of the existing document
+     * @return the context of the changed document
+     */
+    static DocumentContext from(DocumentContext oldDocumentContext, TextDocumentChange textDocumentChange) {
+        SyntaxTree syntaxTree = oldDocumentContext.syntaxTree().modifyWith(textDocumentChange);
+        DocumentContext documentContext = new DocumentContext(oldDocumentContext.documentId,
+                oldDocumentContext.name, null);
+        documentContext.syntaxTree = syntaxTree;
+        documentContext.textDocument = syntaxTree.textDocument();
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
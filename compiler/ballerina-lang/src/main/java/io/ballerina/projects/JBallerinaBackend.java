@@ -55,6 +55,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -87,6 +89,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private final InteropValidator interopValidator;
     private final JarResolver jarResolver;
     private final CompilerOptions compilerOptions;
+    private final List<CompletableFuture<Void>> pendingLibraryWrites = new ArrayList<>();
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
 
@@ -136,6 +139,7 @@ public class JBallerinaBackend extends CompilerBackend {
             moduleContext.diagnostics().forEach(diagnostic ->
                     diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.moduleName())));
         }
+        awaitLibraryWrites();
 
         this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
         codeGenCompleted = true;
@@ -244,12 +248,10 @@ public class JBallerinaBackend extends CompilerBackend {
         }
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile);
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        // Once the jar is written, the module is also kept by the hash of its inputs for the later builds
+        pendingLibraryWrites.add(writeLibrary(compilationCache, jarFileName, compiledJarFile,
+                "Failed to cache generated jar, module: " + moduleContext.moduleName())
+                .thenRun(() -> moduleContext.cacheCompiledModule(this, jarFileName)));
 
         // skip generation of the test jar if --skip-tests option is set to true
         if (Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS))) {
@@ -262,11 +264,36 @@ public class JBallerinaBackend extends CompilerBackend {
 
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
+        pendingLibraryWrites.add(writeLibrary(compilationCache, testJarFileName, compiledTestJarFile,
+                "Failed to cache generated test jar, module: " + moduleContext.moduleName()));
+    }
+
+    /**
+     * Writes a generated jar to the compilation cache in the background. The generated classes no longer depend on
+     * the compiler state, hence the jar is compressed and written while the next module is being compiled.
+     */
+    private CompletableFuture<Void> writeLibrary(CompilationCache compilationCache, String jarFileName,
+                                                 CompiledJarFile compiledJarFile, String errorMessage) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile);
+                compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
+            } catch (IOException e) {
+                throw new ProjectException(errorMessage);
+            }
+        });
+    }
+
+    private void awaitLibraryWrites() {
         try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile);
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
+            CompletableFuture.allOf(pendingLibraryWrites.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            pendingLibraryWrites.clear();
         }
     }
 
@@ -424,9 +451,17 @@ public class JBallerinaBackend extends CompilerBackend {
         Package pkg = packageCache.getPackageOrThrow(packageId);
         ProjectEnvironment projectEnvironment = pkg.project().projectEnvironmentContext();
         CompilationCache compilationCache = projectEnvironment.getService(CompilationCache.class);
-        String jarFileName = getJarFileName(pkg.packageContext().moduleContext(moduleName)) + fileNameSuffix;
-        Optional<Path> platformSpecificLibrary = compilationCache.getPlatformSpecificLibrary(
-                this, jarFileName);
+        ModuleContext moduleContext = pkg.packageContext().moduleContext(moduleName);
+        String jarFileName = getJarFileName(moduleContext) + fileNameSuffix;
+        Optional<Path> platformSpecificLibrary;
+        if (moduleContext.isLoadedFromCompilationCache()) {
+            // The jar generated by the build which cached the module is used as it is
+            platformSpecificLibrary = compilationCache.getPlatformSpecificLibrary(
+                    moduleName, moduleContext.inputHash(), this, jarFileName);
+        } else {
+            platformSpecificLibrary = compilationCache.getPlatformSpecificLibrary(
+                    this, jarFileName);
+        }
         return new JarLibrary(platformSpecificLibrary.orElseThrow(
                 () -> new IllegalStateException("Cannot find the generated jar library for module: " + moduleName)),
                 scope);
@@ -42,8 +42,7 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            DEPENDENCIES_RESOLVED_FROM_SOURCES.compile(moduleContext, compilerContext);
         }
 
         @Override
@@ -51,8 +50,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.compilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     PARSED {
@@ -71,8 +70,7 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
-            ModuleContext.compileInternal(moduleContext, compilerContext);
-            moduleContext.setCompilationState(COMPILED);
+            DEPENDENCIES_RESOLVED_FROM_SOURCES.compile(moduleContext, compilerContext);
         }
 
         @Override
@@ -80,8 +78,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.compilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     DEPENDENCIES_RESOLVED_FROM_SOURCES {
@@ -97,6 +95,11 @@ enum ModuleCompilationState {
 
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
+            // A module whose inputs have not changed after a previous build is loaded from the BIR of that build
+            if (ModuleContext.loadFromCompilationCacheInternal(moduleContext, compilerContext)) {
+                moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+                return;
+            }
             ModuleContext.compileInternal(moduleContext, compilerContext);
             moduleContext.setCompilationState(COMPILED);
         }
@@ -106,8 +109,8 @@ enum ModuleCompilationState {
                                           CompilerContext compilerContext,
                                           CompilerBackend compilerBackend) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
-            moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
+            moduleContext.compilationState().generatePlatformSpecificCode(moduleContext, compilerContext,
+                    compilerBackend);
         }
     },
     COMPILED {
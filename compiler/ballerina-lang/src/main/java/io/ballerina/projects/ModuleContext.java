@@ -19,6 +19,7 @@ package io.ballerina.projects;
 
 import io.ballerina.projects.PackageResolution.DependencyResolution;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
@@ -35,11 +36,20 @@ import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -48,6 +58,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
+import static org.ballerinalang.compiler.CompilerOptionName.ENABLE_CACHE;
+import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
 import static org.ballerinalang.model.tree.SourceKind.TEST_SOURCE;
@@ -78,6 +92,9 @@ class ModuleContext {
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests;
+    private String inputHash;
+    private boolean cacheable;
+    private boolean loadedFromCompilationCache;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -240,6 +257,20 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    /**
+     * Returns whether this module was loaded from the BIR of a previous build instead of being compiled, since its
+     * inputs have not changed after that build.
+     *
+     * @return true if the module was loaded from the compilation cache
+     */
+    boolean isLoadedFromCompilationCache() {
+        return loadedFromCompilationCache;
+    }
+
+    String inputHash() {
+        return inputHash;
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
@@ -385,12 +416,181 @@ class ModuleContext {
                     moduleContext.bLangPackage.symbol.birPackageFile);
             birContent.writeBytes(pkgBirBinaryContent);
             moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+            moduleContext.birBytes = pkgBirBinaryContent;
         } catch (IOException e) {
             // This path may never be executed
             throw new RuntimeException("Failed to convert BIR model to a byte array", e);
         }
     }
 
+    /**
+     * Loads the module from the BIR which a previous build cached for the same inputs.
+     *
+     * @param moduleContext   module to load
+     * @param compilerContext compiler context of the project
+     * @return false if the module has to be compiled from the sources
+     */
+    static boolean loadFromCompilationCacheInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
+        CompilerOptions compilerOptions = CompilerOptions.getInstance(compilerContext);
+        if (!moduleContext.canUseCompilationCache(compilerOptions)) {
+            return false;
+        }
+
+        String inputHash = moduleContext.getInputHash(compilerOptions);
+        if (inputHash == null) {
+            return false;
+        }
+        moduleContext.cacheable = true;
+        byte[] birBytes = moduleContext.compilationCache.getBir(moduleContext.moduleName(), inputHash);
+        if (birBytes.length == 0) {
+            return false;
+        }
+
+        moduleContext.birBytes = birBytes;
+        loadPackageSymbolInternal(moduleContext, compilerContext);
+        moduleContext.loadedFromCompilationCache = true;
+        return true;
+    }
+
+    /**
+     * Keeps the BIR and the generated library of this module by the hash of its inputs, so that later builds load
+     * the module instead of compiling it until its inputs change.
+     *
+     * @param compilerBackend compiler backend which generated the library
+     * @param libraryName     name of the generated library
+     */
+    void cacheCompiledModule(CompilerBackend compilerBackend, String libraryName) {
+        if (!cacheable || loadedFromCompilationCache || birBytes.length == 0) {
+            return;
+        }
+        compilationCache.cacheModule(moduleName(), inputHash, birBytes, compilerBackend, libraryName);
+    }
+
+    /**
+     * A module is loaded from the compilation cache only if nothing needs its syntax tree or semantic model
+     * after the compilation, which is the case unless its tests are compiled, observability is included or the
+     * BIR is dumped.
+     */
+    private boolean canUseCompilationCache(CompilerOptions compilerOptions) {
+        if (!Boolean.parseBoolean(compilerOptions.get(ENABLE_CACHE))
+                || System.getProperty("BOOTSTRAP_LANG_LIB") != null
+                || Boolean.parseBoolean(compilerOptions.get(OBSERVABILITY_INCLUDED))
+                || Boolean.parseBoolean(compilerOptions.get(DUMP_BIR))) {
+            return false;
+        }
+        return Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS)) || testSrcDocIds.isEmpty();
+    }
+
+    /**
+     * Returns the hash of everything the compiled module depends on, which are the compiler version, the compilation
+     * options, the sources, the platform libraries of the package and the dependencies of the module. A dependency
+     * compiled from sources contributes its own input hash, while a dependency loaded from a BALO contributes the
+     * hash of its BIR.
+     *
+     * @param compilerOptions compiler options of the project
+     * @return the input hash or null if the hash of a dependency is not known
+     */
+    private String getInputHash(CompilerOptions compilerOptions) {
+        if (inputHash != null) {
+            return inputHash;
+        }
+
+        List<String> dependencyHashes = new ArrayList<>();
+        PackageCache packageCache = project.projectEnvironmentContext().getService(PackageCache.class);
+        for (ModuleDependency moduleDependency : moduleDependencies) {
+            // Test only dependencies do not affect the BIR of the module
+            if (moduleDependency.packageDependency().scope() == PackageDependencyScope.TEST_ONLY) {
+                continue;
+            }
+            ModuleContext dependency = packageCache.getPackageOrThrow(moduleDependency.packageDependency().packageId())
+                    .module(moduleDependency.moduleId()).moduleContext();
+            String dependencyHash;
+            if (dependency.project.kind() == ProjectKind.BALR_PROJECT) {
+                dependencyHash = dependency.birBytes.length == 0 ? null : toHexString(sha256(dependency.birBytes));
+            } else {
+                dependencyHash = dependency.getInputHash(compilerOptions);
+            }
+            if (dependencyHash == null) {
+                return null;
+            }
+            dependencyHashes.add(dependency.descriptor().moduleCompilationId() + "=" + dependencyHash);
+        }
+        Collections.sort(dependencyHashes);
+
+        MessageDigest digest = newSha256Digest();
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, moduleDescriptor.moduleCompilationId().toString());
+        updateDigest(digest, compilerOptions.get(EXPERIMENTAL_FEATURES_ENABLED));
+        List<DocumentContext> documentContexts = new ArrayList<>(srcDocContextMap.values());
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : documentContexts) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.textDocument().toString());
+        }
+        updatePlatformLibraries(digest);
+        for (String dependencyHash : dependencyHashes) {
+            updateDigest(digest, dependencyHash);
+        }
+        inputHash = toHexString(digest.digest());
+        return inputHash;
+    }
+
+    /**
+     * The generated code of the interop functions depends on the Java classes of the platform libraries, hence a
+     * change to a library is detected through its size and modified time.
+     */
+    private void updatePlatformLibraries(MessageDigest digest) {
+        PackageManifest manifest = project.currentPackage().manifest();
+        for (JvmTarget jvmTarget : JvmTarget.values()) {
+            PackageManifest.Platform platform = manifest.platform(jvmTarget.code());
+            if (platform == null) {
+                continue;
+            }
+            for (Map<String, Object> dependency : platform.dependencies()) {
+                Object dependencyFilePath = dependency.get(JarLibrary.KEY_PATH);
+                if (dependencyFilePath == null) {
+                    continue;
+                }
+                Path jarPath = project.sourceRoot().resolve(Paths.get(dependencyFilePath.toString()));
+                updateDigest(digest, jarPath.toString());
+                try {
+                    updateDigest(digest, Files.size(jarPath) + ":" + Files.getLastModifiedTime(jarPath).toMillis());
+                } catch (IOException e) {
+                    updateDigest(digest, "");
+                }
+            }
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // Separates the values, so that the boundary between two values cannot move without changing the hash
+        digest.update((byte) 0);
+    }
+
+    private static byte[] sha256(byte[] content) {
+        return newSha256Digest().digest(content);
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hexString.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hexString.toString();
+    }
+
     static void loadBirBytesInternal(ModuleContext moduleContext) {
         moduleContext.birBytes = moduleContext.compilationCache.getBir(moduleContext.moduleName());
     }
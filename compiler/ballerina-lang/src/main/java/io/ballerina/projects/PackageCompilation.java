@@ -37,6 +37,7 @@ import java.util.function.Function;
 
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
+import static org.ballerinalang.compiler.CompilerOptionName.ENABLE_CACHE;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
@@ -79,6 +80,7 @@ public class PackageCompilation {
         options.put(OBSERVABILITY_INCLUDED, Boolean.toString(compilationOptions.observabilityIncluded()));
         options.put(DUMP_BIR, Boolean.toString(compilationOptions.dumpBir()));
         options.put(DUMP_BIR_FILE, compilationOptions.getBirDumpFile());
+        options.put(ENABLE_CACHE, Boolean.toString(compilationOptions.enableCache()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext) {
@@ -116,6 +118,25 @@ public class PackageCompilation {
         return new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext);
     }
 
+    /**
+     * Returns the modules of this package which were loaded from the compilation cache instead of being compiled,
+     * since their inputs have not changed after a previous build.
+     * <p>
+     * Modules are compiled when the diagnostics or the generated code are requested, hence this is empty before that.
+     *
+     * @return names of the modules loaded from the compilation cache
+     */
+    public List<ModuleName> modulesLoadedFromCache() {
+        List<ModuleName> moduleNames = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
+            if (moduleContext.isLoadedFromCompilationCache()) {
+                moduleNames.add(moduleContext.moduleName());
+            }
+        }
+        return moduleNames;
+    }
+
     // TODO Remove this method. We should not expose BLangPackage from this class
     public BLangPackage defaultModuleBLangPackage() {
         return this.rootPackageContext.defaultModuleContext().bLangPackage();
@@ -135,6 +135,7 @@ public class PackageResolution {
     }
 
     private LinkedHashSet<ResolutionRequest> getPackageLoadRequestsOfDirectDependencies() {
+        parseDocuments();
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new LinkedHashSet<>();
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
             ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
@@ -160,6 +161,28 @@ public class PackageResolution {
         return getPackageLoadRequestsOfDirectDependencies(allModuleLoadRequests);
     }
 
+    /**
+     * Parses the documents of all the modules before their module load requests are collected. Syntax trees do not
+     * depend on each other, hence the documents are parsed concurrently instead of one at a time.
+     */
+    private void parseDocuments() {
+        List<DocumentContext> documentContexts = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
+            for (DocumentId documentId : moduleContext.srcDocumentIds()) {
+                documentContexts.add(moduleContext.documentContext(documentId));
+            }
+
+            if (!compilationOptions.skipTests()) {
+                for (DocumentId documentId : moduleContext.testSrcDocumentIds()) {
+                    documentContexts.add(moduleContext.documentContext(documentId));
+                }
+            }
+        }
+
+        documentContexts.parallelStream().forEach(DocumentContext::parse);
+    }
+
     private LinkedHashSet<ResolutionRequest> getPackageLoadRequestsOfDirectDependencies(
             LinkedHashSet<ModuleLoadRequest> moduleLoadRequests) {
         LinkedHashSet<ResolutionRequest> resolutionRequests = new LinkedHashSet<>();
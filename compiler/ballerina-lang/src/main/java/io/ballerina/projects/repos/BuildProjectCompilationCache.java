@@ -17,13 +17,28 @@
  */
 package io.ballerina.projects.repos;
 
+import io.ballerina.projects.CompilerBackend;
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
 
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 /**
  * Default {@code CompilationCache} linked with the {@code BuildProject}.
+ * <p>
+ * Apart from the artifacts of the current build, the BIR and the library of each module are kept by the hash of the
+ * module inputs in a directory which is not cleaned between builds. The structure of it is as bellow
+ * - compilation_cache
+ * - module-name
+ * - input-hash
+ * - module-name.bir
+ * - module-name.jar
  *
  * @since 2.0.0
  */
@@ -31,8 +46,11 @@ public class BuildProjectCompilationCache extends FileSystemCache {
     private static final String TARGET_DIR_NAME = "target";
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
+    private final Path moduleCacheDirPath;
+
     private BuildProjectCompilationCache(Project project, Path cacheDirPath) {
         super(project, cacheDirPath);
+        this.moduleCacheDirPath = cacheDirPath.resolve(ProjectConstants.COMPILATION_CACHE_DIR_NAME);
     }
 
     public static BuildProjectCompilationCache from(Project project) {
@@ -42,8 +60,76 @@ public class BuildProjectCompilationCache extends FileSystemCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
-        // Do not return the cached BIR in the target directory
-        // We can improve this implementation to cache the BIR later to enable incremental compilation.
+        // Do not return the cached BIR in the target directory, since the sources may have changed after it was
+        // written. The BIR of a module compiled from the same inputs is returned by getBir(moduleName, inputHash).
         return EMPTY_BYTE_ARRAY;
     }
+
+    @Override
+    public byte[] getBir(ModuleName moduleName, String inputHash) {
+        Path birFilePath = getModuleEntryPath(moduleName, inputHash).resolve(moduleName.toString()
+                + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        if (!Files.exists(birFilePath)) {
+            return EMPTY_BYTE_ARRAY;
+        }
+
+        try {
+            return Files.readAllBytes(birFilePath);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read the cached bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public Optional<Path> getPlatformSpecificLibrary(ModuleName moduleName,
+                                                     String inputHash,
+                                                     CompilerBackend compilerBackend,
+                                                     String libraryName) {
+        Path libraryPath = getModuleEntryPath(moduleName, inputHash).resolve(
+                libraryName + compilerBackend.libraryFileExtension());
+        return Files.exists(libraryPath) ? Optional.of(libraryPath) : Optional.empty();
+    }
+
+    @Override
+    public void cacheModule(ModuleName moduleName,
+                            String inputHash,
+                            byte[] birContent,
+                            CompilerBackend compilerBackend,
+                            String libraryName) {
+        Path moduleEntryPath = getModuleEntryPath(moduleName, inputHash);
+        if (Files.exists(moduleEntryPath)) {
+            return;
+        }
+        Optional<Path> libraryPath = getPlatformSpecificLibrary(compilerBackend, libraryName);
+        if (libraryPath.isEmpty()) {
+            return;
+        }
+
+        Path modulePath = moduleEntryPath.getParent();
+        try {
+            // The entry is written to a temporary directory and moved in place once complete, so that a build
+            // which is interrupted does not leave an entry behind without the library
+            Files.createDirectories(modulePath);
+            Path tempEntryPath = Files.createTempDirectory(modulePath, inputHash);
+            Files.write(tempEntryPath.resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT),
+                    birContent);
+            Files.copy(libraryPath.get(), tempEntryPath.resolve(libraryPath.get().getFileName()));
+
+            // Only the latest entry of a module is kept, the older ones are for sources which have since changed
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(modulePath)) {
+                for (Path entry : entries) {
+                    if (!entry.equals(tempEntryPath)) {
+                        FileUtils.deleteDirectory(entry.toFile());
+                    }
+                }
+            }
+            Files.move(tempEntryPath, moduleEntryPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the compiled module: " + moduleName, e);
+        }
+    }
+
+    private Path getModuleEntryPath(ModuleName moduleName, String inputHash) {
+        return moduleCacheDirPath.resolve(moduleName.toString()).resolve(inputHash);
+    }
 }
@@ -42,6 +42,7 @@ public class ProjectConstants {
     public static final String TARGET_API_DOC_DIRECTORY = "apidocs";
 
     public static final String CACHES_DIR_NAME = "cache";
+    public static final String COMPILATION_CACHE_DIR_NAME = "compilation_cache";
 
     public static final String HOME_REPO_ENV_KEY = "BALLERINA_HOME_DIR";
     public static final String HOME_REPO_DEFAULT_DIRNAME = ".ballerina";
@@ -93,6 +93,7 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -133,6 +134,14 @@ public class BIRPackageSymbolEnter {
 
     private static final int SERVICE_TYPE_TAG = 52;
 
+    private static final TaintRecord.TaintedStatus[] TAINTED_STATUSES = new TaintRecord.TaintedStatus[3];
+
+    static {
+        for (TaintRecord.TaintedStatus taintedStatus : TaintRecord.TaintedStatus.values()) {
+            TAINTED_STATUSES[taintedStatus.getByteValue()] = taintedStatus;
+        }
+    }
+
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
@@ -217,9 +226,9 @@ public class BIRPackageSymbolEnter {
 
         PackageCPEntry pkgCpEntry = (PackageCPEntry) this.env.constantPool[pkgCpIndex];
 
-        String orgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String pkgVersion = ((StringCPEntry) this.env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String pkgVersion = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
 
         PackageID pkgId = createPackageID(orgName, pkgName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
@@ -287,17 +296,16 @@ public class BIRPackageSymbolEnter {
                 return new CPEntry.BooleanCPEntry(dataInStream.readBoolean());
             case CP_ENTRY_STRING:
                 int length = dataInStream.readInt();
-                String strValue = null;
 
                 // If the length of the bytes is -1, that means no UTF value has been written.
                 // i.e: string value represented by the UTF should be null.
                 // Therefore we read the UTF value only if the length >= 0.
                 if (length >= 0) {
                     byte[] bytes = new byte[length];
-                    dataInStream.read(bytes, 0, length);
-                    strValue = new String(bytes);
+                    dataInStream.readFully(bytes);
+                    return new UndecodedStringCPEntry(bytes);
                 }
-                return new CPEntry.StringCPEntry(strValue);
+                return new CPEntry.StringCPEntry(null);
             case CP_ENTRY_PACKAGE:
                 return new CPEntry.PackageCPEntry(dataInStream.readInt(),
                         dataInStream.readInt(), dataInStream.readInt());
@@ -485,31 +493,53 @@ public class BIRPackageSymbolEnter {
         tsymbol.returnType = invokableType.retType;
     }
 
-    private void defineMarkDownDocAttachment(BSymbol symbol, byte[] docBytes) throws IOException {
-        DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(docBytes));
-        boolean docPresent = dataInStream.readBoolean();
-        if (!docPresent) {
+    private void defineMarkDownDocAttachment(BSymbol symbol, byte[] docBytes) {
+        // The first byte tells whether the documentation is present
+        if (docBytes.length == 0 || docBytes[0] == 0) {
             return;
         }
 
-        int descCPIndex = dataInStream.readInt();
-        int retDescCPIndex = dataInStream.readInt();
-        int paramLength = dataInStream.readInt();
-        MarkdownDocAttachment markdownDocAttachment = new MarkdownDocAttachment(paramLength);
+        // The documentation is mostly read by tools, hence its strings are decoded when first accessed instead of
+        // when the package is loaded. Only the entries of those strings are kept, so that the constant pool can be
+        // collected once the package is loaded.
+        StringCPEntry[] docEntries = readMarkDownDocEntries(docBytes);
+        symbol.setMarkdownDocAttachmentLoader(() -> createMarkDownDocAttachment(docEntries));
+    }
 
-        markdownDocAttachment.description = descCPIndex >= 0 ? getStringCPEntryValue(descCPIndex) : null;
-        markdownDocAttachment.returnValueDescription
-                = retDescCPIndex  >= 0 ? getStringCPEntryValue(retDescCPIndex) : null;
+    /**
+     * Reads the string entries of the documentation, which are the description, the return value description and
+     * the name and the description of each parameter, in that order. An absent string has a null entry.
+     */
+    private StringCPEntry[] readMarkDownDocEntries(byte[] docBytes) {
+        try (DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(docBytes))) {
+            dataInStream.readBoolean(); // read and ignore whether the documentation is present
+
+            int descCPIndex = dataInStream.readInt();
+            int retDescCPIndex = dataInStream.readInt();
+            int paramLength = dataInStream.readInt();
+            StringCPEntry[] docEntries = new StringCPEntry[2 + paramLength * 2];
+            docEntries[0] = getStringCPEntry(descCPIndex);
+            docEntries[1] = getStringCPEntry(retDescCPIndex);
+            for (int i = 2; i < docEntries.length; i++) {
+                docEntries[i] = getStringCPEntry(dataInStream.readInt());
+            }
+            return docEntries;
+        } catch (IOException e) {
+            throw new BLangCompilerException("failed to read Markdown Documentation", e);
+        }
+    }
 
-        for (int i = 0; i < paramLength; i++) {
-            int nameCPIndex = dataInStream.readInt();
-            int paramDescCPIndex = dataInStream.readInt();
-            String name = nameCPIndex >= 0 ? getStringCPEntryValue(nameCPIndex) : null;
-            String description = paramDescCPIndex >= 0 ? getStringCPEntryValue(paramDescCPIndex) : null;
-            MarkdownDocAttachment.Parameter parameter = new MarkdownDocAttachment.Parameter(name, description);
+    private static MarkdownDocAttachment createMarkDownDocAttachment(StringCPEntry[] docEntries) {
+        int paramLength = (docEntries.length - 2) / 2;
+        MarkdownDocAttachment markdownDocAttachment = new MarkdownDocAttachment(paramLength);
+        markdownDocAttachment.description = getStringValue(docEntries[0]);
+        markdownDocAttachment.returnValueDescription = getStringValue(docEntries[1]);
+        for (int i = 2; i < docEntries.length; i += 2) {
+            MarkdownDocAttachment.Parameter parameter = new MarkdownDocAttachment.Parameter(
+                    getStringValue(docEntries[i]), getStringValue(docEntries[i + 1]));
             markdownDocAttachment.parameters.add(parameter);
         }
-        symbol.markdownDocumentation = markdownDocAttachment;
+        return markdownDocAttachment;
     }
 
     private BType readBType(DataInputStream dataInStream) throws IOException {
@@ -833,8 +863,7 @@ public class BIRPackageSymbolEnter {
     }
 
     private TaintRecord.TaintedStatus convertByteToTaintedStatus(byte readByte) {
-        return EnumSet.allOf(TaintRecord.TaintedStatus.class).stream()
-                .filter(taintedStatus -> readByte == taintedStatus.getByteValue()).findFirst().get();
+        return TAINTED_STATUSES[readByte];
     }
 
     private Location readPosition(DataInputStream dataInStream) throws IOException {
@@ -849,13 +878,22 @@ public class BIRPackageSymbolEnter {
     // private utility methods
     private String getStringCPEntryValue(DataInputStream dataInStream) throws IOException {
         int pkgNameCPIndex = dataInStream.readInt();
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[pkgNameCPIndex];
-        return stringCPEntry.value;
+        return getStringCPEntryValue(pkgNameCPIndex);
+    }
+
+    private String getStringCPEntryValue(int cpIndex) {
+        return getStringValue((StringCPEntry) this.env.constantPool[cpIndex]);
+    }
+
+    private StringCPEntry getStringCPEntry(int cpIndex) {
+        return cpIndex >= 0 ? (StringCPEntry) this.env.constantPool[cpIndex] : null;
     }
 
-    private String getStringCPEntryValue(int cpIndex) throws IOException {
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[cpIndex];
-        return stringCPEntry.value;
+    private static String getStringValue(StringCPEntry cpEntry) {
+        if (cpEntry instanceof UndecodedStringCPEntry) {
+            return ((UndecodedStringCPEntry) cpEntry).decode();
+        }
+        return cpEntry != null ? cpEntry.value : null;
     }
 
     private long getIntCPEntryValue(DataInputStream dataInStream) throws IOException {
@@ -904,6 +942,27 @@ public class BIRPackageSymbolEnter {
         }
     }
 
+    /**
+     * A string constant pool entry whose bytes are decoded when the value is first read.
+     */
+    private static class UndecodedStringCPEntry extends StringCPEntry {
+        private volatile byte[] bytes;
+
+        UndecodedStringCPEntry(byte[] bytes) {
+            super(null);
+            this.bytes = bytes;
+        }
+
+        String decode() {
+            byte[] undecodedBytes = bytes;
+            if (undecodedBytes != null) {
+                value = new String(undecodedBytes, StandardCharsets.UTF_8);
+                bytes = null;
+            }
+            return value;
+        }
+    }
+
     private static class UnresolvedType {
         String typeSig;
         Consumer<BType> completer;
@@ -1449,9 +1508,9 @@ public class BIRPackageSymbolEnter {
 
     private PackageID getPackageId(int pkgCPIndex) {
         PackageCPEntry pkgCpEntry = (PackageCPEntry) env.constantPool[pkgCPIndex];
-        String orgName = ((StringCPEntry) env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String version = ((StringCPEntry) env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String version = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
         return new PackageID(names.fromString(orgName),
                 names.fromString(pkgName), names.fromString(version));
     }
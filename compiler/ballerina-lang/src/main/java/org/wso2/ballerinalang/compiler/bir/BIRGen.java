@@ -414,7 +414,7 @@ public class BIRGen extends BLangNodeVisitor {
         this.env.enclPkg.typeDefs.add(typeDef);
         typeDef.index = this.env.enclPkg.typeDefs.size() - 1;
 
-        typeDef.setMarkdownDocAttachment(astTypeDefinition.symbol.markdownDocumentation);
+        typeDef.setMarkdownDocAttachment(astTypeDefinition.symbol.getMarkdownDocAttachment());
 
         if (astTypeDefinition.typeNode.getKind() == NodeKind.RECORD_TYPE ||
                 astTypeDefinition.typeNode.getKind() == NodeKind.OBJECT_TYPE) {
@@ -445,7 +445,7 @@ public class BIRGen extends BLangNodeVisitor {
                 );
             }
 
-            birFunc.setMarkdownDocAttachment(funcSymbol.markdownDocumentation);
+            birFunc.setMarkdownDocAttachment(funcSymbol.getMarkdownDocAttachment());
 
             int defaultableParamsCount = 0;
             birFunc.argsCount = funcSymbol.params.size() + defaultableParamsCount +
@@ -487,7 +487,7 @@ public class BIRGen extends BLangNodeVisitor {
         this.env.enclPkg.typeDefs.add(typeDef);
         typeDef.index = this.env.enclPkg.typeDefs.size() - 1;
 
-        typeDef.setMarkdownDocAttachment(classDefinition.symbol.markdownDocumentation);
+        typeDef.setMarkdownDocAttachment(classDefinition.symbol.getMarkdownDocAttachment());
 
         for (BLangType typeRef : classDefinition.typeRefs) {
             typeDef.referencedTypes.add(typeRef.type);
@@ -506,7 +506,7 @@ public class BIRGen extends BLangNodeVisitor {
                 birFunc.receiver = getSelf(funcSymbol.receiverSymbol);
             }
 
-            birFunc.setMarkdownDocAttachment(funcSymbol.markdownDocumentation);
+            birFunc.setMarkdownDocAttachment(funcSymbol.getMarkdownDocAttachment());
 
             int defaultableParamsCount = 0;
             birFunc.argsCount = funcSymbol.params.size() + defaultableParamsCount +
@@ -538,7 +538,7 @@ public class BIRGen extends BLangNodeVisitor {
                                                   constantValue, constantSymbol.origin.toBIROrigin());
         birConstant.constValue = constantValue;
 
-        birConstant.setMarkdownDocAttachment(astConstant.symbol.markdownDocumentation);
+        birConstant.setMarkdownDocAttachment(astConstant.symbol.getMarkdownDocAttachment());
 
         // Add the constant to the package.
         this.env.enclPkg.constants.add(birConstant);
@@ -601,7 +601,7 @@ public class BIRGen extends BLangNodeVisitor {
             birFunc.receiver = getSelf(astFunc.receiver.symbol);
         }
 
-        birFunc.setMarkdownDocAttachment(astFunc.symbol.markdownDocumentation);
+        birFunc.setMarkdownDocAttachment(astFunc.symbol.getMarkdownDocAttachment());
 
         //create channelDetails array
         int i = 0;
@@ -936,7 +936,7 @@ public class BIRGen extends BLangNodeVisitor {
         BIRAnnotation birAnn = new BIRAnnotation(astAnnotation.pos, annSymbol.name, annSymbol.flags, annSymbol.points,
                                                  annSymbol.attachedType == null ? symTable.trueType :
                                                          annSymbol.attachedType.type, annSymbol.origin.toBIROrigin());
-        birAnn.setMarkdownDocAttachment(annSymbol.markdownDocumentation);
+        birAnn.setMarkdownDocAttachment(annSymbol.getMarkdownDocAttachment());
         this.env.enclPkg.annotations.add(birAnn);
     }
 
@@ -1179,7 +1179,7 @@ public class BIRGen extends BLangNodeVisitor {
                                                                   names.fromString(name), VarScope.GLOBAL,
                                                                   VarKind.GLOBAL, varNode.name.value,
                                                                   varNode.symbol.origin.toBIROrigin());
-        birVarDcl.setMarkdownDocAttachment(varNode.symbol.markdownDocumentation);
+        birVarDcl.setMarkdownDocAttachment(varNode.symbol.getMarkdownDocAttachment());
 
         this.env.enclPkg.globalVars.add(birVarDcl);
 
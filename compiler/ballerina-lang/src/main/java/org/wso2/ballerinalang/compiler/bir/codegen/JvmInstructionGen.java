@@ -39,12 +39,17 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
@@ -65,6 +70,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -88,6 +94,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -113,6 +120,7 @@ import static org.objectweb.asm.Opcodes.LSUB;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen.getTargetClass;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
@@ -121,6 +129,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BERROR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_INITIAL_VALUE_ENTRY;
@@ -187,6 +196,10 @@ public class JvmInstructionGen {
     private final JvmBStringConstantsGen stringConstantsGen;
     private final SymbolTable symbolTable;
     private final AsyncDataCollector asyncDataCollector;
+    // temp vars of the current function which only ever hold a single string constant, mapped to that constant
+    private final Map<BIRNode.BIRVariableDcl, String> constantKeys = new HashMap<>();
+    private List<BIRNode.BIRTypeDefinition> moduleTypeDefs = List.of();
+    private final Map<BType, Boolean> recordTypesWithValueClass = new HashMap<>();
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -1191,10 +1204,104 @@ public class JvmInstructionGen {
                            String.format("(L%s;)V", B_MAP), false);
     }
 
+    /**
+     * Collects the per-function information used to access statically known record fields directly. Must be called
+     * before generating the instructions of each function.
+     *
+     * @param func     function whose instructions are generated next
+     * @param typeDefs type definitions of the module being generated
+     */
+    public void collectStaticFieldKeys(BIRNode.BIRFunction func, List<BIRNode.BIRTypeDefinition> typeDefs) {
+        this.moduleTypeDefs = typeDefs;
+        this.constantKeys.clear();
+        Map<BIRNode.BIRVariableDcl, Integer> assignCounts = new HashMap<>();
+        for (BIRNode.BIRBasicBlock bb : func.basicBlocks) {
+            for (BIRNonTerminator ins : bb.instructions) {
+                countAssignment(assignCounts, ins.lhsOp);
+                if (ins.kind != InstructionKind.CONST_LOAD || ins.lhsOp.variableDcl.kind != VarKind.TEMP) {
+                    continue;
+                }
+                BIRNonTerminator.ConstantLoad constantLoad = (BIRNonTerminator.ConstantLoad) ins;
+                if (constantLoad.value != null && TypeTags.isStringTypeTag(constantLoad.type.tag)) {
+                    this.constantKeys.put(ins.lhsOp.variableDcl, String.valueOf(constantLoad.value));
+                }
+            }
+            if (bb.terminator != null) {
+                countAssignment(assignCounts, bb.terminator.lhsOp);
+            }
+        }
+        // a temp reused for more than one value does not have a statically known value
+        this.constantKeys.keySet().removeIf(varDcl -> assignCounts.get(varDcl) != 1);
+    }
+
+    private static void countAssignment(Map<BIRNode.BIRVariableDcl, Integer> assignCounts, BIROperand lhsOp) {
+        if (lhsOp != null && lhsOp.variableDcl != null) {
+            assignCounts.merge(lhsOp.variableDcl, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns the record field accessed by a field access instruction, if it can be accessed directly as a field of
+     * the generated record value class. That is the case when the static type of the mapping is a record defined in
+     * the current module (the fields of the value class are package-private) and the key is a string constant naming
+     * one of its declared fields.
+     *
+     * @param varRefType static type of the mapping
+     * @param keyVarDcl  variable holding the key
+     * @return the accessed field, or null if the field has to be looked up by name at runtime
+     */
+    private BField getStaticallyKnownField(BType varRefType, BIRNode.BIRVariableDcl keyVarDcl) {
+        if (varRefType.tag != TypeTags.RECORD || varRefType.tsymbol == null ||
+                !currentPackage.equals(varRefType.tsymbol.pkgID)) {
+            return null;
+        }
+        String key = this.constantKeys.get(keyVarDcl);
+        if (key == null || !hasValueClass(varRefType)) {
+            return null;
+        }
+        BField field = ((BRecordType) varRefType).fields.get(key);
+        if (field == null || !key.equals(IdentifierUtils.decodeIdentifier(field.name.value))) {
+            return null;
+        }
+        return field;
+    }
+
+    private boolean hasValueClass(BType recordType) {
+        return this.recordTypesWithValueClass.computeIfAbsent(recordType, type -> {
+            for (BIRNode.BIRTypeDefinition typeDef : this.moduleTypeDefs) {
+                if (typeDef.type == type) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private static boolean isOptionalRecordField(BField field) {
+        return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
+    }
+
+    private static boolean isDirectlyStorable(BField field, BType valueType) {
+        // A primitive field can only take a value of the same JVM representation without going through the
+        // conversions done by the generic store; reference typed fields take any value once boxed.
+        String fieldTypeDesc = getTypeDesc(field.type);
+        return fieldTypeDesc.length() > 1 || fieldTypeDesc.equals(getTypeDesc(valueType));
+    }
+
     void generateMapStoreIns(BIRNonTerminator.FieldAccess mapStoreIns) {
+        BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
+        Label mapStoreEndLabel = null;
+        if (!mapStoreIns.onInitialization) {
+            BField field = getStaticallyKnownField(varRefType, mapStoreIns.keyOp.variableDcl);
+            if (field != null && !Symbols.isFlagOn(field.symbol.flags, Flags.READONLY) &&
+                    isDirectlyStorable(field, mapStoreIns.rhsOp.variableDcl.type)) {
+                mapStoreEndLabel = new Label();
+                generateRecordFieldStore(mapStoreIns, (BRecordType) varRefType, field, mapStoreEndLabel);
+            }
+        }
+
         // visit map_ref
         this.loadVar(mapStoreIns.lhsOp.variableDcl);
-        BType varRefType = mapStoreIns.lhsOp.variableDcl.type;
 
         // visit key_expr
         this.loadVar(mapStoreIns.keyOp.variableDcl);
@@ -1216,9 +1323,62 @@ public class JvmInstructionGen {
                                              MAP_VALUE, JvmConstants.B_STRING_VALUE, OBJECT);
             this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", signature, false);
         }
+
+        if (mapStoreEndLabel != null) {
+            this.mv.visitLabel(mapStoreEndLabel);
+        }
+    }
+
+    private void generateRecordFieldStore(BIRNonTerminator.FieldAccess mapStoreIns, BRecordType recordType,
+                                          BField field, Label mapStoreEndLabel) {
+        // The value is written straight to the field if the mapping is an instance of the value class of its static
+        // type and is not read-only. Since the static type of the value being stored has already been checked against
+        // the field type, the inherent type check done by MapUtils.handleMapStore can be skipped. Anything else falls
+        // through to the generic store.
+        String className = getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType));
+        BIRNode.BIRVariableDcl mapVarDcl = mapStoreIns.lhsOp.variableDcl;
+        Label genericStoreLabel = new Label();
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericStoreLabel);
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, className, "getType", String.format("()L%s;", TYPE), false);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, TYPE, "isReadOnly", "()Z", true);
+        this.mv.visitJumpInsn(IFNE, genericStoreLabel);
+
+        String fieldName = field.name.value;
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        BIRNode.BIRVariableDcl valueVarDcl = mapStoreIns.rhsOp.variableDcl;
+        this.loadVar(valueVarDcl);
+        String fieldTypeDesc = getTypeDesc(field.type);
+        if (!fieldTypeDesc.equals(getTypeDesc(valueVarDcl.type))) {
+            jvmCastGen.addBoxInsn(this.mv, valueVarDcl.type);
+            this.mv.visitTypeInsn(CHECKCAST, fieldTypeDesc.substring(1, fieldTypeDesc.length() - 1));
+        }
+        this.mv.visitFieldInsn(PUTFIELD, className, fieldName, fieldTypeDesc);
+        if (isOptionalRecordField(field)) {
+            this.loadVar(mapVarDcl);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.mv.visitInsn(ICONST_1);
+            this.mv.visitFieldInsn(PUTFIELD, className, String.format("%s$isPresent", fieldName), "Z");
+        }
+        this.mv.visitJumpInsn(GOTO, mapStoreEndLabel);
+        this.mv.visitLabel(genericStoreLabel);
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+        Label mapLoadEndLabel = null;
+        if (!mapLoadIns.fillingRead && !mapLoadIns.optionalFieldAccess) {
+            BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
+            BField field = getStaticallyKnownField(varRefType, mapLoadIns.keyOp.variableDcl);
+            if (field != null) {
+                mapLoadEndLabel = new Label();
+                generateRecordFieldLoad(mapLoadIns, (BRecordType) varRefType, field, mapLoadEndLabel);
+            }
+        }
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
@@ -1253,6 +1413,43 @@ public class JvmInstructionGen {
         BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, targetType);
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+
+        if (mapLoadEndLabel != null) {
+            this.mv.visitLabel(mapLoadEndLabel);
+        }
+    }
+
+    private void generateRecordFieldLoad(BIRNonTerminator.FieldAccess mapLoadIns, BRecordType recordType,
+                                         BField field, Label mapLoadEndLabel) {
+        // The field is read straight from the value class if the mapping is an instance of it. Optional fields that
+        // are not present, and values of any other class, fall through to the generic lookup.
+        String className = getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType));
+        BIRNode.BIRVariableDcl mapVarDcl = mapLoadIns.rhsOp.variableDcl;
+        Label genericLoadLabel = new Label();
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+
+        String fieldName = field.name.value;
+        if (isOptionalRecordField(field)) {
+            this.loadVar(mapVarDcl);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            this.mv.visitFieldInsn(GETFIELD, className, String.format("%s$isPresent", fieldName), "Z");
+            this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+        }
+
+        this.loadVar(mapVarDcl);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        String fieldTypeDesc = getTypeDesc(field.type);
+        this.mv.visitFieldInsn(GETFIELD, className, fieldName, fieldTypeDesc);
+        BIRNode.BIRVariableDcl targetVarDcl = mapLoadIns.lhsOp.variableDcl;
+        if (!fieldTypeDesc.equals(getTypeDesc(targetVarDcl.type))) {
+            jvmCastGen.addBoxInsn(this.mv, field.type);
+            jvmCastGen.addUnboxInsn(this.mv, targetVarDcl.type);
+        }
+        this.storeToVar(targetVarDcl);
+        this.mv.visitJumpInsn(GOTO, mapLoadEndLabel);
+        this.mv.visitLabel(genericLoadLabel);
     }
 
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
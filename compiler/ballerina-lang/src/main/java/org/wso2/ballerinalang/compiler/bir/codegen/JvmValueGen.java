@@ -315,7 +315,7 @@ class JvmValueGen {
         }
     }
 
-    private void createObjectInit(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createObjectInit(ClassWriter cw, Map<String, BField> fields, String className, String typeName) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, JVM_INIT_METHOD, String.format("(L%s;)V", OBJECT_TYPE_IMPL), null,
                                           null);
@@ -341,7 +341,10 @@ class JvmValueGen {
             mv.visitVarInsn(ALOAD, 0);
             mv.visitTypeInsn(NEW, LOCK_VALUE);
             mv.visitInsn(DUP);
-            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, "()V", false);
+            // the lock name identifies the field in lock metrics
+            mv.visitLdcInsn(typeName + "." + field.name.value);
+            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, String.format("(L%s;)V", STRING_VALUE),
+                               false);
             mv.visitFieldInsn(PUTFIELD, className, computeLockNameFromString(field.name.value), lockClass);
         }
 
@@ -1019,11 +1022,13 @@ class JvmValueGen {
         }
 
         // Add all from super.enrtySet() to the current entry set.
+        Label superEmptyLabel = this.createSuperMapEmptyCheck(mv);
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitVarInsn(ALOAD, 0);
         mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
+        mv.visitLabel(superEmptyLabel);
 
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitInsn(ARETURN);
@@ -1121,11 +1126,13 @@ class JvmValueGen {
             mv.visitLabel(ifNotPresent);
         }
 
+        Label superEmptyLabel = this.createSuperMapEmptyCheck(mv);
         mv.visitVarInsn(ALOAD, valuesVarIndex);
         mv.visitVarInsn(ALOAD, 0); // this
         mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "values", String.format("()L%s;", COLLECTION), false);
         mv.visitMethodInsn(INVOKEINTERFACE, LIST, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
+        mv.visitLabel(superEmptyLabel);
 
         mv.visitVarInsn(ALOAD, 1);
         mv.visitInsn(ARETURN);
@@ -1300,11 +1307,13 @@ class JvmValueGen {
             mv.visitLabel(ifNotPresent);
         }
 
+        Label superEmptyLabel = this.createSuperMapEmptyCheck(mv);
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitVarInsn(ALOAD, 0); // this
         mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
+        mv.visitLabel(superEmptyLabel);
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitInsn(DUP);
@@ -1317,6 +1326,23 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
+    /**
+     * Generates a jump over the code that reads the rest fields held in the super map, when there are none. Closed
+     * records and records that never get a rest field added never populate the super map, so creating and copying
+     * its views is pure overhead for them.
+     *
+     * @param mv method visitor
+     * @return label to be visited after the code that reads the super map
+     */
+    private Label createSuperMapEmptyCheck(MethodVisitor mv) {
+
+        Label superEmptyLabel = new Label();
+        mv.visitVarInsn(ALOAD, 0); // this
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "size", "()I", false);
+        mv.visitJumpInsn(IFEQ, superEmptyLabel);
+        return superEmptyLabel;
+    }
+
     private void createRecordPopulateInitialValuesMethod(ClassWriter cw) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, POPULATE_INITIAL_VALUES_METHOD,
@@ -1378,7 +1404,7 @@ class JvmValueGen {
                                      stringConstantsGen, asyncDataCollector);
         }
 
-        this.createObjectInit(cw, fields, className);
+        this.createObjectInit(cw, fields, className, objectType.tsymbol.name.value);
         this.createCallMethod(cw, attachedFuncs, className, jvmCastGen);
         this.createObjectGetMethod(cw, fields, className, jvmCastGen);
         this.createObjectSetMethod(cw, fields, className, jvmCastGen);
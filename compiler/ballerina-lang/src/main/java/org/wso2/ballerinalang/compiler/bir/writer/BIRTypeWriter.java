@@ -332,7 +332,7 @@ public class BIRTypeWriter implements TypeVisitor {
             BSymbol symbol = field.symbol;
             buff.writeInt(addStringCPEntry(symbol.name.value));
             buff.writeLong(symbol.flags);
-            writeMarkdownDocAttachment(buff, field.symbol.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, field.symbol.getMarkdownDocAttachment());
             writeTypeCpIndex(field.type);
         }
 
@@ -379,7 +379,7 @@ public class BIRTypeWriter implements TypeVisitor {
             buff.writeInt(addStringCPEntry(field.name.value));
             // TODO add position
             buff.writeLong(field.symbol.flags);
-            writeMarkdownDocAttachment(buff, field.symbol.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, field.symbol.getMarkdownDocAttachment());
             writeTypeCpIndex(field.type);
         }
         List<BAttachedFunction> attachedFuncs;
@@ -828,7 +828,7 @@ public class ASTBuilderUtil {
         dupFuncSymbol.taintTable = invokableSymbol.taintTable;
         dupFuncSymbol.tainted = invokableSymbol.tainted;
         dupFuncSymbol.closure = invokableSymbol.closure;
-        dupFuncSymbol.markdownDocumentation = invokableSymbol.markdownDocumentation;
+        dupFuncSymbol.setMarkdownDocAttachment(invokableSymbol.getMarkdownDocAttachment());
         dupFuncSymbol.scope = invokableSymbol.scope;
         dupFuncSymbol.tag = invokableSymbol.tag;
         dupFuncSymbol.schedulerPolicy = invokableSymbol.schedulerPolicy;
@@ -880,7 +880,7 @@ public class ASTBuilderUtil {
         dupFuncSymbol.tainted = invokableSymbol.tainted;
         dupFuncSymbol.closure = invokableSymbol.closure;
         dupFuncSymbol.tag = invokableSymbol.tag;
-        dupFuncSymbol.markdownDocumentation = invokableSymbol.markdownDocumentation;
+        dupFuncSymbol.setMarkdownDocAttachment(invokableSymbol.getMarkdownDocAttachment());
 
         BInvokableType prevFuncType = (BInvokableType) invokableSymbol.type;
         dupFuncSymbol.type = new BInvokableType(new ArrayList<>(prevFuncType.paramTypes), prevFuncType.restType,
@@ -893,7 +893,7 @@ public class ASTBuilderUtil {
                                                    paramSymbol.type, owner, paramSymbol.pos, paramSymbol.origin);
         newParamSymbol.tainted = paramSymbol.tainted;
         newParamSymbol.defaultableParam = paramSymbol.defaultableParam;
-        newParamSymbol.markdownDocumentation = paramSymbol.markdownDocumentation;
+        newParamSymbol.setMarkdownDocAttachment(paramSymbol.getMarkdownDocAttachment());
         return newParamSymbol;
     }
 
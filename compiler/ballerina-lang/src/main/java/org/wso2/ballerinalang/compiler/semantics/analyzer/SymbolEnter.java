@@ -645,7 +645,7 @@ public class SymbolEnter extends BLangNodeVisitor {
                                                          env.scope.owner, classDefinition.name.pos,
                                                          getOrigin(className, flags), classDefinition.isServiceDecl);
         tSymbol.scope = new Scope(tSymbol);
-        tSymbol.markdownDocumentation = getMarkdownDocAttachment(classDefinition.markdownDocumentationAttachment);
+        tSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(classDefinition.markdownDocumentationAttachment));
 
 
         long typeFlags = 0;
@@ -708,8 +708,8 @@ public class SymbolEnter extends BLangNodeVisitor {
                                                                             annotName, env.enclPkg.symbol.pkgID, null,
                                                                             env.scope.owner, annotationNode.pos,
                                                                             getOrigin(annotName));
-        annotationSymbol.markdownDocumentation =
-                getMarkdownDocAttachment(annotationNode.markdownDocumentationAttachment);
+        annotationSymbol.setMarkdownDocAttachment(
+                getMarkdownDocAttachment(annotationNode.markdownDocumentationAttachment));
         if (isDeprecated(annotationNode.annAttachments)) {
             annotationSymbol.flags |= Flags.DEPRECATED;
         }
@@ -1294,7 +1294,8 @@ public class SymbolEnter extends BLangNodeVisitor {
         } else {
             typeDefSymbol = definedType.tsymbol;
         }
-        typeDefSymbol.markdownDocumentation = getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment);
+        typeDefSymbol.setMarkdownDocAttachment(
+                getMarkdownDocAttachment(typeDefinition.markdownDocumentationAttachment));
         typeDefSymbol.name = names.fromIdNode(typeDefinition.getName());
         typeDefSymbol.pkgID = env.enclPkg.packageID;
         typeDefSymbol.pos = typeDefinition.name.pos;
@@ -1574,7 +1575,7 @@ public class SymbolEnter extends BLangNodeVisitor {
                                                                    names.fromIdNode(workerNode.name),
                                                                    env.enclPkg.symbol.pkgID, null, env.scope.owner,
                                                                    workerNode.pos, SOURCE);
-        workerSymbol.markdownDocumentation = getMarkdownDocAttachment(workerNode.markdownDocumentationAttachment);
+        workerSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(workerNode.markdownDocumentationAttachment));
         workerNode.symbol = workerSymbol;
         defineSymbolWithCurrentEnvOwner(workerNode.pos, workerSymbol);
     }
@@ -1597,7 +1598,7 @@ public class SymbolEnter extends BLangNodeVisitor {
                 env.enclPkg.symbol.pkgID, null, env.scope.owner,
                 funcNode.hasBody(), funcNode.name.pos, SOURCE);
         funcSymbol.source = funcNode.pos.lineRange().filePath();
-        funcSymbol.markdownDocumentation = getMarkdownDocAttachment(funcNode.markdownDocumentationAttachment);
+        funcSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(funcNode.markdownDocumentationAttachment));
         SymbolEnv invokableEnv = SymbolEnv.createFunctionEnv(funcNode, funcSymbol.scope, env);
         defineInvokableSymbol(funcNode, funcSymbol, invokableEnv);
         funcNode.type = funcSymbol.type;
@@ -1636,7 +1637,7 @@ public class SymbolEnter extends BLangNodeVisitor {
                                                                    funcNode.hasBody(), symbolPos,
                                                                    getOrigin(funcNode.name.value));
         funcSymbol.source = funcNode.pos.lineRange().filePath();
-        funcSymbol.markdownDocumentation = getMarkdownDocAttachment(funcNode.markdownDocumentationAttachment);
+        funcSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(funcNode.markdownDocumentationAttachment));
         SymbolEnv invokableEnv = SymbolEnv.createFunctionEnv(funcNode, funcSymbol.scope, env);
         defineInvokableSymbol(funcNode, funcSymbol, invokableEnv);
         funcNode.type = funcSymbol.type;
@@ -1720,7 +1721,7 @@ public class SymbolEnter extends BLangNodeVisitor {
             constantSymbol.type = constantSymbol.literalType = staticType;
         }
 
-        constantSymbol.markdownDocumentation = getMarkdownDocAttachment(constant.markdownDocumentationAttachment);
+        constantSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(constant.markdownDocumentationAttachment));
         if (isDeprecated(constant.annAttachments)) {
             constantSymbol.flags |= Flags.DEPRECATED;
         }
@@ -1768,7 +1769,7 @@ public class SymbolEnter extends BLangNodeVisitor {
         if (isDeprecated(varNode.annAttachments)) {
             varSymbol.flags |= Flags.DEPRECATED;
         }
-        varSymbol.markdownDocumentation = getMarkdownDocAttachment(varNode.markdownDocumentationAttachment);
+        varSymbol.setMarkdownDocAttachment(getMarkdownDocAttachment(varNode.markdownDocumentationAttachment));
         varNode.symbol = varSymbol;
         if (varNode.symbol.type.tsymbol != null && Symbols.isFlagOn(varNode.symbol.type.tsymbol.flags, Flags.CLIENT)) {
             varSymbol.tag = SymTag.ENDPOINT;
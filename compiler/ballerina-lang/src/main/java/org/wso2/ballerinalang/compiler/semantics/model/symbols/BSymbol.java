@@ -32,6 +32,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * @since 0.94
@@ -47,7 +48,6 @@ public class BSymbol implements Symbol {
     public BSymbol owner;
     public boolean tainted;
     public boolean closure;
-    public MarkdownDocAttachment markdownDocumentation;
     public Location pos;
     public SymbolOrigin origin;
 
@@ -56,6 +56,12 @@ public class BSymbol implements Symbol {
      */
     public Scope scope;
 
+    private MarkdownDocAttachment markdownDocumentation;
+    /**
+     * Reads the documentation of a symbol loaded from a compiled module on first access, if it has not been read yet.
+     */
+    private volatile Supplier<MarkdownDocAttachment> markdownDocumentationLoader;
+
     public BSymbol(int tag, long flags, Name name, PackageID pkgID, BType type, BSymbol owner,
                    Location location,
                    SymbolOrigin origin) {
@@ -70,9 +76,31 @@ public class BSymbol implements Symbol {
     }
 
     public MarkdownDocAttachment getMarkdownDocAttachment() {
+        Supplier<MarkdownDocAttachment> loader = markdownDocumentationLoader;
+        if (loader != null) {
+            if (markdownDocumentation == null) {
+                markdownDocumentation = loader.get();
+            }
+            markdownDocumentationLoader = null;
+        }
         return markdownDocumentation;
     }
 
+    public void setMarkdownDocAttachment(MarkdownDocAttachment markdownDocumentation) {
+        this.markdownDocumentation = markdownDocumentation;
+        this.markdownDocumentationLoader = null;
+    }
+
+    /**
+     * Sets the loader of the documentation, which is read when {@link #getMarkdownDocAttachment()} is first called.
+     *
+     * @param markdownDocumentationLoader reads the documentation
+     */
+    public void setMarkdownDocAttachmentLoader(Supplier<MarkdownDocAttachment> markdownDocumentationLoader) {
+        this.markdownDocumentation = null;
+        this.markdownDocumentationLoader = markdownDocumentationLoader;
+    }
+
     @Override
     public Name getName() {
         return name;
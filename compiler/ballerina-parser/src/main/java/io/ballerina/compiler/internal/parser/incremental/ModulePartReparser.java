@@ -0,0 +1,214 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.compiler.internal.parser.incremental;
+
+import io.ballerina.compiler.internal.parser.ParserFactory;
+import io.ballerina.compiler.internal.parser.tree.STModulePartNode;
+import io.ballerina.compiler.internal.parser.tree.STNode;
+import io.ballerina.compiler.internal.parser.tree.STNodeFactory;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reparses only the top level nodes, i.e. the imports and the module members, of a module part which are affected
+ * by a text change.
+ * <p>
+ * Nodes do not hold absolute positions, hence the unaffected top level nodes of the old tree are shared with the new
+ * tree as they are. The affected nodes are parsed from a slice of the new text, which begins and ends at top level
+ * node boundaries. The slice is widened by an unchanged node on each side, so that the lookahead done while parsing
+ * the reused nodes never reaches into the changed text. The slice is extended up to the end of the document when
+ * it does not parse without errors, since the error recovery may then consume the nodes which follow it.
+ *
+ * @since 2.0.0
+ */
+public class ModulePartReparser {
+
+    private final STModulePartNode oldModulePart;
+    private final List<STNode> oldTopLevelNodes;
+    private final int oldImportCount;
+    /**
+     * Start offsets of the old top level nodes, followed by the start offset of the end of file token.
+     */
+    private final int[] oldStartOffsets;
+    private final int oldTextLength;
+    private final TextDocument newTextDocument;
+    private final TextEditRange textEditRange;
+
+    private ModulePartReparser(STModulePartNode oldModulePart,
+                               TextDocument newTextDocument,
+                               TextEditRange textEditRange) {
+        this.oldModulePart = oldModulePart;
+        this.newTextDocument = newTextDocument;
+        this.textEditRange = textEditRange;
+        this.oldTopLevelNodes = new ArrayList<>();
+        addChildren(oldModulePart.imports, oldTopLevelNodes);
+        this.oldImportCount = oldTopLevelNodes.size();
+        addChildren(oldModulePart.members, oldTopLevelNodes);
+
+        this.oldStartOffsets = new int[oldTopLevelNodes.size() + 1];
+        int offset = 0;
+        for (int index = 0; index < oldTopLevelNodes.size(); index++) {
+            oldStartOffsets[index] = offset;
+            offset += oldTopLevelNodes.get(index).widthWithMinutiae();
+        }
+        oldStartOffsets[oldTopLevelNodes.size()] = offset;
+        this.oldTextLength = oldModulePart.widthWithMinutiae();
+    }
+
+    /**
+     * Parses the new text of a syntax tree, reusing the top level nodes of the old tree which are not affected by
+     * the change.
+     *
+     * @param oldTree            previous syntax tree
+     * @param newTextDocument    new source code
+     * @param textDocumentChange a collection of text edits applied to the previous source code
+     * @return the module part node of the new source code
+     */
+    public static STNode reparse(SyntaxTree oldTree,
+                                 TextDocument newTextDocument,
+                                 TextDocumentChange textDocumentChange) {
+        STNode oldRootNode = oldTree.rootNode().internalNode();
+        if (oldRootNode.kind != SyntaxKind.MODULE_PART || textDocumentChange.getTextEditCount() == 0 ||
+                oldRootNode.widthWithMinutiae() != oldTree.textDocument().toString().length()) {
+            // The offsets of the old nodes cannot be mapped to the text, unless the old tree covers all of it
+            return ParserFactory.getParser(newTextDocument).parse();
+        }
+
+        ModulePartReparser reparser = new ModulePartReparser((STModulePartNode) oldRootNode, newTextDocument,
+                toTextEditRange(textDocumentChange));
+        return reparser.reparse();
+    }
+
+    private STNode reparse() {
+        int endOfFileIndex = oldTopLevelNodes.size();
+        int firstAffected = -1;
+        int lastAffected = -1;
+        for (int index = 0; index <= endOfFileIndex; index++) {
+            // An edit touching the boundary of two nodes affects both of them
+            if (startOffset(index) <= textEditRange.oldEndOffset &&
+                    endOffset(index) >= textEditRange.oldStartOffset) {
+                if (firstAffected < 0) {
+                    firstAffected = index;
+                }
+                lastAffected = index;
+            }
+        }
+
+        int first = Math.max(firstAffected - 1, 0);
+        while (first > 0 && oldTopLevelNodes.get(first - 1).hasDiagnostics()) {
+            // The end of a node with errors may have been decided by the recovery looking at the nodes after it
+            first--;
+        }
+        int last = Math.min(lastAffected + 1, endOfFileIndex);
+
+        STModulePartNode slice = parseSlice(first, last);
+        if (last != endOfFileIndex && (slice.hasDiagnostics() || slice.eofToken.widthWithMinutiae() != 0)) {
+            last = endOfFileIndex;
+            slice = parseSlice(first, last);
+        }
+
+        List<STNode> sliceImports = new ArrayList<>();
+        addChildren(slice.imports, sliceImports);
+        List<STNode> sliceMembers = new ArrayList<>();
+        addChildren(slice.members, sliceMembers);
+        if ((!sliceImports.isEmpty() && first > oldImportCount) ||
+                (!sliceMembers.isEmpty() && last + 1 < oldImportCount)) {
+            // An import which follows a module member is parsed differently with the nodes before the slice
+            return ParserFactory.getParser(newTextDocument).parse();
+        }
+
+        List<STNode> imports = new ArrayList<>(oldTopLevelNodes.subList(0, Math.min(first, oldImportCount)));
+        imports.addAll(sliceImports);
+        List<STNode> members = new ArrayList<>(oldTopLevelNodes.subList(oldImportCount, Math.max(first,
+                oldImportCount)));
+        members.addAll(sliceMembers);
+        STNode eofToken;
+        if (last == endOfFileIndex) {
+            eofToken = slice.eofToken;
+        } else {
+            for (int index = last + 1; index < endOfFileIndex; index++) {
+                if (index < oldImportCount) {
+                    imports.add(oldTopLevelNodes.get(index));
+                } else {
+                    members.add(oldTopLevelNodes.get(index));
+                }
+            }
+            eofToken = oldModulePart.eofToken;
+        }
+        return STNodeFactory.createModulePartNode(STNodeFactory.createNodeList(imports),
+                STNodeFactory.createNodeList(members), eofToken);
+    }
+
+    /**
+     * Parses the new text of the top level nodes in the given range of the old tree.
+     *
+     * @param first index of the first top level node
+     * @param last  index of the last top level node, which is the end of file token if it is the number of nodes
+     * @return the module part node of the slice
+     */
+    private STModulePartNode parseSlice(int first, int last) {
+        int sliceStartOffset = startOffset(first);
+        int sliceEndOffset = endOffset(last) + textEditRange.newTextLength - textEditRange.oldLength;
+        String newText = newTextDocument.toString();
+        String sliceText = sliceStartOffset == 0 && sliceEndOffset == newText.length() ?
+                newText : newText.substring(sliceStartOffset, sliceEndOffset);
+        return (STModulePartNode) ParserFactory.getParser(TextDocuments.from(sliceText)).parse();
+    }
+
+    private int startOffset(int index) {
+        return oldStartOffsets[index];
+    }
+
+    private int endOffset(int index) {
+        return index == oldTopLevelNodes.size() ? oldTextLength : oldStartOffsets[index + 1];
+    }
+
+    private static void addChildren(STNode nodeList, List<STNode> children) {
+        for (int bucket = 0; bucket < nodeList.bucketCount(); bucket++) {
+            children.add(nodeList.childInBucket(bucket));
+        }
+    }
+
+    /**
+     * Merges the edits of a change into a single range of the old text.
+     *
+     * @param textDocumentChange a collection of text edits, which are ordered and do not overlap
+     * @return the range of the old text which covers all the edits
+     */
+    private static TextEditRange toTextEditRange(TextDocumentChange textDocumentChange) {
+        int oldStartOffset = Integer.MAX_VALUE;
+        int oldEndOffset = 0;
+        int lengthDelta = 0;
+        for (int index = 0; index < textDocumentChange.getTextEditCount(); index++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(index);
+            TextRange textRange = textEdit.range();
+            oldStartOffset = Math.min(oldStartOffset, textRange.startOffset());
+            oldEndOffset = Math.max(oldEndOffset, textRange.endOffset());
+            lengthDelta += textEdit.text().length() - textRange.length();
+        }
+        return new TextEditRange(oldStartOffset, oldEndOffset, oldEndOffset - oldStartOffset + lengthDelta);
+    }
+}
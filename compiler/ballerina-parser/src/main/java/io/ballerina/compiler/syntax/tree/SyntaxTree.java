@@ -19,6 +19,7 @@ package io.ballerina.compiler.syntax.tree;
 
 import io.ballerina.compiler.internal.parser.BallerinaParser;
 import io.ballerina.compiler.internal.parser.ParserFactory;
+import io.ballerina.compiler.internal.parser.incremental.ModulePartReparser;
 import io.ballerina.compiler.internal.syntax.SyntaxUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
@@ -92,6 +93,20 @@ public class SyntaxTree {
         return new SyntaxTree(rootNode, null, filePath, true);
     }
 
+    /**
+     * Applies the given change to the source code and returns the new syntax tree. Only the imports and the module
+     * members affected by the change are parsed again, the rest of them are shared with this tree.
+     *
+     * @param textDocumentChange a collection of text edits applied to the source code of this tree
+     * @return the syntax tree of the changed source code
+     */
+    public SyntaxTree modifyWith(TextDocumentChange textDocumentChange) {
+        TextDocument newTextDocument = textDocument().apply(textDocumentChange);
+        Node newRootNode = ModulePartReparser.reparse(this, newTextDocument, textDocumentChange)
+                .createUnlinkedFacade();
+        return new SyntaxTree(newRootNode, newTextDocument, filePath, false);
+    }
+
     public SyntaxTree replaceNode(Node target, Node replacement) {
         Node newRootNode;
         if (SyntaxUtils.isToken(target)) {
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerinalang.compiler.parser.test.incremental;
+
+import io.ballerina.compiler.internal.syntax.SyntaxUtils;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Contains cases to test reparsing only the module level declarations affected by a change.
+ *
+ * @since 2.0.0
+ */
+public class ModulePartReparseTest extends AbstractIncrementalParserTest {
+
+    @Test
+    public void testReusingUnchangedDeclarations() {
+        SyntaxTree oldTree = parseFile("module_declarations/module_declarations_old.bal");
+        TextDocumentChange textDocumentChange = getTextChange(oldTree.toSourceCode(),
+                parseFile("module_declarations/module_declarations_new.bal").toSourceCode());
+        SyntaxTree newTree = oldTree.modifyWith(textDocumentChange);
+        assertSameTree(newTree, "module_declarations/module_declarations_new.bal");
+
+        // Only the changed function and a declaration on each side of it are parsed again
+        ModulePartNode oldModulePart = oldTree.rootNode();
+        ModulePartNode newModulePart = newTree.rootNode();
+        Assert.assertSame(newModulePart.imports().get(0).internalNode(),
+                oldModulePart.imports().get(0).internalNode());
+        int memberCount = oldModulePart.members().size();
+        for (int index = 0; index < memberCount; index++) {
+            boolean reused = newModulePart.members().get(index).internalNode() ==
+                    oldModulePart.members().get(index).internalNode();
+            Assert.assertEquals(reused, index < memberCount - 3, "member: " + index);
+        }
+    }
+
+    @Test
+    public void testChangeWithSyntaxErrors() {
+        String source = "function foo() {\n    int x = 1;\n}\n\nfunction bar() {\n}\n\nfunction baz() {\n}\n";
+        // Removes the closing brace of foo, hence the error recovery continues into the functions after it
+        assertSameTree(source, source.indexOf("}"), 1, "");
+        // Adds an unterminated string template
+        assertSameTree(source, source.indexOf("1;"), 0, "string `a${");
+    }
+
+    @Test
+    public void testChangeAtDocumentBoundaries() {
+        String source = "import ballerina/io;\n\nfunction foo() {\n}\n// end of file\n";
+        assertSameTree(source, 0, 0, "// start of file\n");
+        assertSameTree(source, source.length(), 0, "function bar() {\n}\n");
+        assertSameTree(source, 0, source.length(), "");
+        assertSameTree("", 0, 0, source);
+    }
+
+    @Test
+    public void testImportAfterModuleMember() {
+        String source = "import ballerina/io;\n\nfunction foo() {\n}\n\nfunction bar() {\n}\n";
+        assertSameTree(source, source.indexOf("function bar"), 0, "import ballerina/lang.'int;\n");
+        assertSameTree(source, source.indexOf("function foo"), 0, "import ballerina/lang.'int;\n");
+    }
+
+    @Test
+    public void testMultipleTextEdits() {
+        String source = "type A int;\n\ntype B int;\n\ntype C int;\n\ntype D int;\n\ntype E int;\n";
+        SyntaxTree oldTree = SyntaxTree.from(TextDocuments.from(source));
+        int firstOffset = source.indexOf("A");
+        int secondOffset = source.indexOf("E");
+        TextEdit[] textEdits = new TextEdit[]{
+                TextEdit.from(TextRange.from(firstOffset, 1), "First"),
+                TextEdit.from(TextRange.from(secondOffset, 1), "Last")
+        };
+        SyntaxTree newTree = oldTree.modifyWith(TextDocumentChange.from(textEdits));
+        String newSource = source.replace("A", "First").replace("E", "Last");
+        Assert.assertEquals(newTree.textDocument().toString(), newSource);
+        assertSameTree(newTree, SyntaxTree.from(TextDocuments.from(newSource)));
+    }
+
+    private void assertSameTree(String source, int startOffset, int length, String text) {
+        SyntaxTree oldTree = SyntaxTree.from(TextDocuments.from(source));
+        TextEdit textEdit = TextEdit.from(TextRange.from(startOffset, length), text);
+        SyntaxTree newTree = oldTree.modifyWith(TextDocumentChange.from(new TextEdit[]{textEdit}));
+        String newSource = source.substring(0, startOffset) + text + source.substring(startOffset + length);
+        Assert.assertEquals(newTree.textDocument().toString(), newSource);
+        assertSameTree(newTree, SyntaxTree.from(TextDocuments.from(newSource)));
+    }
+
+    private void assertSameTree(SyntaxTree actualTree, String expectedSourceFilePath) {
+        assertSameTree(actualTree, parseFile(expectedSourceFilePath));
+    }
+
+    private void assertSameTree(SyntaxTree actualTree, SyntaxTree expectedTree) {
+        Assert.assertEquals(actualTree.toSourceCode(), expectedTree.toSourceCode());
+        assertSameNode(actualTree.rootNode(), expectedTree.rootNode());
+        Assert.assertEquals(getDiagnostics(actualTree), getDiagnostics(expectedTree));
+    }
+
+    private void assertSameNode(Node actualNode, Node expectedNode) {
+        Assert.assertEquals(actualNode.kind(), expectedNode.kind());
+        Assert.assertEquals(actualNode.textRangeWithMinutiae(), expectedNode.textRangeWithMinutiae());
+        if (SyntaxUtils.isToken(expectedNode)) {
+            Assert.assertEquals(((Token) actualNode).text(), ((Token) expectedNode).text());
+            return;
+        }
+
+        Iterator<Node> actualChildren = ((NonTerminalNode) actualNode).children().iterator();
+        for (Node expectedChild : ((NonTerminalNode) expectedNode).children()) {
+            Assert.assertTrue(actualChildren.hasNext());
+            assertSameNode(actualChildren.next(), expectedChild);
+        }
+        Assert.assertFalse(actualChildren.hasNext());
+    }
+
+    private List<String> getDiagnostics(SyntaxTree syntaxTree) {
+        List<String> diagnostics = new ArrayList<>();
+        for (Diagnostic diagnostic : syntaxTree.diagnostics()) {
+            diagnostics.add(diagnostic.diagnosticInfo().code() + " " + diagnostic.location().lineRange());
+        }
+        return diagnostics;
+    }
+}
@@ -151,6 +151,20 @@ function consumeStream(stream<Type, error?> strm) returns error? {
     }
 }
 
+function createJoinIndex() returns handle = @java:Constructor {
+    'class: "org.ballerinalang.langlib.query.JoinIndex"
+} external;
+
+function putJoinKey(handle joinIndex, any key) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "put"
+} external;
+
+function getJoinPositions(handle joinIndex, any key) returns int[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "get"
+} external;
+
 // TODO: This for debugging purposes, remove once completed.
 function print(any|error? data) = @java:Method {
     'class: "org.ballerinalang.langlib.query.Print",
@@ -324,7 +324,7 @@ class _InnerJoinFunction {
         self.lhsFrame = ();
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -339,7 +339,7 @@ class _InnerJoinFunction {
          _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
+        any lhsKey = ();
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -347,7 +347,7 @@ class _InnerJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
+            lhsKey = lhsKF(lhsFrame);
             if (rhsCandidates is ()) {
                 rhsCandidates = rhsFramesMap.get(lhsKey);
                 self.rhsCandidates = rhsCandidates;
@@ -402,7 +402,7 @@ class _OuterJoinFunction {
         self.nilFrame = nilFrame;
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -418,7 +418,7 @@ class _OuterJoinFunction {
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
+        any lhsKey = ();
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -426,7 +426,7 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
+            lhsKey = lhsKF(lhsFrame);
             if (rhsCandidates is ()) {
                 rhsCandidates = rhsFramesMap.get(lhsKey);
                 self.rhsCandidates = rhsCandidates;
@@ -663,30 +663,25 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    _Frame[] frames;
+    handle joinIndex;
 
     function init() {
-        self.m = {};
+        self.frames = [];
+        self.joinIndex = createJoinIndex();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
+    function put(any k, _Frame v) {
+        self.frames.push(v);
+        putJoinKey(self.joinIndex, k);
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
+    function get(any k) returns _Frame[]? {
+        int[] positions = getJoinPositions(self.joinIndex, k);
+        if (positions.length() > 0) {
             _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
+            foreach int i in positions {
+                frames.push(self.frames[i]);
             }
             return frames;
         }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.internal.HashIndex;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index of the join keys of the frames of the joined pipeline. Frames with an equal key are found through the shape
+ * hash of the key, instead of converting each key to a string.
+ *
+ * @since 2.0.0
+ */
+public class JoinIndex {
+
+    private final HashIndex index = new HashIndex();
+    private final List<Object> keys = new ArrayList<>();
+
+    /**
+     * Adds the key of the next frame.
+     *
+     * @param key join key of the frame
+     */
+    public void put(Object key) {
+        index.add(TableUtils.hash(key, null), keys.size());
+        keys.add(key);
+    }
+
+    /**
+     * Returns the positions of the frames with a key equal to the given key, in the order they were added.
+     *
+     * @param key join key to look up
+     * @return positions of the matching frames
+     */
+    public BArray get(Object key) {
+        List<Integer> positions = new ArrayList<>();
+        index.forEach(TableUtils.hash(key, null), position -> {
+            if (TypeChecker.isEqual(keys.get(position), key)) {
+                positions.add(position);
+            }
+        });
+        positions.sort(null);
+        long[] result = new long[positions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = positions.get(i);
+        }
+        return ValueCreator.createArrayValue(result);
+    }
+}
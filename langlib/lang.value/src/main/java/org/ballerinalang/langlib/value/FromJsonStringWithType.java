@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.TypedJsonParser;
 
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
 
@@ -40,7 +41,12 @@ public class FromJsonStringWithType {
         try {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
-            } else {
+            }
+            try {
+                return TypedJsonParser.parse(str, t);
+            } catch (BError e) {
+                // The typed parser only covers unambiguous conversions, retry through the json value for the rest
+                // and for the error messages.
                 Object jsonFromString = JsonParser.parse(str);
                 return FromJsonWithType.fromJsonWithType(jsonFromString, t);
             }
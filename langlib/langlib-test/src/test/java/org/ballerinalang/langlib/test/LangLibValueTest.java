@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.langlib.test;
 
+import io.ballerina.runtime.internal.TypeCheckCache;
 import org.ballerinalang.core.model.types.TypeTags;
 import org.ballerinalang.core.model.values.BBoolean;
 import org.ballerinalang.core.model.values.BMap;
@@ -306,6 +307,16 @@ public class LangLibValueTest {
         };
     }
 
+    @Test
+    public void testCloneWithTypeUsesTypeCheckCache() {
+        BRunUtil.invoke(compileResult, "testCloneWithTypeIntArray");
+        long hits = TypeCheckCache.getHitCount();
+
+        // The check of whether the array type is a subtype of the target type is answered from the cache this time
+        BRunUtil.invoke(compileResult, "testCloneWithTypeIntArray");
+        Assert.assertTrue(TypeCheckCache.getHitCount() > hits);
+    }
+
     @Test(dataProvider = "fromJsonWithTypeFunctions")
     public void testFromJsonWithType(String function) {
         BRunUtil.invoke(compileResult, function);
@@ -347,6 +358,7 @@ public class LangLibValueTest {
                 { "testFromJsonStringWithTypeStringArray" },
                 { "testFromJsonStringWithTypeArrayNegative" },
                 { "testFromJsonStringWithTypeIntArray" },
+                { "testFromJsonStringWithTypeNestedRecord" },
         };
     }
 
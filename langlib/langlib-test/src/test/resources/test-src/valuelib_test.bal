@@ -682,6 +682,15 @@ function testCloneWithTypeStringArray() {
     assert(s[1], "world");
 }
 
+function testCloneWithTypeIntArray() {
+    anydata[] anArray = [1, 2, 3];
+    int[]|error cloned = anArray.cloneWithType(IntArray);
+    assert(cloned is int[], true);
+
+    int[] i = checkpanic cloned;
+    assert(i[2], 3);
+}
+
 /////////////////////////// Tests for `fromJsonWithType()` ///////////////////////////
 type Student2 record {
     string name;
@@ -944,6 +953,43 @@ function testFromJsonStringWithTypeIntArray() {
     assert(intArr[1], 2);
 }
 
+type Reading record {|
+    string sensor;
+    float[] values;
+    decimal? offset;
+    Location location;
+    string unit = "celsius";
+    boolean calibrated?;
+|};
+
+type Location record {
+    int floor;
+};
+
+function testFromJsonStringWithTypeNestedRecord() {
+    string s = "{\"sensor\": \"s1\", \"values\": [1, 2.5, -0.0], \"offset\": null, " +
+               "\"location\": {\"floor\": 3, \"room\": \"A\"}}";
+    Reading reading = checkpanic s.fromJsonStringWithType(Reading);
+    assert(reading.sensor, "s1");
+    assert(reading.values.length(), 3);
+    assert(reading.values[0], 1.0);
+    assert(reading.values[1], 2.5);
+    assert(reading.offset is (), true);
+    assert(reading.location.floor, 3);
+    assert(reading.location["room"], "A");
+    assert(reading.unit, "celsius");
+    assert(reading?.calibrated is (), true);
+
+    string missingField = "{\"sensor\": \"s1\", \"values\": [], \"offset\": 1.5}";
+    Reading|error result = missingField.fromJsonStringWithType(Reading);
+    assert(result is error, true);
+
+    string extraField = "{\"sensor\": \"s1\", \"values\": [], \"offset\": 1, \"location\": {\"floor\": 1}, " +
+                        "\"owner\": \"x\"}";
+    result = extraField.fromJsonStringWithType(Reading);
+    assert(result is error, true);
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 function testToJsonWithRecord1() {
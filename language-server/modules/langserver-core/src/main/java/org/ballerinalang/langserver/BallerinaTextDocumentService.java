@@ -102,6 +102,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
     private final WorkspaceManager workspaceManager;
     private final LanguageServerContext serverContext;
     private final LSClientLogger clientLogger;
+    private final LSLatencyRecorder latencyRecorder;
 
     BallerinaTextDocumentService(BallerinaLanguageServer languageServer,
                                  WorkspaceManager workspaceManager,
@@ -110,6 +111,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
         this.languageServer = languageServer;
         this.serverContext = serverContext;
         this.clientLogger = LSClientLogger.getInstance(this.serverContext);
+        this.latencyRecorder = LSLatencyRecorder.getInstance(this.serverContext);
     }
 
     /**
@@ -123,6 +125,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams position) {
+        long startTime = System.nanoTime();
         return CompletableFuture.supplyAsync(() -> {
             String fileUri = position.getTextDocument().getUri();
             CompletionContext context = ContextBuilder.buildCompletionContext(fileUri,
@@ -138,6 +141,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
                 // Note: Not catching UserErrorException separately to avoid flooding error msgs popups
                 String msg = "Operation 'text/completion' failed!";
                 this.clientLogger.logError(msg, e, position.getTextDocument(), position.getPosition());
+            } finally {
+                this.latencyRecorder.record(LSContextOperation.TXT_COMPLETION, startTime);
             }
 
             return Either.forLeft(Collections.emptyList());
@@ -483,8 +488,9 @@ class BallerinaTextDocumentService implements TextDocumentService {
             workspaceManager.didChange(context.filePath(), params);
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CHANGE.getName() +
                     "' {fileUri: '" + fileUri + "'} updated}");
+            // Compile in the background, so that a burst of changes is compiled once
             DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(this.serverContext);
-            diagnosticsHelper.compileAndSendDiagnostics(this.languageServer.getClient(), context);
+            diagnosticsHelper.schedulePublishDiagnostics(this.languageServer.getClient(), context);
         } catch (Throwable e) {
             String msg = "Operation 'text/didChange' failed!";
             this.clientLogger.logError(msg, e, params.getTextDocument(), (Position) null);
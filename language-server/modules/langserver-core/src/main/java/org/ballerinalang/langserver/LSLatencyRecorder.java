@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver;
+
+import org.ballerinalang.langserver.commons.LSOperation;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latencies of the requests served by the language server.
+ * <p>
+ * The latencies of the most recent requests of each operation are kept, and a summary of their percentiles is
+ * logged as a trace after every {@value #LOG_INTERVAL} requests of the operation.
+ *
+ * @since 2.0.0
+ */
+public class LSLatencyRecorder {
+
+    private static final LanguageServerContext.Key<LSLatencyRecorder> LATENCY_RECORDER_KEY =
+            new LanguageServerContext.Key<>();
+    private static final int WINDOW_SIZE = 1000;
+    private static final int LOG_INTERVAL = 100;
+
+    private final Map<String, Latencies> latencies = new HashMap<>();
+    private final LSClientLogger clientLogger;
+
+    public static LSLatencyRecorder getInstance(LanguageServerContext serverContext) {
+        LSLatencyRecorder latencyRecorder = serverContext.get(LATENCY_RECORDER_KEY);
+        if (latencyRecorder == null) {
+            latencyRecorder = new LSLatencyRecorder(serverContext);
+        }
+
+        return latencyRecorder;
+    }
+
+    private LSLatencyRecorder(LanguageServerContext serverContext) {
+        serverContext.put(LATENCY_RECORDER_KEY, this);
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+    }
+
+    /**
+     * Records the latency of a request which started at the given time.
+     *
+     * @param operation {@link LSOperation} of the request
+     * @param startTime time as of {@link System#nanoTime()} at which the request started
+     */
+    public void record(LSOperation operation, long startTime) {
+        long latency = System.nanoTime() - startTime;
+        String summary = null;
+        synchronized (this) {
+            Latencies operationLatencies = latencies.computeIfAbsent(operation.getName(), name -> new Latencies());
+            operationLatencies.add(latency);
+            if (operationLatencies.count % LOG_INTERVAL == 0) {
+                summary = summary(operation);
+            }
+        }
+        if (summary != null) {
+            this.clientLogger.logTrace(summary);
+        }
+    }
+
+    /**
+     * Returns the number of requests of an operation which have been recorded.
+     *
+     * @param operation {@link LSOperation}
+     * @return number of requests
+     */
+    public synchronized long count(LSOperation operation) {
+        Latencies operationLatencies = latencies.get(operation.getName());
+        return operationLatencies == null ? 0 : operationLatencies.count;
+    }
+
+    /**
+     * Returns a percentile of the latencies of the most recent requests of an operation.
+     *
+     * @param operation  {@link LSOperation}
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, or 0 if no request has been recorded
+     */
+    public synchronized long percentile(LSOperation operation, double percentile) {
+        Latencies operationLatencies = latencies.get(operation.getName());
+        if (operationLatencies == null) {
+            return 0;
+        }
+        long[] sorted = operationLatencies.sorted();
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.min(Math.max(index, 0), sorted.length - 1)]);
+    }
+
+    private String summary(LSOperation operation) {
+        return "Operation '" + operation.getName() + "' latency {requests: " + count(operation) +
+                ", p50: " + percentile(operation, 50) + "ms, p95: " + percentile(operation, 95) +
+                "ms, p99: " + percentile(operation, 99) + "ms, max: " + percentile(operation, 100) + "ms}";
+    }
+
+    /**
+     * Latencies of the most recent requests of an operation, kept in a ring buffer.
+     */
+    private static class Latencies {
+
+        private final long[] window = new long[WINDOW_SIZE];
+        private long count;
+
+        private void add(long latency) {
+            window[(int) (count % WINDOW_SIZE)] = latency;
+            count++;
+        }
+
+        private long[] sorted() {
+            long[] sorted = Arrays.copyOf(window, (int) Math.min(count, WINDOW_SIZE));
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -20,15 +20,19 @@ import io.ballerina.projects.ModuleCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.CompilationScheduler;
+import org.ballerinalang.langserver.workspace.CompilationScheduler.CancellationToken;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -51,6 +55,8 @@ public class DiagnosticsHelper {
      * Holds last sent diagnostics for the purpose of clear-off when publishing new diagnostics.
      */
     private Map<String, List<Diagnostic>> lastDiagnosticMap;
+    private final CompilationScheduler compilationScheduler;
+    private final LSClientLogger clientLogger;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
         DiagnosticsHelper diagnosticsHelper = serverContext.get(DIAGNOSTICS_HELPER_KEY);
@@ -64,6 +70,27 @@ public class DiagnosticsHelper {
     private DiagnosticsHelper(LanguageServerContext serverContext) {
         serverContext.put(DIAGNOSTICS_HELPER_KEY, this);
         this.lastDiagnosticMap = new HashMap<>();
+        this.compilationScheduler = CompilationScheduler.getInstance(serverContext);
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+    }
+
+    /**
+     * Schedules a compilation of the project of a source file, which publishes the diagnostics once it completes.
+     * Diagnostics are not published by a compilation which is superseded by a later change.
+     *
+     * @param client  Language server client
+     * @param context LS context
+     */
+    public void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+        Path projectRoot = context.workspace().projectRoot(context.filePath());
+        compilationScheduler.schedule(projectRoot, cancellationToken -> {
+            try {
+                compileAndSendDiagnostics(client, context, cancellationToken);
+            } catch (Throwable e) {
+                String msg = "Operation 'text/publishDiagnostics' failed!";
+                this.clientLogger.logError(msg, e, new TextDocumentIdentifier(context.fileUri()), (Position) null);
+            }
+        });
     }
 
     /**
@@ -72,16 +99,22 @@ public class DiagnosticsHelper {
      * @param client  Language server client
      * @param context LS context
      */
-    public synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+    public void compileAndSendDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+        compileAndSendDiagnostics(client, context, null);
+    }
+
+    private synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client,
+                                                        DocumentServiceContext context,
+                                                        CancellationToken cancellationToken) {
         // Compile diagnostics
         Optional<Project> project = context.workspace().project(context.filePath());
         if (project.isEmpty()) {
             return;
         }
-        Map<String, List<Diagnostic>> diagnosticMap = getLatestDiagnostics(context);
+        Map<String, List<Diagnostic>> diagnosticMap = getLatestDiagnostics(context, cancellationToken);
 
-        // If the client is null, returns
-        if (client == null) {
+        // If the client is null or the compilation has been superseded, returns
+        if (client == null || isCancelled(cancellationToken)) {
             return;
         }
 
@@ -100,6 +133,11 @@ public class DiagnosticsHelper {
     }
 
     public Map<String, List<Diagnostic>> getLatestDiagnostics(DocumentServiceContext context) {
+        return getLatestDiagnostics(context, null);
+    }
+
+    private Map<String, List<Diagnostic>> getLatestDiagnostics(DocumentServiceContext context,
+                                                               CancellationToken cancellationToken) {
         WorkspaceManager workspace = context.workspace();
         Map<String, List<Diagnostic>> diagnosticMap = new HashMap<>();
 
@@ -111,6 +149,10 @@ public class DiagnosticsHelper {
         // IDE requires the original path.
         Path projectRoot = workspace.projectRoot(context.filePath());
         for (Module module : project.get().currentPackage().modules()) {
+            if (isCancelled(cancellationToken)) {
+                // The remaining modules are left to the compilation which superseded this
+                break;
+            }
             Path modulePath;
             if (project.get().kind() == ProjectKind.SINGLE_FILE_PROJECT) {
                 modulePath = projectRoot.getParent();
@@ -129,6 +171,10 @@ public class DiagnosticsHelper {
         return diagnosticMap;
     }
 
+    private static boolean isCancelled(CancellationToken cancellationToken) {
+        return cancellationToken != null && cancellationToken.isCancelled();
+    }
+
     private Map<String, List<Diagnostic>> toDiagnosticsMap(Collection<io.ballerina.tools.diagnostics.Diagnostic> diags,
                                                            Path modulePath) {
         Map<String, List<Diagnostic>> diagnosticsMap = new HashMap<>();
@@ -33,6 +33,11 @@ import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.LSClientLogger;
@@ -44,6 +49,8 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -51,6 +58,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -72,10 +80,12 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     private static final LanguageServerContext.Key<BallerinaWorkspaceManager> WORKSPACE_MANAGER_KEY =
             new LanguageServerContext.Key<>();
     private final LSClientLogger clientLogger;
+    private final CompilationScheduler compilationScheduler;
 
     private BallerinaWorkspaceManager(LanguageServerContext serverContext) {
         serverContext.put(WORKSPACE_MANAGER_KEY, this);
         this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.compilationScheduler = CompilationScheduler.getInstance(serverContext);
         Cache<Path, Path> cache = CacheBuilder.newBuilder()
                 .expireAfterWrite(10, TimeUnit.MINUTES)
                 .maximumSize(1000)
@@ -167,12 +177,30 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
     /**
      * Returns semantic model from the path provided.
+     * <p>
+     * While a compilation of the project is pending, the semantic model of the last completed compilation of the
+     * module is returned instead of waiting for the project to be compiled again.
      *
      * @param filePath file path of the document
      * @return {@link SemanticModel}
      */
     @Override
     public Optional<SemanticModel> semanticModel(Path filePath) {
+        Optional<ProjectPair> projectPair = projectPair(filePath);
+        if (projectPair.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Document> document = document(filePath, projectPair.get().project());
+        if (document.isEmpty()) {
+            return Optional.empty();
+        }
+        if (compilationScheduler.isPending(projectRoot(filePath))) {
+            Optional<ModuleCompilation> lastCompilation = projectPair.get()
+                    .lastCompilation(document.get().module().moduleId());
+            if (lastCompilation.isPresent()) {
+                return lastCompilation.map(ModuleCompilation::getSemanticModel);
+            }
+        }
         return waitAndGetModuleCompilation(filePath).map(ModuleCompilation::getSemanticModel);
     }
 
@@ -195,14 +223,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
         // Get Module
         Module module = document.get().module();
-        // Lock Project Instance
-        projectPair.get().locker().lock();
-        try {
-            return Optional.of(module.getCompilation());
-        } finally {
-            // Unlock Project Instance
-            projectPair.get().locker().unlock();
-        }
+        return Optional.of(projectPair.get().compile(module));
     }
 
     /**
@@ -222,14 +243,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (projectPair.isEmpty()) {
             return Optional.empty();
         }
-        // Lock Project Instance
-        projectPair.get().locker().lock();
-        try {
-            return Optional.of(module.getCompilation());
-        } finally {
-            // Unlock Project Instance
-            projectPair.get().locker().unlock();
-        }
+        return Optional.of(projectPair.get().compile(module));
     }
 
     /**
@@ -279,6 +293,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (projectPair.isEmpty()) {
             throw new WorkspaceDocumentException("Cannot add changes to a file in an un-opened project!");
         }
+        // Cancel the compilation of the earlier snapshot, so that it releases the lock once the current module is done
+        compilationScheduler.cancel(projectRoot(filePath));
         // Lock Project Instance
         projectPair.get().locker().lock();
         try {
@@ -288,9 +304,11 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 throw new WorkspaceDocumentException("Document does not exist in path: " + filePath.toString());
             }
 
-            // Update file
-            String content = params.getContentChanges().get(0).getText();
-            Document updatedDoc = document.get().modify().withContent(content).apply();
+            // Update file, the changes are applied in the order they were made
+            Document updatedDoc = document.get();
+            for (TextDocumentContentChangeEvent changeEvent : params.getContentChanges()) {
+                updatedDoc = applyContentChange(updatedDoc, changeEvent);
+            }
 
             // Update project instance
             projectPair.get().setProject(updatedDoc.module().project());
@@ -318,6 +336,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         if (project.get().kind() == ProjectKind.SINGLE_FILE_PROJECT) {
             Path projectRoot = project.get().sourceRoot();
             sourceRootToProject.remove(projectRoot);
+            compilationScheduler.cancel(projectRoot(filePath));
             clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {project: '" + projectRoot.toUri().toString() +
                     "' kind: '" + project.get().kind().name().toLowerCase(Locale.getDefault()) +
@@ -327,6 +346,29 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
     // ============================================================================================================== //
 
+    /**
+     * Applies a content change sent by the client. A ranged change is applied incrementally, whereas a change
+     * without a range replaces the whole content.
+     *
+     * @param document    document to be changed
+     * @param changeEvent {@link TextDocumentContentChangeEvent}
+     * @return the changed document
+     */
+    private Document applyContentChange(Document document, TextDocumentContentChangeEvent changeEvent) {
+        Range range = changeEvent.getRange();
+        if (range == null) {
+            return document.modify().withContent(changeEvent.getText()).apply();
+        }
+
+        TextDocument textDocument = document.textDocument();
+        int startOffset = textDocument.textPositionFrom(LinePosition.from(range.getStart().getLine(),
+                range.getStart().getCharacter()));
+        int endOffset = textDocument.textPositionFrom(LinePosition.from(range.getEnd().getLine(),
+                range.getEnd().getCharacter()));
+        TextEdit textEdit = TextEdit.from(TextRange.from(startOffset, endOffset - startOffset), changeEvent.getText());
+        return document.modify().withContentChange(TextDocumentChange.from(new TextEdit[]{textEdit})).apply();
+    }
+
     private Path computeProjectRoot(Path path) {
         return computeProjectKindAndProjectRoot(path).getRight();
     }
@@ -461,6 +503,10 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
         private final Lock lock;
         private Project project;
+        /**
+         * Last completed compilation of each module, which may belong to an earlier snapshot of the project.
+         */
+        private final Map<ModuleId, ModuleCompilation> lastCompilations = new ConcurrentHashMap<>();
 
         private ProjectPair(Project project, Lock lock) {
             this.project = project;
@@ -499,7 +545,40 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
          * @param project {@link Project}
          */
         public void setProject(Project project) {
+            if (this.project != project) {
+                // Modules of a reloaded project are not the modules of the earlier project
+                this.lastCompilations.clear();
+            }
             this.project = project;
         }
+
+        /**
+         * Compiles a module of the project while holding the lock of the project.
+         *
+         * @param module {@link Module}
+         * @return {@link ModuleCompilation}
+         */
+        public ModuleCompilation compile(Module module) {
+            // Lock Project Instance
+            this.lock.lock();
+            try {
+                ModuleCompilation moduleCompilation = module.getCompilation();
+                this.lastCompilations.put(module.moduleId(), moduleCompilation);
+                return moduleCompilation;
+            } finally {
+                // Unlock Project Instance
+                this.lock.unlock();
+            }
+        }
+
+        /**
+         * Returns the last completed compilation of a module.
+         *
+         * @param moduleId {@link ModuleId}
+         * @return {@link ModuleCompilation}
+         */
+        public Optional<ModuleCompilation> lastCompilation(ModuleId moduleId) {
+            return Optional.ofNullable(this.lastCompilations.get(moduleId));
+        }
     }
 }
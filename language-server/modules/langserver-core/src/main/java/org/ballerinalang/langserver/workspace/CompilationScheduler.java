@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Schedules the background compilations of projects.
+ * <p>
+ * A compilation is run after a delay, so that a burst of edits to a project results in a single compilation of the
+ * latest snapshot. Scheduling a compilation supersedes the compilation of the project which is already scheduled. A
+ * superseded compilation is dropped if it has not started yet, or else cancelled through its
+ * {@link CancellationToken}, which the compilation checks between its steps.
+ * <p>
+ * Compilations are run one at a time on a single thread, since the compilations of a project share the compiler
+ * context of the project.
+ *
+ * @since 2.0.0
+ */
+public class CompilationScheduler {
+
+    private static final LanguageServerContext.Key<CompilationScheduler> COMPILATION_SCHEDULER_KEY =
+            new LanguageServerContext.Key<>();
+    private static final long DEFAULT_DELAY_MILLIS = 250;
+
+    private final long delay;
+    private final TimeUnit unit;
+    private final ScheduledExecutorService executor;
+    /**
+     * Mapping of project root to the compilation which is scheduled or running.
+     */
+    private final Map<Path, ScheduledCompilation> compilations = new HashMap<>();
+
+    public static CompilationScheduler getInstance(LanguageServerContext serverContext) {
+        CompilationScheduler compilationScheduler = serverContext.get(COMPILATION_SCHEDULER_KEY);
+        if (compilationScheduler == null) {
+            compilationScheduler = new CompilationScheduler(DEFAULT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            serverContext.put(COMPILATION_SCHEDULER_KEY, compilationScheduler);
+        }
+
+        return compilationScheduler;
+    }
+
+    CompilationScheduler(long delay, TimeUnit unit) {
+        this.delay = delay;
+        this.unit = unit;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-ls-compiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules a compilation of a project, which supersedes the compilation already scheduled for the project.
+     *
+     * @param projectRoot root of the project
+     * @param compilation compilation to run, which should stop once the given token is cancelled
+     */
+    public synchronized void schedule(Path projectRoot, Consumer<CancellationToken> compilation) {
+        cancel(projectRoot);
+        ScheduledCompilation scheduledCompilation = new ScheduledCompilation();
+        compilations.put(projectRoot, scheduledCompilation);
+        scheduledCompilation.future = executor.schedule(() -> run(projectRoot, scheduledCompilation, compilation),
+                delay, unit);
+    }
+
+    /**
+     * Cancels the compilation of a project which is scheduled or running.
+     *
+     * @param projectRoot root of the project
+     */
+    public synchronized void cancel(Path projectRoot) {
+        ScheduledCompilation scheduledCompilation = compilations.remove(projectRoot);
+        if (scheduledCompilation != null) {
+            scheduledCompilation.token.cancel();
+            scheduledCompilation.future.cancel(false);
+        }
+    }
+
+    /**
+     * Returns whether a compilation of a project is scheduled or running. The last compilation of the project may
+     * hence be outdated.
+     *
+     * @param projectRoot root of the project
+     * @return true if a compilation is pending
+     */
+    public synchronized boolean isPending(Path projectRoot) {
+        return compilations.containsKey(projectRoot);
+    }
+
+    private void run(Path projectRoot, ScheduledCompilation scheduledCompilation,
+                     Consumer<CancellationToken> compilation) {
+        try {
+            if (!scheduledCompilation.token.isCancelled()) {
+                compilation.accept(scheduledCompilation.token);
+            }
+        } finally {
+            synchronized (this) {
+                compilations.remove(projectRoot, scheduledCompilation);
+            }
+        }
+    }
+
+    /**
+     * A compilation which has been scheduled.
+     */
+    private static class ScheduledCompilation {
+
+        private final CancellationToken token = new CancellationToken();
+        private ScheduledFuture<?> future;
+    }
+
+    /**
+     * Signals a compilation that it has been superseded, so that it can stop at the next step.
+     */
+    public static class CancellationToken {
+
+        private volatile boolean cancelled;
+
+        private void cancel() {
+            this.cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contains cases to test scheduling the background compilations of projects.
+ *
+ * @since 2.0.0
+ */
+public class TestCompilationScheduler {
+    private final Path projectRoot = Paths.get("project");
+
+    @Test
+    public void testCoalescingCompilations() throws InterruptedException {
+        CompilationScheduler compilationScheduler = new CompilationScheduler(200, TimeUnit.MILLISECONDS);
+        List<Integer> compiledVersions = new CopyOnWriteArrayList<>();
+        CountDownLatch compiled = new CountDownLatch(1);
+        for (int version = 1; version <= 5; version++) {
+            int currentVersion = version;
+            compilationScheduler.schedule(projectRoot, cancellationToken -> {
+                compiledVersions.add(currentVersion);
+                compiled.countDown();
+            });
+        }
+        Assert.assertTrue(compilationScheduler.isPending(projectRoot));
+
+        // Only the compilation scheduled last is run
+        Assert.assertTrue(compiled.await(5, TimeUnit.SECONDS));
+        Thread.sleep(400);
+        Assert.assertEquals(compiledVersions, List.of(5));
+        Assert.assertFalse(compilationScheduler.isPending(projectRoot));
+    }
+
+    @Test
+    public void testCancellingRunningCompilation() throws InterruptedException {
+        CompilationScheduler compilationScheduler = new CompilationScheduler(10, TimeUnit.MILLISECONDS);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CountDownLatch compiled = new CountDownLatch(1);
+        compilationScheduler.schedule(projectRoot, cancellationToken -> {
+            started.countDown();
+            while (!cancellationToken.isCancelled()) {
+                Thread.onSpinWait();
+            }
+            cancelled.countDown();
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Scheduling the next compilation stops the running one, which is superseded
+        compilationScheduler.schedule(projectRoot, cancellationToken -> compiled.countDown());
+        Assert.assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(compiled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancellingScheduledCompilation() throws InterruptedException {
+        CompilationScheduler compilationScheduler = new CompilationScheduler(100, TimeUnit.MILLISECONDS);
+        CountDownLatch compiled = new CountDownLatch(1);
+        compilationScheduler.schedule(projectRoot, cancellationToken -> compiled.countDown());
+        compilationScheduler.cancel(projectRoot);
+
+        Assert.assertFalse(compilationScheduler.isPending(projectRoot));
+        Assert.assertFalse(compiled.await(300, TimeUnit.MILLISECONDS));
+    }
+}
@@ -22,6 +22,8 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException
 import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
@@ -81,6 +83,27 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyContent);
     }
 
+    @Test(dataProvider = "workspace-data-provider", dependsOnMethods = "testUpdateDocument")
+    public void testUpdateDocumentIncrementally(Path filePath) throws WorkspaceDocumentException {
+        // Inputs from lang server, the second change is relative to the content after the first change
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 16), new Position(0, 16)), 0, "\n    int x = 1;"));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(1, 8), new Position(1, 9)), 1, "count"));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(),
+                "function foo() {\n    int count = 1;\n}");
+        Assert.assertFalse(document.get().syntaxTree().hasDiagnostics());
+    }
+
     @DataProvider(name = "workspace-data-provider")
     public Object[] dataProvider() {
         return new Path[]{
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.Histogram;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An implementation of {@link Histogram}.
+ *
+ * @since 2.0.0
+ */
+public class DefaultHistogram extends AbstractMetric implements Histogram {
+
+    private static final SlidingWindowHistogram[] EMPTY_WINDOWS = new SlidingWindowHistogram[0];
+    private static final Snapshot[] EMPTY_SNAPSHOTS = new Snapshot[0];
+
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+    private volatile double value;
+    private final SlidingWindowHistogram[] windows;
+
+    DefaultHistogram(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
+        super(id);
+        if (statisticConfigs != null) {
+            windows = new SlidingWindowHistogram[statisticConfigs.length];
+            for (int i = 0; i < statisticConfigs.length; i++) {
+                windows[i] = new SlidingWindowHistogram(clock, statisticConfigs[i]);
+            }
+        } else {
+            windows = EMPTY_WINDOWS;
+        }
+    }
+
+    DefaultHistogram(MetricId id, StatisticConfig... statisticConfigs) {
+        this(id, Clock.DEFAULT, statisticConfigs);
+    }
+
+    @Override
+    public void record(double value) {
+        this.value = value;
+        count.increment();
+        sum.add(value);
+        for (SlidingWindowHistogram window : windows) {
+            window.record(value);
+        }
+    }
+
+    @Override
+    public double getValue() {
+        return value;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getSum() {
+        return sum.sum();
+    }
+
+    @Override
+    public Snapshot[] getSnapshots() {
+        if (windows.length == 0) {
+            return EMPTY_SNAPSHOTS;
+        }
+        Snapshot[] snapshots = new Snapshot[windows.length];
+        for (int i = 0; i < windows.length; i++) {
+            snapshots[i] = windows[i].getSnapshot();
+        }
+        return snapshots;
+    }
+
+    @Override
+    public StatisticConfig[] getStatisticsConfig() {
+        StatisticConfig[] configs = new StatisticConfig[windows.length];
+        for (int i = 0; i < windows.length; i++) {
+            configs[i] = windows[i].getStatisticConfig();
+        }
+        return configs;
+    }
+}
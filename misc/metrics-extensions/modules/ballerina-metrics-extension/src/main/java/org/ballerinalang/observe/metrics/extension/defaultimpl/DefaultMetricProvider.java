@@ -19,6 +19,7 @@ package org.ballerinalang.observe.metrics.extension.defaultimpl;
 
 import io.ballerina.runtime.observability.metrics.Counter;
 import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Histogram;
 import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
@@ -56,4 +57,9 @@ public class DefaultMetricProvider implements MetricProvider {
     public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
         return new DefaultPolledGauge(metricId, obj, toDoubleFunction);
     }
+
+    @Override
+    public Histogram newHistogram(MetricId metricId, StatisticConfig... statisticConfigs) {
+        return new DefaultHistogram(metricId, statisticConfigs);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.LogLinearHistogram;
+import io.ballerina.runtime.observability.metrics.PercentileValue;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps {@link LogLinearHistogram}s in a ring buffer of time slots to give summary statistics for a sliding window
+ * over the last X minutes. Values are only recorded in the slot of the current time and the slots within the window
+ * are merged when taking a snapshot.
+ * <p>
+ * A slot is replaced with a new one by the first thread which records a value after the slot has expired. Replacing
+ * a slot is done with a CAS, so neither recording nor rotation takes a lock.
+ *
+ * @since 2.0.0
+ */
+public class SlidingWindowHistogram {
+
+    private final Clock clock;
+    private final StatisticConfig statisticConfig;
+    private final long slotDurationMillis;
+    private final AtomicReferenceArray<Slot> slots;
+
+    public SlidingWindowHistogram(Clock clock, StatisticConfig statisticConfig) {
+        this.clock = clock;
+        this.statisticConfig = statisticConfig;
+        int slotCount = (int) statisticConfig.getBuckets();
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.slotDurationMillis = Math.max(1, statisticConfig.getTimeWindow().toMillis() / slotCount);
+    }
+
+    public void record(double value) {
+        currentSlot(clock.getCurrentTime() / slotDurationMillis).histogram.record(value);
+    }
+
+    public StatisticConfig getStatisticConfig() {
+        return statisticConfig;
+    }
+
+    public Snapshot getSnapshot() {
+        long epoch = clock.getCurrentTime() / slotDurationMillis;
+        LogLinearHistogram histogram = new LogLinearHistogram(statisticConfig.getPercentilePrecision());
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot != null && slot.epoch > epoch - slots.length()) {
+                histogram.add(slot.histogram);
+            }
+        }
+        PercentileValue[] percentileValues = null;
+        final double[] monitoredPercentiles = statisticConfig.getPercentiles();
+        if (monitoredPercentiles != null) {
+            percentileValues = new PercentileValue[monitoredPercentiles.length];
+            for (int i = 0; i < monitoredPercentiles.length; i++) {
+                final double p = monitoredPercentiles[i];
+                percentileValues[i] = new PercentileValue(p, histogram.getValueAtPercentile(p));
+            }
+        }
+        return new Snapshot(statisticConfig.getTimeWindow(),
+                histogram.getMin(),
+                histogram.getMean(),
+                histogram.getStdDeviation(),
+                histogram.getMax(),
+                percentileValues);
+    }
+
+    private Slot currentSlot(long epoch) {
+        int index = (int) (epoch % slots.length());
+        Slot slot = slots.get(index);
+        while (slot == null || slot.epoch < epoch) {
+            Slot newSlot = new Slot(epoch, statisticConfig.getPercentilePrecision());
+            if (slots.compareAndSet(index, slot, newSlot)) {
+                return newSlot;
+            }
+            slot = slots.get(index);
+        }
+        return slot;
+    }
+
+    /**
+     * Values recorded within a single time slot.
+     */
+    private static class Slot {
+
+        private final long epoch;
+        private final LogLinearHistogram histogram;
+
+        private Slot(long epoch, int precisionDigits) {
+            this.epoch = epoch;
+            this.histogram = new LogLinearHistogram(precisionDigits);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.Histogram;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PercentileValue;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link DefaultHistogram} and {@link SlidingWindowHistogram}.
+ *
+ * @since 2.0.0
+ */
+public class HistogramTest {
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeClass
+    public void init() {
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+        metricRegistry = new MetricRegistry(metricProvider);
+    }
+
+    @Test
+    public void testHistogramSnapshot() {
+        double[] percentiles = new double[]{0.0, 0.5, 0.75, 0.9, 0.98, 0.99, 0.999, 1.0};
+        StatisticConfig statisticConfig = StatisticConfig.builder().percentiles(percentiles).percentilePrecision(2)
+                .build();
+        Histogram histogram = Histogram.builder("test_histogram_percentiles").description("Test Histogram")
+                .summarize(statisticConfig)
+                .register(metricRegistry);
+        int nSamples = 1_000_000; // simulate one million samples
+        for (int i = 1; i <= nSamples; i++) {
+            // In this test, we observe the numbers from 1 to nSamples,
+            histogram.record(i);
+        }
+        Assert.assertEquals(histogram.getCount(), nSamples);
+        Assert.assertEquals(histogram.getSum(), (double) nSamples * (nSamples + 1) / 2);
+        Assert.assertEquals(histogram.getValue(), (double) nSamples);
+
+        Snapshot snapshot = histogram.getSnapshots()[0];
+        Assert.assertEquals(snapshot.getMin(), 1.0);
+        Assert.assertEquals(snapshot.getMax(), (double) nSamples);
+        Assert.assertEquals(snapshot.getMean(), (nSamples + 1) / 2.0, 1e-6);
+        double expectedStdDev = Math.sqrt(((double) nSamples * nSamples - 1) / 12);
+        Assert.assertEquals(snapshot.getStdDev(), expectedStdDev, expectedStdDev * 0.01);
+        PercentileValue[] percentileValues = snapshot.getPercentileValues();
+        for (int i = 0; i < percentiles.length; i++) {
+            double expected = Math.max(1, percentiles[i] * nSamples);
+            Assert.assertEquals(percentileValues[i].getPercentile(), percentiles[i]);
+            Assert.assertEquals(percentileValues[i].getValue(), expected, expected * 0.01);
+        }
+    }
+
+    @Test
+    public void testHistogramWithoutSummary() {
+        Histogram histogram = Histogram.builder("test_histogram_without_summary").register(metricRegistry);
+        histogram.record(10);
+        Assert.assertEquals(histogram.getSnapshots().length, 0);
+        Assert.assertEquals(histogram.getStatisticsConfig().length, 0);
+        Assert.assertEquals(histogram.getCount(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testHistogramAndGaugeWithSameId() {
+        MetricId id = new MetricId("test_histogram_and_gauge", "", Collections.emptySet());
+        metricRegistry.histogram(id);
+        metricRegistry.gauge(id);
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        final AtomicInteger currentTime = new AtomicInteger(0);
+        Clock clock = mock(Clock.class);
+        when(clock.getCurrentTime()).then(invocationOnMock -> currentTime.get());
+
+        double[] percentiles = new double[]{0.0, 1.0};
+        SlidingWindowHistogram histogram = new SlidingWindowHistogram(clock, StatisticConfig.builder()
+                .percentiles(percentiles)
+                .expiry(Duration.ofSeconds(4)).buckets(4).build());
+
+        histogram.record(10);
+        histogram.record(20);
+        Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMin(), 10.0);
+        Assert.assertEquals(snapshot.getMax(), 20.0);
+        Assert.assertEquals(percentileValue(snapshot, 0.0), 10.0, 1.0);
+        Assert.assertEquals(percentileValue(snapshot, 1.0), 20.0, 1.0);
+
+        currentTime.addAndGet(1000);
+        histogram.record(12);
+        histogram.record(70);
+        snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMin(), 10.0);
+        Assert.assertEquals(snapshot.getMax(), 70.0);
+
+        currentTime.addAndGet(3000);
+        snapshot = histogram.getSnapshot();
+        // Values recorded in the first second have expired
+        Assert.assertEquals(snapshot.getMin(), 12.0);
+        Assert.assertEquals(snapshot.getMax(), 70.0);
+        Assert.assertEquals(percentileValue(snapshot, 0.0), 12.0, 1.0);
+
+        histogram.record(30);
+        snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMin(), 12.0);
+        Assert.assertEquals(snapshot.getMax(), 70.0);
+        Assert.assertEquals(snapshot.getMean(), (12.0 + 70.0 + 30.0) / 3, 1e-9);
+
+        currentTime.addAndGet(10000);
+        snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMin(), 0.0);
+        Assert.assertEquals(snapshot.getMax(), 0.0);
+        Assert.assertEquals(snapshot.getMean(), 0.0);
+        Assert.assertEquals(percentileValue(snapshot, 1.0), 0.0);
+    }
+
+    private double percentileValue(Snapshot snapshot, double percentile) {
+        for (PercentileValue percentileValue : snapshot.getPercentileValues()) {
+            if (percentileValue.getPercentile() == percentile) {
+                return percentileValue.getValue();
+            }
+        }
+        return Double.NaN;
+    }
+}
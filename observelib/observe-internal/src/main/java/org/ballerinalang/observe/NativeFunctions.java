@@ -22,7 +22,9 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
 import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.LockMetrics;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.SchedulerMetrics;
 import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import io.ballerina.runtime.observability.tracer.BallerinaTracingObserver;
 import io.ballerina.runtime.observability.tracer.TracersStore;
@@ -75,6 +77,8 @@ public class NativeFunctions {
             selectedProvider.init();
             DefaultMetricRegistry.setInstance(new MetricRegistry(selectedProvider));
             ObserveUtils.addObserver(new BallerinaMetricsObserver());
+            LockMetrics.enable();
+            SchedulerMetrics.enable();
             return null;
         } catch (BError e) {
             return e;
@@ -19,6 +19,7 @@ package org.ballerinalang.observe.noop;
 
 import io.ballerina.runtime.observability.metrics.Counter;
 import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Histogram;
 import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
@@ -55,4 +56,9 @@ public class NoOpMetricProvider implements MetricProvider {
     public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
         return new NoOpPolledGauge(metricId);
     }
+
+    @Override
+    public Histogram newHistogram(MetricId metricId, StatisticConfig... statisticConfigs) {
+        return new NoOpHistogram(metricId);
+    }
 }
@@ -29,6 +29,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.metrics.Counter;
 import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
 import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Histogram;
 import io.ballerina.runtime.observability.metrics.Metric;
 import io.ballerina.runtime.observability.metrics.MetricConstants;
 import io.ballerina.runtime.observability.metrics.MetricId;
@@ -70,6 +71,12 @@ public class GetAllMetrics {
                 PolledGauge gauge = (PolledGauge) metric;
                 metricValue = gauge.getValue();
                 metricType = MetricConstants.GAUGE;
+            } else if (metric instanceof Histogram) {
+                // Histograms are reported in the same shape as summarized gauges, so that reporters can use them
+                Histogram histogram = (Histogram) metric;
+                metricValue = histogram.getValue();
+                metricType = MetricConstants.GAUGE;
+                summary = Utils.createBSnapshots(env, histogram.getSnapshots());
             }
             if (metricValue != null) {
                 BMap<BString, Object> metricStruct = ValueCreator.createRecordValue(env.getCurrentModule(),
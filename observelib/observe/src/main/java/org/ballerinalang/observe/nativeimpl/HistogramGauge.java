@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.observe.nativeimpl;
+
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Histogram;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+/**
+ * Exposes a {@link Histogram} as a {@link Gauge}, so that a histogram looked up from Ballerina can be used through
+ * the Ballerina Gauge object. Setting the value records it in the histogram, as a summarized gauge did.
+ *
+ * @since 2.0.0
+ */
+class HistogramGauge implements Gauge {
+
+    private final Histogram histogram;
+
+    HistogramGauge(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public MetricId getId() {
+        return histogram.getId();
+    }
+
+    @Override
+    public Gauge register() {
+        return new HistogramGauge(histogram.register());
+    }
+
+    @Override
+    public void unregister() {
+        histogram.unregister();
+    }
+
+    @Override
+    public void increment(double amount) {
+        histogram.record(histogram.getValue() + amount);
+    }
+
+    @Override
+    public void decrement(double amount) {
+        histogram.record(histogram.getValue() - amount);
+    }
+
+    @Override
+    public void setValue(double value) {
+        histogram.record(value);
+    }
+
+    @Override
+    public double getValue() {
+        return histogram.getValue();
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public double getSum() {
+        return histogram.getSum();
+    }
+
+    @Override
+    public Snapshot[] getSnapshots() {
+        return histogram.getSnapshots();
+    }
+
+    @Override
+    public StatisticConfig[] getStatisticsConfig() {
+        return histogram.getStatisticsConfig();
+    }
+}
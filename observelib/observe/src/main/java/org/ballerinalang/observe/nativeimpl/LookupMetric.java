@@ -30,6 +30,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.metrics.Counter;
 import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
 import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Histogram;
 import io.ballerina.runtime.observability.metrics.Metric;
 import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
@@ -82,6 +83,15 @@ public class LookupMetric {
                         StringUtils.fromString(metricId.getDescription()), getTags(metricId), statisticConfigs);
                 bGauge.addNativeData(METRIC_NATIVE_INSTANCE_KEY, metric);
                 return bGauge;
+            } else if (metric instanceof Histogram) {
+                // Histograms are looked up as summarized gauges, which they replace for metrics such as response times
+                Histogram histogram = (Histogram) metric;
+                BArray statisticConfigs = Utils.createBStatisticConfig(env, histogram.getStatisticsConfig());
+                BObject bGauge = ValueCreator.createObjectValue(
+                        env.getCurrentModule(), GAUGE, StringUtils.fromString(metricId.getName()),
+                        StringUtils.fromString(metricId.getDescription()), getTags(metricId), statisticConfigs);
+                bGauge.addNativeData(METRIC_NATIVE_INSTANCE_KEY, new HistogramGauge(histogram));
+                return bGauge;
             }
         }
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe;
+
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Histogram;
+import io.ballerina.runtime.observability.metrics.LockMetrics;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Test cases for the metrics recorded by {@link LockMetrics}.
+ *
+ * @since 2.0.0
+ */
+public class LockMetricsTest extends MetricTest {
+
+    private static final String LOCK_NAME = "lockMetricsTestLock";
+
+    @Test
+    public void testContendedAcquisition() {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        LockMetrics.enable();
+        try {
+            // The strands are not run by the scheduler, so a released lock simply lets the waiting strand retry.
+            Scheduler scheduler = new Scheduler(1, false) {
+                @Override
+                public void unblockStrand(Strand strand) {
+                    strand.setState(State.RUNNABLE);
+                }
+            };
+            Strand owner = new Strand("owner", null, scheduler, null, null);
+            Strand waiter = new Strand("waiter", null, scheduler, null, null);
+            BLock lock = new BLock(LOCK_NAME);
+
+            Assert.assertTrue(lock.lock(owner));
+            Assert.assertFalse(lock.lock(waiter));
+            lock.unlock();
+            Assert.assertTrue(lock.lock(waiter));
+            lock.unlock();
+
+            Assert.assertEquals(getCounter(registry, "lock_acquisitions_total").getValue(), 2);
+            Assert.assertEquals(getCounter(registry, "lock_contended_acquisitions_total").getValue(), 1);
+            Assert.assertEquals(getHistogram(registry, "lock_wait_time_seconds").getCount(), 1);
+            Assert.assertEquals(getHistogram(registry, "lock_hold_time_seconds").getCount(), 2);
+        } finally {
+            // The lock metrics are not expected by the tests asserting the registered metrics
+            registry.remove("lock_acquisitions_total");
+            registry.remove("lock_contended_acquisitions_total");
+            registry.remove("lock_wait_time_seconds");
+            registry.remove("lock_hold_time_seconds");
+        }
+    }
+
+    private static Counter getCounter(MetricRegistry registry, String name) {
+        return (Counter) registry.lookup(getMetricId(name));
+    }
+
+    private static Histogram getHistogram(MetricRegistry registry, String name) {
+        return (Histogram) registry.lookup(getMetricId(name));
+    }
+
+    private static MetricId getMetricId(String name) {
+        Set<Tag> tags = Collections.singleton(Tag.of("lock", LOCK_NAME));
+        return new MetricId(name, "", tags);
+    }
+}
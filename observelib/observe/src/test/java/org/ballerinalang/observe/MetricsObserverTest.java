@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Histogram;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.ballerinalang.observe.metrics.extension.defaultimpl.DefaultMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE_GROUP;
+
+/**
+ * Test cases for recording metrics with {@link BallerinaMetricsObserver}.
+ *
+ * @since 2.0.0
+ */
+public class MetricsObserverTest {
+
+    @Test
+    public void testMetricsSharedByContextsWithSameTags() {
+        MetricRegistry metricRegistry = createMetricRegistry();
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(metricRegistry);
+        ObserverContext context = createContext(200);
+        context.addTag("src.object.name", "hello");
+        context.addTag("src.resource.path", "/hello");
+        // The same tags added in a different order, with a value that is replaced
+        ObserverContext otherContext = createContext(201);
+        otherContext.addTag("src.resource.path", "/world");
+        otherContext.addTag("src.object.name", "hello");
+        otherContext.addTag("src.resource.path", "/hello");
+
+        observe(observer, context);
+        observe(observer, otherContext);
+        observe(observer, context);
+
+        Set<Tag> tags = getTags(context, "2xx");
+        Assert.assertEquals(getCounter(metricRegistry, "requests_total", tags).getValue(), 3);
+        Assert.assertEquals(((Histogram) metricRegistry.lookup(new MetricId("response_time_seconds", "", tags)))
+                                    .getCount(), 3);
+        Gauge inProgress = (Gauge) metricRegistry.lookup(new MetricId("inprogress_requests", "",
+                                                                       context.getAllTags()));
+        Assert.assertEquals(inProgress.getValue(), 0.0);
+        Assert.assertEquals(getMetricCount(metricRegistry, "requests_total"), 1);
+    }
+
+    @Test
+    public void testMetricsSeparatedByTags() {
+        MetricRegistry metricRegistry = createMetricRegistry();
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(metricRegistry);
+        ObserverContext ok = createContext(200);
+        ok.addTag("src.resource.path", "/hello");
+        ObserverContext notFound = createContext(404);
+        notFound.addTag("src.resource.path", "/hello");
+        ObserverContext custom = createContext(200);
+        custom.addTag("src.resource.path", "/hello");
+        custom.customMetricTags = new HashMap<>();
+        custom.customMetricTags.put("tenant", Tag.of("tenant", "a"));
+
+        observe(observer, ok);
+        observe(observer, notFound);
+        observe(observer, notFound);
+        observe(observer, custom);
+
+        Assert.assertEquals(getCounter(metricRegistry, "requests_total", getTags(ok, "2xx")).getValue(), 1);
+        Assert.assertEquals(getCounter(metricRegistry, "requests_total", getTags(notFound, "4xx")).getValue(), 2);
+        Set<Tag> customTags = getTags(custom, "2xx");
+        customTags.add(Tag.of("tenant", "a"));
+        Assert.assertEquals(getCounter(metricRegistry, "requests_total", customTags).getValue(), 1);
+        Assert.assertEquals(getMetricCount(metricRegistry, "requests_total"), 3);
+    }
+
+    @Test
+    public void testMetricRecreatedAfterRemoval() {
+        MetricRegistry metricRegistry = createMetricRegistry();
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(metricRegistry);
+        ObserverContext context = createContext(200);
+        context.addTag("src.resource.path", "/hello");
+        Set<Tag> tags = getTags(context, "2xx");
+
+        observe(observer, context);
+        Assert.assertEquals(getCounter(metricRegistry, "requests_total", tags).getValue(), 1);
+
+        metricRegistry.remove("requests_total");
+        observe(observer, context);
+        Counter requestsTotal = getCounter(metricRegistry, "requests_total", tags);
+        Assert.assertNotNull(requestsTotal, "The removed metric should be registered again when recorded");
+        Assert.assertEquals(requestsTotal.getValue(), 1);
+    }
+
+    private static MetricRegistry createMetricRegistry() {
+        // A separate registry is used so that the metrics asserted by the other tests are not affected
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+        metricProvider.init();
+        return new MetricRegistry(metricProvider);
+    }
+
+    private static ObserverContext createContext(int statusCode) {
+        ObserverContext context = new ObserverContext() {
+            @Override
+            public boolean isStarted() {
+                return true;
+            }
+        };
+        context.addProperty(PROPERTY_KEY_HTTP_STATUS_CODE, statusCode);
+        return context;
+    }
+
+    private static void observe(BallerinaMetricsObserver observer, ObserverContext context) {
+        observer.startServerObservation(context);
+        observer.stopServerObservation(context);
+    }
+
+    private static Set<Tag> getTags(ObserverContext context, String statusCodeGroup) {
+        Set<Tag> tags = new HashSet<>(context.getAllTags());
+        tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup));
+        return tags;
+    }
+
+    private static Counter getCounter(MetricRegistry metricRegistry, String name, Set<Tag> tags) {
+        return (Counter) metricRegistry.lookup(new MetricId(name, "", tags));
+    }
+
+    private static long getMetricCount(MetricRegistry metricRegistry, String name) {
+        return Arrays.stream(metricRegistry.getAllMetrics()).filter(metric -> metric.getId().getName().equals(name))
+                .count();
+    }
+}
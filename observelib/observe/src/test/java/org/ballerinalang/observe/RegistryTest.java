@@ -17,7 +17,9 @@
  */
 package org.ballerinalang.observe;
 
+import io.ballerina.runtime.observability.metrics.Histogram;
 import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BFloat;
 import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.test.util.BCompileUtil;
@@ -81,4 +83,14 @@ public class RegistryTest extends MetricTest {
                 "No metric should be returned for only name without tags");
     }
 
+    @Test(dependsOnMethods = "lookupMetricAndIncrement")
+    public void lookupHistogram() {
+        Histogram histogram = Histogram.builder("response_time_seconds").tag("resource", "lookup").register();
+        histogram.record(1.5);
+        BValue[] returns = BRunUtil.invoke(compileResult, "lookupHistogramAndSetValue");
+        Assert.assertEquals(((BFloat) returns[0]).floatValue(), 2.5, "A histogram should be looked up as a gauge");
+        Assert.assertEquals(histogram.getCount(), 2);
+        histogram.unregister();
+    }
+
 }
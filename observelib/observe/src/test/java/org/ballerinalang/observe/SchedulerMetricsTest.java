@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Histogram;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.SchedulerMetrics;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+/**
+ * Test cases for the metrics recorded by the strand scheduler.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetricsTest extends MetricTest {
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        String resourceRoot = Paths.get("src", "test", "resources").toAbsolutePath().toString();
+        Path testResourceRoot = Paths.get(resourceRoot, "test-src");
+        compileResult = BCompileUtil.compile(testResourceRoot.resolve("scheduler_metrics_test.bal").toString());
+    }
+
+    @Test
+    public void testWorkerStrandMetrics() {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        SchedulerMetrics.enable();
+        try {
+            long created = getCount(registry, "scheduler_strands_created_total");
+            long blocked = getCount(registry, "scheduler_strand_blocks_total");
+            long ready = getCount(registry, "scheduler_strand_blocked_time_seconds");
+            long completed = getCount(registry, "scheduler_strand_lifetime_seconds");
+            long run = getCount(registry, "scheduler_scheduling_latency_seconds");
+
+            BValue[] returns = BRunUtil.invoke(compileResult, "runWorkers");
+            Assert.assertEquals(((BInteger) returns[0]).intValue(), 30);
+
+            // The function and its two workers run as three strands of the same group, hence the function blocks
+            // on waiting for the first worker, which has not run yet. The counts are final once the scheduler stops.
+            created = getCount(registry, "scheduler_strands_created_total") - created;
+            blocked = getCount(registry, "scheduler_strand_blocks_total") - blocked;
+            Assert.assertTrue(created >= 3, "Created strands: " + created);
+            Assert.assertTrue(blocked >= 1, "Blocked strands: " + blocked);
+            Assert.assertEquals(getCount(registry, "scheduler_strand_blocked_time_seconds") - ready, blocked,
+                                "Each blocked strand should become ready again");
+            Assert.assertEquals(getCount(registry, "scheduler_strand_lifetime_seconds") - completed, created,
+                                "Each created strand should complete");
+            Assert.assertTrue(getCount(registry, "scheduler_scheduling_latency_seconds") - run >= created + blocked,
+                              "Each strand should run once when created and once after each block");
+        } finally {
+            // The scheduler metrics are not expected by the tests asserting the registered metrics
+            for (Metric metric : registry.getAllMetrics()) {
+                if (metric.getId().getName().startsWith("scheduler_")) {
+                    registry.remove(metric.getId().getName());
+                }
+            }
+        }
+    }
+
+    private static long getCount(MetricRegistry registry, String name) {
+        Metric metric = registry.lookup(new MetricId(name, "", Collections.emptySet()));
+        if (metric instanceof Counter) {
+            return ((Counter) metric).getValue();
+        }
+        return ((Histogram) metric).getCount();
+    }
+}
@@ -55,3 +55,14 @@ function lookupRegisterAndIncrement() returns (boolean) {
     }
     return false;
 }
+
+function lookupHistogramAndSetValue() returns (float) {
+    string name = "response_time_seconds";
+    map<string> tags = { "resource": "lookup" };
+    observe:Counter|observe:Gauge|() metric = observe:lookupMetric(name, tags);
+    if metric is observe:Gauge {
+        metric.setValue(2.5);
+        return metric.getValue();
+    }
+    return -1.0;
+}
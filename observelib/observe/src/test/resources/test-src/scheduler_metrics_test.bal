@@ -0,0 +1,14 @@
+function runWorkers() returns int {
+    worker w1 returns int {
+        int a = 10;
+        a -> w2;
+        return a;
+    }
+    worker w2 returns int {
+        int b = <- w1;
+        return b * 2;
+    }
+    int a = wait w1;
+    int b = wait w2;
+    return a + b;
+}
@@ -49,6 +49,9 @@ import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.testng.Assert;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
@@ -488,6 +491,29 @@ public class TestBuildProject {
         Assert.assertEquals(updatedPackage, updatedDoc.module().packageInstance());
     }
 
+    @Test
+    public void testUpdateDocumentWithContentChange() {
+        Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        Project buildProject = ProjectLoader.loadProject(filePath);
+        DocumentId oldDocumentId = buildProject.documentId(filePath);
+        Module oldModule = buildProject.currentPackage().module(oldDocumentId.moduleId());
+        Document oldDocument = oldModule.document(oldDocumentId);
+        String oldContent = oldDocument.textDocument().toString();
+
+        // Indent the first statement of the main function
+        int offset = oldDocument.textDocument().textPositionFrom(LinePosition.from(4, 0));
+        TextEdit textEdit = TextEdit.from(TextRange.from(offset, 0), "    ");
+        Document updatedDoc = oldDocument.modify()
+                .withContentChange(TextDocumentChange.from(new TextEdit[]{textEdit})).apply();
+
+        String expectedContent = oldContent.substring(0, offset) + "    " + oldContent.substring(offset);
+        Assert.assertEquals(updatedDoc.textDocument().toString(), expectedContent);
+        Assert.assertEquals(updatedDoc.syntaxTree().toSourceCode(), expectedContent);
+        Assert.assertFalse(updatedDoc.syntaxTree().hasDiagnostics());
+        Assert.assertEquals(buildProject.currentPackage().module(oldDocumentId.moduleId()).document(oldDocumentId),
+                updatedDoc);
+    }
+
     @Test
     public void testAddDocument() {
         Path projectPath = RESOURCE_DIRECTORY.resolve("myproject");
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.util.ProjectConstants;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarFile;
+
+/**
+ * Contains cases to test building a package with many modules, whose documents are parsed concurrently and whose
+ * generated jars are written in the background.
+ *
+ * @since 2.0.0
+ */
+public class TestModuleCompilation {
+    private static final String PACKAGE_NAME = "wide";
+    private static final int MODULE_COUNT = 16;
+    private static final int FUNCTIONS_PER_MODULE = 5;
+
+    private Path projectPath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        projectPath = Files.createTempDirectory("module-compilation");
+        Files.writeString(projectPath.resolve(ProjectConstants.BALLERINA_TOML), "[package]\n" +
+                "org = \"" + PACKAGE_NAME + "\"\n" +
+                "name = \"" + PACKAGE_NAME + "\"\n" +
+                "version = \"0.1.0\"\n");
+
+        // A common module, which the other modules depend on, and the default module, which depends on all of them
+        writeModule("common", "");
+        StringBuilder mainImports = new StringBuilder();
+        StringBuilder mainBody = new StringBuilder();
+        for (int i = 0; i < MODULE_COUNT; i++) {
+            String moduleName = "mod" + i;
+            writeModule(moduleName, "import " + PACKAGE_NAME + ".common;\n");
+            mainImports.append("import ").append(PACKAGE_NAME).append('.').append(moduleName).append(";\n");
+            mainBody.append("    total += ").append(moduleName).append(":function0(").append(i).append(");\n");
+        }
+        Files.writeString(projectPath.resolve("main.bal"), mainImports +
+                "\npublic function main() {\n" +
+                "    int total = 0;\n" +
+                mainBody +
+                "}\n");
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        if (projectPath != null) {
+            TestUtils.deleteDirectory(projectPath.toFile());
+        }
+    }
+
+    @Test(description = "tests that each document gets the syntax tree of its own source when parsed concurrently")
+    public void testParseDocuments() throws IOException {
+        BuildProject project = BuildProject.load(projectPath);
+        Package currentPackage = project.currentPackage();
+        DiagnosticResult diagnosticResult = currentPackage.getCompilation().diagnosticResult();
+        Assert.assertFalse(diagnosticResult.hasErrors(), diagnosticResult.errors().toString());
+
+        int moduleCount = 0;
+        for (Module module : currentPackage.modules()) {
+            moduleCount++;
+            Path sourceRoot = module.isDefaultModule() ? projectPath :
+                    projectPath.resolve(ProjectConstants.MODULES_ROOT).resolve(module.moduleName().moduleNamePart());
+            for (Document document : module.documents()) {
+                Assert.assertEquals(document.syntaxTree().toSourceCode(),
+                        Files.readString(sourceRoot.resolve(document.name())));
+            }
+            // The names of the test documents are relative to the module root, such as tests/mod0_test.bal
+            for (Document document : module.testDocuments()) {
+                Assert.assertEquals(document.syntaxTree().toSourceCode(),
+                        Files.readString(sourceRoot.resolve(document.name())));
+            }
+        }
+        Assert.assertEquals(moduleCount, MODULE_COUNT + 2);
+    }
+
+    @Test(description = "tests that the jars of all the modules are written once the code generation completes")
+    public void testGeneratedJars() throws IOException {
+        BuildProject project = BuildProject.load(projectPath);
+        Package currentPackage = project.currentPackage();
+        PackageCompilation compilation = currentPackage.getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                jBallerinaBackend.diagnosticResult().errors().toString());
+
+        for (Module module : currentPackage.modules()) {
+            assertJar(jBallerinaBackend.codeGeneratedLibrary(currentPackage.packageId(), module.moduleName())
+                    .path());
+            if (!module.testDocumentIds().isEmpty()) {
+                assertJar(jBallerinaBackend.codeGeneratedTestLibrary(currentPackage.packageId(),
+                        module.moduleName()).path());
+            }
+        }
+    }
+
+    private void assertJar(Path jarPath) throws IOException {
+        Assert.assertTrue(Files.exists(jarPath), jarPath.toString());
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            Assert.assertTrue(jarFile.stream().anyMatch(entry -> entry.getName().endsWith(".class")),
+                    jarPath.toString());
+        }
+    }
+
+    private void writeModule(String moduleName, String imports) throws IOException {
+        Path modulePath = projectPath.resolve(ProjectConstants.MODULES_ROOT).resolve(moduleName);
+        Files.createDirectories(modulePath);
+        boolean usesCommon = !imports.isEmpty();
+        StringBuilder source = new StringBuilder(imports).append('\n');
+        source.append("public type Record record {|\n")
+                .append("    int id;\n")
+                .append("    string name;\n")
+                .append("|};\n\n");
+        for (int i = 0; i < FUNCTIONS_PER_MODULE; i++) {
+            source.append("public function function").append(i).append("(int value) returns int {\n")
+                    .append("    Record entry = {id: value, name: \"").append(moduleName).append("\"};\n")
+                    .append("    int result = entry.id + entry.name.length() * ").append(i + 1).append(";\n");
+            if (usesCommon) {
+                source.append("    result += common:function").append(i).append("(result);\n");
+            }
+            source.append("    return result;\n")
+                    .append("}\n\n");
+        }
+        Files.writeString(modulePath.resolve(moduleName + ".bal"), source);
+
+        // Test sources, so that the test jars are written as well
+        Path testsPath = modulePath.resolve(ProjectConstants.TEST_DIR_NAME);
+        Files.createDirectories(testsPath);
+        Files.writeString(testsPath.resolve(moduleName + "_test.bal"), "function testFunction0() {\n" +
+                "    int result = function0(1);\n" +
+                "}\n");
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
+import io.ballerina.projects.EmitResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.ModuleName;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.util.ProjectConstants;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Contains cases to test loading the modules, which have not changed after a previous build, from the compilation
+ * cache.
+ *
+ * @since 2.0.0
+ */
+public class TestModuleCompilationCache {
+    private static final String PACKAGE_NAME = "cached";
+    private static final String COMMON_MODULE = PACKAGE_NAME + ".common";
+    private static final String SERVICE_MODULE = PACKAGE_NAME + ".service";
+
+    private Path projectPath;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        projectPath = Files.createTempDirectory("module-compilation-cache");
+        Files.writeString(projectPath.resolve(ProjectConstants.BALLERINA_TOML), "[package]\n" +
+                "org = \"" + PACKAGE_NAME + "\"\n" +
+                "name = \"" + PACKAGE_NAME + "\"\n" +
+                "version = \"0.1.0\"\n");
+        writeModule("common", "public function add(int a, int b) returns int {\n" +
+                "    return a + b;\n" +
+                "}\n");
+        writeModule("service", "import cached.common;\n\n" +
+                "public function total(int[] values) returns int {\n" +
+                "    int result = 0;\n" +
+                "    foreach int value in values {\n" +
+                "        result = common:add(result, value);\n" +
+                "    }\n" +
+                "    return result;\n" +
+                "}\n");
+        Files.writeString(projectPath.resolve("main.bal"), "import cached.service;\n\n" +
+                "public function main() {\n" +
+                "    int result = service:total([1, 2, 3]);\n" +
+                "}\n");
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        if (projectPath != null) {
+            TestUtils.deleteDirectory(projectPath.toFile());
+        }
+    }
+
+    @Test(description = "tests loading all the modules of an unchanged package from the compilation cache")
+    public void testUnchangedPackage() {
+        Assert.assertTrue(build(true).isEmpty());
+        Path moduleCachePath = projectPath.resolve(ProjectConstants.TARGET_DIR_NAME)
+                .resolve(ProjectConstants.COMPILATION_CACHE_DIR_NAME);
+        Assert.assertTrue(Files.isDirectory(moduleCachePath.resolve(PACKAGE_NAME)));
+        Assert.assertTrue(Files.isDirectory(moduleCachePath.resolve(COMMON_MODULE)));
+        Assert.assertTrue(Files.isDirectory(moduleCachePath.resolve(SERVICE_MODULE)));
+
+        Assert.assertEquals(build(true), new HashSet<>(Arrays.asList(PACKAGE_NAME, COMMON_MODULE, SERVICE_MODULE)));
+    }
+
+    @Test(description = "tests compiling the changed module and the modules which depend on it")
+    public void testChangedModule() throws IOException {
+        build(true);
+        writeModule("common", "public function add(int a, int b) returns int {\n" +
+                "    return b + a;\n" +
+                "}\n");
+        Assert.assertTrue(build(true).isEmpty());
+
+        Files.writeString(projectPath.resolve("main.bal"), "import cached.service;\n\n" +
+                "public function main() {\n" +
+                "    int result = service:total([3, 2, 1]);\n" +
+                "}\n");
+        Assert.assertEquals(build(true), new HashSet<>(Arrays.asList(COMMON_MODULE, SERVICE_MODULE)));
+
+        // Only the latest entry of a module is kept
+        try (Stream<Path> entries = Files.list(projectPath.resolve(ProjectConstants.TARGET_DIR_NAME)
+                .resolve(ProjectConstants.COMPILATION_CACHE_DIR_NAME).resolve(PACKAGE_NAME))) {
+            Assert.assertEquals(entries.count(), 1);
+        }
+    }
+
+    @Test(description = "tests that the modules are compiled when the compilation cache is not enabled")
+    public void testCacheNotEnabled() {
+        build(false);
+        Assert.assertTrue(build(false).isEmpty());
+    }
+
+    @Test(description = "tests that the modules are compiled when the tests are compiled")
+    public void testModuleWithTests() throws IOException {
+        Path testsPath = projectPath.resolve("modules").resolve("common").resolve(ProjectConstants.TEST_DIR_NAME);
+        Files.createDirectories(testsPath);
+        Files.writeString(testsPath.resolve("common_test.bal"), "function testAdd() {\n" +
+                "    int result = add(1, 2);\n" +
+                "}\n");
+        BuildOptions buildOptions = new BuildOptionsBuilder().enableCache(true).build();
+        build(buildOptions);
+        Assert.assertEquals(build(buildOptions), new HashSet<>(Arrays.asList(PACKAGE_NAME, SERVICE_MODULE)));
+    }
+
+    /**
+     * Builds the package and writes the executable.
+     *
+     * @param enableCache whether the compilation cache is enabled
+     * @return names of the modules which were loaded from the compilation cache
+     */
+    private Set<String> build(boolean enableCache) {
+        return build(new BuildOptionsBuilder().skipTests(true).enableCache(enableCache).build());
+    }
+
+    private Set<String> build(BuildOptions buildOptions) {
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                jBallerinaBackend.diagnosticResult().errors().toString());
+
+        Path executablePath = projectPath.resolve(ProjectConstants.TARGET_DIR_NAME).resolve(PACKAGE_NAME + ".jar");
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
+        Assert.assertTrue(emitResult.successful());
+        Assert.assertTrue(Files.exists(executablePath));
+
+        List<ModuleName> cachedModules = compilation.modulesLoadedFromCache();
+        return cachedModules.stream().map(ModuleName::toString).collect(Collectors.toSet());
+    }
+
+    private void writeModule(String moduleName, String source) throws IOException {
+        Path modulePath = projectPath.resolve("modules").resolve(moduleName);
+        Files.createDirectories(modulePath);
+        Files.writeString(modulePath.resolve(moduleName + ".bal"), source);
+    }
+}
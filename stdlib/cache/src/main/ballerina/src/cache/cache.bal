@@ -18,21 +18,40 @@ import ballerina/java;
 import ballerina/task;
 import ballerina/time;
 
+# Name of the natively implemented LRU (least recently used) eviction policy.
+public const LRU = "LRU";
+
+# Name of the natively implemented W-TinyLFU (Window TinyLFU) eviction policy. New entries are admitted to the main
+# space of the cache only if they are estimated to be accessed more frequently than the entries they would replace,
+# which gives a better hit ratio than LRU for skewed access patterns.
+public const W_TINY_LFU = "W_TINY_LFU";
+
+# The eviction policies implemented natively. With these, the cache entries, eviction and expiry are managed by a
+# native cache engine, which records accesses in buffers and applies them in batches instead of updating a shared
+# linked list on every operation.
+public type EvictionPolicy LRU|W_TINY_LFU;
+
 # Represents configurations for the `cache:Cache` object.
 #
 # + capacity - Maximum number of entries allowed in the cache
-# + evictionPolicy - The policy, which defines the cache eviction algorithm
-# + evictionFactor - The factor by which the entries will be evicted once the cache is full
+# + evictionPolicy - The policy, which defines the cache eviction algorithm. This is either an
+#                    `cache:AbstractEvictionPolicy` object or the name of a natively implemented `cache:EvictionPolicy`
+# + evictionFactor - The factor by which the entries will be evicted once the cache is full. This is not used with
+#                    the natively implemented eviction policies, which evict one entry at a time
 # + defaultMaxAgeInSeconds - The default value in seconds which all the cache entries are valid.
 #                            '-1' means, the entries are valid forever. This will be overwritten by the the
 #                            `maxAgeInSeconds` property set when inserting item to the cache
 # + cleanupIntervalInSeconds - Interval of the timer task, which will clean up the cache
+# + maxSizeInBytes - If set, the simple, list and mapping cache values are stored off the JVM heap and the cache is
+#                    bounded by the memory reserved for the stored values in bytes instead of the `capacity`. The
+#                    `evictionPolicy` must be a natively implemented `cache:EvictionPolicy`
 public type CacheConfig record {|
     int capacity = 100;
-    AbstractEvictionPolicy evictionPolicy = new LruEvictionPolicy();
+    AbstractEvictionPolicy|EvictionPolicy evictionPolicy = new LruEvictionPolicy();
     float evictionFactor = 0.25;
     int defaultMaxAgeInSeconds = -1;
     int cleanupIntervalInSeconds?;
+    int maxSizeInBytes?;
 |};
 
 type CacheEntry record {|
@@ -56,6 +75,13 @@ service class CleanupService {
     }
 }
 
+// Cleanup service which cleans the cache entries of the native cache engine periodically.
+service class EngineCleanupService {
+    remote function onTrigger(Cache cache) {
+        externEngineCleanUp(cache);
+    }
+}
+
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
 # as the value of the cache since it doesn't make any sense to cache a nil.
 public class Cache {
@@ -63,7 +89,7 @@ public class Cache {
     *AbstractCache;
 
     private int capacity_;
-    private AbstractEvictionPolicy evictionPolicy;
+    private AbstractEvictionPolicy|EvictionPolicy evictionPolicy;
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private LinkedList list;
@@ -96,7 +122,28 @@ public class Cache {
             tail: ()
         };
 
-        externInit(self, self.capacity_);
+        AbstractEvictionPolicy|EvictionPolicy evictionPolicy = self.evictionPolicy;
+        int? maxSizeInBytes = cacheConfig?.maxSizeInBytes;
+        if (maxSizeInBytes is int) {
+            // Cache max size must be a positive value.
+            if (maxSizeInBytes <= 0) {
+                panic prepareError("Max size in bytes must be greater than 0.");
+            }
+            if (evictionPolicy is AbstractEvictionPolicy) {
+                panic prepareError("Off-heap storage is supported only with the natively implemented eviction " +
+                                   "policies.");
+            }
+        }
+
+        if (evictionPolicy is EvictionPolicy) {
+            if (maxSizeInBytes is int) {
+                externInitOffHeapEngine(self, maxSizeInBytes, evictionPolicy);
+            } else {
+                externInitEngine(self, self.capacity_, evictionPolicy);
+            }
+        } else {
+            externInit(self, self.capacity_);
+        }
 
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
@@ -105,7 +152,12 @@ public class Cache {
                 initialDelayInMillis: cleanupIntervalInSeconds
             };
             task:Scheduler cleanupScheduler = new(timerConfiguration);
-            task:SchedulerError? result = cleanupScheduler.attach(new CleanupService(), self, self.list, self.evictionPolicy);
+            task:SchedulerError? result;
+            if (evictionPolicy is EvictionPolicy) {
+                result = cleanupScheduler.attach(new EngineCleanupService(), self);
+            } else {
+                result = cleanupScheduler.attach(new CleanupService(), self, self.list, evictionPolicy);
+            }
             if (result is task:SchedulerError) {
                 panic prepareError("Failed to create the cache cleanup task.", result);
             }
@@ -129,9 +181,19 @@ public class Cache {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
+        if (self.evictionPolicy is EvictionPolicy) {
+            if (!externEnginePut(self, key, value, maxAgeInSeconds > 0 ? maxAgeInSeconds :
+                                 self.defaultMaxAgeInSeconds)) {
+                return prepareError("Unsupported cache value for the key: " + key + ". The value is larger than " +
+                                    "the max size in bytes of the cache.", logLevel = LOG_LEVEL_DEBUG);
+            }
+            return;
+        }
+        AbstractEvictionPolicy evictionPolicy = <AbstractEvictionPolicy>self.evictionPolicy;
+
         // If the current cache is full (i.e. size = capacity), evict cache.
         if (self.size() == self.capacity_) {
-            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
+            evict(self, self.list, evictionPolicy, self.capacity_, self.evictionFactor);
         }
 
         // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
@@ -154,9 +216,9 @@ public class Cache {
 
         if (self.hasKey(key)) {
             Node oldNode = externGet(self, key);
-            self.evictionPolicy.replace(self.list, newNode, oldNode);
+            evictionPolicy.replace(self.list, newNode, oldNode);
         } else {
-            self.evictionPolicy.put(self.list, newNode);
+            evictionPolicy.put(self.list, newNode);
         }
         externPut(self, key, newNode);
     }
@@ -167,6 +229,19 @@ public class Cache {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
+        if (self.evictionPolicy is EvictionPolicy) {
+            any|error value = externEngineGet(self, key);
+            if (value is ()) {
+                return prepareError("Cache entry from the given key: " + key + ", is not available.",
+                                    logLevel = LOG_LEVEL_DEBUG);
+            }
+            if (value is error) {
+                return prepareError("Failed to read the cache entry from the given key: " + key + ".", value);
+            }
+            return value;
+        }
+        AbstractEvictionPolicy evictionPolicy = <AbstractEvictionPolicy>self.evictionPolicy;
+
         if (!self.hasKey(key)) {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
@@ -179,12 +254,12 @@ public class Cache {
         // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
         // even though it is expired. So this check guarantees that the expired cache entries will not be returned.
         if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            self.evictionPolicy.remove(self.list, node);
+            evictionPolicy.remove(self.list, node);
             externRemove(self, key);
             return ();
         }
 
-        self.evictionPolicy.get(self.list, node);
+        evictionPolicy.get(self.list, node);
         return entry.data;
     }
 
@@ -198,9 +273,14 @@ public class Cache {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
+        if (self.evictionPolicy is EvictionPolicy) {
+            externEngineInvalidate(self, key);
+            return;
+        }
 
         Node node = externGet(self, key);
-        self.evictionPolicy.remove(self.list, node);
+        AbstractEvictionPolicy evictionPolicy = <AbstractEvictionPolicy>self.evictionPolicy;
+        evictionPolicy.remove(self.list, node);
         externRemove(self, key);
     }
 
@@ -209,7 +289,12 @@ public class Cache {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
-        self.evictionPolicy.clear(self.list);
+        if (self.evictionPolicy is EvictionPolicy) {
+            externEngineInvalidateAll(self);
+            return;
+        }
+        AbstractEvictionPolicy evictionPolicy = <AbstractEvictionPolicy>self.evictionPolicy;
+        evictionPolicy.clear(self.list);
         externRemoveAll(self);
     }
 
@@ -219,6 +304,9 @@ public class Cache {
     # + return - `true` if a cached value is available for the provided key or `false` if there is no cached value
     #            associated for the given key
     public function hasKey(string key) returns boolean {
+        if (self.evictionPolicy is EvictionPolicy) {
+            return externEngineHasKey(self, key);
+        }
         return externHasKey(self, key);
     }
 
@@ -226,6 +314,9 @@ public class Cache {
     #
     # + return - Array of all the keys from the cache
     public function keys() returns string[] {
+        if (self.evictionPolicy is EvictionPolicy) {
+            return externEngineKeys(self);
+        }
         return externKeys(self);
     }
 
@@ -233,6 +324,9 @@ public class Cache {
     #
     # + return - The size of the cache
     public function size() returns int {
+        if (self.evictionPolicy is EvictionPolicy) {
+            return externEngineSize(self);
+        }
         return externSize(self);
     }
 
@@ -307,3 +401,43 @@ function externKeys(Cache cache) returns string[] = @java:Method {
 function externSize(Cache cache) returns int = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
+
+function externInitEngine(Cache cache, int capacity, EvictionPolicy evictionPolicy) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externInitOffHeapEngine(Cache cache, int maxSizeInBytes, EvictionPolicy evictionPolicy) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEnginePut(Cache cache, string key, any value, int maxAgeInSeconds) returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEngineGet(Cache cache, string key) returns any|error = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEngineInvalidate(Cache cache, string key) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEngineInvalidateAll(Cache cache) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEngineHasKey(Cache cache, string key) returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEngineKeys(Cache cache) returns string[] = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEngineSize(Cache cache) returns int = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externEngineCleanUp(Cache cache) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
@@ -19,12 +19,18 @@
 package org.ballerinalang.stdlib.cache.nativeimpl;
 
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.cache.nativeimpl.engine.CacheEngine;
+import org.ballerinalang.stdlib.cache.nativeimpl.engine.OffHeapStore;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
@@ -34,6 +40,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class Cache {
 
     public static final String CACHE_MAP = "CACHE_MAP";
+    public static final String CACHE_ENGINE = "CACHE_ENGINE";
+    public static final String CACHE_OFF_HEAP_STORE = "CACHE_OFF_HEAP_STORE";
 
     public static void externInit(BObject cache, int capacity) {
         ConcurrentHashMap<BString, BMap<BString, Object>> map = new ConcurrentHashMap<>(capacity);
@@ -81,4 +89,105 @@ public class Cache {
                 (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
         return map.size();
     }
+
+    public static void externInitEngine(BObject cache, long capacity, BString evictionPolicy) {
+        CacheEngine engine = new CacheEngine(capacity, CacheEngine.Policy.valueOf(evictionPolicy.getValue()));
+        cache.addNativeData(CACHE_ENGINE, engine);
+    }
+
+    public static void externInitOffHeapEngine(BObject cache, long maxSizeInBytes, BString evictionPolicy) {
+        OffHeapStore store = new OffHeapStore(maxSizeInBytes);
+        CacheEngine engine = new CacheEngine(maxSizeInBytes, CacheEngine.Policy.valueOf(evictionPolicy.getValue()),
+                                             block -> store.free((OffHeapStore.Block) block));
+        cache.addNativeData(CACHE_ENGINE, engine);
+        cache.addNativeData(CACHE_OFF_HEAP_STORE, store);
+    }
+
+    public static boolean externEnginePut(BObject cache, BString key, Object value, long maxAgeInSeconds) {
+        CacheEngine engine = (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+        OffHeapStore store = (OffHeapStore) cache.getNativeData(CACHE_OFF_HEAP_STORE);
+        if (store == null) {
+            engine.put(key, value, TimeUnit.SECONDS.toNanos(maxAgeInSeconds));
+            return true;
+        }
+        // The types of the lists and mappings of the value are kept on the heap to create them again with the same
+        // types. A value that cannot be serialized is kept on the heap as it is, and only takes up an empty block of
+        // the store, so that it is still bounded and evicted together with the other values.
+        List<Type> types = new ArrayList<>();
+        byte[] bytes = ValueSerializer.serialize(value, types);
+        Object attachment;
+        if (bytes == null) {
+            bytes = new byte[0];
+            attachment = value;
+        } else {
+            attachment = types.toArray(new Type[0]);
+        }
+        OffHeapStore.Block block = store.store(bytes, attachment);
+        while (block == null) {
+            // The reserved memory is used up, either by the values or by slabs of other block sizes, so entries are
+            // evicted until the value fits.
+            if (!engine.evict()) {
+                engine.remove(key);
+                return false;
+            }
+            block = store.store(bytes, attachment);
+        }
+        engine.put(key, block, block.getSize(), TimeUnit.SECONDS.toNanos(maxAgeInSeconds));
+        return true;
+    }
+
+    public static Object externEngineGet(BObject cache, BString key) {
+        CacheEngine engine = (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+        Object value = engine.get(key);
+        OffHeapStore store = (OffHeapStore) cache.getNativeData(CACHE_OFF_HEAP_STORE);
+        if (store == null || value == null) {
+            return value;
+        }
+        OffHeapStore.Block block = (OffHeapStore.Block) value;
+        byte[] bytes = store.load(block);
+        if (bytes == null) {
+            // The entry was removed and its memory reused after it was read from the engine.
+            return null;
+        }
+        Object attachment = block.getAttachment();
+        if (!(attachment instanceof Type[])) {
+            return attachment;
+        }
+        return ValueSerializer.deserialize(bytes, (Type[]) attachment);
+    }
+
+    public static void externEngineInvalidate(BObject cache, BString key) {
+        CacheEngine engine = (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+        engine.remove(key);
+    }
+
+    public static void externEngineInvalidateAll(BObject cache) {
+        CacheEngine engine = (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+        engine.clear();
+        OffHeapStore store = (OffHeapStore) cache.getNativeData(CACHE_OFF_HEAP_STORE);
+        if (store != null) {
+            store.releaseEmptySlabs();
+        }
+    }
+
+    public static boolean externEngineHasKey(BObject cache, BString key) {
+        CacheEngine engine = (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+        return engine.containsKey(key);
+    }
+
+    public static BArray externEngineKeys(BObject cache) {
+        CacheEngine engine = (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+        List<Object> keys = engine.keys();
+        return ValueCreator.createArrayValue(keys.toArray(new BString[0]));
+    }
+
+    public static int externEngineSize(BObject cache) {
+        CacheEngine engine = (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+        return engine.size();
+    }
+
+    public static void externEngineCleanUp(BObject cache) {
+        CacheEngine engine = (CacheEngine) cache.getNativeData(CACHE_ENGINE);
+        engine.cleanUp();
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serializes the cache values stored off-heap to bytes.
+ * <p>
+ * Simple values are written with their exact kind, e.g. a byte stays a byte, and strings are written as their UTF-8
+ * bytes. Lists and mappings are written element by element, while their types are collected into a table, which is
+ * kept on the heap and used to create the lists and mappings again with the same types. Values that cannot be
+ * recreated from their bytes are not serialized. These are objects, errors, functions, typedescs, futures, streams,
+ * handles, XML and table values, immutable values, which can be shared as they are, and values that refer to
+ * themselves.
+ *
+ * @since 2.0.0
+ */
+final class ValueSerializer {
+
+    private static final byte NIL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INT = 2;
+    private static final byte BYTE = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DECIMAL = 5;
+    private static final byte STRING = 6;
+    private static final byte LIST = 7;
+    private static final byte MAPPING = 8;
+
+    private ValueSerializer() {
+    }
+
+    /**
+     * Serializes the value.
+     *
+     * @param value value to be serialized
+     * @param types the table, to which the types of the lists and mappings of the value are added
+     * @return the serialized value, or null if the value cannot be serialized
+     */
+    static byte[] serialize(Object value, List<Type> types) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            Set<Object> parents = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (!write(out, value, types, parents)) {
+                return null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Creates the value again from its serialized form.
+     *
+     * @param bytes serialized value
+     * @param types the table of types collected when serializing the value
+     * @return the value
+     */
+    static Object deserialize(byte[] bytes, Type[] types) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return read(in, types);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean write(DataOutputStream out, Object value, List<Type> types, Set<Object> parents)
+            throws IOException {
+        if (value == null) {
+            out.writeByte(NIL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Long) {
+            out.writeByte(INT);
+            out.writeLong((Long) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(BYTE);
+            out.writeByte((Integer) value);
+        } else if (value instanceof Double) {
+            out.writeByte(FLOAT);
+            out.writeDouble((Double) value);
+        } else if (value instanceof BDecimal) {
+            out.writeByte(DECIMAL);
+            writeBytes(out, ((BDecimal) value).value().toString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BString) {
+            out.writeByte(STRING);
+            writeBytes(out, ((BString) value).getValue().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BArray) {
+            return writeList(out, (BArray) value, types, parents);
+        } else if (value instanceof BMap) {
+            return writeMapping(out, (BMap<?, ?>) value, types, parents);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean writeList(DataOutputStream out, BArray list, List<Type> types, Set<Object> parents)
+            throws IOException {
+        Type type = TypeUtils.getType(list);
+        if (type.getTag() != TypeTags.ARRAY_TAG && type.getTag() != TypeTags.TUPLE_TAG) {
+            return false;
+        }
+        if (!enter(list, parents)) {
+            return false;
+        }
+        out.writeByte(LIST);
+        out.writeInt(addType(type, types));
+        int size = list.size();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            if (!write(out, list.get(i), types, parents)) {
+                return false;
+            }
+        }
+        parents.remove(list);
+        return true;
+    }
+
+    private static boolean writeMapping(DataOutputStream out, BMap<?, ?> mapping, List<Type> types,
+                                        Set<Object> parents) throws IOException {
+        Type type = TypeUtils.getType(mapping);
+        if (type.getTag() != TypeTags.MAP_TAG && type.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        if (!enter(mapping, parents)) {
+            return false;
+        }
+        out.writeByte(MAPPING);
+        out.writeInt(addType(type, types));
+        out.writeInt(mapping.size());
+        for (Map.Entry<?, ?> entry : mapping.entrySet()) {
+            writeBytes(out, entry.getKey().toString().getBytes(StandardCharsets.UTF_8));
+            if (!write(out, entry.getValue(), types, parents)) {
+                return false;
+            }
+        }
+        parents.remove(mapping);
+        return true;
+    }
+
+    private static boolean enter(BRefValue value, Set<Object> parents) {
+        // An immutable value can only be shared as it is, and a value that refers to itself cannot be written out.
+        return !value.isFrozen() && parents.add(value);
+    }
+
+    private static int addType(Type type, List<Type> types) {
+        for (int i = 0; i < types.size(); i++) {
+            if (types.get(i) == type) {
+                return i;
+            }
+        }
+        types.add(type);
+        return types.size() - 1;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Object read(DataInputStream in, Type[] types) throws IOException {
+        byte kind = in.readByte();
+        switch (kind) {
+            case NIL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case INT:
+                return in.readLong();
+            case BYTE:
+                return in.readUnsignedByte();
+            case FLOAT:
+                return in.readDouble();
+            case DECIMAL:
+                return ValueCreator.createDecimalValue(new String(readBytes(in), StandardCharsets.UTF_8));
+            case STRING:
+                return StringUtils.fromString(new String(readBytes(in), StandardCharsets.UTF_8));
+            case LIST:
+                return readList(in, types);
+            case MAPPING:
+                return readMapping(in, types);
+            default:
+                throw new IllegalStateException("unknown serialized value kind: " + kind);
+        }
+    }
+
+    private static BArray readList(DataInputStream in, Type[] types) throws IOException {
+        Type type = types[in.readInt()];
+        BArray list = type.getTag() == TypeTags.ARRAY_TAG ? ValueCreator.createArrayValue((ArrayType) type) :
+                ValueCreator.createTupleValue((TupleType) type);
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            list.add(i, read(in, types));
+        }
+        return list;
+    }
+
+    private static BMap<BString, Object> readMapping(DataInputStream in, Type[] types) throws IOException {
+        Type type = types[in.readInt()];
+        BMap<BString, Object> mapping;
+        if (type.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            RecordType recordType = (RecordType) type;
+            mapping = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+        } else {
+            mapping = ValueCreator.createMapValue(type);
+        }
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            BString key = StringUtils.fromString(new String(readBytes(in), StandardCharsets.UTF_8));
+            mapping.put(key, read(in, types));
+        }
+        return mapping;
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+/**
+ * A doubly linked list of {@link Node}s ordered from the least to the most recently accessed, which uses the access
+ * order links of the nodes instead of allocating list entries.
+ *
+ * @since 2.0.0
+ */
+final class AccessOrderDeque {
+
+    private final Node head = new Node();
+
+    AccessOrderDeque() {
+        clear();
+    }
+
+    boolean isEmpty() {
+        return head.nextInAccessOrder == head;
+    }
+
+    Node peekFirst() {
+        Node first = head.nextInAccessOrder;
+        return first == head ? null : first;
+    }
+
+    Node peekLast() {
+        Node last = head.prevInAccessOrder;
+        return last == head ? null : last;
+    }
+
+    void addLast(Node node) {
+        Node last = head.prevInAccessOrder;
+        node.prevInAccessOrder = last;
+        node.nextInAccessOrder = head;
+        last.nextInAccessOrder = node;
+        head.prevInAccessOrder = node;
+    }
+
+    void remove(Node node) {
+        node.prevInAccessOrder.nextInAccessOrder = node.nextInAccessOrder;
+        node.nextInAccessOrder.prevInAccessOrder = node.prevInAccessOrder;
+        node.prevInAccessOrder = null;
+        node.nextInAccessOrder = null;
+    }
+
+    void moveToBack(Node node) {
+        if (head.prevInAccessOrder != node) {
+            remove(node);
+            addLast(node);
+        }
+    }
+
+    void clear() {
+        Node node = head.nextInAccessOrder;
+        while (node != null && node != head) {
+            Node next = node.nextInAccessOrder;
+            node.prevInAccessOrder = null;
+            node.nextInAccessOrder = null;
+            node.queueType = Node.NOT_IN_POLICY;
+            node = next;
+        }
+        head.prevInAccessOrder = head;
+        head.nextInAccessOrder = head;
+    }
+}
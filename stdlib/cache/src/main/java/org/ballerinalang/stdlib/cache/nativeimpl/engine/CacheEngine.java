@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, concurrent cache engine with pluggable eviction policies and per-entry expiry.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap}, so reads and writes never block on each other. Instead of
+ * updating the eviction policy on every operation under a shared lock, reads are recorded in a lossy
+ * {@link ReadBuffer} and writes in a write buffer. The buffered events are replayed on the {@link EvictionPolicy} and
+ * the {@link TimerWheel} in batches by whichever thread acquires the maintenance lock, which also evicts entries
+ * while the cache is over its capacity and removes the expired entries.
+ * <p>
+ * The capacity is a maximum total weight of the entries. Each entry weighs one unless a weight is given when adding
+ * it, which allows bounding the cache by the size of the values instead of their count.
+ *
+ * @since 2.0.0
+ */
+public final class CacheEngine {
+
+    private static final int WRITE_BUFFER_DRAIN_THRESHOLD = 64;
+
+    private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    private final long maximumWeight;
+    private final EvictionPolicy policy;
+    private final TimerWheel timerWheel;
+    private final LongSupplier ticker;
+    private final Consumer<Object> removalListener;
+    private long weightedSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * The eviction policies supported by the engine.
+     */
+    public enum Policy {
+        LRU,
+        W_TINY_LFU
+    }
+
+    public CacheEngine(long maximumWeight, Policy policy) {
+        this(maximumWeight, policy, value -> { });
+    }
+
+    /**
+     * Creates an engine, which notifies the listener with the value of each entry that is removed from the cache,
+     * whether it is replaced, invalidated, expired or evicted. The listener is called exactly once per value, but a
+     * concurrent {@link #get(Object)} may still return the value after it.
+     *
+     * @param maximumWeight   maximum total weight of the entries
+     * @param policy          eviction policy
+     * @param removalListener listener of the removed values
+     */
+    public CacheEngine(long maximumWeight, Policy policy, Consumer<Object> removalListener) {
+        this(maximumWeight, policy, removalListener, System::nanoTime);
+    }
+
+    CacheEngine(long maximumWeight, Policy policy, Consumer<Object> removalListener, LongSupplier ticker) {
+        this.maximumWeight = maximumWeight;
+        this.policy = policy == Policy.W_TINY_LFU ? new WindowTinyLfuPolicy(maximumWeight) : new LruPolicy();
+        this.removalListener = removalListener;
+        this.ticker = ticker;
+        this.timerWheel = new TimerWheel(ticker.getAsLong());
+    }
+
+    /**
+     * Returns the value associated with the key.
+     *
+     * @param key key of the entry
+     * @return the value or null if there is no live entry for the key
+     */
+    public Object get(Object key) {
+        Node node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        if (node.isExpired(ticker.getAsLong())) {
+            missCount.increment();
+            if (data.remove(key, node)) {
+                afterRemove(node);
+            }
+            return null;
+        }
+        hitCount.increment();
+        if (readBuffer.offer(node) == ReadBuffer.FULL) {
+            tryMaintenance();
+        }
+        return node.value;
+    }
+
+    /**
+     * Checks whether there is a live entry for the key, without recording an access.
+     *
+     * @param key key of the entry
+     * @return true if there is a live entry for the key
+     */
+    public boolean containsKey(Object key) {
+        Node node = data.get(key);
+        return node != null && !node.isExpired(ticker.getAsLong());
+    }
+
+    /**
+     * Associates the value with the key, replacing any existing value.
+     *
+     * @param key             key of the entry
+     * @param value           value of the entry
+     * @param timeToLiveNanos time in nanoseconds the entry is valid for, or a non-positive value if it never expires
+     */
+    public void put(Object key, Object value, long timeToLiveNanos) {
+        put(key, value, 1, timeToLiveNanos);
+    }
+
+    /**
+     * Associates the value with the key, replacing any existing value.
+     *
+     * @param key             key of the entry
+     * @param value           value of the entry
+     * @param weight          weight of the entry towards the maximum weight of the cache
+     * @param timeToLiveNanos time in nanoseconds the entry is valid for, or a non-positive value if it never expires
+     */
+    public void put(Object key, Object value, int weight, long timeToLiveNanos) {
+        long expirationTime = timeToLiveNanos > 0 ? ticker.getAsLong() + timeToLiveNanos : Node.NO_EXPIRY;
+        Node node = new Node(key, value, weight, expirationTime);
+        Node prior = data.put(key, node);
+        if (prior != null) {
+            prior.retired = true;
+            removalListener.accept(prior.value);
+            writeBuffer.add(() -> removeFromPolicy(prior));
+        }
+        writeBuffer.add(() -> addToPolicy(node));
+        scheduleMaintenance();
+    }
+
+    /**
+     * Removes the entry associated with the key.
+     *
+     * @param key key of the entry
+     * @return true if an entry was removed
+     */
+    public boolean remove(Object key) {
+        Node node = data.remove(key);
+        if (node == null) {
+            return false;
+        }
+        afterRemove(node);
+        return true;
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+        maintenanceLock.lock();
+        try {
+            for (Object key : data.keySet()) {
+                Node node = data.remove(key);
+                if (node != null) {
+                    node.retired = true;
+                    removalListener.accept(node.value);
+                }
+            }
+            readBuffer.drainTo(node -> { });
+            Runnable task;
+            while ((task = writeBuffer.poll()) != null) {
+                task.run();
+            }
+            policy.clear();
+            timerWheel.clear();
+            weightedSize = 0;
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the keys of the live entries.
+     *
+     * @return list of keys
+     */
+    public List<Object> keys() {
+        long now = ticker.getAsLong();
+        List<Object> keys = new ArrayList<>(data.size());
+        for (Node node : data.values()) {
+            if (!node.isExpired(now)) {
+                keys.add(node.key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the number of entries, which may include expired entries that are not removed yet.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Applies the pending operations on the eviction policy and removes the expired entries.
+     */
+    public void cleanUp() {
+        maintenanceLock.lock();
+        try {
+            maintenance();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the pending operations on the eviction policy and evicts the entry selected by the policy, even if the
+     * cache is within its capacity. This allows the owner of the values to make room when it runs out of a resource
+     * other than the weight.
+     *
+     * @return true if an entry was evicted, or false if the cache is empty
+     */
+    public boolean evict() {
+        maintenanceLock.lock();
+        try {
+            maintenance();
+            Node victim = policy.selectVictim();
+            if (victim == null) {
+                return false;
+            }
+            evictNode(victim);
+            return true;
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void afterRemove(Node node) {
+        node.retired = true;
+        removalListener.accept(node.value);
+        writeBuffer.add(() -> removeFromPolicy(node));
+        scheduleMaintenance();
+    }
+
+    /**
+     * Runs the maintenance if the lock is free. A thread that fails to acquire the lock can leave its buffered
+     * operations behind, since the lock holder checks the write buffer again after releasing the lock. Writers only
+     * block when too many writes are pending, which bounds the number of entries above the capacity.
+     */
+    private void scheduleMaintenance() {
+        while (!writeBuffer.isEmpty()) {
+            if (!maintenanceLock.tryLock()) {
+                if (writeBuffer.size() < WRITE_BUFFER_DRAIN_THRESHOLD) {
+                    return;
+                }
+                maintenanceLock.lock();
+            }
+            try {
+                maintenance();
+            } finally {
+                maintenanceLock.unlock();
+            }
+        }
+    }
+
+    private void tryMaintenance() {
+        if (maintenanceLock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                maintenanceLock.unlock();
+            }
+        }
+    }
+
+    private void maintenance() {
+        readBuffer.drainTo(this::onAccess);
+        Runnable task;
+        while ((task = writeBuffer.poll()) != null) {
+            task.run();
+        }
+        timerWheel.advance(ticker.getAsLong(), this::evictNode);
+        while (weightedSize > maximumWeight) {
+            Node victim = policy.selectVictim();
+            if (victim == null) {
+                break;
+            }
+            evictNode(victim);
+        }
+    }
+
+    private void onAccess(Node node) {
+        if (node.queueType != Node.NOT_IN_POLICY) {
+            policy.onAccess(node);
+        }
+    }
+
+    private void addToPolicy(Node node) {
+        if (node.retired) {
+            return;
+        }
+        weightedSize += node.weight;
+        policy.onAdd(node);
+        if (node.expirationTime != Node.NO_EXPIRY) {
+            timerWheel.schedule(node);
+        }
+    }
+
+    private void removeFromPolicy(Node node) {
+        if (node.queueType != Node.NOT_IN_POLICY) {
+            policy.onRemove(node);
+            weightedSize -= node.weight;
+        }
+        timerWheel.deschedule(node);
+    }
+
+    /**
+     * Removes a node selected by the policy or the timer wheel.
+     */
+    private void evictNode(Node node) {
+        removeFromPolicy(node);
+        node.retired = true;
+        if (data.remove(node.key, node)) {
+            evictionCount.increment();
+            removalListener.accept(node.value);
+        }
+    }
+}
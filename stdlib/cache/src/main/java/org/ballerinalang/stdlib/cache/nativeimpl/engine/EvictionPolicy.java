@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+/**
+ * Decides the order in which entries of a {@link CacheEngine} get evicted. Implementations are not thread safe and
+ * are only called while holding the maintenance lock of the engine.
+ *
+ * @since 2.0.0
+ */
+interface EvictionPolicy {
+
+    /**
+     * Records the addition of a node to the cache.
+     *
+     * @param node added node
+     */
+    void onAdd(Node node);
+
+    /**
+     * Records a read of a node that is present in the policy.
+     *
+     * @param node accessed node
+     */
+    void onAccess(Node node);
+
+    /**
+     * Removes a node that is present in the policy.
+     *
+     * @param node removed node
+     */
+    void onRemove(Node node);
+
+    /**
+     * Selects the node to be evicted next. The node is not removed from the policy.
+     *
+     * @return node to be evicted or null if the policy is empty
+     */
+    Node selectVictim();
+
+    /**
+     * Removes all the nodes from the policy.
+     */
+    void clear();
+}
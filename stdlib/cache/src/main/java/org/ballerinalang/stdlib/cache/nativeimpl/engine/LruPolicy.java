@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+/**
+ * Evicts the least recently used entry.
+ *
+ * @since 2.0.0
+ */
+final class LruPolicy implements EvictionPolicy {
+
+    private final AccessOrderDeque deque = new AccessOrderDeque();
+
+    @Override
+    public void onAdd(Node node) {
+        node.queueType = Node.MAIN;
+        deque.addLast(node);
+    }
+
+    @Override
+    public void onAccess(Node node) {
+        deque.moveToBack(node);
+    }
+
+    @Override
+    public void onRemove(Node node) {
+        deque.remove(node);
+        node.queueType = Node.NOT_IN_POLICY;
+    }
+
+    @Override
+    public Node selectVictim() {
+        return deque.peekFirst();
+    }
+
+    @Override
+    public void clear() {
+        deque.clear();
+    }
+}
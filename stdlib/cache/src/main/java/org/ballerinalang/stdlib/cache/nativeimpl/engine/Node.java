@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+/**
+ * An entry of the {@link CacheEngine}. Besides the key and value, a node carries the intrusive links used by the
+ * eviction policy and the timer wheel, which are only accessed while holding the maintenance lock of the engine.
+ *
+ * @since 2.0.0
+ */
+final class Node {
+
+    static final long NO_EXPIRY = -1;
+
+    static final int NOT_IN_POLICY = 0;
+    static final int WINDOW = 1;
+    static final int PROBATION = 2;
+    static final int PROTECTED = 3;
+    static final int MAIN = 4;
+
+    final Object key;
+    final Object value;
+    final int weight;
+    final long expirationTime;
+
+    /**
+     * Set when the node is removed from the cache map, so that a pending add does not make it to the policy.
+     */
+    volatile boolean retired;
+
+    int queueType = NOT_IN_POLICY;
+    Node prevInAccessOrder;
+    Node nextInAccessOrder;
+    Node prevInTimer;
+    Node nextInTimer;
+
+    Node(Object key, Object value, int weight, long expirationTime) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+        this.expirationTime = expirationTime;
+    }
+
+    /**
+     * Creates a sentinel node used as the head of the intrusive lists.
+     */
+    Node() {
+        this(null, null, 0, NO_EXPIRY);
+    }
+
+    boolean isExpired(long now) {
+        return expirationTime != NO_EXPIRY && now - expirationTime >= 0;
+    }
+}
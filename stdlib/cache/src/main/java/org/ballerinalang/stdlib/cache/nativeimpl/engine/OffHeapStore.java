@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stores byte arrays outside the JVM heap in direct {@link ByteBuffer} slabs, so that the values of large caches do
+ * not add to the old generation of the heap. Only a small {@link Block} handle per value stays on the heap.
+ * <p>
+ * The memory is handed out in power of two sized blocks. A slab is carved into blocks of a single size and freed
+ * blocks are kept in a free list per size, so memory is reused without any compaction. Values larger than a slab get
+ * a slab of their own. Once all the blocks of a slab are freed, the slab can be carved again for any block size, and
+ * it is released when a new slab would exceed the maximum number of reserved bytes. The store refuses to store a
+ * value that does not fit within the maximum, and the owner is expected to free some values and try again. Allocation
+ * and freeing take a lock, but the values are copied in and out without it.
+ * <p>
+ * A block can be freed and reused while another thread is still reading it through an old handle. To detect this,
+ * each block starts with the stamp of the handle it was allocated for. A reader copies the value and then checks the
+ * stamp again, and treats the value as missing if it has changed. As the blocks of an empty slab can be laid out
+ * differently once it is carved for another size, each slab also counts the times it has been carved, which the
+ * reader checks as well.
+ *
+ * @since 2.0.0
+ */
+public final class OffHeapStore {
+
+    static final int SLAB_SIZE = 1 << 20;
+    private static final int MIN_BLOCK_SIZE_SHIFT = 6;
+    private static final int HEADER_SIZE = Long.BYTES;
+    private static final long FREE_STAMP = 0;
+
+    private final long maxReservedBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Slab[] slabs = new Slab[0];
+    private final SizeClass[] sizeClasses = new SizeClass[Integer.SIZE - MIN_BLOCK_SIZE_SHIFT];
+    private long nextStamp = FREE_STAMP + 1;
+    private long allocatedBytes;
+    private long reservedBytes;
+
+    /**
+     * Creates a store, which reserves at most the given number of bytes of direct memory.
+     *
+     * @param maxReservedBytes maximum number of bytes reserved for the slabs
+     */
+    public OffHeapStore(long maxReservedBytes) {
+        this.maxReservedBytes = maxReservedBytes;
+    }
+
+    /**
+     * The handle of a value stored in the {@link OffHeapStore}.
+     */
+    public static final class Block {
+
+        private final Slab slab;
+        private final int slabIndex;
+        private final int epoch;
+        private final int offset;
+        private final int length;
+        private final long stamp;
+        private final Object attachment;
+
+        private Block(Slab slab, int slabIndex, int offset, int length, long stamp, Object attachment) {
+            this.slab = slab;
+            this.slabIndex = slabIndex;
+            this.epoch = slab.epoch;
+            this.offset = offset;
+            this.length = length;
+            this.stamp = stamp;
+            this.attachment = attachment;
+        }
+
+        /**
+         * Returns the number of bytes of the store used by the value, including the block header and the unused
+         * space at the end of the block.
+         *
+         * @return size of the block in bytes
+         */
+        public int getSize() {
+            return blockSize(length);
+        }
+
+        /**
+         * Returns the object attached to the value when storing it.
+         *
+         * @return the attachment, or null if there is none
+         */
+        public Object getAttachment() {
+            return attachment;
+        }
+    }
+
+    /**
+     * A slab of direct memory, which is carved into blocks of a single size class at a time.
+     */
+    private static final class Slab {
+
+        private final ByteBuffer buffer;
+        private volatile int epoch;
+        private SizeClass sizeClass;
+        private int liveBlocks;
+
+        private Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * The blocks of a single size, which are either freed or not carved from the current slab of the size yet.
+     */
+    private static final class SizeClass {
+
+        private long[] freeBlocks = new long[16];
+        private int freeCount;
+        private int slab = -1;
+        private int carvedOffset;
+    }
+
+    /**
+     * Copies the value to a free block of the store.
+     *
+     * @param value      value to be stored
+     * @param attachment an object to be kept on the heap together with the handle of the value
+     * @return the handle of the stored value, or null if the value does not fit within the maximum reserved bytes
+     */
+    public Block store(byte[] value, Object attachment) {
+        int size = blockSize(value.length);
+        long address;
+        long stamp;
+        Slab slab;
+        lock.lock();
+        try {
+            address = allocate(size);
+            if (address < 0) {
+                return null;
+            }
+            stamp = nextStamp++;
+            allocatedBytes += size;
+            slab = slabs[slabIndex(address)];
+            slab.liveBlocks++;
+            // The stamp must be visible before the value, so a reader of a previous value of the block that sees
+            // the new value also sees the new stamp.
+            slab.buffer.putLong(slabOffset(address), stamp);
+        } finally {
+            lock.unlock();
+        }
+        VarHandle.storeStoreFence();
+        ByteBuffer target = slab.buffer.duplicate();
+        target.position(slabOffset(address) + HEADER_SIZE);
+        target.put(value);
+        return new Block(slab, slabIndex(address), slabOffset(address), value.length, stamp, attachment);
+    }
+
+    /**
+     * Copies the value of the block from the store.
+     *
+     * @param block handle of the value
+     * @return a copy of the value, or null if the block has been freed in the meantime
+     */
+    public byte[] load(Block block) {
+        ByteBuffer slab = block.slab.buffer;
+        if (slab.getLong(block.offset) != block.stamp || block.slab.epoch != block.epoch) {
+            return null;
+        }
+        byte[] value = new byte[block.length];
+        ByteBuffer source = slab.duplicate();
+        source.position(block.offset + HEADER_SIZE);
+        source.get(value);
+        VarHandle.loadLoadFence();
+        return slab.getLong(block.offset) == block.stamp && block.slab.epoch == block.epoch ? value : null;
+    }
+
+    /**
+     * Returns the block of the value to the store. The handle must not be freed more than once.
+     *
+     * @param block handle of the value
+     */
+    public void free(Block block) {
+        int size = blockSize(block.length);
+        lock.lock();
+        try {
+            Slab slab = slabs[block.slabIndex];
+            slab.buffer.putLong(block.offset, FREE_STAMP);
+            SizeClass sizeClass = sizeClass(size);
+            if (sizeClass.freeCount == sizeClass.freeBlocks.length) {
+                sizeClass.freeBlocks = Arrays.copyOf(sizeClass.freeBlocks, sizeClass.freeCount * 2);
+            }
+            sizeClass.freeBlocks[sizeClass.freeCount++] = address(block.slabIndex, block.offset);
+            slab.liveBlocks--;
+            allocatedBytes -= size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the slabs that have no stored values, so that their direct memory can be reclaimed.
+     */
+    public void releaseEmptySlabs() {
+        lock.lock();
+        try {
+            for (int i = 0; i < slabs.length; i++) {
+                if (slabs[i] != null && slabs[i].liveBlocks == 0) {
+                    releaseSlab(i);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of bytes in the blocks of the stored values.
+     *
+     * @return allocated bytes
+     */
+    public long getAllocatedBytes() {
+        lock.lock();
+        try {
+            return allocatedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of bytes of direct memory reserved for the slabs.
+     *
+     * @return reserved bytes
+     */
+    public long getReservedBytes() {
+        lock.lock();
+        try {
+            return reservedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Allocates a block from the free list of its size, the current slab of its size, an empty slab or a new slab,
+     * in that order.
+     *
+     * @return the address of the block, or -1 if a new slab would exceed the maximum reserved bytes
+     */
+    private long allocate(int size) {
+        SizeClass sizeClass = sizeClass(size);
+        if (sizeClass.freeCount > 0) {
+            return sizeClass.freeBlocks[--sizeClass.freeCount];
+        }
+        if (sizeClass.slab < 0 || sizeClass.carvedOffset + size > slabs[sizeClass.slab].buffer.capacity()) {
+            int slab = takeEmptySlab(size);
+            if (slab < 0) {
+                slab = addSlab(Math.max(size, SLAB_SIZE));
+                if (slab < 0) {
+                    return -1;
+                }
+            }
+            slabs[slab].sizeClass = sizeClass;
+            sizeClass.slab = slab;
+            sizeClass.carvedOffset = 0;
+        }
+        long address = address(sizeClass.slab, sizeClass.carvedOffset);
+        sizeClass.carvedOffset += size;
+        return address;
+    }
+
+    /**
+     * Detaches the smallest empty slab that can hold a block of the size from its size class.
+     *
+     * @return index of the slab, or -1 if there is none
+     */
+    private int takeEmptySlab(int size) {
+        int emptySlab = -1;
+        for (int i = 0; i < slabs.length; i++) {
+            Slab slab = slabs[i];
+            if (slab != null && slab.liveBlocks == 0 && slab.buffer.capacity() >= size
+                    && (emptySlab < 0 || slab.buffer.capacity() < slabs[emptySlab].buffer.capacity())) {
+                emptySlab = i;
+            }
+        }
+        if (emptySlab >= 0) {
+            detachSlab(emptySlab);
+        }
+        return emptySlab;
+    }
+
+    private int addSlab(int capacity) {
+        if (reservedBytes + capacity > maxReservedBytes) {
+            releaseEmptySlabs();
+            if (reservedBytes + capacity > maxReservedBytes) {
+                return -1;
+            }
+        }
+        int index = 0;
+        while (index < slabs.length && slabs[index] != null) {
+            index++;
+        }
+        if (index == slabs.length) {
+            slabs = Arrays.copyOf(slabs, slabs.length + 1);
+        }
+        slabs[index] = new Slab(ByteBuffer.allocateDirect(capacity));
+        reservedBytes += capacity;
+        return index;
+    }
+
+    private void releaseSlab(int index) {
+        detachSlab(index);
+        reservedBytes -= slabs[index].buffer.capacity();
+        // The buffer is reclaimed once the handles of its freed blocks are no longer reachable.
+        slabs[index] = null;
+    }
+
+    /**
+     * Removes the free blocks of an empty slab from its size class, so that the slab can be carved for another size.
+     */
+    private void detachSlab(int index) {
+        SizeClass sizeClass = slabs[index].sizeClass;
+        if (sizeClass == null) {
+            return;
+        }
+        int freeCount = 0;
+        for (int i = 0; i < sizeClass.freeCount; i++) {
+            if (slabIndex(sizeClass.freeBlocks[i]) != index) {
+                sizeClass.freeBlocks[freeCount++] = sizeClass.freeBlocks[i];
+            }
+        }
+        sizeClass.freeCount = freeCount;
+        if (sizeClass.slab == index) {
+            sizeClass.slab = -1;
+        }
+        slabs[index].sizeClass = null;
+        slabs[index].epoch++;
+    }
+
+    private SizeClass sizeClass(int size) {
+        int index = Integer.numberOfTrailingZeros(size) - MIN_BLOCK_SIZE_SHIFT;
+        SizeClass sizeClass = sizeClasses[index];
+        if (sizeClass == null) {
+            sizeClass = new SizeClass();
+            sizeClasses[index] = sizeClass;
+        }
+        return sizeClass;
+    }
+
+    static int blockSize(int length) {
+        int size = length + HEADER_SIZE;
+        if (size < 0 || size > 1 << (Integer.SIZE - 2)) {
+            throw new IllegalArgumentException("value of " + length + " bytes is too large to be stored off-heap");
+        }
+        return Math.max(1 << MIN_BLOCK_SIZE_SHIFT, Integer.highestOneBit(size - 1) << 1);
+    }
+
+    private static long address(int slab, int offset) {
+        return ((long) slab << Integer.SIZE) | offset;
+    }
+
+    private static int slabIndex(long address) {
+        return (int) (address >>> Integer.SIZE);
+    }
+
+    private static int slabOffset(long address) {
+        return (int) address;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A striped, lossy buffer of the nodes read from the cache. Readers record an access with a single CAS on the stripe
+ * selected by their thread and never block; if the stripe is full the access is simply dropped, which is acceptable
+ * because the eviction policies only need an approximate access history. The recorded accesses are replayed on the
+ * policy in batches by the thread that holds the maintenance lock.
+ *
+ * @since 2.0.0
+ */
+final class ReadBuffer {
+
+    static final int SUCCESS = 0;
+    static final int FULL = 1;
+
+    private static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private final Stripe[] stripes;
+    private final int stripesMask;
+
+    ReadBuffer() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int stripeCount = 1 << -Integer.numberOfLeadingZeros(Math.max(processors, 2) - 1);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripesMask = stripeCount - 1;
+    }
+
+    /**
+     * Records a read of the node.
+     *
+     * @param node node that was read
+     * @return {@link #FULL} if the stripe is full and should be drained, else {@link #SUCCESS}
+     */
+    int offer(Node node) {
+        long threadId = Thread.currentThread().getId();
+        Stripe stripe = stripes[(int) ((threadId * 0x9e3779b97f4a7c15L) >>> 32) & stripesMask];
+        long head = stripe.readCounter;
+        long tail = stripe.writeCounter.get();
+        long size = tail - head;
+        if (size >= STRIPE_SIZE) {
+            return FULL;
+        }
+        if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+            stripe.buffer.lazySet((int) (tail & STRIPE_MASK), node);
+            return size + 1 >= STRIPE_SIZE ? FULL : SUCCESS;
+        }
+        // Lost the race to another reader of the stripe, hence drop the access.
+        return SUCCESS;
+    }
+
+    /**
+     * Passes all the recorded reads to the consumer. Must be called only by the thread holding the maintenance lock.
+     *
+     * @param consumer consumer of the nodes that were read
+     */
+    void drainTo(Consumer<Node> consumer) {
+        for (Stripe stripe : stripes) {
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & STRIPE_MASK);
+                Node node = stripe.buffer.get(index);
+                if (node == null) {
+                    // The slot is claimed but not yet published.
+                    break;
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(node);
+                head++;
+            }
+            stripe.readCounter = head;
+        }
+    }
+
+    /**
+     * A fixed size ring buffer.
+     */
+    private static final class Stripe {
+        private final AtomicReferenceArray<Node> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+    }
+}
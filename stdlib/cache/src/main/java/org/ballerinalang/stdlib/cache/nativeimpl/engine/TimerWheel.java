@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timer wheel, which keeps the nodes that have an expiration time so that expired entries can be
+ * found without scanning the whole cache. Scheduling and descheduling a node is O(1).
+ * <p>
+ * Each level of the wheel is an array of buckets holding a doubly linked list of nodes (using the timer links of
+ * the nodes). The buckets of the levels span roughly a second, a minute, an hour and a day respectively, and the
+ * last level holds everything beyond that. When time advances, the buckets that were passed over are drained:
+ * expired nodes are handed to the expirer and the rest are rescheduled to a lower level bucket.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since 2.0.0
+ */
+final class TimerWheel {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 30, // 1.07s
+            1L << 36, // 1.14m
+            1L << 42, // 1.22h
+            1L << 46, // 19.5h
+            1L << 50, // 13.0d
+            1L << 50 // 13.0d
+    };
+    private static final int[] SHIFTS = {30, 36, 42, 46, 50};
+
+    private final Node[][] wheel;
+    private long nanos;
+
+    TimerWheel(long currentTime) {
+        this.nanos = currentTime;
+        this.wheel = new Node[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = new Node[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                Node sentinel = new Node();
+                sentinel.prevInTimer = sentinel;
+                sentinel.nextInTimer = sentinel;
+                wheel[i][j] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Adds a node with an expiration time to the wheel.
+     *
+     * @param node node to be scheduled
+     */
+    void schedule(Node node) {
+        Node sentinel = findBucket(node.expirationTime);
+        Node last = sentinel.prevInTimer;
+        node.prevInTimer = last;
+        node.nextInTimer = sentinel;
+        last.nextInTimer = node;
+        sentinel.prevInTimer = node;
+    }
+
+    /**
+     * Removes a node from the wheel if it is scheduled.
+     *
+     * @param node node to be removed
+     */
+    void deschedule(Node node) {
+        if (node.nextInTimer != null) {
+            node.nextInTimer.prevInTimer = node.prevInTimer;
+            node.prevInTimer.nextInTimer = node.nextInTimer;
+            node.nextInTimer = null;
+            node.prevInTimer = null;
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time and passes the nodes that expired to the expirer.
+     *
+     * @param currentTime current time in nanoseconds
+     * @param expirer     consumer of the expired nodes
+     */
+    void advance(long currentTime, Consumer<Node> expirer) {
+        long previousTime = nanos;
+        nanos = currentTime;
+        for (int i = 0; i < SHIFTS.length; i++) {
+            long previousTicks = previousTime >>> SHIFTS[i];
+            long currentTicks = currentTime >>> SHIFTS[i];
+            if (currentTicks - previousTicks <= 0L) {
+                break;
+            }
+            expire(i, previousTicks, currentTicks - previousTicks, expirer);
+        }
+    }
+
+    /**
+     * Removes all the nodes from the wheel.
+     */
+    void clear() {
+        for (Node[] buckets : wheel) {
+            for (Node sentinel : buckets) {
+                Node node = sentinel.nextInTimer;
+                while (node != sentinel) {
+                    Node next = node.nextInTimer;
+                    node.prevInTimer = null;
+                    node.nextInTimer = null;
+                    node = next;
+                }
+                sentinel.prevInTimer = sentinel;
+                sentinel.nextInTimer = sentinel;
+            }
+        }
+    }
+
+    private void expire(int level, long previousTicks, long delta, Consumer<Node> expirer) {
+        Node[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(delta + 1, buckets.length);
+        int start = (int) (previousTicks & mask);
+        for (int i = start; i < start + steps; i++) {
+            Node sentinel = buckets[i & mask];
+            Node node = sentinel.nextInTimer;
+            sentinel.prevInTimer = sentinel;
+            sentinel.nextInTimer = sentinel;
+            while (node != sentinel) {
+                Node next = node.nextInTimer;
+                node.prevInTimer = null;
+                node.nextInTimer = null;
+                if (node.isExpired(nanos)) {
+                    expirer.accept(node);
+                } else {
+                    schedule(node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    private Node findBucket(long time) {
+        long duration = time - nanos;
+        int lastLevel = wheel.length - 1;
+        for (int i = 0; i < lastLevel; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = time >>> SHIFTS[i];
+                int index = (int) (ticks & (wheel[i].length - 1));
+                return wheel[i][index];
+            }
+        }
+        return wheel[lastLevel][0];
+    }
+}
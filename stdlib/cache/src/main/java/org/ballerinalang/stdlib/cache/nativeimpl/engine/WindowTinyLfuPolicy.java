@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+/**
+ * The Window TinyLFU eviction policy.
+ * <p>
+ * New entries are admitted to a small LRU window (1% of the capacity). Entries leaving the window move to the
+ * probation segment of the main space, which is a segmented LRU whose protected segment takes 80% of the main space.
+ * An entry is promoted to the protected segment when it is accessed while on probation. When the cache is full, the
+ * newest entry on probation (the candidate coming from the window) competes with the least recently used entry on
+ * probation (the victim) and the one with the lower estimated access frequency is evicted. Frequencies are kept in a
+ * {@link FrequencySketch}, so that the history of evicted keys is also taken into account.
+ *
+ * @since 2.0.0
+ */
+final class WindowTinyLfuPolicy implements EvictionPolicy {
+
+    private static final double WINDOW_PERCENTAGE = 0.01;
+    private static final double PROTECTED_PERCENTAGE = 0.80;
+
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private final AccessOrderDeque window = new AccessOrderDeque();
+    private final AccessOrderDeque probation = new AccessOrderDeque();
+    private final AccessOrderDeque protectedDeque = new AccessOrderDeque();
+    private final FrequencySketch sketch;
+
+    private long windowWeight;
+    private long protectedWeight;
+
+    WindowTinyLfuPolicy(long maximumWeight) {
+        this.windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_PERCENTAGE));
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * PROTECTED_PERCENTAGE);
+        this.sketch = new FrequencySketch(maximumWeight);
+    }
+
+    @Override
+    public void onAdd(Node node) {
+        sketch.increment(node.key);
+        node.queueType = Node.WINDOW;
+        window.addLast(node);
+        windowWeight += node.weight;
+        while (windowWeight > windowMaximum && !window.isEmpty()) {
+            Node candidate = window.peekFirst();
+            window.remove(candidate);
+            windowWeight -= candidate.weight;
+            candidate.queueType = Node.PROBATION;
+            probation.addLast(candidate);
+        }
+    }
+
+    @Override
+    public void onAccess(Node node) {
+        sketch.increment(node.key);
+        switch (node.queueType) {
+            case Node.WINDOW:
+                window.moveToBack(node);
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                node.queueType = Node.PROTECTED;
+                protectedDeque.addLast(node);
+                protectedWeight += node.weight;
+                demoteFromProtected();
+                break;
+            case Node.PROTECTED:
+                protectedDeque.moveToBack(node);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onRemove(Node node) {
+        switch (node.queueType) {
+            case Node.WINDOW:
+                window.remove(node);
+                windowWeight -= node.weight;
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                break;
+            case Node.PROTECTED:
+                protectedDeque.remove(node);
+                protectedWeight -= node.weight;
+                break;
+            default:
+                return;
+        }
+        node.queueType = Node.NOT_IN_POLICY;
+    }
+
+    @Override
+    public Node selectVictim() {
+        Node victim = probation.peekFirst();
+        Node candidate = probation.peekLast();
+        if (victim == null) {
+            return protectedDeque.isEmpty() ? window.peekFirst() : protectedDeque.peekFirst();
+        }
+        if (victim == candidate) {
+            return victim;
+        }
+        return sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedDeque.clear();
+        windowWeight = 0;
+        protectedWeight = 0;
+    }
+
+    private void demoteFromProtected() {
+        while (protectedWeight > protectedMaximum && !protectedDeque.isEmpty()) {
+            Node demoted = protectedDeque.peekFirst();
+            protectedDeque.remove(demoted);
+            protectedWeight -= demoted.weight;
+            demoted.queueType = Node.PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.ballerinalang.core.model.values.BBoolean;
 import org.ballerinalang.core.model.values.BError;
 import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BString;
 import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.core.model.values.BValueArray;
@@ -33,6 +34,7 @@ import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
@@ -285,6 +287,108 @@ public class CacheTest {
         BRunUtil.invoke(compileResult, "testCreateCacheWithNegativeDefaultMaxAge");
     }
 
+    @Test(dataProvider = "nativeEvictionPolicies")
+    public void testNativeEvictionPolicyPutAndGet(String policy) {
+        BValue[] args = {new BString(policy), new BString("Hello"), new BString("Ballerina")};
+        BValue[] returns = BRunUtil.invoke(compileResult, "testNativeEvictionPolicyPutAndGet", args);
+        Assert.assertTrue(returns[0] instanceof BString);
+        Assert.assertEquals(returns[0].stringValue(), "Ballerina");
+    }
+
+    @Test(dataProvider = "nativeEvictionPolicies")
+    public void testNativeEvictionPolicyWithCapacity(String policy) {
+        BValue[] args = {new BString(policy)};
+        BValue[] returns = BRunUtil.invoke(compileResult, "testNativeEvictionPolicyWithCapacity", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 10);
+        Assert.assertTrue(((BBoolean) returns[1]).booleanValue());
+    }
+
+    @Test(dataProvider = "nativeEvictionPolicies")
+    public void testNativeEvictionPolicyInvalidate(String policy) {
+        BValue[] args = {new BString(policy)};
+        BValue[] returns = BRunUtil.invoke(compileResult, "testNativeEvictionPolicyInvalidate", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        Assert.assertTrue(returns[1] instanceof BError);
+    }
+
+    @Test(dataProvider = "nativeEvictionPolicies")
+    public void testNativeEvictionPolicyGetExpiredEntry(String policy) {
+        BValue[] args = {new BString(policy)};
+        BValue[] returns = BRunUtil.invoke(compileResult, "testNativeEvictionPolicyGetExpiredEntry", args);
+        Assert.assertTrue(returns[0] instanceof BError);
+    }
+
+    @Test
+    public void testWindowTinyLfuHitCount() {
+        long ballerinaLruHits = countHits("BALLERINA_LRU");
+        long lruHits = countHits("LRU");
+        long tinyLfuHits = countHits("W_TINY_LFU");
+        Assert.assertTrue(tinyLfuHits > lruHits,
+                          "W-TinyLFU hits " + tinyLfuHits + " are not more than LRU hits " + lruHits);
+        Assert.assertTrue(tinyLfuHits > ballerinaLruHits,
+                          "W-TinyLFU hits " + tinyLfuHits + " are not more than Ballerina LRU hits " +
+                                  ballerinaLruHits);
+    }
+
+    @Test
+    public void testOffHeapPutAndGet() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testOffHeapPutAndGet");
+        Assert.assertEquals(returns[0].stringValue(), "John \"Doe\"");
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 3);
+        Assert.assertTrue(((BBoolean) returns[2]).booleanValue());
+    }
+
+    @Test
+    public void testOffHeapMaxSize() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testOffHeapMaxSize");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 10);
+    }
+
+    @Test
+    public void testOffHeapQuotedStrings() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testOffHeapQuotedStrings");
+        Assert.assertEquals(returns[0].stringValue(), "\"quoted\", with, commas");
+        BMap<String, BValue> values = (BMap<String, BValue>) returns[1];
+        Assert.assertEquals(values.get("a,b").stringValue(), "say \"hi\", then \\ leave");
+        Assert.assertEquals(values.get("c").stringValue(), "{\"d\": [1, 2]}");
+    }
+
+    @Test
+    public void testOffHeapEmptyContainers() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testOffHeapEmptyContainers");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testOffHeapNestedValues() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testOffHeapNestedValues");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testOffHeapObjectValue() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testOffHeapObjectValue");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 5);
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = ".*Off-heap storage is supported only with the natively implemented " +
+                    "eviction policies.*")
+    public void testOffHeapWithEvictionPolicyObject() {
+        BRunUtil.invoke(compileResult, "testOffHeapWithEvictionPolicyObject");
+    }
+
+    @DataProvider(name = "nativeEvictionPolicies")
+    public Object[][] nativeEvictionPolicies() {
+        return new Object[][]{{"LRU"}, {"W_TINY_LFU"}};
+    }
+
+    private long countHits(String policy) {
+        BValue[] args = {new BString(policy), new BInteger(100), new BInteger(20000)};
+        BValue[] returns = BRunUtil.invoke(compileResult, "countHits", args);
+        return ((BInteger) returns[0]).intValue();
+    }
+
     private String[] removeEmptyValues(String[] arr) {
         List<String> list = new ArrayList<>(Arrays.asList(arr));
         list.removeAll(Arrays.asList("", null));
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the native cache engine.
+ *
+ * @since 2.0.0
+ */
+public class CacheEngineTest {
+
+    @Test
+    public void testSizeIsBoundedByCapacity() {
+        for (CacheEngine.Policy policy : CacheEngine.Policy.values()) {
+            CacheEngine engine = new CacheEngine(100, policy);
+            for (int i = 0; i < 10000; i++) {
+                engine.put(i, i, 0);
+            }
+            engine.cleanUp();
+            Assert.assertEquals(engine.size(), 100, "Unexpected size for " + policy);
+            Assert.assertEquals(engine.getEvictionCount(), 9900, "Unexpected eviction count for " + policy);
+        }
+    }
+
+    @Test
+    public void testWindowTinyLfuHitRatio() {
+        double lruHitRatio = hitRatio(CacheEngine.Policy.LRU, 500);
+        double tinyLfuHitRatio = hitRatio(CacheEngine.Policy.W_TINY_LFU, 500);
+        Assert.assertTrue(tinyLfuHitRatio > lruHitRatio,
+                          "W-TinyLFU hit ratio " + tinyLfuHitRatio + " is not better than LRU " + lruHitRatio);
+    }
+
+    @Test
+    public void testExpiry() {
+        long[] now = {0};
+        CacheEngine engine = new CacheEngine(100, CacheEngine.Policy.W_TINY_LFU, value -> { }, () -> now[0]);
+        engine.put("A", 1, TimeUnit.SECONDS.toNanos(5));
+        engine.put("B", 2, 0);
+        engine.put("C", 3, TimeUnit.HOURS.toNanos(1));
+
+        now[0] = TimeUnit.SECONDS.toNanos(6);
+        Assert.assertNull(engine.get("A"));
+        Assert.assertFalse(engine.containsKey("A"));
+        Assert.assertEquals(engine.get("C"), 3);
+        engine.cleanUp();
+        Assert.assertEquals(engine.size(), 2);
+
+        now[0] = TimeUnit.HOURS.toNanos(2);
+        engine.cleanUp();
+        Assert.assertEquals(engine.size(), 1);
+        Assert.assertEquals(engine.get("B"), 2);
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        CacheEngine engine = new CacheEngine(10, CacheEngine.Policy.LRU);
+        engine.put("A", 1, 0);
+        engine.put("B", 2, 0);
+        Assert.assertTrue(engine.remove("A"));
+        Assert.assertFalse(engine.remove("A"));
+        Assert.assertEquals(engine.keys().size(), 1);
+        engine.clear();
+        Assert.assertEquals(engine.size(), 0);
+        Assert.assertNull(engine.get("B"));
+    }
+
+    private static double hitRatio(CacheEngine.Policy policy, int capacity) {
+        CacheEngine engine = new CacheEngine(capacity, policy);
+        Random random = new Random(42);
+        int requests = 100000;
+        int hits = 0;
+        for (int i = 0; i < requests; i++) {
+            // A skewed working set interleaved with a stream of one-hit keys.
+            int key = i % 10 < 7 ? (int) (Math.pow(random.nextDouble(), 3) * 5000) : 100000 + random.nextInt(1000000);
+            if (engine.get(key) != null) {
+                hits++;
+            } else {
+                engine.put(key, key, 0);
+            }
+        }
+        return hits / (double) requests;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for the off-heap store of the native cache engine.
+ *
+ * @since 2.0.0
+ */
+public class OffHeapStoreTest {
+
+    @Test
+    public void testStoreAndLoad() {
+        OffHeapStore store = new OffHeapStore(Long.MAX_VALUE);
+        byte[] small = "Ballerina".getBytes(StandardCharsets.UTF_8);
+        byte[] large = new byte[OffHeapStore.SLAB_SIZE + 1];
+        large[large.length - 1] = 1;
+        OffHeapStore.Block smallBlock = store.store(small, "attachment");
+        OffHeapStore.Block largeBlock = store.store(large, null);
+
+        Assert.assertEquals(store.load(smallBlock), small);
+        Assert.assertEquals(store.load(largeBlock), large);
+        Assert.assertEquals(smallBlock.getAttachment(), "attachment");
+        Assert.assertEquals(smallBlock.getSize(), 64);
+        Assert.assertEquals(largeBlock.getSize(), OffHeapStore.SLAB_SIZE * 2);
+        Assert.assertEquals(store.getAllocatedBytes(), 64 + OffHeapStore.SLAB_SIZE * 2);
+    }
+
+    @Test
+    public void testFreedBlockIsReused() {
+        OffHeapStore store = new OffHeapStore(Long.MAX_VALUE);
+        OffHeapStore.Block first = store.store(new byte[100], null);
+        long reservedBytes = store.getReservedBytes();
+        store.free(first);
+        Assert.assertEquals(store.getAllocatedBytes(), 0);
+
+        byte[] value = new byte[110];
+        value[0] = 1;
+        OffHeapStore.Block second = store.store(value, null);
+        OffHeapStore.Block third = store.store(new byte[120], null);
+        Assert.assertEquals(second.getSize(), first.getSize());
+        Assert.assertNull(store.load(first), "A stale handle must not read the value of a reused block");
+        Assert.assertEquals(store.load(second), value);
+        Assert.assertEquals(store.load(third), new byte[120]);
+        Assert.assertEquals(store.getReservedBytes(), reservedBytes);
+    }
+
+    @Test
+    public void testEngineBoundedByBytes() {
+        OffHeapStore store = new OffHeapStore(Long.MAX_VALUE);
+        CacheEngine engine = new CacheEngine(64 * 100, CacheEngine.Policy.W_TINY_LFU,
+                                             block -> store.free((OffHeapStore.Block) block));
+        for (int i = 0; i < 1000; i++) {
+            OffHeapStore.Block block = store.store(new byte[i % 2 == 0 ? 10 : 100], null);
+            engine.put(i, block, block.getSize(), 0);
+        }
+        engine.cleanUp();
+        Assert.assertTrue(store.getAllocatedBytes() <= 64 * 100, "Allocated " + store.getAllocatedBytes());
+        engine.clear();
+        Assert.assertEquals(store.getAllocatedBytes(), 0);
+        store.releaseEmptySlabs();
+        Assert.assertEquals(store.getReservedBytes(), 0);
+    }
+
+    @Test
+    public void testEmptySlabIsReusedForAnotherSize() {
+        OffHeapStore store = new OffHeapStore(OffHeapStore.SLAB_SIZE);
+        OffHeapStore.Block small = store.store(new byte[10], null);
+        Assert.assertNull(store.store(new byte[100], null), "A second slab must not exceed the maximum");
+        store.free(small);
+
+        byte[] value = new byte[100];
+        value[99] = 1;
+        OffHeapStore.Block block = store.store(value, null);
+        Assert.assertNotNull(block);
+        Assert.assertEquals(store.load(block), value);
+        Assert.assertNull(store.load(small), "A stale handle must not read a value of a recarved slab");
+        Assert.assertEquals(store.getReservedBytes(), OffHeapStore.SLAB_SIZE);
+    }
+
+    @Test
+    public void testEmptySlabIsReleasedForLargerValue() {
+        OffHeapStore store = new OffHeapStore(OffHeapStore.SLAB_SIZE * 4);
+        OffHeapStore.Block small = store.store(new byte[10], null);
+        OffHeapStore.Block large = store.store(new byte[OffHeapStore.SLAB_SIZE], null);
+        Assert.assertEquals(store.getReservedBytes(), OffHeapStore.SLAB_SIZE * 3);
+        store.free(large);
+        store.free(small);
+
+        OffHeapStore.Block larger = store.store(new byte[OffHeapStore.SLAB_SIZE * 2], null);
+        Assert.assertNotNull(larger);
+        Assert.assertNull(store.load(large));
+        Assert.assertEquals(store.getReservedBytes(), OffHeapStore.SLAB_SIZE * 4);
+    }
+
+    @Test
+    public void testReservedBytesBoundedWithChangingSizes() {
+        long maxSizeInBytes = OffHeapStore.SLAB_SIZE * 4L;
+        OffHeapStore store = new OffHeapStore(maxSizeInBytes);
+        CacheEngine engine = new CacheEngine(maxSizeInBytes, CacheEngine.Policy.LRU,
+                                             block -> store.free((OffHeapStore.Block) block));
+        for (int i = 0; i < 2000; i++) {
+            byte[] value = new byte[(8 << (i / 100 % 12)) + i % 7];
+            OffHeapStore.Block block = store.store(value, null);
+            while (block == null) {
+                Assert.assertTrue(engine.evict(), "Value of " + value.length + " bytes does not fit an empty cache");
+                block = store.store(value, null);
+            }
+            engine.put(i, block, block.getSize(), 0);
+            Assert.assertTrue(store.getReservedBytes() <= maxSizeInBytes, "Reserved " + store.getReservedBytes());
+        }
+        engine.clear();
+        store.releaseEmptySlabs();
+        Assert.assertEquals(store.getReservedBytes(), 0);
+    }
+}
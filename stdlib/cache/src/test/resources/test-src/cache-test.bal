@@ -293,3 +293,203 @@ function testCreateCacheWithNegativeDefaultMaxAge() {
     };
     cache:Cache c = new(config);
 }
+
+function testNativeEvictionPolicyPutAndGet(string policy, string key, string value) returns any|cache:Error {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: <cache:EvictionPolicy>policy
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put(key, value);
+    return cache.get(key);
+}
+
+function testNativeEvictionPolicyWithCapacity(string policy) returns [int, boolean] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: <cache:EvictionPolicy>policy
+    };
+    cache:Cache cache = new(config);
+    int i = 0;
+    while (i < 100) {
+        checkpanic cache.put(i.toString(), i);
+        i += 1;
+    }
+    return [cache.size(), cache.hasKey("99")];
+}
+
+function testNativeEvictionPolicyInvalidate(string policy) returns [int, any|cache:Error] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: <cache:EvictionPolicy>policy
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.invalidate("A");
+    int size = cache.size();
+    checkpanic cache.invalidateAll();
+    return [size + cache.size(), cache.get("B")];
+}
+
+function testNativeEvictionPolicyGetExpiredEntry(string policy) returns any|cache:Error {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: <cache:EvictionPolicy>policy
+    };
+    cache:Cache cache = new(config);
+    int maxAgeInSeconds = 1;
+    checkpanic cache.put("A", "1", maxAgeInSeconds);
+    runtime:sleep(maxAgeInSeconds * 1000 * 2);
+    return cache.get("A");
+}
+
+int seed = 42;
+
+function nextRandom() returns int {
+    seed = (seed * 1103515245 + 12345) % 2147483648;
+    return seed;
+}
+
+function countHits(string policy, int capacity, int requests) returns int {
+    cache:CacheConfig config = {
+        capacity: capacity,
+        evictionPolicy: policy == "BALLERINA_LRU" ? new cache:LruEvictionPolicy() : <cache:EvictionPolicy>policy
+    };
+    cache:Cache cache = new(config);
+    seed = 42;
+    int hits = 0;
+    int i = 0;
+    while (i < requests) {
+        string key;
+        if (i % 10 < 7) {
+            // A skewed working set
+            key = (nextRandom() % (nextRandom() % 5000 + 1)).toString();
+        } else {
+            // A stream of keys which are accessed only once
+            key = "once-" + i.toString();
+        }
+        if (cache.get(key) is error) {
+            checkpanic cache.put(key, i);
+        } else {
+            hits += 1;
+        }
+        i += 1;
+    }
+    return hits;
+}
+
+type Employee record {|
+    string name;
+    int age;
+    decimal salary;
+|};
+
+function testOffHeapPutAndGet() returns [string, int, boolean] {
+    cache:CacheConfig config = {
+        evictionPolicy: cache:W_TINY_LFU,
+        maxSizeInBytes: 1024 * 1024
+    };
+    cache:Cache cache = new(config);
+    Employee employee = {name: "John \"Doe\"", age: 30, salary: 1000.50};
+    checkpanic cache.put("employee", employee);
+    checkpanic cache.put("scores", [1, 2, 3]);
+    Employee cachedEmployee = <Employee>checkpanic cache.get("employee");
+    int[] scores = <int[]>checkpanic cache.get("scores");
+    return [cachedEmployee.name, scores[2], cachedEmployee == employee];
+}
+
+function testOffHeapMaxSize() returns int {
+    cache:CacheConfig config = {
+        evictionPolicy: cache:LRU,
+        maxSizeInBytes: 64 * 10
+    };
+    cache:Cache cache = new(config);
+    int i = 0;
+    while (i < 100) {
+        checkpanic cache.put(i.toString(), "value");
+        i += 1;
+    }
+    return cache.size();
+}
+
+function testOffHeapQuotedStrings() returns [string, map<string>] {
+    cache:CacheConfig config = {
+        evictionPolicy: cache:LRU,
+        maxSizeInBytes: 1024 * 1024
+    };
+    cache:Cache cache = new(config);
+    map<string> values = {"a,b": "say \"hi\", then \\ leave", "c": "{\"d\": [1, 2]}"};
+    checkpanic cache.put("string", "\"quoted\", with, commas");
+    checkpanic cache.put("map", values);
+    return [<string>checkpanic cache.get("string"), <map<string>>checkpanic cache.get("map")];
+}
+
+type Department record {|
+    string name;
+    Employee[] employees;
+    map<int> codes;
+    [int, string...] tags;
+    byte[] logo;
+    decimal? budget;
+|};
+
+function testOffHeapEmptyContainers() returns boolean {
+    cache:CacheConfig config = {
+        evictionPolicy: cache:W_TINY_LFU,
+        maxSizeInBytes: 1024 * 1024
+    };
+    cache:Cache cache = new(config);
+    Department department = {name: "", employees: [], codes: {}, tags: [0], logo: [], budget: ()};
+    map<anydata> empty = {};
+    int[] emptyArray = [];
+    checkpanic cache.put("department", department);
+    checkpanic cache.put("map", empty);
+    checkpanic cache.put("array", emptyArray);
+    anydata cachedDepartment = <anydata>checkpanic cache.get("department");
+    anydata cachedMap = <anydata>checkpanic cache.get("map");
+    anydata cachedArray = <anydata>checkpanic cache.get("array");
+    return cachedDepartment is Department && cachedDepartment == department && cachedMap is map<anydata> &&
+           cachedMap.length() == 0 && cachedArray is int[] && cachedArray.length() == 0;
+}
+
+function testOffHeapNestedValues() returns boolean {
+    cache:CacheConfig config = {
+        evictionPolicy: cache:LRU,
+        maxSizeInBytes: 1024 * 1024
+    };
+    cache:Cache cache = new(config);
+    Employee employee = {name: "Jane", age: 40, salary: 2500.25};
+    Department department = {name: "R&D", employees: [employee, employee], codes: {a: 1, b: -2},
+                             tags: [1, "x", "y"], logo: [0, 255], budget: 12345.678};
+    checkpanic cache.put("department", department);
+    Department cachedDepartment = <Department>checkpanic cache.get("department");
+    // The cached value is a copy, so changing it does not change the value in the cache.
+    cachedDepartment.employees[0].age = 41;
+    Department cachedAgain = <Department>checkpanic cache.get("department");
+    return cachedAgain.employees[0].age == 40 && cachedAgain == department;
+}
+
+class Counter {
+    int count = 0;
+}
+
+function testOffHeapObjectValue() returns int {
+    cache:CacheConfig config = {
+        evictionPolicy: cache:W_TINY_LFU,
+        maxSizeInBytes: 1024
+    };
+    cache:Cache cache = new(config);
+    Counter counter = new;
+    checkpanic cache.put("counter", counter);
+    counter.count = 5;
+    Counter cachedCounter = <Counter>checkpanic cache.get("counter");
+    return cachedCounter === counter ? cachedCounter.count : -1;
+}
+
+function testOffHeapWithEvictionPolicyObject() {
+    cache:CacheConfig config = {
+        maxSizeInBytes: 1024
+    };
+    cache:Cache cache = new(config);
+}
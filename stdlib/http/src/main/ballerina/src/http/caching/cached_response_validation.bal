@@ -66,7 +66,7 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
         // Forward the received response and replace the stored responses
         validationResponse.requestTime = currentT.time;
         if (req.cacheControl is RequestCacheControl) {
-            cache.put(getCacheKey(httpMethod, path), req.cacheControl, validationResponse);
+            _ = cache.put(getCacheKey(httpMethod, path), req.cacheControl, validationResponse);
         }
         log:printDebug("Received a full response. Storing it in cache and forwarding to the client");
         return validationResponse;
@@ -111,21 +111,22 @@ function handle304Response(Response validationResponse, Response cachedResponse,
 
         if (isAStrongValidator(etag)) {
             // Assuming ETags are the only strong validators
-            Response[] matchingCachedResponses = cache.getAllByETag(getCacheKey(httpMethod, path), etag);
-
-            foreach var resp in matchingCachedResponses {
-                updateResponse(resp, <@untainted> validationResponse);
+            int updatedCount = cache.updateByETag(getCacheKey(httpMethod, path), etag,
+                                                  <@untainted> validationResponse);
+            if (cachedResponse.hasHeader(ETAG) && cachedResponse.getHeader(ETAG) == etag) {
+                updateResponse(cachedResponse, <@untainted> validationResponse);
             }
-            log:printDebug("304 response received, with a strong validator. Response(s) updated");
+            log:printDebug(() => "304 response received, with a strong validator. " + updatedCount.toString() +
+                                 " response(s) updated");
             return cachedResponse;
         } else if (hasAWeakValidator(validationResponse, etag)) {
             // The weak validator should be either an ETag or a last modified date. Precedence given to ETag
-            Response[] matchingCachedResponses = cache.getAllByWeakETag(getCacheKey(httpMethod, path), etag);
-
-            foreach var resp in matchingCachedResponses {
-                updateResponse(resp, validationResponse);
+            int updatedCount = cache.updateByWeakETag(getCacheKey(httpMethod, path), etag, validationResponse);
+            if (cachedResponse.hasHeader(ETAG) && weakValidatorEquals(etag, cachedResponse.getHeader(ETAG))) {
+                updateResponse(cachedResponse, validationResponse);
             }
-            log:printDebug("304 response received, with a weak validator. Response(s) updated");
+            log:printDebug(() => "304 response received, with a weak validator. " + updatedCount.toString() +
+                                 " response(s) updated");
             return cachedResponse;
         }
     }
@@ -135,6 +136,7 @@ function handle304Response(Response validationResponse, Response cachedResponse,
     if (!cachedResponse.hasHeader(ETAG) && !cachedResponse.hasHeader(LAST_MODIFIED) &&
                                                         !validationResponse.hasHeader(LAST_MODIFIED)) {
         log:printDebug("304 response received and stored response do not have validators. Updating the stored response.");
+        _ = cache.updateLatest(getCacheKey(httpMethod, path), validationResponse);
         updateResponse(<@untainted> cachedResponse, validationResponse);
     }
 
@@ -158,3 +160,10 @@ function isAStrongValidator(string etag) returns boolean {
 
     return false;
 }
+
+function weakValidatorEquals(string etag1, string etag2) returns boolean {
+    string validatorPortion1 = etag1.startsWith(WEAK_VALIDATOR_TAG) ? etag1.substring(2, etag1.length()) : etag1;
+    string validatorPortion2 = etag2.startsWith(WEAK_VALIDATOR_TAG) ? etag2.substring(2, etag2.length()) : etag2;
+
+    return validatorPortion1 == validatorPortion2;
+}
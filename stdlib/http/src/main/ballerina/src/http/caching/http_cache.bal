@@ -15,21 +15,27 @@
 // under the License.
 
 import ballerina/cache;
+import ballerina/java;
 import ballerina/log;
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
-# HTTP caching in the HTTP client endpoint.
+# HTTP caching in the HTTP client endpoint. The responses are stored natively in serialized form, and the cache is
+# bounded by the total size of the stored responses.
 #
-# + cache - The underlying cache used for storing HTTP responses
+# + cache - Deprecated, the responses are no longer stored in this cache. Use `getStatistics()` to inspect the
+#           cached responses.
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
 public class HttpCache {
 
+    @deprecated
     public cache:Cache cache;
     public CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
     public boolean isShared = false;
+    // Maximum time a request waits for a concurrent request to the origin server to populate the cache
+    int fetchTimeoutInMillis = 60000;
 
     # Creates the HTTP cache.
     #
@@ -40,10 +46,18 @@ public class HttpCache {
             evictionFactor: cacheConfig.evictionFactor
         };
         self.cache = new cache:Cache(config);
+        initCacheExtern(self, cacheConfig);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
     }
 
+    # Gets the statistics of the cache.
+    #
+    # + return - The number of cache hits, misses and revalidations along with the current size of the cache
+    public function getStatistics() returns CacheStatistics {
+        return getStatisticsExtern(self);
+    }
+
     function isAllowedToCache(Response response) returns boolean {
         if (self.policy == CACHE_CONTROL_AND_VALIDATORS) {
             return response.hasHeader(CACHE_CONTROL) && (response.hasHeader(ETAG) || response.hasHeader(LAST_MODIFIED));
@@ -52,18 +66,27 @@ public class HttpCache {
         return true;
     }
 
-    function put(string key, RequestCacheControl? requestCacheControl, Response inboundResponse) {
+    // Returns whether the response was cached
+    function put(string key, RequestCacheControl? requestCacheControl, Response inboundResponse) returns boolean {
         if (self.isNonCacheableResponse(requestCacheControl, inboundResponse.cacheControl)) {
-            return;
+            return false;
         }
 
         if (self.isCacheableResponse(inboundResponse)) {
             // IMPT: The call to getBinaryPayload() builds the payload from the stream. If this is not done, the stream
             // will be read by the client and the response will be after the first cache hit.
             var binaryPayload = inboundResponse.getBinaryPayload();
+            if (binaryPayload is ClientError) {
+                log:printDebug(() => "Failed to read the payload of the response for: " + key);
+                return false;
+            }
             log:printDebug(() => "Adding new cache entry for: " + key);
-            addEntry(self.cache, key, inboundResponse);
+            if (putExtern(self, key, inboundResponse, <byte[]> binaryPayload)) {
+                return true;
+            }
+            log:printDebug(() => "Response for: " + key + " is larger than the HTTP cache capacity.");
         }
+        return false;
     }
 
     // TODO: Need to consider https://tools.ietf.org/html/rfc7234#section-3.2 as well here
@@ -93,67 +116,47 @@ public class HttpCache {
     }
 
     function hasKey(string key) returns boolean {
-        return self.cache.hasKey(key);
+        return hasKeyExtern(self, key);
     }
 
-    function get(string key) returns Response {
-        Response[] cacheEntry = <Response[]> self.cache.get(key);
-        return cacheEntry[cacheEntry.length() - 1];
+    // Each call creates a new `Response` from the most recently cached response, hence changes to it are not
+    // reflected in the cache
+    function get(string key) returns Response? {
+        return getExtern(self, key);
     }
 
-    function getAll(string key) returns Response[]|() {
-        var cacheEntry = trap <Response[]> self.cache.get(key);
-        if (cacheEntry is Response[]) {
-            return cacheEntry;
-        }
-        return ();
+    // Updates the cached responses with the given strong entity tag using the headers of a 304 response
+    function updateByETag(string key, string etag, Response validationResponse) returns int {
+        return updateByETagExtern(self, key, etag, validationResponse);
     }
 
-    function getAllByETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
-
-        var responses = self.getAll(key);
-        if (responses is Response[]) {
-            cachedResponses = responses;
-        }
-
-        foreach var cachedResp in cachedResponses {
-            if (cachedResp.getHeader(ETAG) == etag && !etag.startsWith(WEAK_VALIDATOR_TAG)) {
-                matchingResponses[i] = cachedResp;
-                i = i + 1;
-            }
-        }
-
-        return matchingResponses;
+    // Updates the cached responses which weakly match the given entity tag using the headers of a 304 response
+    function updateByWeakETag(string key, string etag, Response validationResponse) returns int {
+        return updateByWeakETagExtern(self, key, etag, validationResponse);
     }
 
-    function getAllByWeakETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
-
-        var responses = self.getAll(key);
-        if (responses is Response[]) {
-            cachedResponses = responses;
-        }
+    // Updates the most recently cached response for the given key using the headers of a 304 response
+    function updateLatest(string key, Response validationResponse) returns int {
+        return updateLatestExtern(self, key, validationResponse);
+    }
 
-        foreach var cachedResp in cachedResponses {
-            if (cachedResp.hasHeader(ETAG) && weakValidatorEquals(etag, cachedResp.getHeader(ETAG))) {
-                matchingResponses[i] = cachedResp;
-                i = i + 1;
-            }
+    function remove(string key) {
+        if (removeExtern(self, key)) {
+            log:printDebug(() => "Removed the key: " + key + " from the HTTP cache.");
         }
+    }
 
-        return matchingResponses;
+    // Registers a request to the origin server for the given key. Returns `true` if the caller should send the
+    // request and call `completeFetch()` afterwards. If such a request is already in progress, waits until it is
+    // completed or the fetch timeout elapses, and returns `false`. Returns `false` without waiting if the last
+    // response fetched for the key could not be cached.
+    function joinFetch(string key) returns boolean {
+        return joinFetchExtern(self, key, self.fetchTimeoutInMillis);
     }
 
-    function remove(string key) {
-        cache:Error? result = self.cache.invalidate(key);
-        if (result is cache:Error) {
-            log:printDebug(() => "Failed to remove the key: " + key + " from the HTTP cache.");
-        }
+    // Releases the requests waiting for the response of the given key, stating whether the response was cached
+    function completeFetch(string key, boolean cached) {
+        completeFetchExtern(self, key, cached);
     }
 }
 
@@ -166,26 +169,65 @@ function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
-function addEntry(cache:Cache cache, string key, Response inboundResponse) {
-    if (cache.hasKey(key)) {
-        Response[] existingResponses = <Response[]>cache.get(key);
-        existingResponses.push(inboundResponse);
-    } else {
-        Response[] cachedResponses = [inboundResponse];
-        cache:Error? result = cache.put(key, cachedResponses);
-        if (result is cache:Error) {
-            log:printDebug(() => "Failed to add cached response with the key: " + key + " to the HTTP cache.");
-        }
-    }
-}
-
-function weakValidatorEquals(string etag1, string etag2) returns boolean {
-    string validatorPortion1 = etag1.startsWith(WEAK_VALIDATOR_TAG) ? etag1.substring(2, etag1.length()) : etag1;
-    string validatorPortion2 = etag2.startsWith(WEAK_VALIDATOR_TAG) ? etag2.substring(2, etag2.length()) : etag2;
-
-    return validatorPortion1 == validatorPortion2;
-}
-
 function getCacheKey(string httpMethod, string url) returns string {
     return string `${httpMethod} ${url}`;
 }
+
+function initCacheExtern(HttpCache httpCache, CacheConfig cacheConfig) = @java:Method {
+    name: "initCache",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function putExtern(HttpCache httpCache, string key, Response response, byte[] payload) returns boolean =
+@java:Method {
+    name: "put",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function getExtern(HttpCache httpCache, string key) returns Response? = @java:Method {
+    name: "get",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function hasKeyExtern(HttpCache httpCache, string key) returns boolean = @java:Method {
+    name: "hasKey",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function removeExtern(HttpCache httpCache, string key) returns boolean = @java:Method {
+    name: "remove",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function updateByETagExtern(HttpCache httpCache, string key, string etag, Response validationResponse)
+                            returns int = @java:Method {
+    name: "updateByETag",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function updateByWeakETagExtern(HttpCache httpCache, string key, string etag, Response validationResponse)
+                                returns int = @java:Method {
+    name: "updateByWeakETag",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function updateLatestExtern(HttpCache httpCache, string key, Response validationResponse) returns int =
+@java:Method {
+    name: "updateLatest",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function joinFetchExtern(HttpCache httpCache, string key, int timeoutInMillis) returns boolean = @java:Method {
+    name: "joinFetch",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function completeFetchExtern(HttpCache httpCache, string key, boolean cached) = @java:Method {
+    name: "completeFetch",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
+
+function getStatisticsExtern(HttpCache httpCache) returns CacheStatistics = @java:Method {
+    name: "getStatistics",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache"
+} external;
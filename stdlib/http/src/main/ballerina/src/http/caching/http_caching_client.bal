@@ -14,7 +14,6 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
 import ballerina/log;
 import ballerina/time;
 import ballerina/io;
@@ -50,6 +49,7 @@ public client class HttpCachingClient {
             panic <error> httpSecureClient;
         }
         self.cache = new HttpCache(cacheConfig);
+        self.cache.fetchTimeoutInMillis = config.timeoutInMillis;
     }
 
     # Responses returned for POST requests are not cacheable. Therefore, the requests are simply directed to the
@@ -283,8 +283,20 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
     time:Time currentT = time:currentTime();
     req.parseCacheControlHeader();
 
-    if (cache.hasKey(getCacheKey(httpMethod, path))) {
-        Response cachedResponse = cache.get(getCacheKey(httpMethod, path));
+    string key = getCacheKey(httpMethod, path);
+    boolean isFetching = false;
+    RequestCacheControl? requestCacheControl = req.cacheControl;
+    boolean isNoStoreRequest = requestCacheControl is RequestCacheControl && requestCacheControl.noStore;
+    if (!isNoStoreRequest && !cache.hasKey(key)) {
+        // Concurrent requests which miss the cache wait until the first one of them has populated it
+        isFetching = cache.joinFetch(key);
+    }
+
+    Response? cachedResponse = cache.get(key);
+    if (cachedResponse is Response) {
+        if (isFetching) {
+            cache.completeFetch(key, true);
+        }
 
         log:printDebug(() => "Cached response found for: '" + httpMethod + " " + path + "'");
 
@@ -332,15 +344,37 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
     log:printDebug(() => "Cached response not found for: '" + httpMethod + " " + path + "'");
     log:printDebug(() => "Sending new request to: " + path);
 
+    [Response|ClientError, boolean]|error result = trap sendAndCacheNewRequest(cache, httpClient, req, key, path,
+                                                                             httpMethod, forwardRequest, currentT);
+    if (result is error) {
+        // The fetch is released on every path, as the requests waiting for it would not resume otherwise
+        if (isFetching) {
+            cache.completeFetch(key, false);
+        }
+        panic result;
+    }
+    [Response|ClientError, boolean] [response, cached] = result;
+    if (isFetching) {
+        cache.completeFetch(key, cached);
+    }
+    return response;
+}
+
+// Sends a request to the origin server and caches the response if it is allowed. Returns the response along with
+// whether it was cached.
+function sendAndCacheNewRequest(HttpCache cache, HttpClient httpClient, @tainted Request req, string key, string path,
+                                string httpMethod, boolean forwardRequest, time:Time currentT)
+                                returns @tainted [Response|ClientError, boolean] {
     var response = sendNewRequest(httpClient, req, path, httpMethod, forwardRequest);
+    boolean cached = false;
     if (response is Response) {
         if (cache.isAllowedToCache(response)) {
             response.requestTime = currentT.time;
             response.receivedTime = time:currentTime().time;
-            cache.put(<@untainted> getCacheKey(httpMethod, path), <@untainted> req.cacheControl, <@untainted> response);
+            cached = cache.put(<@untainted> key, <@untainted> req.cacheControl, <@untainted> response);
         }
     }
-    return response;
+    return [response, cached];
 }
 
 // Based on https://tools.ietf.org/html/rfc7234#section-4.4
@@ -348,21 +382,8 @@ function invalidateResponses(HttpCache httpCache, Response inboundResponse, stri
     // TODO: Improve this logic in accordance with the spec
     if (isCacheableStatusCode(inboundResponse.statusCode) &&
                     inboundResponse.statusCode >= 200 && inboundResponse.statusCode < 400) {
-        string getMethodCacheKey = getCacheKey(HTTP_GET, path);
-        if (httpCache.cache.hasKey(getMethodCacheKey)) {
-            cache:Error? result = httpCache.cache.invalidate(getMethodCacheKey);
-            if (result is cache:Error) {
-                log:printDebug(() => "Failed to remove the key: " + getMethodCacheKey + " from the cache.");
-            }
-        }
-
-        string headMethodCacheKey = getCacheKey(HTTP_HEAD, path);
-        if (httpCache.cache.hasKey(headMethodCacheKey)) {
-            cache:Error? result = httpCache.cache.invalidate(headMethodCacheKey);
-            if (result is cache:Error) {
-                log:printDebug(() => "Failed to remove the key: " + headMethodCacheKey + " from the cache.");
-            }
-        }
+        httpCache.remove(getCacheKey(HTTP_GET, path));
+        httpCache.remove(getCacheKey(HTTP_HEAD, path));
     }
 }
 
@@ -29,9 +29,10 @@ public const RFC_7234 = "RFC_7234";
 #
 # + enabled - Specifies whether HTTP caching is enabled. Caching is enabled by default.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
-# + capacity - The capacity of the cache
-# + evictionFactor - The fraction of entries to be removed when the cache is full. The value should be
-#                    between 0 (exclusive) and 1 (inclusive).
+# + capacity - The maximum total size of the cached responses (headers and payloads) in bytes
+# + evictionFactor - The fraction of the capacity to be freed by removing the least recently used responses when the
+#                    cache is full. The value should be between 0 (exclusive) and 1 (inclusive).
+# + offHeap - Specifies whether the payloads of the cached responses are stored outside the Java heap
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
@@ -40,5 +41,21 @@ public type CacheConfig record {|
     boolean isShared = false;
     int capacity = 8388608; // 8MB
     float evictionFactor = 0.2;
+    boolean offHeap = false;
     CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
 |};
+
+# Represents the statistics of an HTTP cache.
+#
+# + hits - The number of requests served with a cached response
+# + misses - The number of requests for which a cached response was not found
+# + revalidations - The number of times the cached responses were revalidated with the origin server
+# + entries - The number of resources with cached responses
+# + size - The total size of the cached responses in bytes
+public type CacheStatistics record {|
+    int hits;
+    int misses;
+    int revalidations;
+    int entries;
+    int size;
+|};
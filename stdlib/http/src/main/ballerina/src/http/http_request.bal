@@ -389,6 +389,27 @@ public class Request {
         }
     }
 
+    # Gets the body parts of the request as a stream, which reads each body part as it arrives instead of decoding all
+    # of them upfront, so that the memory used does not depend on the size of the payload. If the content type is
+    # not a multipart media type, an error is returned.
+    #
+    # + return - A `mime:BodyPartStream` or else an `http:ClientError` if there were any errors in constructing the
+    #            stream from the request
+    public function getBodyPartStream() returns @tainted mime:BodyPartStream|ClientError {
+        var result = self.getEntity();
+        if (result is ClientError) {
+            return result;
+        } else {
+            var bodyPartStream = result.getBodyPartStream();
+            if (bodyPartStream is mime:Error) {
+                string message = "Error occurred while retrieving the body part stream from the request";
+                return GenericClientError(message, bodyPartStream);
+            } else {
+                return bodyPartStream;
+            }
+        }
+    }
+
     # Sets a `json` as the payload.
     #
     # + payload - The `json` payload
@@ -14,7 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/log;
+import ballerina/java;
 import ballerina/time;
 
 # A finite type for modeling the states of the Circuit Breaker. The Circuit Breaker starts in the `CLOSED` state.
@@ -120,8 +120,9 @@ public type CircuitBreakerInferredConfig record {|
 # + config - The configurations of the client endpoint associated with this `CircuitBreaker` instance
 # + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
 # + httpClient - The underlying `HttpActions` instance which will be making the actual network calls
-# + circuitHealth - The circuit health monitor
-# + currentCircuitState - The current state the circuit is in
+# + circuitHealth - The health of the circuit when the `CircuitBreaker` was created. The health is tracked natively
+#                   from then on
+# + currentCircuitState - The state of the circuit as of the last request
 public client class CircuitBreakerClient {
 
     public string url;
@@ -150,6 +151,7 @@ public client class CircuitBreakerClient {
         self.circuitBreakerInferredConfig = circuitBreakerInferredConfig;
         self.httpClient = httpClient;
         self.circuitHealth = circuitHealth;
+        initCircuitHealthExtern(self, circuitBreakerInferredConfig, circuitHealth);
     }
 
     # The POST remote function implementation of the Circuit Breaker. This wraps the `CircuitBreakerClient.post()`
@@ -162,14 +164,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function post(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->post(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -183,14 +185,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function head(string path, RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->head(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -204,14 +206,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function put(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->put(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -226,14 +228,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function execute(string httpVerb, string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->execute(httpVerb, path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -247,14 +249,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function patch(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->patch(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -268,14 +270,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function delete(string path, RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->delete(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -289,14 +291,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function get(string path, RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->get(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -310,14 +312,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function options(string path, RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->options(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -330,14 +332,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function forward(string path, Request request) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceResponse = self.httpClient->forward(path, request);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -353,18 +355,18 @@ public client class CircuitBreakerClient {
     #            fails
     remote function submit(string httpVerb, string path, RequestMessage message) returns HttpFuture|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self);
         } else {
             var serviceFuture = self.httpClient->submit(httpVerb, path, <Request>message);
             if (serviceFuture is HttpFuture) {
                 var serviceResponse = self.httpClient->getResponse(serviceFuture);
-                var result = updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+                var result = updateCircuitHealthAndRespond(serviceResponse, self, cbic);
             } else {
-                updateCircuitHealthFailure(self.circuitHealth, cbic);
+                updateCircuitHealthFailure(self);
             }
             return serviceFuture;
         }
@@ -415,136 +417,59 @@ public client class CircuitBreakerClient {
     # Force the circuit into a closed state in which it will allow requests regardless of the error percentage
     # until the failure threshold exceeds.
     public function forceClose() {
+        forceCloseExtern(self);
         self.currentCircuitState = CB_CLOSED_STATE;
     }
 
     # Force the circuit into a open state in which it will suspend all requests
     # until `resetTimeInMillis` interval exceeds.
     public function forceOpen() {
+        forceOpenExtern(self);
         self.currentCircuitState = CB_OPEN_STATE;
-        self.circuitHealth.lastForcedOpenTime = time:currentTime();
     }
 
     # Provides the `http:CircuitState` of the circuit breaker.
     #
     # + return - The current `http:CircuitState` of the circuit breaker
     public function getCurrentState() returns CircuitState {
-        return self.currentCircuitState;
+        return <CircuitState> getCurrentStateExtern(self);
     }
 }
 
 
-# Updates the circuit state.
+# Updates the circuit state and counts the request in the `RollingWindow`.
 #
-# + circuitHealth - Circuit Breaker health status
-# + currentStateValue - Circuit Breaker current state value
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
+# + circuitBreakerClient - The Circuit Breaker client
 # + return - State of the circuit
-function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentStateValue,
-                            CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns CircuitState {
-    lock {
-        CircuitState currentState = currentStateValue;
-        prepareRollingWindow(circuitHealth, circuitBreakerInferredConfig);
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestTime = time:currentTime();
-        int totalRequestsCount = getTotalRequestsCount(circuitHealth);
-        circuitHealth.totalRequestCount = totalRequestsCount;
-        if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
-            if (currentState == CB_OPEN_STATE) {
-                currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-            } else if (currentState == CB_HALF_OPEN_STATE) {
-                if (!circuitHealth.lastRequestSuccess) {
-                    // If the trial run has failed, trip the circuit again
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                    ;
-                } else {
-                    // If the trial run was successful reset the circuit
-                    currentState = CB_CLOSED_STATE;
-                    log:printInfo(
-                        "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                }
-            } else {
-                float currentFailureRate = getCurrentFailureRatio(circuitHealth);
-
-                if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                    );
-                }
-            }
-        } else {
-            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-        }
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.totalCount += 1;
-        return currentState;
-    }
+function updateCircuitState(CircuitBreakerClient circuitBreakerClient) returns CircuitState {
+    return <CircuitState> updateCircuitStateExtern(circuitBreakerClient);
 }
 
-function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitHealth circuitHealth,
+function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitBreakerClient circuitBreakerClient,
                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns Response|ClientError {
     if (serviceResponse is Response) {
         if (circuitBreakerInferredConfig.statusCodes[serviceResponse.statusCode]) {
-            updateCircuitHealthFailure(circuitHealth, circuitBreakerInferredConfig);
+            updateCircuitHealthFailure(circuitBreakerClient);
         } else {
-            updateCircuitHealthSuccess(circuitHealth, circuitBreakerInferredConfig);
+            updateCircuitHealthSuccess(circuitBreakerClient);
         }
     } else {
-        updateCircuitHealthFailure(circuitHealth, circuitBreakerInferredConfig);
+        updateCircuitHealthFailure(circuitBreakerClient);
     }
     return serviceResponse;
 }
 
-function updateCircuitHealthFailure(CircuitHealth circuitHealth,
-                                    CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        circuitHealth.lastRequestSuccess = false;
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.failureCount += 1;
-        time:Time lastUpdated = time:currentTime();
-        circuitHealth.lastErrorTime = lastUpdated;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+function updateCircuitHealthFailure(CircuitBreakerClient circuitBreakerClient) {
+    recordFailureExtern(circuitBreakerClient);
 }
 
-function updateCircuitHealthSuccess(CircuitHealth circuitHealth,
-                                    CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        time:Time lastUpdated = time:currentTime();
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestSuccess = true;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+function updateCircuitHealthSuccess(CircuitBreakerClient circuitBreakerClient) {
+    recordSuccessExtern(circuitBreakerClient);
 }
 
 // Handles open circuit state.
-function handleOpenCircuit(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns (ClientError) {
-    time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-    int timeDif = time:currentTime().time - effectiveErrorTime.time;
-    int timeRemaining = circuitBreakerInferredConfig.resetTimeInMillis - timeDif;
-    updateRejectedRequestCount(circuitHealth, circuitBreakerInferredConfig);
+function handleOpenCircuit(CircuitBreakerClient circuitBreakerClient) returns (ClientError) {
+    int timeRemaining = recordRejectionExtern(circuitBreakerClient);
     string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
         + timeRemaining.toString() + " milliseconds.";
     return UpstreamServiceUnavailableError(errorMessage);
@@ -560,176 +485,44 @@ function validateCircuitBreakerConfiguration(CircuitBreakerConfig circuitBreaker
     }
 }
 
-# Calculates a failure at a given point.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Current failure ratio
-function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-    int totalCount = 0;
-    int totalFailures = 0;
-
-    foreach var optBucket in circuitHealth.totalBuckets {
-        var bucket = <Bucket>optBucket;
-        totalCount =  totalCount + bucket.failureCount +
-                                        (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-        totalFailures = totalFailures + bucket.failureCount;
-    }
-    float ratio = 0.0;
-    if (totalCount > 0) {
-        ratio = <float> totalFailures / totalCount;
-    }
-    return ratio;
-}
-
-# Calculates the total requests count within a `RollingWindow`.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Total requests count
-function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-    int totalCount = 0;
-
-    foreach var bucket in circuitHealth.totalBuckets {
-        Bucket temp = <Bucket>bucket;
-        totalCount  =  totalCount + temp.totalCount;
-    }
-    return totalCount;
-}
-
-# Calculates the current bucket ID.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - Current bucket id
-function getCurrentBucketId(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns int {
-    int elapsedTime = (time:currentTime().time - circuitHealth.startTime.time) % circuitBreakerInferredConfig.
-        rollingWindow.timeWindowInMillis;
-    int currentBucketId = ((elapsedTime / circuitBreakerInferredConfig.rollingWindow.bucketSizeInMillis) + 1)
-        % circuitBreakerInferredConfig.noOfBuckets;
-    return currentBucketId;
-}
-
-# Updates the rejected requests count.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function updateRejectedRequestCount(CircuitHealth circuitHealth,
-                                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-    updateLastUsedBucketId(currentBucketId, circuitHealth);
-    Bucket bucket = <Bucket>circuitHealth.totalBuckets[currentBucketId];
-    bucket.rejectedCount += 1;
-}
-
-# Resets the bucket values to the default ones.
-#
-# + circuitHealth - - Circuit Breaker health status.
-# + bucketId - - Id of the bucket should reset.
-function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-    circuitHealth.totalBuckets[bucketId] = {};
-}
-
-function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
-    time:Time? lastErrorTime = circuitHealth?.lastErrorTime;
-    time:Time? lastForcedOpenTime = circuitHealth?.lastForcedOpenTime;
-    if (lastErrorTime is time:Time && lastForcedOpenTime is time:Time) {
-     return (lastErrorTime.time > lastForcedOpenTime.time)
-        ? lastErrorTime : lastForcedOpenTime;
-    }
-    //TODO:What to send?
-    return time:currentTime();
-}
-
-# Populates the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentTime = time:currentTime().time;
-    time:Time? lastRequestTime = circuitHealth?.lastRequestTime;
-    //TODO:Get this logic verified
-    int idleTime = 0;
-    if (lastRequestTime is time:Time) {
-        idleTime = currentTime - lastRequestTime.time;
-    }
-    RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-    // If the time duration between two requests greater than timeWindowInMillis values, reset the buckets to default.
-    if (idleTime > rollingWindow.timeWindowInMillis) {
-        reInitializeBuckets(circuitHealth);
-    } else {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-        // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-        // than bucketSizeInMillis means subsequent calls are received time exceeding the rolling window. if we need to
-        // reset the buckets to default.
-        if (currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-            reInitializeBuckets(circuitHealth);
-        // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-        // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-        } else if (currentBucketId < lastUsedBucketId) {
-            int index = currentBucketId;
-            while (index >= 0) {
-                resetBucketStats(circuitHealth, index);
-                index -= 1;
-            }
-            int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-            while (lastIndex > currentBucketId) {
-                resetBucketStats(circuitHealth, lastIndex);
-                lastIndex -= 1;
-            }
-        } else {
-            // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-            // last used bucket needs to be reset without resetting last used bucket stat.
-            while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-                resetBucketStats(circuitHealth, currentBucketId);
-                currentBucketId -= 1;
-            }
-        }
-    }
-}
-
-# Reinitializes the Buckets to the default state.
-#
-# + circuitHealth - Circuit Breaker health status
-function reInitializeBuckets(CircuitHealth circuitHealth) {
-    Bucket?[] bucketArray = [];
-    int bucketIndex = 0;
-    while (bucketIndex < circuitHealth.totalBuckets.length()) {
-        bucketArray[bucketIndex] = {};
-        bucketIndex += 1;
-    }
-    circuitHealth.totalBuckets = bucketArray;
-}
-
-# Updates the `lastUsedBucketId` in `CircuitHealth`.
-#
-# + bucketId - Possition of the currrently used bucket
-# + circuitHealth - Circuit Breaker health status
-function updateLastUsedBucketId(int bucketId, CircuitHealth circuitHealth) {
-    if (bucketId != circuitHealth.lastUsedBucketId) {
-        resetBucketStats(circuitHealth, bucketId);
-        circuitHealth.lastUsedBucketId = bucketId;
-    }
-}
-
-# Switches circuit state from open to half open state when reset time exceeded.
-#
-# + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
-# + circuitHealth - Circuit Breaker health status
-# + currentState - current state of the circuit
-# + return - Calculated state value of the circuit
-function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfig circuitBreakerInferredConfig,
-                                        CircuitHealth circuitHealth, CircuitState currentState) returns CircuitState {
-    CircuitState currentCircuitState = currentState;
-    if (currentState == CB_OPEN_STATE) {
-        time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-        int elapsedTime = time:currentTime().time - effectiveErrorTime.time;
-        if (elapsedTime > circuitBreakerInferredConfig.resetTimeInMillis) {
-            currentCircuitState = CB_HALF_OPEN_STATE;
-            log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
-        }
-    }
-    return currentCircuitState;
-}
+function initCircuitHealthExtern(CircuitBreakerClient circuitBreakerClient,
+                                 CircuitBreakerInferredConfig circuitBreakerInferredConfig,
+                                 CircuitHealth circuitHealth) = @java:Method {
+    name: "initCircuitHealth",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker"
+} external;
+
+function updateCircuitStateExtern(CircuitBreakerClient circuitBreakerClient) returns string = @java:Method {
+    name: "updateCircuitState",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker"
+} external;
+
+function recordSuccessExtern(CircuitBreakerClient circuitBreakerClient) = @java:Method {
+    name: "recordSuccess",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker"
+} external;
+
+function recordFailureExtern(CircuitBreakerClient circuitBreakerClient) = @java:Method {
+    name: "recordFailure",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker"
+} external;
+
+function recordRejectionExtern(CircuitBreakerClient circuitBreakerClient) returns int = @java:Method {
+    name: "recordRejection",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker"
+} external;
+
+function forceOpenExtern(CircuitBreakerClient circuitBreakerClient) = @java:Method {
+    name: "forceOpen",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker"
+} external;
+
+function forceCloseExtern(CircuitBreakerClient circuitBreakerClient) = @java:Method {
+    name: "forceClose",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker"
+} external;
+
+function getCurrentStateExtern(CircuitBreakerClient circuitBreakerClient) returns string = @java:Method {
+    name: "getCurrentState",
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker"
+} external;
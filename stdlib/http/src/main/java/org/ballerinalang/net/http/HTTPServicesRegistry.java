@@ -33,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -135,6 +136,7 @@ public class HTTPServicesRegistry {
             //basePath will get cached after registering service
             sortedServiceURIs.add(basePath);
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapByHost.get(hostName).addBasePath(basePath);
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService, runtime);
         }
@@ -168,17 +170,27 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
+    /**
+     * Find the most specific base path for the given request path among the services of a host. A base path matches
+     * if it equals the request path, ignoring case, or if the request path starts with the base path followed by a
+     * '/'. Among the matching base paths the longest one is chosen, instead of scanning all the base paths, the
+     * prefixes of the request path ending before a '/' are looked up from the longest to the shortest.
+     *
+     * @param requestURIPath    raw path of the request
+     * @param servicesMapHolder services of the host
+     * @return the most specific base path, the default base path if there is a service for it or else null
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath, ServicesMapHolder servicesMapHolder) {
+        Map<String, HttpService> services = servicesMapHolder.servicesByBasePath;
+        String basePath = servicesMapHolder.basePathsByLowerCase.get(requestURIPath.toLowerCase(Locale.ROOT));
+        if (basePath != null) {
+            return basePath;
+        }
+        for (int index = requestURIPath.lastIndexOf('/'); index > 0;
+             index = requestURIPath.lastIndexOf('/', index - 1)) {
+            basePath = requestURIPath.substring(0, index);
+            if (services.containsKey(basePath)) {
+                return basePath;
             }
         }
         if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
@@ -205,11 +217,31 @@ public class HTTPServicesRegistry {
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        // Lower cased base path to the base path, first registered one is kept when base paths differ only by case
+        private Map<String, String> basePathsByLowerCase = new ConcurrentHashMap<>();
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
         }
+
+        private void addBasePath(String basePath) {
+            basePathsByLowerCase.putIfAbsent(basePath.toLowerCase(Locale.ROOT), basePath);
+        }
+
+        private void removeBasePath(String basePath) {
+            String lowerCaseBasePath = basePath.toLowerCase(Locale.ROOT);
+            if (!basePath.equals(basePathsByLowerCase.get(lowerCaseBasePath))) {
+                return;
+            }
+            basePathsByLowerCase.remove(lowerCaseBasePath);
+            for (String serviceURI : sortedServiceURIs) {
+                if (serviceURI.equalsIgnoreCase(basePath)) {
+                    basePathsByLowerCase.put(lowerCaseBasePath, serviceURI);
+                    break;
+                }
+            }
+        }
     }
 
     /**
@@ -239,6 +271,7 @@ public class HTTPServicesRegistry {
                                            basePath));
             }
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapHolder.removeBasePath(basePath);
         }
     }
 }
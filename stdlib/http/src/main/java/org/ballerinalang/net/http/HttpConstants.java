@@ -437,6 +437,13 @@ public class HttpConstants {
     //WebSocket Related constants for WebSocket upgrade
     public static final String NATIVE_DATA_WEBSOCKET_CONNECTION_MANAGER = "NATIVE_DATA_WEBSOCKET_CONNECTION_MANAGER";
 
+    //Circuit breaker related constants
+    public static final String CIRCUIT_HEALTH_TRACKER = "CIRCUIT_HEALTH_TRACKER";
+
+    //Caching client related constants
+    public static final String HTTP_RESPONSE_CACHE = "HTTP_RESPONSE_CACHE";
+    public static final String CACHE_STATISTICS = "CacheStatistics";
+
     public static final int REQUEST_STRUCT_INDEX = 1;
     public static final boolean DIRTY_REQUEST = true;
     public static final String NO_ENTITY_BODY = "NO_ENTITY_BODY";
@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.caching;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A store of HTTP responses shared by the strands of a caching client, which is bounded by the total size of the
+ * cached responses.
+ * <p>
+ * Responses are kept in serialized form, i.e. the status code, the headers and the body bytes, which may be held
+ * outside the Java heap. Multiple responses (variants) can be stored against a single key. When the size limit is
+ * exceeded, the least recently used keys are evicted until the size drops to the fraction of the capacity given by
+ * the eviction factor. Concurrent misses on the same key can be coalesced so that only one of them is sent to the
+ * origin server, while the others wait for the cache to be populated. Keys whose last fetched response could not be
+ * cached are not coalesced, since the waiting callers would have to send their own requests afterwards.
+ *
+ * @since 2.0.0
+ */
+public class HttpResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String ETAG = "etag";
+    private static final String WARNING = "warning";
+    private static final String WEAK_VALIDATOR_TAG = "W/";
+    private static final int MAX_UNCACHEABLE_KEYS = 1024;
+
+    private final long capacity;
+    private final long evictionThreshold;
+    private final boolean offHeap;
+    private final LinkedHashMap<String, List<CachedResponse>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Boolean>> inFlightFetches = new ConcurrentHashMap<>();
+    /**
+     * Keys whose last fetch from the origin server did not result in a cached response.
+     */
+    private final Set<String> uncacheableKeys = ConcurrentHashMap.newKeySet();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder revalidationCount = new LongAdder();
+    private long size;
+
+    /**
+     * Creates a response cache.
+     *
+     * @param capacity       maximum total size of the cached responses in bytes
+     * @param evictionFactor fraction of the capacity to be freed when the cache is full
+     * @param offHeap        whether the response bodies are stored in direct buffers
+     */
+    public HttpResponseCache(long capacity, double evictionFactor, boolean offHeap) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be greater than 0");
+        }
+        if (evictionFactor <= 0 || evictionFactor > 1) {
+            throw new IllegalArgumentException("Cache eviction factor must be between 0 (exclusive) and 1 " +
+                                                       "(inclusive)");
+        }
+        this.capacity = capacity;
+        this.evictionThreshold = (long) (capacity * (1 - evictionFactor));
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * Adds a response to the variants stored against the given key.
+     *
+     * @param key          cache key of the request
+     * @param statusCode   status code of the response
+     * @param headers      headers of the response, which are copied
+     * @param body         body of the response
+     * @param requestTime  time at which the request was sent
+     * @param receivedTime time at which the response was received
+     * @return whether the response was cached
+     */
+    public boolean put(String key, int statusCode, HttpHeaders headers, byte[] body, long requestTime,
+                       long receivedTime) {
+        ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect(body.length) : ByteBuffer.allocate(body.length);
+        buffer.put(body).flip();
+        CachedResponse response = new CachedResponse(statusCode, new DefaultHttpHeaders().add(headers),
+                                                     buffer.asReadOnlyBuffer(), requestTime, receivedTime);
+        if (response.size > capacity) {
+            log.debug("Response of {} bytes for: {} exceeds the cache capacity", response.size, key);
+            return false;
+        }
+        synchronized (entries) {
+            List<CachedResponse> variants = entries.computeIfAbsent(key, k -> new ArrayList<>(1));
+            variants.add(response);
+            size += response.size;
+            if (size > capacity) {
+                evict(key);
+            }
+        }
+        uncacheableKeys.remove(key);
+        return true;
+    }
+
+    /**
+     * Returns the most recently stored response for the given key, counting the lookup as a hit or a miss.
+     *
+     * @param key cache key of the request
+     * @return cached response or {@code null} if there is none
+     */
+    public CachedResponse get(String key) {
+        CachedResponse response = null;
+        synchronized (entries) {
+            List<CachedResponse> variants = entries.get(key);
+            if (variants != null) {
+                response = variants.get(variants.size() - 1);
+            }
+        }
+        if (response == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return response;
+    }
+
+    /**
+     * Returns all the responses stored against the given key without affecting the hit and miss counts.
+     *
+     * @param key cache key of the request
+     * @return cached responses, oldest first
+     */
+    public List<CachedResponse> getAll(String key) {
+        synchronized (entries) {
+            List<CachedResponse> variants = entries.get(key);
+            return variants == null ? Collections.emptyList() : new ArrayList<>(variants);
+        }
+    }
+
+    public boolean hasKey(String key) {
+        synchronized (entries) {
+            return entries.containsKey(key);
+        }
+    }
+
+    /**
+     * Updates the stored responses with the given strong entity tag using the headers of a 304 response.
+     *
+     * @param key               cache key of the request
+     * @param etag              strong entity tag of the validation response
+     * @param validationHeaders headers of the validation response
+     * @return number of responses updated
+     */
+    public int updateByETag(String key, String etag, HttpHeaders validationHeaders) {
+        return update(key, response -> !etag.startsWith(WEAK_VALIDATOR_TAG) &&
+                etag.equals(response.headers.get(ETAG)), validationHeaders);
+    }
+
+    /**
+     * Updates the stored responses which weakly match the given entity tag using the headers of a 304 response.
+     *
+     * @param key               cache key of the request
+     * @param etag              entity tag of the validation response
+     * @param validationHeaders headers of the validation response
+     * @return number of responses updated
+     */
+    public int updateByWeakETag(String key, String etag, HttpHeaders validationHeaders) {
+        return update(key, response -> response.headers.contains(ETAG) &&
+                weakValidatorEquals(etag, response.headers.get(ETAG)), validationHeaders);
+    }
+
+    /**
+     * Updates the most recently stored response for the given key using the headers of a 304 response.
+     *
+     * @param key               cache key of the request
+     * @param validationHeaders headers of the validation response
+     * @return number of responses updated
+     */
+    public int updateLatest(String key, HttpHeaders validationHeaders) {
+        CachedResponse latest;
+        synchronized (entries) {
+            List<CachedResponse> variants = entries.get(key);
+            if (variants == null) {
+                return 0;
+            }
+            latest = variants.get(variants.size() - 1);
+        }
+        return update(key, response -> response == latest, validationHeaders);
+    }
+
+    public boolean remove(String key) {
+        synchronized (entries) {
+            List<CachedResponse> variants = entries.remove(key);
+            if (variants == null) {
+                return false;
+            }
+            removeVariants(variants);
+            return true;
+        }
+    }
+
+    /**
+     * Registers a fetch from the origin server for the given key.
+     *
+     * @param key cache key of the request
+     * @return {@code null} if the caller should fetch the response and then call {@link #completeFetch}, or else the
+     * fetch in progress, which completes with whether the response of the fetching caller has been cached
+     */
+    public CompletableFuture<Boolean> joinFetch(String key) {
+        if (uncacheableKeys.contains(key)) {
+            // The response is not expected to be cached, hence waiting for it would only delay the caller
+            return CompletableFuture.completedFuture(false);
+        }
+        return inFlightFetches.putIfAbsent(key, new CompletableFuture<>());
+    }
+
+    /**
+     * Releases the callers waiting on the fetch registered for the given key.
+     *
+     * @param key    cache key of the request
+     * @param cached whether the fetched response was cached
+     */
+    public void completeFetch(String key, boolean cached) {
+        if (!cached) {
+            if (uncacheableKeys.size() >= MAX_UNCACHEABLE_KEYS) {
+                // Forgetting the keys only means that their next misses are coalesced again
+                uncacheableKeys.clear();
+            }
+            uncacheableKeys.add(key);
+        }
+        CompletableFuture<Boolean> fetch = inFlightFetches.remove(key);
+        if (fetch != null) {
+            fetch.complete(cached);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getRevalidationCount() {
+        return revalidationCount.sum();
+    }
+
+    public long getSize() {
+        synchronized (entries) {
+            return size;
+        }
+    }
+
+    public int getEntryCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // Based on https://tools.ietf.org/html/rfc7234#section-4.3.4
+    private int update(String key, Predicate<CachedResponse> matcher, HttpHeaders validationHeaders) {
+        int updatedCount = 0;
+        synchronized (entries) {
+            List<CachedResponse> variants = entries.get(key);
+            if (variants == null) {
+                return 0;
+            }
+            for (int i = 0; i < variants.size(); i++) {
+                CachedResponse variant = variants.get(i);
+                if (matcher.test(variant)) {
+                    CachedResponse updated = variant.withHeaders(updateHeaders(variant.headers, validationHeaders));
+                    variants.set(i, updated);
+                    size += updated.size - variant.size;
+                    updatedCount++;
+                }
+            }
+            if (size > capacity) {
+                evict(key);
+            }
+        }
+        if (updatedCount > 0) {
+            revalidationCount.increment();
+        }
+        return updatedCount;
+    }
+
+    private static HttpHeaders updateHeaders(HttpHeaders cachedHeaders, HttpHeaders validationHeaders) {
+        HttpHeaders headers = new DefaultHttpHeaders().add(cachedHeaders);
+        // Warnings with 1xx warn codes are deleted while the ones with 2xx warn codes are retained
+        List<String> warnings = headers.getAll(WARNING);
+        headers.remove(WARNING);
+        for (String warning : warnings) {
+            if (warning.contains("214") || warning.contains("299")) {
+                headers.add(WARNING, warning);
+            }
+        }
+        for (String name : validationHeaders.names()) {
+            headers.set(name, validationHeaders.getAll(name));
+        }
+        return headers;
+    }
+
+    private static boolean weakValidatorEquals(String etag1, String etag2) {
+        String validatorPortion1 = etag1.startsWith(WEAK_VALIDATOR_TAG) ? etag1.substring(2) : etag1;
+        String validatorPortion2 = etag2.startsWith(WEAK_VALIDATOR_TAG) ? etag2.substring(2) : etag2;
+        return validatorPortion1.equals(validatorPortion2);
+    }
+
+    // Should be called while holding the lock on the entries. The key being updated is evicted last.
+    private void evict(String currentKey) {
+        Iterator<Map.Entry<String, List<CachedResponse>>> iterator = entries.entrySet().iterator();
+        while (size > evictionThreshold && iterator.hasNext()) {
+            Map.Entry<String, List<CachedResponse>> entry = iterator.next();
+            if (entry.getKey().equals(currentKey)) {
+                continue;
+            }
+            removeVariants(entry.getValue());
+            iterator.remove();
+            log.debug("Evicted the responses for: {} from the HTTP cache", entry.getKey());
+        }
+        if (size > capacity) {
+            // The latest variant of the current key fits in, hence only its older variants are dropped
+            List<CachedResponse> variants = entries.get(currentKey);
+            while (size > capacity && variants.size() > 1) {
+                size -= variants.remove(0).size;
+            }
+        }
+    }
+
+    private void removeVariants(List<CachedResponse> variants) {
+        for (CachedResponse variant : variants) {
+            size -= variant.size;
+        }
+    }
+
+    /**
+     * An immutable HTTP response held in the cache.
+     */
+    public static class CachedResponse {
+
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final ByteBuffer body;
+        private final long requestTime;
+        private final long receivedTime;
+        private final long size;
+
+        private CachedResponse(int statusCode, HttpHeaders headers, ByteBuffer body, long requestTime,
+                               long receivedTime) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+            this.requestTime = requestTime;
+            this.receivedTime = receivedTime;
+            long headersSize = 0;
+            for (Map.Entry<String, String> header : headers) {
+                // Accounts for the separator and the line break of each header
+                headersSize += header.getKey().length() + header.getValue().length() + 4;
+            }
+            this.size = body.capacity() + headersSize;
+        }
+
+        private CachedResponse withHeaders(HttpHeaders headers) {
+            return new CachedResponse(statusCode, headers, body, requestTime, receivedTime);
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * Returns a copy of the headers, which can be modified by the caller.
+         *
+         * @return headers of the response
+         */
+        public HttpHeaders getHeaders() {
+            return new DefaultHttpHeaders().add(headers);
+        }
+
+        /**
+         * Returns a read only view of the body with its own position.
+         *
+         * @return body of the response
+         */
+        public ByteBuffer getBody() {
+            return body.duplicate();
+        }
+
+        public long getRequestTime() {
+            return requestTime;
+        }
+
+        public long getReceivedTime() {
+            return receivedTime;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.BStringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.net.http.resiliency.CircuitHealthTracker;
+
+import static org.ballerinalang.net.http.HttpConstants.CIRCUIT_HEALTH_TRACKER;
+
+/**
+ * Native functions of the circuit breaker client, which keep the health of the circuit in a
+ * {@link CircuitHealthTracker}.
+ *
+ * @since 2.0.0
+ */
+public class ExternCircuitBreaker {
+
+    private static final BString FAILURE_THRESHOLD = BStringUtils.fromString("failureThreshold");
+    private static final BString RESET_TIME_IN_MILLIS = BStringUtils.fromString("resetTimeInMillis");
+    private static final BString ROLLING_WINDOW = BStringUtils.fromString("rollingWindow");
+    private static final BString REQUEST_VOLUME_THRESHOLD = BStringUtils.fromString("requestVolumeThreshold");
+    private static final BString TIME_WINDOW_IN_MILLIS = BStringUtils.fromString("timeWindowInMillis");
+    private static final BString BUCKET_SIZE_IN_MILLIS = BStringUtils.fromString("bucketSizeInMillis");
+    private static final BString START_TIME = BStringUtils.fromString("startTime");
+    private static final BString TIME = BStringUtils.fromString("time");
+
+    private static final BString[] STATES = new BString[CircuitHealthTracker.State.values().length];
+
+    static {
+        for (CircuitHealthTracker.State state : CircuitHealthTracker.State.values()) {
+            STATES[state.ordinal()] = BStringUtils.fromString(state.name());
+        }
+    }
+
+    public static void initCircuitHealth(BObject circuitBreakerClient, BMap<BString, Object> inferredConfig,
+                                         BMap<BString, Object> circuitHealth) {
+        BMap<BString, Object> rollingWindow = (BMap<BString, Object>) inferredConfig.getMapValue(ROLLING_WINDOW);
+        long startTime = circuitHealth.getMapValue(START_TIME).getIntValue(TIME);
+        CircuitHealthTracker tracker = new CircuitHealthTracker(inferredConfig.getFloatValue(FAILURE_THRESHOLD),
+                                                                inferredConfig.getIntValue(RESET_TIME_IN_MILLIS),
+                                                                rollingWindow.getIntValue(REQUEST_VOLUME_THRESHOLD),
+                                                                rollingWindow.getIntValue(TIME_WINDOW_IN_MILLIS),
+                                                                rollingWindow.getIntValue(BUCKET_SIZE_IN_MILLIS),
+                                                                startTime);
+        circuitBreakerClient.addNativeData(CIRCUIT_HEALTH_TRACKER, tracker);
+    }
+
+    public static BString updateCircuitState(BObject circuitBreakerClient) {
+        return STATES[getTracker(circuitBreakerClient).onRequest().ordinal()];
+    }
+
+    public static void recordSuccess(BObject circuitBreakerClient) {
+        getTracker(circuitBreakerClient).onSuccess();
+    }
+
+    public static void recordFailure(BObject circuitBreakerClient) {
+        getTracker(circuitBreakerClient).onFailure();
+    }
+
+    public static long recordRejection(BObject circuitBreakerClient) {
+        return getTracker(circuitBreakerClient).onRejection();
+    }
+
+    public static void forceOpen(BObject circuitBreakerClient) {
+        getTracker(circuitBreakerClient).forceOpen();
+    }
+
+    public static void forceClose(BObject circuitBreakerClient) {
+        getTracker(circuitBreakerClient).forceClose();
+    }
+
+    public static BString getCurrentState(BObject circuitBreakerClient) {
+        return STATES[getTracker(circuitBreakerClient).getState().ordinal()];
+    }
+
+    private static CircuitHealthTracker getTracker(BObject circuitBreakerClient) {
+        return (CircuitHealthTracker) circuitBreakerClient.getNativeData(CIRCUIT_HEALTH_TRACKER);
+    }
+}
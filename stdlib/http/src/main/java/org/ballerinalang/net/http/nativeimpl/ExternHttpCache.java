@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.BStringUtils;
+import io.ballerina.runtime.api.BalEnv;
+import io.ballerina.runtime.api.BalFuture;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.ValueCreatorUtils;
+import org.ballerinalang.net.http.caching.HttpResponseCache;
+import org.ballerinalang.net.http.caching.HttpResponseCache.CachedResponse;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.ballerinalang.net.http.HttpConstants.CACHE_STATISTICS;
+import static org.ballerinalang.net.http.HttpConstants.HTTP_HEADERS;
+import static org.ballerinalang.net.http.HttpConstants.HTTP_RESPONSE_CACHE;
+import static org.ballerinalang.net.http.HttpConstants.RESPONSE_SERVER_FIELD;
+import static org.ballerinalang.net.http.HttpConstants.RESPONSE_STATUS_CODE_FIELD;
+
+/**
+ * Native functions of the HTTP cache, which keep the cached responses in a {@link HttpResponseCache}.
+ *
+ * @since 2.0.0
+ */
+public class ExternHttpCache {
+
+    private static final BString CAPACITY = BStringUtils.fromString("capacity");
+    private static final BString EVICTION_FACTOR = BStringUtils.fromString("evictionFactor");
+    private static final BString OFF_HEAP = BStringUtils.fromString("offHeap");
+    private static final BString REQUEST_TIME = BStringUtils.fromString("requestTime");
+    private static final BString RECEIVED_TIME = BStringUtils.fromString("receivedTime");
+    private static final BString HITS = BStringUtils.fromString("hits");
+    private static final BString MISSES = BStringUtils.fromString("misses");
+    private static final BString REVALIDATIONS = BStringUtils.fromString("revalidations");
+    private static final BString ENTRIES = BStringUtils.fromString("entries");
+    private static final BString SIZE = BStringUtils.fromString("size");
+
+    public static void initCache(BObject httpCache, BMap<BString, Object> cacheConfig) {
+        HttpResponseCache cache = new HttpResponseCache(cacheConfig.getIntValue(CAPACITY),
+                                                        cacheConfig.getFloatValue(EVICTION_FACTOR),
+                                                        cacheConfig.getBooleanValue(OFF_HEAP));
+        httpCache.addNativeData(HTTP_RESPONSE_CACHE, cache);
+    }
+
+    public static boolean put(BObject httpCache, BString key, BObject response, BArray payload) {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        HttpHeaders responseHeaders = (HttpHeaders) response.getNativeData(HTTP_HEADERS);
+        if (responseHeaders != null) {
+            headers.add(responseHeaders);
+        }
+        // The server header is moved to a field of the inbound response, and is moved back when the response is
+        // recreated
+        BString server = response.getStringValue(RESPONSE_SERVER_FIELD);
+        if (server != null && !server.getValue().isEmpty()) {
+            headers.set(HttpHeaderNames.SERVER, server.getValue());
+        }
+        return getCache(httpCache).put(key.getValue(), (int) response.getIntValue(RESPONSE_STATUS_CODE_FIELD),
+                                       headers, payload.getBytes(), response.getIntValue(REQUEST_TIME),
+                                       response.getIntValue(RECEIVED_TIME));
+    }
+
+    public static Object get(BObject httpCache, BString key) {
+        CachedResponse cachedResponse = getCache(httpCache).get(key.getValue());
+        return cachedResponse == null ? null : createResponse(cachedResponse);
+    }
+
+    public static boolean hasKey(BObject httpCache, BString key) {
+        return getCache(httpCache).hasKey(key.getValue());
+    }
+
+    public static boolean remove(BObject httpCache, BString key) {
+        return getCache(httpCache).remove(key.getValue());
+    }
+
+    public static long updateByETag(BObject httpCache, BString key, BString etag, BObject validationResponse) {
+        return getCache(httpCache).updateByETag(key.getValue(), etag.getValue(), getHeaders(validationResponse));
+    }
+
+    public static long updateByWeakETag(BObject httpCache, BString key, BString etag, BObject validationResponse) {
+        return getCache(httpCache).updateByWeakETag(key.getValue(), etag.getValue(),
+                                                    getHeaders(validationResponse));
+    }
+
+    public static long updateLatest(BObject httpCache, BString key, BObject validationResponse) {
+        return getCache(httpCache).updateLatest(key.getValue(), getHeaders(validationResponse));
+    }
+
+    public static Object joinFetch(BalEnv env, BObject httpCache, BString key, long timeoutInMillis) {
+        CompletableFuture<Boolean> fetch = getCache(httpCache).joinFetch(key.getValue());
+        if (fetch == null) {
+            return true;
+        }
+        if (fetch.isDone()) {
+            return false;
+        }
+        BalFuture balFuture = env.markAsync();
+        // The timeout applies to this caller alone, who then sends its own request if the fetch is still in progress
+        fetch.thenApply(cached -> cached)
+                .completeOnTimeout(false, timeoutInMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((cached, throwable) -> balFuture.complete(false));
+        return null;
+    }
+
+    public static void completeFetch(BObject httpCache, BString key, boolean cached) {
+        getCache(httpCache).completeFetch(key.getValue(), cached);
+    }
+
+    public static BMap<BString, Object> getStatistics(BObject httpCache) {
+        HttpResponseCache cache = getCache(httpCache);
+        BMap<BString, Object> statistics = ValueCreatorUtils.createHTTPRecordValue(CACHE_STATISTICS);
+        statistics.put(HITS, cache.getHitCount());
+        statistics.put(MISSES, cache.getMissCount());
+        statistics.put(REVALIDATIONS, cache.getRevalidationCount());
+        statistics.put(ENTRIES, (long) cache.getEntryCount());
+        statistics.put(SIZE, cache.getSize());
+        return statistics;
+    }
+
+    private static BObject createResponse(CachedResponse cachedResponse) {
+        HttpCarbonMessage responseMsg = new HttpCarbonMessage(
+                new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(
+                        cachedResponse.getStatusCode())));
+        HttpHeaders headers = cachedResponse.getHeaders();
+        ByteBuffer body = cachedResponse.getBody();
+        if (body.hasRemaining() && !headers.contains(HttpHeaderNames.CONTENT_LENGTH) &&
+                !headers.contains(HttpHeaderNames.TRANSFER_ENCODING)) {
+            headers.set(HttpHeaderNames.CONTENT_LENGTH, body.remaining());
+        }
+        responseMsg.getHeaders().set(headers);
+        // The cached body is shared by all the responses created from it, without being copied
+        responseMsg.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(body)));
+
+        BObject response = HttpUtil.createResponseStruct(responseMsg);
+        response.set(REQUEST_TIME, cachedResponse.getRequestTime());
+        response.set(RECEIVED_TIME, cachedResponse.getReceivedTime());
+        return response;
+    }
+
+    private static HttpHeaders getHeaders(BObject response) {
+        HttpHeaders headers = (HttpHeaders) response.getNativeData(HTTP_HEADERS);
+        return headers != null ? headers : new DefaultHttpHeaders();
+    }
+
+    private static HttpResponseCache getCache(BObject httpCache) {
+        return (HttpResponseCache) httpCache.getNativeData(HTTP_RESPONSE_CACHE);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the health of a circuit breaker over a rolling window and decides the state of the circuit.
+ * <p>
+ * The rolling window is divided into buckets, each holding striped counters of the requests, failures and
+ * rejections received during its time frame. A bucket slot is reused once the window has rolled past it by
+ * replacing it with a new bucket through a CAS, and buckets which are not within the current window are ignored
+ * when the window is summed. Hence requests update the health of the circuit without taking any locks.
+ *
+ * @since 2.0.0
+ */
+public class CircuitHealthTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitHealthTracker.class);
+
+    /**
+     * States of the circuit, named after the {@code http:CircuitState} values.
+     */
+    public enum State {
+        OPEN, HALF_OPEN, CLOSED
+    }
+
+    private final double failureThreshold;
+    private final long resetTimeInMillis;
+    private final long requestVolumeThreshold;
+    private final long bucketSizeInMillis;
+    private final long startTime;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    private volatile boolean lastRequestSuccess;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    /**
+     * Creates a tracker for a circuit breaker, which uses the system clock.
+     */
+    public CircuitHealthTracker(double failureThreshold, long resetTimeInMillis, long requestVolumeThreshold,
+                                long timeWindowInMillis, long bucketSizeInMillis, long startTime) {
+        this(failureThreshold, resetTimeInMillis, requestVolumeThreshold, timeWindowInMillis, bucketSizeInMillis,
+             startTime, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a tracker for a circuit breaker.
+     *
+     * @param failureThreshold       ratio of failed requests in the rolling window at which the circuit trips
+     * @param resetTimeInMillis      time to wait after the last error before sending a trial request
+     * @param requestVolumeThreshold minimum number of requests in the rolling window to trip the circuit
+     * @param timeWindowInMillis     time period of the rolling window
+     * @param bucketSizeInMillis     time period of a bucket of the rolling window
+     * @param startTime              start time of the circuit in milliseconds
+     * @param clock                  source of the current time in milliseconds
+     */
+    public CircuitHealthTracker(double failureThreshold, long resetTimeInMillis, long requestVolumeThreshold,
+                                long timeWindowInMillis, long bucketSizeInMillis, long startTime,
+                                LongSupplier clock) {
+        if (bucketSizeInMillis <= 0 || timeWindowInMillis < bucketSizeInMillis) {
+            throw new IllegalArgumentException("Circuit breaker 'timeWindowInMillis' value should be greater than " +
+                                                       "the 'bucketSizeInMillis' value.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.resetTimeInMillis = resetTimeInMillis;
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.bucketSizeInMillis = bucketSizeInMillis;
+        this.startTime = startTime;
+        this.clock = clock;
+        this.buckets = new AtomicReferenceArray<>((int) (timeWindowInMillis / bucketSizeInMillis));
+        this.lastErrorTime = startTime;
+        this.lastForcedOpenTime = startTime;
+    }
+
+    /**
+     * Counts a new request and returns the state of the circuit for it. The circuit trips when the failure ratio
+     * of the rolling window exceeds the threshold, goes to the half open state once the reset time has elapsed
+     * after the last error and is closed or tripped again based on the outcome of the trial request.
+     *
+     * @return state of the circuit for the request
+     */
+    public State onRequest() {
+        long now = clock.getAsLong();
+        long bucketId = getBucketId(now);
+        Bucket bucket = getBucket(bucketId);
+
+        long totalCount = 0;
+        long failureCount = 0;
+        long rejectedCount = 0;
+        long oldestBucketId = bucketId - buckets.length() + 1;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket windowBucket = buckets.get(i);
+            if (windowBucket != null && windowBucket.id >= oldestBucketId && windowBucket.id <= bucketId) {
+                // A request is counted before its outcome, hence the outcomes are read first so that concurrent
+                // requests can not make the failure ratio appear higher than it is
+                failureCount += windowBucket.failureCount.sum();
+                rejectedCount += windowBucket.rejectedCount.sum();
+                totalCount += windowBucket.totalCount.sum();
+            }
+        }
+
+        State currentState = state.get();
+        State nextState = currentState;
+        if (totalCount >= requestVolumeThreshold) {
+            switch (currentState) {
+                case OPEN:
+                    nextState = isResetTimeElapsed(now) ? State.HALF_OPEN : State.OPEN;
+                    break;
+                case HALF_OPEN:
+                    // The previous request was the trial run
+                    nextState = lastRequestSuccess ? State.CLOSED : State.OPEN;
+                    break;
+                default:
+                    long completedCount = totalCount - rejectedCount;
+                    double failureRatio = completedCount > 0 ? (double) failureCount / completedCount : 0;
+                    nextState = failureRatio > failureThreshold ? State.OPEN : State.CLOSED;
+                    break;
+            }
+        } else if (currentState == State.OPEN && isResetTimeElapsed(now)) {
+            nextState = State.HALF_OPEN;
+        }
+
+        if (nextState != currentState) {
+            if (state.compareAndSet(currentState, nextState)) {
+                logTransition(currentState, nextState);
+            } else {
+                // Another request has already moved the circuit, go along with it
+                nextState = state.get();
+            }
+        }
+        bucket.totalCount.increment();
+        return nextState;
+    }
+
+    /**
+     * Records a successful response for a request.
+     */
+    public void onSuccess() {
+        lastRequestSuccess = true;
+    }
+
+    /**
+     * Records a failed request.
+     */
+    public void onFailure() {
+        long now = clock.getAsLong();
+        lastRequestSuccess = false;
+        getBucket(getBucketId(now)).failureCount.increment();
+        lastErrorTime = now;
+    }
+
+    /**
+     * Records a request rejected while the circuit is open.
+     *
+     * @return time in milliseconds until the circuit goes to the half open state
+     */
+    public long onRejection() {
+        long now = clock.getAsLong();
+        getBucket(getBucketId(now)).rejectedCount.increment();
+        return resetTimeInMillis - (now - getEffectiveErrorTime());
+    }
+
+    /**
+     * Forces the circuit into the open state.
+     */
+    public void forceOpen() {
+        lastForcedOpenTime = clock.getAsLong();
+        state.set(State.OPEN);
+    }
+
+    /**
+     * Forces the circuit into the closed state.
+     */
+    public void forceClose() {
+        state.set(State.CLOSED);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private long getBucketId(long now) {
+        return Math.max(now - startTime, 0) / bucketSizeInMillis;
+    }
+
+    private Bucket getBucket(long bucketId) {
+        int index = (int) (bucketId % buckets.length());
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.id < bucketId) {
+            Bucket newBucket = new Bucket(bucketId);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+            bucket = buckets.get(index);
+        }
+        return bucket;
+    }
+
+    private boolean isResetTimeElapsed(long now) {
+        return now - getEffectiveErrorTime() > resetTimeInMillis;
+    }
+
+    private long getEffectiveErrorTime() {
+        return Math.max(lastErrorTime, lastForcedOpenTime);
+    }
+
+    private static void logTransition(State from, State to) {
+        if (from == State.HALF_OPEN) {
+            if (to == State.OPEN) {
+                log.info("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
+            } else {
+                log.info("CircuitBreaker trial run was successful. Circuit switched from HALF_OPEN to CLOSE state.");
+            }
+        } else if (from == State.OPEN) {
+            log.info("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
+        } else {
+            log.info("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
+        }
+    }
+
+    /**
+     * Counters of a discrete sub-part of the rolling window.
+     */
+    private static class Bucket {
+
+        private final long id;
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+
+        private Bucket(long id) {
+            this.id = id;
+        }
+    }
+}
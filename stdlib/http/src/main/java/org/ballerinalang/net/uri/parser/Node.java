@@ -22,7 +22,8 @@ import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpResourceArguments;
 import org.ballerinalang.net.uri.URITemplateException;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,7 +37,15 @@ public abstract class Node<DataType, InboundMsgType> {
 
     protected String token;
     DataElement<DataType, InboundMsgType> dataElement;
-    List<Node<DataType, InboundMsgType>> childNodesList = new LinkedList<>();
+    List<Node<DataType, InboundMsgType>> childNodesList = new ArrayList<>();
+
+    // Literal children are also indexed by their token, so that the literals matching the next path segment can be
+    // found without going through all the children. Lengths of the indexed tokens are kept in descending order, which
+    // is the order the literals are tried in. Literals ending with a wildcard or spanning a '/' cannot be looked up by
+    // a prefix of the path segment, hence the index is not used for nodes which have such children.
+    private final Map<String, Node<DataType, InboundMsgType>> literalChildren = new HashMap<>();
+    private int[] literalTokenLengths = new int[0];
+    private boolean literalChildrenIndexed = true;
 
     protected Node(DataElement<DataType, InboundMsgType> dataElement, String token) {
         this.dataElement = dataElement;
@@ -55,6 +64,9 @@ public abstract class Node<DataType, InboundMsgType> {
             node = matchingChildNode;
         } else {
             this.childNodesList.add(node);
+            if (node instanceof Literal) {
+                indexLiteralChild(node);
+            }
         }
 
         childNodesList.sort((o1, o2) -> getIntValue(o2) - getIntValue(o1));
@@ -78,6 +90,19 @@ public abstract class Node<DataType, InboundMsgType> {
         String subPath = nextSubPath(subUriFragment);
 
         boolean isFound;
+        if (literalChildrenIndexed) {
+            for (int tokenLength : literalTokenLengths) {
+                if (tokenLength > subPath.length()) {
+                    continue;
+                }
+                Node<DataType, InboundMsgType> childNode = literalChildren.get(
+                        tokenLength == subPath.length() ? subPath : subPath.substring(0, tokenLength));
+                if (childNode != null && childNode.matchAll(subUriFragment, variables, start + matchLength,
+                                                            inboundMsg, dataReturnAgent)) {
+                    return true;
+                }
+            }
+        }
         for (Node<DataType, InboundMsgType> childNode : childNodesList) {
             if (childNode instanceof Literal) {
                 String regex = childNode.getToken();
@@ -94,7 +119,8 @@ public abstract class Node<DataType, InboundMsgType> {
                     }
                     continue;
                 }
-                if (!subPath.contains(regex)) {
+                if (literalChildrenIndexed || !subPath.contains(regex)) {
+                    // Already tried through the index
                     continue;
                 }
                 isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
@@ -113,6 +139,20 @@ public abstract class Node<DataType, InboundMsgType> {
         return false;
     }
 
+    private void indexLiteralChild(Node<DataType, InboundMsgType> childNode) {
+        String childToken = childNode.getToken();
+        if (childToken.equals("*")) {
+            return;
+        }
+        if (childToken.endsWith("*") || childToken.contains("/")) {
+            literalChildrenIndexed = false;
+            return;
+        }
+        literalChildren.put(childToken, childNode);
+        literalTokenLengths = literalChildren.keySet().stream().mapToInt(String::length).distinct()
+                .map(length -> -length).sorted().map(length -> -length).toArray();
+    }
+
     private boolean hasDataElement(DataElement<DataType, InboundMsgType> dataElement) {
         return dataElement != null && dataElement.hasData();
     }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cachingclient;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.ballerinalang.net.http.caching.HttpResponseCache;
+import org.ballerinalang.net.http.caching.HttpResponseCache.CachedResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Test cases for the native store of the HTTP caching client.
+ */
+public class HttpResponseCacheTest {
+
+    private static final String KEY = "GET /hello";
+
+    @Test(description = "Store a response and read it back while counting the hits and misses")
+    public void testPutAndGet() {
+        HttpResponseCache cache = new HttpResponseCache(1024, 0.2, false);
+        Assert.assertNull(cache.get(KEY));
+
+        Assert.assertTrue(cache.put(KEY, 200, headers("etag", "\"1\""), bytes("Hello"), 10, 20));
+        CachedResponse response = cache.get(KEY);
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.getHeaders().get("ETag"), "\"1\"");
+        Assert.assertEquals(response.getRequestTime(), 10);
+        Assert.assertEquals(response.getReceivedTime(), 20);
+        Assert.assertEquals(string(response.getBody()), "Hello");
+        // Each read gets its own view of the body and a copy of the headers
+        Assert.assertEquals(string(response.getBody()), "Hello");
+        response.getHeaders().set("etag", "\"2\"");
+        Assert.assertEquals(cache.get(KEY).getHeaders().get("etag"), "\"1\"");
+
+        Assert.assertEquals(cache.getHitCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getEntryCount(), 1);
+        Assert.assertEquals(cache.getSize(), response.getSize());
+    }
+
+    @Test(description = "Store the response bodies outside the Java heap")
+    public void testOffHeapBody() {
+        HttpResponseCache cache = new HttpResponseCache(1024, 0.2, true);
+        cache.put(KEY, 200, new DefaultHttpHeaders(), bytes("Hello"), 0, 0);
+        ByteBuffer body = cache.get(KEY).getBody();
+        Assert.assertTrue(body.isDirect());
+        Assert.assertTrue(body.isReadOnly());
+        Assert.assertEquals(string(body), "Hello");
+    }
+
+    @Test(description = "Evict the least recently used responses once the total size exceeds the capacity")
+    public void testEviction() {
+        byte[] body = new byte[300];
+        HttpResponseCache cache = new HttpResponseCache(1000, 0.4, false);
+        cache.put("GET /a", 200, new DefaultHttpHeaders(), body, 0, 0);
+        cache.put("GET /b", 200, new DefaultHttpHeaders(), body, 0, 0);
+        cache.put("GET /c", 200, new DefaultHttpHeaders(), body, 0, 0);
+        Assert.assertNotNull(cache.get("GET /a"));
+
+        cache.put("GET /d", 200, new DefaultHttpHeaders(), body, 0, 0);
+        Assert.assertTrue(cache.hasKey("GET /a"));
+        Assert.assertFalse(cache.hasKey("GET /b"));
+        Assert.assertFalse(cache.hasKey("GET /c"));
+        Assert.assertTrue(cache.hasKey("GET /d"));
+        Assert.assertEquals(cache.getSize(), 600);
+
+        // Responses larger than the capacity are not cached
+        Assert.assertFalse(cache.put("GET /e", 200, new DefaultHttpHeaders(), new byte[1001], 0, 0));
+        Assert.assertFalse(cache.hasKey("GET /e"));
+        Assert.assertEquals(cache.getSize(), 600);
+
+        Assert.assertTrue(cache.remove("GET /a"));
+        Assert.assertFalse(cache.remove("GET /a"));
+        Assert.assertEquals(cache.getSize(), 300);
+    }
+
+    @Test(description = "Drop the older variants of a key when it does not fit in the cache along with them")
+    public void testVariantEviction() {
+        HttpResponseCache cache = new HttpResponseCache(1000, 0.2, false);
+        cache.put(KEY, 200, new DefaultHttpHeaders(), new byte[400], 0, 0);
+        cache.put(KEY, 200, new DefaultHttpHeaders(), new byte[400], 0, 0);
+        cache.put(KEY, 200, new DefaultHttpHeaders(), bytes("latest"), 0, 0);
+        Assert.assertEquals(cache.getAll(KEY).size(), 3);
+
+        cache.put(KEY, 200, new DefaultHttpHeaders(), new byte[700], 0, 0);
+        List<CachedResponse> variants = cache.getAll(KEY);
+        Assert.assertEquals(variants.size(), 2);
+        Assert.assertEquals(string(variants.get(0).getBody()), "latest");
+        Assert.assertEquals(cache.getSize(), 706);
+    }
+
+    @Test(description = "Update the stored responses using the headers of a 304 response")
+    public void testRevalidation() {
+        HttpResponseCache cache = new HttpResponseCache(4096, 0.2, false);
+        HttpHeaders first = headers("etag", "\"1\"");
+        first.add("warning", "110 - \"Response is Stale\"");
+        first.add("warning", "214 - \"Transformation Applied\"");
+        first.add("cache-control", "max-age=60");
+        cache.put(KEY, 200, first, bytes("first"), 0, 0);
+        cache.put(KEY, 200, headers("etag", "W/\"2\""), bytes("second"), 0, 0);
+
+        HttpHeaders validationHeaders = headers("etag", "\"1\"");
+        validationHeaders.add("cache-control", "max-age=120");
+        Assert.assertEquals(cache.updateByETag(KEY, "\"1\"", validationHeaders), 1);
+        HttpHeaders updated = cache.getAll(KEY).get(0).getHeaders();
+        Assert.assertEquals(updated.getAll("warning"), Arrays.asList("214 - \"Transformation Applied\""));
+        Assert.assertEquals(updated.getAll("cache-control"), Arrays.asList("max-age=120"));
+        Assert.assertEquals(string(cache.getAll(KEY).get(0).getBody()), "first");
+
+        Assert.assertEquals(cache.updateByETag(KEY, "W/\"2\"", headers("etag", "W/\"2\"")), 0);
+        Assert.assertEquals(cache.updateByWeakETag(KEY, "\"2\"", headers("age", "5")), 1);
+        Assert.assertEquals(cache.getAll(KEY).get(1).getHeaders().get("age"), "5");
+        Assert.assertEquals(cache.updateLatest(KEY, headers("age", "10")), 1);
+        Assert.assertEquals(cache.get(KEY).getHeaders().get("age"), "10");
+        Assert.assertEquals(cache.updateLatest("GET /missing", headers("age", "10")), 0);
+
+        Assert.assertEquals(cache.getRevalidationCount(), 3);
+        long expectedSize = 0;
+        for (CachedResponse variant : cache.getAll(KEY)) {
+            expectedSize += variant.getSize();
+        }
+        Assert.assertEquals(cache.getSize(), expectedSize);
+    }
+
+    @Test(description = "Coalesce concurrent fetches for the same key")
+    public void testFetchCoalescing() {
+        HttpResponseCache cache = new HttpResponseCache(1024, 0.2, false);
+        Assert.assertNull(cache.joinFetch(KEY));
+        Assert.assertNull(cache.joinFetch("GET /other"));
+        CompletableFuture<Boolean> fetch = cache.joinFetch(KEY);
+        Assert.assertNotNull(fetch);
+        Assert.assertSame(cache.joinFetch(KEY), fetch);
+        Assert.assertFalse(fetch.isDone());
+
+        cache.completeFetch(KEY, true);
+        Assert.assertTrue(fetch.join());
+        Assert.assertNull(cache.joinFetch(KEY));
+    }
+
+    @Test(description = "Do not coalesce fetches for a key whose last response could not be cached")
+    public void testFetchCoalescingOfUncacheableKey() {
+        HttpResponseCache cache = new HttpResponseCache(1024, 0.2, false);
+        Assert.assertNull(cache.joinFetch(KEY));
+        CompletableFuture<Boolean> fetch = cache.joinFetch(KEY);
+        cache.completeFetch(KEY, false);
+        Assert.assertFalse(fetch.join());
+
+        // Concurrent misses are not made to wait, as they would send their own requests afterwards anyway
+        CompletableFuture<Boolean> uncacheableFetch = cache.joinFetch(KEY);
+        Assert.assertTrue(uncacheableFetch.isDone());
+        Assert.assertFalse(uncacheableFetch.join());
+
+        // Coalescing resumes once a response of the key has been cached
+        cache.put(KEY, 200, new DefaultHttpHeaders(), bytes("Hello"), 0, 0);
+        Assert.assertNull(cache.joinFetch(KEY));
+        Assert.assertNotNull(cache.joinFetch(KEY));
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        headers.add(name, value);
+        return headers;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
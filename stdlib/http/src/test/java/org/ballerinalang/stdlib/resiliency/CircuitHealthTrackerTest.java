@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.CircuitHealthTracker;
+import org.ballerinalang.net.http.resiliency.CircuitHealthTracker.State;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for the rolling window health tracking of the Circuit Breaker.
+ */
+public class CircuitHealthTrackerTest {
+
+    private static final long START_TIME = 1_000_000L;
+
+    @Test(description = "Trip the circuit, reject requests until the reset time and close it after a trial run")
+    public void testTripAndRecover() {
+        AtomicLong clock = new AtomicLong(START_TIME);
+        CircuitHealthTracker tracker = new CircuitHealthTracker(0.3, 1000, 0, 10000, 2000, START_TIME, clock::get);
+
+        sendRequest(tracker, true);
+        sendRequest(tracker, true);
+        clock.addAndGet(10);
+        Assert.assertEquals(sendRequest(tracker, false), State.CLOSED);
+        Assert.assertEquals(tracker.onRequest(), State.OPEN);
+        clock.addAndGet(100);
+        Assert.assertEquals(tracker.onRejection(), 900);
+
+        clock.addAndGet(1000);
+        Assert.assertEquals(sendRequest(tracker, true), State.HALF_OPEN);
+        Assert.assertEquals(sendRequest(tracker, true), State.CLOSED);
+        Assert.assertEquals(tracker.getState(), State.CLOSED);
+    }
+
+    @Test(description = "Trip the circuit again when the trial run fails")
+    public void testTrialRunFailure() {
+        AtomicLong clock = new AtomicLong(START_TIME);
+        CircuitHealthTracker tracker = new CircuitHealthTracker(0.3, 1000, 0, 10000, 2000, START_TIME, clock::get);
+
+        sendRequest(tracker, true);
+        sendRequest(tracker, false);
+        Assert.assertEquals(tracker.onRequest(), State.OPEN);
+        tracker.onRejection();
+
+        clock.addAndGet(1500);
+        Assert.assertEquals(sendRequest(tracker, false), State.HALF_OPEN);
+        Assert.assertEquals(tracker.onRequest(), State.OPEN);
+    }
+
+    @Test(description = "Keep the circuit closed until the request volume threshold is reached")
+    public void testRequestVolumeThreshold() {
+        AtomicLong clock = new AtomicLong(START_TIME);
+        CircuitHealthTracker tracker = new CircuitHealthTracker(0.3, 1000, 5, 10000, 2000, START_TIME, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(sendRequest(tracker, false), State.CLOSED);
+        }
+        Assert.assertEquals(tracker.onRequest(), State.OPEN);
+    }
+
+    @Test(description = "Forget the failures which are no longer in the rolling window")
+    public void testRollingWindow() {
+        AtomicLong clock = new AtomicLong(START_TIME);
+        CircuitHealthTracker tracker = new CircuitHealthTracker(0.5, 1000, 0, 10000, 2000, START_TIME, clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            sendRequest(tracker, true);
+        }
+        clock.addAndGet(2000);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(sendRequest(tracker, false), State.CLOSED);
+        }
+        // The successes are in the oldest bucket of the window
+        clock.addAndGet(7999);
+        Assert.assertEquals(tracker.onRequest(), State.CLOSED);
+        // The successes have rolled out of the window, leaving mostly failures
+        clock.addAndGet(1);
+        Assert.assertEquals(tracker.onRequest(), State.OPEN);
+
+        tracker.forceClose();
+        // Nothing has been received during the last window
+        clock.addAndGet(20000);
+        Assert.assertEquals(sendRequest(tracker, false), State.CLOSED);
+        Assert.assertEquals(tracker.onRequest(), State.OPEN);
+    }
+
+    @Test(description = "Force the circuit open and closed")
+    public void testForceOpenAndClose() {
+        AtomicLong clock = new AtomicLong(START_TIME);
+        CircuitHealthTracker tracker = new CircuitHealthTracker(0.3, 1000, 0, 10000, 2000, START_TIME, clock::get);
+
+        clock.addAndGet(5000);
+        tracker.forceOpen();
+        Assert.assertEquals(tracker.getState(), State.OPEN);
+        clock.addAndGet(500);
+        Assert.assertEquals(tracker.onRequest(), State.OPEN);
+        Assert.assertEquals(tracker.onRejection(), 500);
+
+        tracker.forceClose();
+        Assert.assertEquals(sendRequest(tracker, true), State.CLOSED);
+    }
+
+    @Test(description = "Count requests from concurrent clients without losing updates")
+    public void testConcurrentRequests() throws Exception {
+        int threadCount = 8;
+        int requestsPerThread = 20000;
+        AtomicLong clock = new AtomicLong(START_TIME);
+        CircuitHealthTracker tracker = new CircuitHealthTracker(0.25, 1000, 0, 10000, 2000, START_TIME, clock::get);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    startLatch.await();
+                    boolean closed = true;
+                    for (int j = 1; j <= requestsPerThread; j++) {
+                        // Every fourth request fails, which never takes the failure ratio over the threshold
+                        closed &= sendRequest(tracker, j % 4 != 0) == State.CLOSED;
+                    }
+                    return closed;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(), "Circuit tripped below the failure threshold");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Exactly a quarter of the requests have failed, so one more failure trips the circuit
+        Assert.assertEquals(sendRequest(tracker, false), State.CLOSED);
+        Assert.assertEquals(tracker.onRequest(), State.OPEN);
+    }
+
+    private static State sendRequest(CircuitHealthTracker tracker, boolean success) {
+        State state = tracker.onRequest();
+        if (success) {
+            tracker.onSuccess();
+        } else {
+            tracker.onFailure();
+        }
+        return state;
+    }
+}
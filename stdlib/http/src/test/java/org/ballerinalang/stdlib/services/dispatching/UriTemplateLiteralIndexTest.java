@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.HttpResourceArguments;
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.URITemplateException;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Tests dispatching through the literal children index of the URI template tree.
+ *
+ * @since 2.0.0
+ */
+public class UriTemplateLiteralIndexTest {
+
+    private static final int GROUP_COUNT = 50;
+
+    @Test
+    public void testDispatchToManyResources() throws URITemplateException, UnsupportedEncodingException {
+        URITemplate<String, Object> uriTemplate = createTemplate();
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            addResources(uriTemplate, "/group" + i, "/group" + i + "/items", "/group" + i + "/items/{itemId}",
+                         "/group" + i + "/items/{itemId}/details",
+                         "/group" + i + "/items/{itemId}/reviews/{reviewId}", "/group" + i + "/orders/{orderId}",
+                         "/group" + i + "/orders/{orderId}.json", "/group" + i + "/search/*");
+        }
+
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            String group = "/group" + i;
+            assertDispatch(uriTemplate, group, group);
+            assertDispatch(uriTemplate, group + "/items", group + "/items");
+            assertDispatch(uriTemplate, group + "/items/" + i, group + "/items/{itemId}");
+            assertDispatch(uriTemplate, group + "/items/" + i + "/details", group + "/items/{itemId}/details");
+            assertDispatch(uriTemplate, group + "/items/" + i + "/reviews/" + (i + 1),
+                           group + "/items/{itemId}/reviews/{reviewId}");
+            assertDispatch(uriTemplate, group + "/orders/" + i, group + "/orders/{orderId}");
+            assertDispatch(uriTemplate, group + "/orders/" + i + ".json", group + "/orders/{orderId}.json");
+            assertDispatch(uriTemplate, group + "/search/name/" + i, group + "/search/*");
+        }
+        assertDispatch(uriTemplate, "/group" + GROUP_COUNT + "/items", null);
+        assertDispatch(uriTemplate, "/group0/unknown", null);
+    }
+
+    @Test
+    public void testLiteralPreferredOverExpression() throws URITemplateException, UnsupportedEncodingException {
+        URITemplate<String, Object> uriTemplate = createTemplate();
+        addResources(uriTemplate, "/items/{itemId}", "/items/new", "/items/newest");
+
+        assertDispatch(uriTemplate, "/items/new", "/items/new");
+        assertDispatch(uriTemplate, "/items/newest", "/items/newest");
+        assertDispatch(uriTemplate, "/items/newer", "/items/{itemId}");
+        assertDispatch(uriTemplate, "/items/old", "/items/{itemId}");
+    }
+
+    @Test
+    public void testLiteralPrefixOfPathSegment() throws URITemplateException, UnsupportedEncodingException {
+        URITemplate<String, Object> uriTemplate = createTemplate();
+        addResources(uriTemplate, "/orders/v{version}", "/orders/{orderId}");
+
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/orders/v12", arguments, null), "/orders/v{version}");
+        Assert.assertEquals(arguments.getMap().get("version"), "12");
+
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/orders/12", arguments, null), "/orders/{orderId}");
+        Assert.assertEquals(arguments.getMap().get("orderId"), "12");
+    }
+
+    private static URITemplate<String, Object> createTemplate() throws URITemplateException {
+        return new URITemplate<>(new Literal<>(new ResourceElement(), "/"));
+    }
+
+    private static void addResources(URITemplate<String, Object> uriTemplate, String... templates)
+            throws URITemplateException, UnsupportedEncodingException {
+        for (String template : templates) {
+            uriTemplate.parse(template, template, ResourceElement::new);
+        }
+    }
+
+    private static void assertDispatch(URITemplate<String, Object> uriTemplate, String path, String resource) {
+        Assert.assertEquals(uriTemplate.matches(path, new HttpResourceArguments(), null), resource,
+                            "Invalid resource for " + path);
+    }
+
+    /**
+     * Resource holder which accepts every request.
+     */
+    private static class ResourceElement implements DataElement<String, Object> {
+
+        private String resource;
+
+        @Override
+        public void setData(String resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean hasData() {
+            return resource != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (resource == null) {
+                return false;
+            }
+            dataReturnAgent.setData(resource);
+            return true;
+        }
+    }
+}
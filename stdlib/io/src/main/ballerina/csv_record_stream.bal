@@ -0,0 +1,69 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Iterates through the records of a CSV file, parsing the fields of each CSV record into a record of a given type.
+class CSVRecordIterator {
+
+    # Constructs a CSVRecordIterator from a given ReadableByteChannel.
+    #
+    # + byteChannel - The ReadableByteChannel, which will represent the content in the CSV file
+    # + recordType - The type of the records, which the CSV records should be parsed into
+    # + fieldSeparator - Field separator, which will separate between the fields in the CSV file
+    # + charset - Representation of the encoding characters in the file
+    # + skipHeaders - Number of headers, which should be skipped prior to reading records
+    # + return - An `io:Error` if the iterator could not be initialized
+    function init(ReadableByteChannel byteChannel, typedesc<record {}> recordType, Separator fieldSeparator,
+                  string charset, int skipHeaders) returns Error? {
+        return initCsvRecordIteratorExtern(self, byteChannel, recordType, fieldSeparator, charset, skipHeaders);
+    }
+
+    # Gets the next record from the CSV file.
+    #
+    # + return - The next record, `()` once all the records are read or else an `io:Error`
+    public function next() returns @tainted record {| record {} value; |}|Error? {
+        record {}|Error? result = nextCsvRecordExtern(self);
+        if (result is record {}) {
+            return {value: result};
+        }
+        return result;
+    }
+
+    # Closes the CSV file.
+    #
+    # + return - An `io:Error` if the file could not be closed properly
+    public function close() returns Error? {
+        return closeCsvRecordIteratorExtern(self);
+    }
+}
+
+function initCsvRecordIteratorExtern(CSVRecordIterator iterator, ReadableByteChannel byteChannel,
+                                     typedesc<record {}> recordType, string fieldSeparator, string charset,
+                                     int skipHeaders) returns Error? = @java:Method {
+    name: "initCsvRecordIterator",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvRecordStreamUtils"
+} external;
+
+function nextCsvRecordExtern(CSVRecordIterator iterator) returns @tainted record {}|Error? = @java:Method {
+    name: "next",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvRecordStreamUtils"
+} external;
+
+function closeCsvRecordIteratorExtern(CSVRecordIterator iterator) returns Error? = @java:Method {
+    name: "close",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvRecordStreamUtils"
+} external;
@@ -73,6 +73,29 @@ public function openReadableCsvFile(@untainted string path,
     return new ReadableCSVChannel(charChannel, fieldSeparator, skipHeaders);
 }
 
+# Retrieves a stream of records from a given CSV file. The fields of each CSV record are parsed directly into the fields
+# of the given record type, in the order the fields are defined. `int`, `float`, `decimal`, `string` and `boolean`
+# fields, and optional or nillable fields of these types are supported. The file is closed once all the records are
+# read.
+# ```ballerina
+# stream<record {}, io:Error> employees = check io:openCsvRecordStream(srcFileName, Employee);
+# ```
+#
+# + path - File path, which describes the location of the CSV
+# + recordType - The type of the records, which the CSV records should be parsed into
+# + fieldSeparator - CSV field separator (i.e., comma or tab), which should be a single character
+# + charset - Representation of the encoding characters in the file (i.e., UTF-8, US-ASCII or ISO-8859-1)
+# + skipHeaders - Number of headers, which should be skipped
+# + return - A stream of the records in the CSV or else an `io:Error` if any error occurred
+public function openCsvRecordStream(@untainted string path, typedesc<record {}> recordType,
+                                    @untainted Separator fieldSeparator = ",",
+                                    @untainted string charset = "UTF-8",
+                                    @untainted int skipHeaders = 0) returns @tainted stream<record {}, Error>|Error {
+    ReadableByteChannel byteChannel = check openReadableFile(path);
+    CSVRecordIterator iterator = check new (byteChannel, recordType, fieldSeparator, charset, skipHeaders);
+    return new stream<record {}, Error>(iterator);
+}
+
 # Retrieves a writable CSV channel from a given file path.
 # ```ballerina
 # io:WritableCSVChannel wCsvChannel = check io:openWritableCsvFile(srcFileName);
@@ -55,6 +55,19 @@ public class ReadableByteChannel {
         return base64DecodeExtern(self);
     }
 
+# Copies the remaining content of the `ReadableByteChannel` to the given `WritableByteChannel`. When the
+# `ReadableByteChannel` is a file, the content is transferred by the operating system without being copied
+# through the program.
+# ```ballerina
+# int|io:Error result = readableByteChannel.transferTo(writableByteChannel);
+# ```
+#
+# + destination - The `WritableByteChannel`, which the content should be written to
+# + return - Number of bytes transferred or else an `io:Error`
+    public function transferTo(WritableByteChannel destination) returns int|Error {
+        return byteTransferExtern(self, destination);
+    }
+
 # Closes a given `ReadableByteChannel`.
 # ```ballerina
 # io:Error? err = readableByteChannel.close();
@@ -71,6 +84,12 @@ function byteReadExtern(ReadableByteChannel byteChannel, @untainted int nBytes)
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function byteTransferExtern(ReadableByteChannel srcChannel, WritableByteChannel dstChannel)
+    returns int|Error = @java:Method {
+    name: "transfer",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
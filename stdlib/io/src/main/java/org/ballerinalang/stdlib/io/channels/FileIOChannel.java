@@ -21,6 +21,9 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -28,17 +31,74 @@ import java.nio.channels.WritableByteChannel;
  * <p>
  * Represents the channel to perform I/O operations on file.
  * </p>
+ * <p>
+ * When the channel is memory mapped, the content is read through regions of the file mapped into memory, instead of
+ * copying the content from the OS cache through the channel for each read.
+ * </p>
  */
 public class FileIOChannel extends Channel {
 
+    /**
+     * Maximum size of the region of the file which is mapped at a time.
+     */
+    private static final long MAPPED_REGION_SIZE = 64L * 1024 * 1024;
+
     /**
      * Maintains the file channel implementation.
      */
     private FileChannel channel;
 
+    /**
+     * Specifies whether the content is read through memory mapped regions of the file.
+     */
+    private boolean memoryMapped;
+
+    /**
+     * Region of the file which is currently mapped, null if no region is mapped.
+     */
+    private MappedByteBuffer mappedRegion;
+
+    /**
+     * Position of the file at the end of the mapped region.
+     */
+    private long mappedRegionEnd;
+
     public FileIOChannel(FileChannel channel) {
+        this(channel, false);
+    }
+
+    public FileIOChannel(FileChannel channel, boolean memoryMapped) {
         super(channel);
         this.channel = channel;
+        this.memoryMapped = memoryMapped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+        if (!memoryMapped) {
+            return super.read(buffer);
+        }
+        if (mappedRegion == null || !mappedRegion.hasRemaining()) {
+            long position = getReadPosition();
+            long size = channel.size();
+            if (position >= size) {
+                // Let the file channel report the end of the file
+                releaseMappedRegion(position);
+                return super.read(buffer);
+            }
+            long regionSize = Math.min(MAPPED_REGION_SIZE, size - position);
+            mappedRegion = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+            mappedRegionEnd = position + regionSize;
+        }
+        int count = Math.min(buffer.remaining(), mappedRegion.remaining());
+        int regionLimit = mappedRegion.limit();
+        mappedRegion.limit(mappedRegion.position() + count);
+        buffer.put(mappedRegion);
+        mappedRegion.limit(regionLimit);
+        return count;
     }
 
     /**
@@ -49,12 +109,55 @@ public class FileIOChannel extends Channel {
     @Override
     public void transfer(int position, int count, WritableByteChannel dstChannel) {
         try {
-            channel.transferTo(position, count, dstChannel);
+            long transferred = 0;
+            while (transferred < count) {
+                long transferredCount = channel.transferTo(position + transferred, count - transferred, dstChannel);
+                if (transferredCount <= 0) {
+                    break;
+                }
+                transferred += transferredCount;
+            }
         } catch (IOException e) {
             throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
         }
     }
 
+    /**
+     * Transfers the remaining content of the file to the destination with {@link FileChannel#transferTo}, which lets
+     * the OS copy the content directly from the file to the destination where supported.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(Channel destination) throws IOException {
+        long position = getReadPosition();
+        long size = channel.size();
+        WritableByteChannel dstChannel = destination.getByteChannel();
+        long transferred = 0;
+        while (position + transferred < size) {
+            long count = channel.transferTo(position + transferred, size - position - transferred, dstChannel);
+            if (count <= 0) {
+                break;
+            }
+            transferred += count;
+        }
+        releaseMappedRegion(position + transferred);
+        return transferred;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getInputStream() throws IOException {
+        if (memoryMapped) {
+            // The stream reads through the file channel, hence the rest of the content is read the same way
+            releaseMappedRegion(getReadPosition());
+            memoryMapped = false;
+        }
+        return super.getInputStream();
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
@@ -64,4 +167,23 @@ public class FileIOChannel extends Channel {
     public boolean remaining() {
         return false;
     }
+
+    private long getReadPosition() throws IOException {
+        if (mappedRegion == null) {
+            return channel.position();
+        }
+        return mappedRegionEnd - mappedRegion.remaining();
+    }
+
+    /**
+     * Drops the mapped region and moves the file channel to the given position, so that the next read or transfer
+     * continues from there. The mapping itself is released once the region is garbage collected.
+     *
+     * @param position position of the file the channel should continue from
+     * @throws IOException if the position of the file channel cannot be set
+     */
+    private void releaseMappedRegion(long position) throws IOException {
+        mappedRegion = null;
+        channel.position(position);
+    }
 }
@@ -32,6 +32,10 @@ import java.nio.ByteBuffer;
  * <p>
  * Buffer also focuses on offering the capability to get bytes through multiple channels and place into one.
  * </p>
+ * <p>
+ * The underlying memory is obtained from the {@link BufferPool} and should be given back through {@link #release()}
+ * once the buffer is no longer used.
+ * </p>
  */
 public class Buffer {
 
@@ -40,6 +44,11 @@ public class Buffer {
      */
     private ByteBuffer byteBuffer;
 
+    /**
+     * The pooled buffer which holds the memory of the wrapped buffer, which could be larger than the wrapped buffer.
+     */
+    private ByteBuffer pooledBuffer;
+
     /**
      * <p>
      * This is used for performance reasons, specified the minimum byte count which should be read from channel.
@@ -87,21 +96,48 @@ public class Buffer {
 
     /**
      * <p>
-     * Will allocate a buffer for the specified size.
+     * Will allocate a buffer for the specified size from the pool and release the buffer which was used previously.
      * </p>
      * <p>
      * If the size < minimumSizeOfBuffer the size of the new buffer = minimumSizeOfBuffer.
      * If the size > minimumSizeOfBuffer the size of the new buffer = size.
      * </p>
      *
-     * @param size the size of the buffer.
+     * @param size             the size of the buffer.
+     * @param remainingContent bytes of the previous buffer which should be carried over to the new buffer.
      * @return the newly allocated buffer for the specified size.
      */
-    private ByteBuffer allocate(int size) {
+    private ByteBuffer allocate(int size, ByteBuffer remainingContent) {
         if (size < minimumSizeOfBuffer) {
             size = minimumSizeOfBuffer;
         }
-        return ByteBuffer.allocate(size);
+        ByteBuffer newPooledBuffer = BufferPool.getInstance().acquire(size);
+        newPooledBuffer.limit(size);
+        //The pooled buffer could be larger than requested, hence only a view of the requested size is exposed
+        ByteBuffer newBuffer = newPooledBuffer.slice();
+        if (null != remainingContent && remainingContent.hasRemaining()) {
+            newBuffer.put(remainingContent);
+        }
+        //The remaining content is a view of the previous buffer, hence it is released only after the copy
+        release();
+        pooledBuffer = newPooledBuffer;
+        return newBuffer;
+    }
+
+    /**
+     * <p>
+     * Gives back the memory of the buffer to the pool.
+     * </p>
+     * <p>
+     * Any buffer returned previously by this buffer should not be used after it has been released.
+     * </p>
+     */
+    public void release() {
+        if (null != pooledBuffer) {
+            BufferPool.getInstance().release(pooledBuffer);
+            pooledBuffer = null;
+        }
+        byteBuffer = null;
     }
 
     /**
@@ -161,23 +197,6 @@ public class Buffer {
         }
     }
 
-    /**
-     * <p>
-     * Deep copies a byte buffer with it's underlying array.
-     * </p>
-     *
-     * @param srcBuffer the source buffer which should be copied.
-     * @return the buffer which is duplicated.
-     */
-    private ByteBuffer deepCopy(ByteBuffer srcBuffer) {
-        ByteBuffer dstBuffer = ByteBuffer.allocate(srcBuffer.capacity());
-        srcBuffer.rewind();
-        dstBuffer.put(srcBuffer);
-        srcBuffer.rewind();
-        dstBuffer.flip();
-        return dstBuffer;
-    }
-
     /**
      * <p>
      * Retrieves the required content from the existing buffer.
@@ -192,13 +211,10 @@ public class Buffer {
      */
     private ByteBuffer copyRemainingContent(int numberOfBytesRequested, ByteBuffer content) {
         //If there is excess bytes we need only a sub-set of them
-        int capacity;
         content.limit(numberOfBytesRequested);
         ByteBuffer slicedBuffer = content.slice();
-        capacity = slicedBuffer.capacity();
-        int offset = slicedBuffer.arrayOffset();
-        byteBuffer.position(offset + capacity);
-        return deepCopy(slicedBuffer);
+        byteBuffer.position(byteBuffer.position() + slicedBuffer.capacity());
+        return slicedBuffer;
     }
 
     /**
@@ -219,6 +235,9 @@ public class Buffer {
      * numberOfBytesRequested. If numberOfBytesRequested &lt; minimumSizeOfBuffer the size of the buffer will be
      * minimumSizeOfBuffer
      * </p>
+     * <p>
+     * The returned buffer shares the memory of this buffer, hence its content is only valid until the next call.
+     * </p>
      *
      * @param numberOfBytesRequested number of bytes requested from the buffer.
      * @param channel                byte channel which will perform I/O ops necessary for reading.
@@ -230,18 +249,12 @@ public class Buffer {
         if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
             return copyRemainingContent(numberOfBytesRequested, remainingContent);
         } else {
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
-            }
             if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
-                //If the required amount of bytes > than the current buffer size we enlarge the buffer
-                byteBuffer.clear();
+                //The remaining bytes are moved to the beginning of the buffer
+                byteBuffer.compact();
             } else {
                 //In this case we re-allocate
-                byteBuffer = allocate(numberOfBytesRequested);
-            }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
+                byteBuffer = allocate(numberOfBytesRequested, remainingContent);
             }
             channel.read(byteBuffer);
             return resize(byteBuffer, numberOfBytesRequested);
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * A pool of byte buffers which are reused by the channels instead of allocating a new buffer for each read.
+ * </p>
+ * <p>
+ * Buffers are pooled in size classes of powers of two, a request is served with a buffer of the smallest size class
+ * which fits it. Buffers larger than the largest size class are allocated on demand and are not pooled. The number of
+ * buffers kept for a size class is bounded, so that the pool does not hold on to memory after a burst of reads.
+ * </p>
+ * <p>
+ * A channel holds on to its buffer across reads, which may be performed by different threads as strands are
+ * resumed, hence the pool is shared by all the threads rather than being thread local.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class BufferPool {
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 8;
+    private static final int MAX_SIZE_CLASS_SHIFT = 20;
+    private static final int RETAINED_BYTES_PER_SIZE_CLASS = 4 * 1024 * 1024;
+    private static final int MIN_RETAINED_BUFFERS_PER_SIZE_CLASS = 4;
+
+    private static final BufferPool INSTANCE = new BufferPool();
+
+    private final SizeClass[] sizeClasses = new SizeClass[MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1];
+
+    BufferPool() {
+        for (int i = 0; i < sizeClasses.length; i++) {
+            int bufferSize = 1 << (MIN_SIZE_CLASS_SHIFT + i);
+            int maxRetained = Math.max(RETAINED_BYTES_PER_SIZE_CLASS / bufferSize,
+                                       MIN_RETAINED_BUFFERS_PER_SIZE_CLASS);
+            sizeClasses[i] = new SizeClass(bufferSize, maxRetained);
+        }
+    }
+
+    /**
+     * Returns the pool shared by the channels.
+     *
+     * @return the shared buffer pool
+     */
+    public static BufferPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * <p>
+     * Gets a cleared buffer with a capacity of at least the given size.
+     * </p>
+     * <p>
+     * The buffer should be given back through {@link #release(ByteBuffer)} once it is no longer used, buffers which
+     * are not released will be garbage collected.
+     * </p>
+     *
+     * @param size the minimum capacity of the buffer
+     * @return a heap buffer with a capacity &gt;= size
+     */
+    public ByteBuffer acquire(int size) {
+        SizeClass sizeClass = getSizeClass(size);
+        if (null == sizeClass) {
+            return ByteBuffer.allocate(size);
+        }
+        ByteBuffer buffer = sizeClass.buffers.poll();
+        if (null == buffer) {
+            return ByteBuffer.allocate(sizeClass.bufferSize);
+        }
+        sizeClass.count.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * <p>
+     * Gives back a buffer obtained through {@link #acquire(int)} to the pool.
+     * </p>
+     * <p>
+     * The buffer or any view of it should not be used by the caller after it has been released.
+     * </p>
+     *
+     * @param buffer the buffer which is no longer used
+     */
+    public void release(ByteBuffer buffer) {
+        SizeClass sizeClass = getSizeClass(buffer.capacity());
+        if (null == sizeClass || sizeClass.bufferSize != buffer.capacity() || buffer.isDirect() ||
+                buffer.isReadOnly()) {
+            return;
+        }
+        if (sizeClass.count.incrementAndGet() > sizeClass.maxRetained) {
+            sizeClass.count.decrementAndGet();
+            return;
+        }
+        sizeClass.buffers.offer(buffer);
+    }
+
+    private SizeClass getSizeClass(int size) {
+        if (size > 1 << MAX_SIZE_CLASS_SHIFT) {
+            return null;
+        }
+        int shift = size <= 1 << MIN_SIZE_CLASS_SHIFT ? MIN_SIZE_CLASS_SHIFT : 32 - Integer.numberOfLeadingZeros(
+                size - 1);
+        return sizeClasses[shift - MIN_SIZE_CLASS_SHIFT];
+    }
+
+    /**
+     * Buffers of a single size.
+     */
+    private static class SizeClass {
+
+        private final int bufferSize;
+        private final int maxRetained;
+        private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger count = new AtomicInteger();
+
+        private SizeClass(int bufferSize, int maxRetained) {
+            this.bufferSize = bufferSize;
+            this.maxRetained = maxRetained;
+        }
+    }
+}
@@ -57,6 +57,11 @@ public abstract class Channel implements IOChannel {
 
     private static final Logger log = LoggerFactory.getLogger(Channel.class);
 
+    /**
+     * Size of the buffer used to transfer content between channels.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 16384;
+
     /**
      * <p>
      * Will read/write bytes from the provided channel
@@ -142,6 +147,33 @@ public abstract class Channel implements IOChannel {
         return byteChannel.write(content);
     }
 
+    /**
+     * <p>
+     * Transfers the remaining content of the channel to the given destination.
+     * </p>
+     * <p>
+     * The content is copied through a direct buffer, hence it is not copied into the heap. Channels which can let the
+     * OS transfer the content directly would override this.
+     * </p>
+     *
+     * @param destination the channel the content should be written to.
+     * @return the number of bytes transferred.
+     * @throws IOException errors occur while reading from or writing to the channels.
+     */
+    public long transferTo(Channel destination) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(TRANSFER_BUFFER_SIZE);
+        long transferred = 0;
+        while (!hasReachedEnd()) {
+            read(buffer);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                transferred += destination.write(buffer);
+            }
+            buffer.clear();
+        }
+        return transferred;
+    }
+
     /**
      * This will return {@link InputStream} from underlying {@link ByteChannel}.
      *
@@ -28,6 +28,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 
 
@@ -124,10 +125,10 @@ public class CharacterChannel implements IOChannel {
      * @param characterCount the number of characters in the CharBuffer.
      */
     private void appendCharsToString(StringBuilder content, int characterCount) {
-        final int indexCharacterOffset = 0;
-        char[] remainingChars = new char[characterCount];
-        charBuffer.get(remainingChars, indexCharacterOffset, characterCount);
-        content.append(remainingChars);
+        //The characters are appended straight from the backing array of the buffer without an intermediate copy
+        int position = charBuffer.position();
+        content.append(charBuffer.array(), charBuffer.arrayOffset() + position, characterCount);
+        charBuffer.position(position + characterCount);
         if (log.isTraceEnabled()) {
             log.trace(String.format("characters appended to the string,%s", content));
         }
@@ -194,10 +195,11 @@ public class CharacterChannel implements IOChannel {
      * @return number of bytes in the buffer for the specified character count.
      */
     private int getNumberOfBytesInContent(int length) {
-        char[] availableContent = new char[length];
-        this.charBuffer.get(availableContent, 0, length);
-        byte[] bytes = new String(availableContent).getBytes(bytesDecoder.charset());
-        this.charBuffer = CharBuffer.wrap(availableContent);
+        int position = charBuffer.position();
+        byte[] bytes = new String(charBuffer.array(), charBuffer.arrayOffset() + position, length)
+                .getBytes(bytesDecoder.charset());
+        //The characters after the given length are dropped while keeping the buffer, so that it is reused
+        charBuffer.limit(position + length);
         return bytes.length;
     }
 
@@ -216,22 +218,25 @@ public class CharacterChannel implements IOChannel {
     private void asyncReadBytesFromChannel(int numberOfBytesRequired, int numberOfCharsRequired)
             throws BallerinaIOException {
         ByteBuffer buffer;
-        int numberOfCharsProcessed = 0;
-        CharBuffer intermediateCharacterBuffer;
-        //Provided at this point any remaining character left in the buffer is copied
-        charBuffer = CharBuffer.allocate(numberOfBytesRequired);
+        int numberOfCharsProcessed;
+        //Provided at this point any remaining character left in the buffer is copied, hence the buffer is reused
+        //for the next set of characters unless it is too small
+        if (null == charBuffer || charBuffer.capacity() < numberOfBytesRequired) {
+            charBuffer = CharBuffer.allocate(numberOfBytesRequired);
+        } else {
+            charBuffer.clear();
+        }
         try {
             buffer = contentBuffer.get(numberOfBytesRequired, channel);
         } catch (IOException e) {
             throw new BallerinaIOException("error occurred while reading from channel: " + e.getMessage(), e);
         }
         try {
-            intermediateCharacterBuffer = bytesDecoder.decode(buffer);
+            decode(buffer);
         } catch (CharacterCodingException e) {
             throw new BallerinaIOException("character decoding error while reading from buffer: " + e.getMessage(), e);
         }
-        numberOfCharsProcessed = numberOfCharsProcessed + intermediateCharacterBuffer.limit();
-        charBuffer.put(intermediateCharacterBuffer);
+        numberOfCharsProcessed = charBuffer.position();
         //We make the char buffer ready to read
         charBuffer.flip();
         processChars(numberOfCharsRequired, buffer, numberOfCharsProcessed);
@@ -254,6 +259,40 @@ public class CharacterChannel implements IOChannel {
         return intermediateCharacterBuffer.toString();
     }
 
+    /**
+     * <p>
+     * Decodes the given bytes straight into the character buffer.
+     * </p>
+     * <p>
+     * Unlike {@link CharsetDecoder#decode(ByteBuffer)} this does not allocate an intermediate character buffer for
+     * each read.
+     * </p>
+     *
+     * @param buffer the bytes which should be decoded.
+     * @throws CharacterCodingException if the bytes could not be decoded.
+     */
+    private void decode(ByteBuffer buffer) throws CharacterCodingException {
+        bytesDecoder.reset();
+        CoderResult result = bytesDecoder.decode(buffer, charBuffer, true);
+        if (result.isUnderflow()) {
+            result = bytesDecoder.flush(charBuffer);
+        }
+        while (result.isOverflow()) {
+            //The character buffer would only overflow for character sets which produce more than one char per byte
+            CharBuffer largerBuffer = CharBuffer.allocate(2 * charBuffer.capacity() + 1);
+            charBuffer.flip();
+            largerBuffer.put(charBuffer);
+            charBuffer = largerBuffer;
+            result = bytesDecoder.decode(buffer, charBuffer, true);
+            if (result.isUnderflow()) {
+                result = bytesDecoder.flush(charBuffer);
+            }
+        }
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
     /**
      * <p>
      * When processing characters, there will be instances where due to unavailability of bytes the characters gets
@@ -396,6 +435,7 @@ public class CharacterChannel implements IOChannel {
     @Override
     public void close() throws IOException {
         channel.close();
+        contentBuffer.release();
     }
 
     @Override
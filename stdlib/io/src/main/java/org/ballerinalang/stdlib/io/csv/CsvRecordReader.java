@@ -0,0 +1,577 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Reads the records of a CSV content from a byte channel directly into values of a record type.
+ * </p>
+ * <p>
+ * Records are parsed from the bytes read from the channel, instead of decoding the content into characters and
+ * splitting it into strings. The end of a record is found by scanning the content eight bytes at a time and int,
+ * float, decimal and boolean fields are parsed from the bytes of the field, only string fields are decoded. Hence the
+ * charset of the content should encode separators, quotes and line breaks as single bytes, as UTF-8, US-ASCII and
+ * ISO-8859-1 do.
+ * </p>
+ * <p>
+ * Fields are mapped to the fields of the record type in the order they are defined. Fields which contain separators,
+ * quotes or line breaks are enclosed in double quotes as specified in RFC 4180.
+ * </p>
+ * <p>
+ * <b>Note : </b> this reader does not support concurrent operations.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte QUOTE = '"';
+    private static final byte SPACE = ' ';
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+                                                                                     ByteOrder.LITTLE_ENDIAN);
+    private static final long LINE_FEEDS = 0x0A0A0A0A0A0A0A0AL;
+    private static final long QUOTES = 0x2222222222222222L;
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    /**
+     * Floats with up to 15 significant digits and a decimal exponent in this range are computed exactly from the
+     * digits and a power of ten.
+     */
+    private static final int MAX_EXACT_FLOAT_EXPONENT = 22;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 53;
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_FLOAT_EXPONENT + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final Channel channel;
+    private final Charset charset;
+    private final byte fieldSeparator;
+
+    private final StructureType recordType;
+    private final BString[] fieldNames;
+    private final int[] fieldTypeTags;
+    private final boolean[] nillableFields;
+    private final boolean[] optionalFields;
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfContent;
+    private long numberOfRecordsRead;
+
+    public CsvRecordReader(Channel channel, StructureType recordType, byte fieldSeparator, Charset charset)
+            throws BallerinaIOException {
+        if (!StandardCharsets.UTF_8.equals(charset) && !StandardCharsets.US_ASCII.equals(charset) &&
+                !StandardCharsets.ISO_8859_1.equals(charset)) {
+            throw new BallerinaIOException("unsupported charset for reading CSV records: " + charset.name());
+        }
+        if (fieldSeparator == LINE_FEED || fieldSeparator == CARRIAGE_RETURN || fieldSeparator == QUOTE ||
+                fieldSeparator < 0) {
+            throw new BallerinaIOException("invalid field separator: " + (char) fieldSeparator);
+        }
+        this.channel = channel;
+        this.charset = charset;
+        this.fieldSeparator = fieldSeparator;
+        this.recordType = recordType;
+
+        Map<String, Field> fields = recordType.getFields();
+        int fieldCount = fields.size();
+        fieldNames = new BString[fieldCount];
+        fieldTypeTags = new int[fieldCount];
+        nillableFields = new boolean[fieldCount];
+        optionalFields = new boolean[fieldCount];
+        int index = 0;
+        for (Field field : fields.values()) {
+            fieldNames[index] = StringUtils.fromString(field.getFieldName());
+            optionalFields[index] = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL);
+            Type fieldType = field.getFieldType();
+            if (fieldType.getTag() == TypeTags.UNION_TAG) {
+                List<Type> members = ((UnionType) fieldType).getMemberTypes();
+                if (members.size() == 2 && members.get(0).getTag() == TypeTags.NULL_TAG) {
+                    fieldType = members.get(1);
+                    nillableFields[index] = true;
+                } else if (members.size() == 2 && members.get(1).getTag() == TypeTags.NULL_TAG) {
+                    fieldType = members.get(0);
+                    nillableFields[index] = true;
+                }
+            }
+            switch (fieldType.getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                    fieldTypeTags[index] = fieldType.getTag();
+                    break;
+                default:
+                    throw new BallerinaIOException("unsupported type '" + field.getFieldType() + "' for the field '" +
+                            field.getFieldName() + "', only int, float, decimal, string and boolean fields are " +
+                            "supported");
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Skips the given number of records, i.e. headers.
+     *
+     * @param numberOfRecords number of records which should be skipped.
+     * @throws IOException during I/O error.
+     */
+    public void skipRecords(long numberOfRecords) throws IOException {
+        for (long i = 0; i < numberOfRecords; i++) {
+            int recordEnd = findRecordEnd();
+            if (recordEnd < 0) {
+                return;
+            }
+            position = Math.min(recordEnd + 1, limit);
+        }
+    }
+
+    /**
+     * Reads the next record. Blank lines are skipped.
+     *
+     * @return the record or null if all the records have being read.
+     * @throws IOException          during I/O error.
+     * @throws BallerinaIOException if a field cannot be converted to the type of the record field.
+     */
+    public BMap<BString, Object> next() throws IOException, BallerinaIOException {
+        while (true) {
+            int recordEnd = findRecordEnd();
+            if (recordEnd < 0) {
+                return null;
+            }
+            int recordStart = position;
+            position = Math.min(recordEnd + 1, limit);
+            if (recordEnd > recordStart && buffer[recordEnd - 1] == CARRIAGE_RETURN) {
+                recordEnd--;
+            }
+            if (recordEnd > recordStart) {
+                numberOfRecordsRead++;
+                return parseRecord(recordStart, recordEnd);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Finds the line feed which ends the record starting at the current position, reading more content from the
+     * channel if required. Line feeds enclosed in quotes are part of the record.
+     *
+     * @return the index of the line feed, the limit of the content if the last record does not end with a line feed
+     * or -1 if there are no more records.
+     */
+    private int findRecordEnd() throws IOException {
+        int index = position;
+        boolean quoted = false;
+        while (true) {
+            index = indexOfLineFeedOrQuote(index);
+            if (index < limit) {
+                if (buffer[index] == LINE_FEED && !quoted) {
+                    return index;
+                }
+                // Escaped quotes within a quoted field toggle the state twice
+                quoted = buffer[index] == QUOTE ? !quoted : quoted;
+                index++;
+                continue;
+            }
+            if (endOfContent) {
+                return limit > position ? limit : -1;
+            }
+            int scannedLength = index - position;
+            fill();
+            index = position + scannedLength;
+        }
+    }
+
+    /**
+     * Finds the first line feed or quote from the given index. Eight bytes are checked at a time using the bytes
+     * which are equal to a line feed or a quote, i.e. the bytes of the xor which are zero.
+     */
+    private int indexOfLineFeedOrQuote(int from) {
+        int index = from;
+        for (; index + Long.BYTES <= limit; index += Long.BYTES) {
+            long word = (long) LONG_VIEW.get(buffer, index);
+            long matches = zeroBytes(word ^ LINE_FEEDS) | zeroBytes(word ^ QUOTES);
+            if (matches != 0) {
+                return index + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+        for (; index < limit; index++) {
+            if (buffer[index] == LINE_FEED || buffer[index] == QUOTE) {
+                return index;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Returns a word where the highest bit of each byte is set only if the byte is zero in the given word.
+     */
+    private static long zeroBytes(long word) {
+        return ~(((word & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | word | LOW_SEVEN_BITS);
+    }
+
+    /**
+     * Moves the unread content to the start of the buffer and reads more content from the channel, the buffer is
+     * grown if it is full.
+     */
+    private void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        ByteBuffer content = ByteBuffer.wrap(buffer, limit, buffer.length - limit);
+        int numberOfBytesRead;
+        do {
+            numberOfBytesRead = channel.read(content);
+        } while (numberOfBytesRead == 0 && !channel.hasReachedEnd());
+        limit += numberOfBytesRead;
+        endOfContent = channel.hasReachedEnd();
+    }
+
+    private BMap<BString, Object> parseRecord(int start, int end) throws BallerinaIOException {
+        BMap<BString, Object> record = ValueCreator.createMapValue(recordType);
+        int column = 0;
+        int index = start;
+        while (true) {
+            int fieldStart;
+            int fieldEnd;
+            boolean quoted = index < end && buffer[index] == QUOTE;
+            boolean escaped = false;
+            if (quoted) {
+                int closingQuote = index + 1;
+                while (true) {
+                    while (closingQuote < end && buffer[closingQuote] != QUOTE) {
+                        closingQuote++;
+                    }
+                    if (closingQuote == end) {
+                        throw new BallerinaIOException("unterminated quoted field in record " + numberOfRecordsRead);
+                    }
+                    if (closingQuote + 1 < end && buffer[closingQuote + 1] == QUOTE) {
+                        escaped = true;
+                        closingQuote += 2;
+                        continue;
+                    }
+                    break;
+                }
+                fieldStart = index + 1;
+                fieldEnd = closingQuote;
+                index = closingQuote + 1;
+                if (index < end && buffer[index] != fieldSeparator) {
+                    throw new BallerinaIOException("unexpected character after the quoted field in record " +
+                                                           numberOfRecordsRead);
+                }
+            } else {
+                fieldEnd = index;
+                while (fieldEnd < end && buffer[fieldEnd] != fieldSeparator) {
+                    fieldEnd++;
+                }
+                fieldStart = index;
+                index = fieldEnd;
+            }
+            if (column < fieldNames.length) {
+                setField(record, column, fieldStart, fieldEnd, quoted, escaped);
+            }
+            column++;
+            if (index >= end) {
+                break;
+            }
+            // Skip the separator
+            index++;
+        }
+        for (; column < fieldNames.length; column++) {
+            setField(record, column, end, end, false, false);
+        }
+        return record;
+    }
+
+    /**
+     * Sets the value of a field. Empty values are set as nil for nillable fields and are not set for optional fields.
+     * However, empty strings are set as they are, unless the field is nillable or optional and the value is not
+     * enclosed in quotes.
+     */
+    private void setField(BMap<BString, Object> record, int column, int start, int end, boolean quoted,
+                          boolean escaped) throws BallerinaIOException {
+        int typeTag = fieldTypeTags[column];
+        if (typeTag != TypeTags.STRING_TAG) {
+            while (start < end && buffer[start] == SPACE) {
+                start++;
+            }
+            while (end > start && buffer[end - 1] == SPACE) {
+                end--;
+            }
+        }
+        if (start == end && !(typeTag == TypeTags.STRING_TAG && quoted)) {
+            if (optionalFields[column]) {
+                return;
+            }
+            if (nillableFields[column]) {
+                record.put(fieldNames[column], null);
+                return;
+            }
+            if (typeTag != TypeTags.STRING_TAG) {
+                throw invalidValue(column, start, end);
+            }
+        }
+        try {
+            switch (typeTag) {
+                case TypeTags.INT_TAG:
+                    record.put(fieldNames[column], parseInt(column, start, end));
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    record.put(fieldNames[column], parseFloat(start, end));
+                    break;
+                case TypeTags.DECIMAL_TAG:
+                    record.put(fieldNames[column], ValueCreator.createDecimalValue(parseDecimal(start, end)));
+                    break;
+                case TypeTags.STRING_TAG:
+                    record.put(fieldNames[column], StringUtils.fromString(decode(start, end, escaped)));
+                    break;
+                default:
+                    record.put(fieldNames[column], parseBoolean(column, start, end));
+                    break;
+            }
+        } catch (NumberFormatException e) {
+            throw invalidValue(column, start, end);
+        }
+    }
+
+    private long parseInt(int column, int start, int end) throws BallerinaIOException {
+        int index = start;
+        boolean negative = buffer[index] == '-';
+        if (negative || buffer[index] == '+') {
+            index++;
+        }
+        if (index == end) {
+            throw invalidValue(column, start, end);
+        }
+        // Accumulated negatively, since the range of negative values is larger
+        long limitBeforeMultiplication = Long.MIN_VALUE / 10;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = buffer[index] - '0';
+            if (digit < 0 || digit > 9 || result < limitBeforeMultiplication) {
+                throw invalidValue(column, start, end);
+            }
+            result *= 10;
+            if (result < Long.MIN_VALUE + digit) {
+                throw invalidValue(column, start, end);
+            }
+            result -= digit;
+        }
+        if (negative) {
+            return result;
+        }
+        if (result == Long.MIN_VALUE) {
+            throw invalidValue(column, start, end);
+        }
+        return -result;
+    }
+
+    private double parseFloat(int start, int end) {
+        int index = start;
+        boolean negative = buffer[index] == '-';
+        if (negative || buffer[index] == '+') {
+            index++;
+        }
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean inFraction = false;
+        boolean truncated = false;
+        for (; index < end; index++) {
+            byte character = buffer[index];
+            if (character == '.' && !inFraction) {
+                inFraction = true;
+                continue;
+            }
+            int digit = character - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            hasDigits = true;
+            if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                if (mantissa != 0 || digit != 0) {
+                    mantissa = mantissa * 10 + digit;
+                    mantissaDigits++;
+                }
+                if (inFraction) {
+                    exponent--;
+                }
+            } else {
+                if (!inFraction) {
+                    exponent++;
+                }
+                truncated |= digit != 0;
+            }
+        }
+        if (index < end && hasDigits && (buffer[index] == 'e' || buffer[index] == 'E')) {
+            index++;
+            boolean negativeExponent = index < end && buffer[index] == '-';
+            if (index < end && (negativeExponent || buffer[index] == '+')) {
+                index++;
+            }
+            int exponentStart = index;
+            int explicitExponent = 0;
+            for (; index < end && buffer[index] >= '0' && buffer[index] <= '9'; index++) {
+                // Large exponents are not computed exactly, the value is not in the fast path range anyway
+                explicitExponent = Math.min(explicitExponent * 10 + buffer[index] - '0', 10000);
+            }
+            if (index == exponentStart) {
+                return parseFloatString(start, end);
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (index < end || !hasDigits || truncated || mantissa > MAX_EXACT_FLOAT_MANTISSA ||
+                exponent < -MAX_EXACT_FLOAT_EXPONENT || exponent > MAX_EXACT_FLOAT_EXPONENT) {
+            return parseFloatString(start, end);
+        }
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private double parseFloatString(int start, int end) {
+        return Double.parseDouble(new String(buffer, start, end - start, StandardCharsets.ISO_8859_1));
+    }
+
+    private BigDecimal parseDecimal(int start, int end) {
+        int index = start;
+        boolean negative = buffer[index] == '-';
+        if (negative || buffer[index] == '+') {
+            index++;
+        }
+        long unscaledValue = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean inFraction = false;
+        for (; index < end && digits <= MAX_MANTISSA_DIGITS; index++) {
+            byte character = buffer[index];
+            if (character == '.' && !inFraction) {
+                inFraction = true;
+                continue;
+            }
+            int digit = character - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            unscaledValue = unscaledValue * 10 + digit;
+            digits++;
+            if (inFraction) {
+                scale++;
+            }
+        }
+        if (index < end || digits == 0 || digits > MAX_MANTISSA_DIGITS) {
+            // Exponents and values with more digits than a long can hold
+            return new BigDecimal(new String(buffer, start, end - start, StandardCharsets.ISO_8859_1));
+        }
+        return BigDecimal.valueOf(negative ? -unscaledValue : unscaledValue, scale);
+    }
+
+    private boolean parseBoolean(int column, int start, int end) throws BallerinaIOException {
+        if (equalsIgnoreCase(start, end, TRUE)) {
+            return true;
+        }
+        if (equalsIgnoreCase(start, end, FALSE)) {
+            return false;
+        }
+        throw invalidValue(column, start, end);
+    }
+
+    private boolean equalsIgnoreCase(int start, int end, byte[] lowerCaseValue) {
+        if (end - start != lowerCaseValue.length) {
+            return false;
+        }
+        for (int i = 0; i < lowerCaseValue.length; i++) {
+            // Lower cases ASCII letters
+            if ((buffer[start + i] | 0x20) != lowerCaseValue[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(int start, int end, boolean escaped) {
+        if (!escaped) {
+            return new String(buffer, start, end - start, charset);
+        }
+        byte[] content = new byte[end - start];
+        int length = 0;
+        for (int index = start; index < end; index++) {
+            content[length++] = buffer[index];
+            // Escaped quotes are written twice
+            if (buffer[index] == QUOTE) {
+                index++;
+            }
+        }
+        return new String(content, 0, length, charset);
+    }
+
+    private BallerinaIOException invalidValue(int column, int start, int end) {
+        return new BallerinaIOException("invalid value '" + decode(start, end, false) + "' for the field '" +
+                                                fieldNames[column].getValue() + "' in record " + numberOfRecordsRead);
+    }
+}
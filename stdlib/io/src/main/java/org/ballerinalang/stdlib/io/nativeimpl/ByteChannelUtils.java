@@ -27,6 +27,7 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.BufferPool;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -66,14 +67,16 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     public static Object read(BObject channel, long nBytes) {
         int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
         if (byteChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
         } else {
+            ByteBuffer content = BufferPool.getInstance().acquire(arraySize);
+            content.limit(arraySize);
             try {
                 byteChannel.read(content);
                 return ValueCreator.createArrayValue(getContentData(content));
             } catch (Exception e) {
+                BufferPool.getInstance().release(content);
                 String msg = "error occurred while reading bytes from the channel. " + e.getMessage();
                 log.error(msg, e);
                 return IOUtils.createError(msg);
@@ -82,14 +85,16 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     }
 
     private static byte[] getContentData(final ByteBuffer contentBuffer) {
-        int bufferSize = contentBuffer.limit();
         int readPosition = contentBuffer.position();
         byte[] content = contentBuffer.array();
         final int startPosition = 0;
-        if (readPosition == bufferSize) {
+        if (readPosition == content.length) {
+            //The whole array is handed over, hence it is not given back to the pool
             return content;
         }
-        return Arrays.copyOfRange(content, startPosition, readPosition);
+        byte[] contentData = Arrays.copyOfRange(content, startPosition, readPosition);
+        BufferPool.getInstance().release(contentBuffer);
+        return contentData;
     }
 
     public static Object base64Encode(BObject channel) {
@@ -124,6 +129,18 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
+    public static Object transfer(BObject srcChannel, BObject dstChannel) {
+        Channel sourceChannel = (Channel) srcChannel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel destinationChannel = (Channel) dstChannel.getNativeData(BYTE_CHANNEL_NAME);
+        try {
+            return sourceChannel.transferTo(destinationChannel);
+        } catch (IOException e) {
+            String msg = "error occurred while transferring bytes between the channels. " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
     public static Object openReadableFile(BString pathUrl) {
         Object channel;
         try {
@@ -158,7 +175,13 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     private static Channel inFlow(String pathUrl) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
-        Channel channel = new FileIOChannel(fileChannel);
+        boolean memoryMapped;
+        try {
+            memoryMapped = fileChannel.size() >= IOConstants.MAPPED_READ_THRESHOLD;
+        } catch (IOException e) {
+            throw new BallerinaIOException("unable to read the size of the file: " + pathUrl, e);
+        }
+        Channel channel = new FileIOChannel(fileChannel, memoryMapped);
         channel.setReadable(true);
         return channel;
     }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.csv.CsvRecordReader;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.Charset;
+
+import static org.ballerinalang.stdlib.io.utils.IOConstants.BYTE_CHANNEL_NAME;
+
+/**
+ * This class hold Java inter-ops bridging functions for io# *CSVRecordIterator.
+ *
+ * @since 2.0.0
+ */
+public class CsvRecordStreamUtils {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvRecordStreamUtils.class);
+
+    private CsvRecordStreamUtils() {
+    }
+
+    public static Object initCsvRecordIterator(BObject iterator, BObject byteChannel, BTypedesc recordType,
+                                               BString fieldSeparator, BString charset, long skipHeaders) {
+        Channel channel = (Channel) byteChannel.getNativeData(BYTE_CHANNEL_NAME);
+        try {
+            String separator = fieldSeparator.getValue();
+            if (separator.length() != 1 || separator.charAt(0) > Byte.MAX_VALUE) {
+                throw new BallerinaIOException("field separator should be a single ASCII character: " + separator);
+            }
+            CsvRecordReader recordReader = new CsvRecordReader(channel,
+                                                               (StructureType) recordType.getDescribingType(),
+                                                               (byte) separator.charAt(0),
+                                                               Charset.forName(charset.getValue()));
+            recordReader.skipRecords(skipHeaders);
+            iterator.addNativeData(IOConstants.CSV_RECORD_READER_NAME, recordReader);
+            return null;
+        } catch (BallerinaIOException | IOException | IllegalArgumentException e) {
+            String msg = "error occurred while reading CSV records: " + e.getMessage();
+            log.error(msg, e);
+            closeChannel(channel);
+            return IOUtils.createError(msg);
+        }
+    }
+
+    public static Object next(BObject iterator) {
+        CsvRecordReader recordReader =
+                (CsvRecordReader) iterator.getNativeData(IOConstants.CSV_RECORD_READER_NAME);
+        try {
+            BMap<BString, Object> record = recordReader.next();
+            if (record == null) {
+                // All the records are read, the channel is closed since streams are not always closed explicitly
+                recordReader.close();
+            }
+            return record;
+        } catch (ClosedChannelException e) {
+            return IOUtils.createError("channel already closed.");
+        } catch (BallerinaIOException | IOException e) {
+            String msg = "error occurred while reading CSV records: " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
+    public static Object close(BObject iterator) {
+        CsvRecordReader recordReader =
+                (CsvRecordReader) iterator.getNativeData(IOConstants.CSV_RECORD_READER_NAME);
+        try {
+            recordReader.close();
+        } catch (IOException e) {
+            return IOUtils.createError(e);
+        }
+        return null;
+    }
+
+    private static void closeChannel(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("error occurred while closing the channel", e);
+        }
+    }
+}
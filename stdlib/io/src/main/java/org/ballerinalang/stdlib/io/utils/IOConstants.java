@@ -48,11 +48,21 @@ public class IOConstants {
      */
     public static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the CSV record reader which will be represented through the native struct.
+     */
+    public static final String CSV_RECORD_READER_NAME = "csv_record_reader";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
     public static final int CHANNEL_BUFFER_SIZE = 16384;
 
+    /**
+     * Files of this size (1 MB) or larger are read through memory mapped regions of the file.
+     */
+    public static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
     public static final String IO_PACKAGE_VERSION =  "0.5.0";
 
     public static final Module IO_PACKAGE_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX, "io", IO_PACKAGE_VERSION);
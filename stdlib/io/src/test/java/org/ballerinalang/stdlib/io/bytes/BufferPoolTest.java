@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.bytes;
+
+import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.base.Buffer;
+import org.ballerinalang.stdlib.io.channels.base.BufferPool;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tests the pooling of the buffers used by the channels.
+ */
+public class BufferPoolTest {
+
+    private String currentDirectoryPath = "/tmp/";
+
+    @BeforeSuite
+    public void setup() {
+        currentDirectoryPath = System.getProperty("user.dir") + "/build/";
+    }
+
+    @Test(description = "Reuse released buffers for requests of the same size class")
+    public void reuseReleasedBuffers() {
+        BufferPool pool = BufferPool.getInstance();
+        ByteBuffer buffer = pool.acquire(100);
+        Assert.assertEquals(buffer.capacity(), 256);
+        Assert.assertEquals(buffer.remaining(), 256);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+
+        ByteBuffer reused = pool.acquire(200);
+        Assert.assertSame(reused, buffer);
+        Assert.assertEquals(reused.position(), 0);
+        Assert.assertEquals(reused.limit(), 256);
+        Assert.assertEquals(pool.acquire(257).capacity(), 512);
+        pool.release(reused);
+    }
+
+    @Test(description = "Do not pool buffers which are larger than the largest size class")
+    public void largeBuffersAreNotPooled() {
+        BufferPool pool = BufferPool.getInstance();
+        ByteBuffer buffer = pool.acquire(2 * 1024 * 1024 + 1);
+        Assert.assertEquals(buffer.capacity(), 2 * 1024 * 1024 + 1);
+        pool.release(buffer);
+        Assert.assertNotSame(pool.acquire(2 * 1024 * 1024 + 1), buffer);
+
+        // Buffers which were not obtained from the pool are not taken in
+        ByteBuffer wrapped = ByteBuffer.wrap(new byte[300]);
+        pool.release(wrapped);
+        Assert.assertNotSame(pool.acquire(300), wrapped);
+    }
+
+    @Test(description = "Read through a buffer which grows and carries over the bytes which are not consumed")
+    public void readThroughBuffer() throws IOException, BallerinaIOException {
+        Path path = Paths.get(currentDirectoryPath, "bufferPool.txt");
+        Files.createDirectories(path.getParent());
+        Files.write(path, "0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII));
+        Channel channel = new MockByteChannel(FileChannel.open(path, StandardOpenOption.READ));
+        Buffer buffer = new Buffer(0);
+        try {
+            Assert.assertEquals(string(buffer.get(4, channel)), "0123");
+            buffer.reverse(2);
+            Assert.assertEquals(string(buffer.get(4, channel)), "2345");
+            Assert.assertEquals(string(buffer.get(10, channel)), "6789abcdef");
+            Assert.assertEquals(string(buffer.get(3, channel)), "ghi");
+            Assert.assertEquals(string(buffer.get(30, channel)), "jklmnopqrstuvwxyz");
+        } finally {
+            buffer.release();
+            channel.close();
+        }
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
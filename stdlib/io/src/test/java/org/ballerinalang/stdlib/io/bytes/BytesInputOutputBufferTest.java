@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -33,6 +34,10 @@ import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.stream.Collectors;
 
 /**
@@ -201,6 +206,65 @@ public class BytesInputOutputBufferTest {
         Assert.assertEquals(totalNumberOfBytesRead, totalNumberOfBytesWritten);
     }
 
+    @Test(description = "Read a file through memory mapped regions")
+    public void memoryMappedFileRead() throws IOException, URISyntaxException {
+        final int readLimit = 10000;
+        FileChannel mappedFileChannel = (FileChannel) TestUtil.openForReading(
+                "datafiles/io/text/fileThatExceeds2MB.txt");
+        Channel mappedChannel = new FileIOChannel(mappedFileChannel, true);
+        Channel channel = new MockByteChannel(TestUtil.openForReading("datafiles/io/text/fileThatExceeds2MB.txt"));
+        long fileSize = mappedFileChannel.size();
+        long totalNumberOfBytesRead = 0;
+        ReadByteResult readByteResult;
+        do {
+            readByteResult = read(readLimit, mappedChannel);
+            ReadByteResult expectedResult = read(readLimit, channel);
+            Assert.assertEquals(readByteResult.getNumberOfBytesRead(), expectedResult.getNumberOfBytesRead());
+            Assert.assertEquals(readByteResult.getContent(), expectedResult.getContent());
+            totalNumberOfBytesRead = totalNumberOfBytesRead + readByteResult.getNumberOfBytesRead();
+        } while (readByteResult.getNumberOfBytesRead() > 0);
+        mappedChannel.close();
+        channel.close();
+
+        Assert.assertEquals(totalNumberOfBytesRead, fileSize);
+        Assert.assertTrue(mappedChannel.hasReachedEnd());
+    }
+
+    @Test(description = "Transfer a file to another channel")
+    public void fileTransferTest() throws IOException, URISyntaxException {
+        final int numberOfBytesInFile = 45613;
+        final int initialReadLimit = 1000;
+        String copyPath = currentDirectoryPath + "ballerinaTransferCopy.png";
+        Files.deleteIfExists(Paths.get(copyPath));
+        FileChannel readFileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        Channel readChannel = new FileIOChannel(readFileChannel, true);
+        Channel writeChannel = new MockByteChannel(TestUtil.openForReadingAndWriting(copyPath));
+        byte[] readBytes = read(initialReadLimit, readChannel).getContent();
+        writeFull(readBytes, readBytes.length, writeChannel);
+        long numberOfBytesTransferred = readChannel.transferTo(writeChannel);
+        readChannel.close();
+        writeChannel.close();
+
+        Path sourcePath = Paths.get(
+                getClass().getClassLoader().getResource("datafiles/io/images/ballerina.png").toURI());
+        Assert.assertEquals(numberOfBytesTransferred, numberOfBytesInFile - initialReadLimit);
+        Assert.assertEquals(Files.readAllBytes(Paths.get(copyPath)), Files.readAllBytes(sourcePath));
+    }
+
+    @Test(description = "Transfer a channel to another channel")
+    public void channelTransferTest() throws IOException, URISyntaxException {
+        final int numberOfBytesInFile = 45613;
+        Channel readChannel = new MockByteChannel(TestUtil.openForReading("datafiles/io/images/ballerina.png"));
+        Channel writeChannel = new MockByteChannel(
+                TestUtil.openForReadingAndWriting(currentDirectoryPath + "ballerinaChannelCopy.png"));
+        long numberOfBytesTransferred = readChannel.transferTo(writeChannel);
+        readChannel.close();
+        writeChannel.close();
+
+        Assert.assertEquals(numberOfBytesTransferred, numberOfBytesInFile);
+        Assert.assertTrue(readChannel.hasReachedEnd());
+    }
+
     @Test(description = "Read bytes from fix buffer into multiple reads")
     public void multiReadFromFixedBuffer() throws IOException, URISyntaxException {
 
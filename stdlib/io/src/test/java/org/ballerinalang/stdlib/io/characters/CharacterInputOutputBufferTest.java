@@ -18,8 +18,10 @@
 package org.ballerinalang.stdlib.io.characters;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -27,9 +29,20 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URISyntaxException;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Tests characters I/O operations.
@@ -157,6 +170,41 @@ public class CharacterInputOutputBufferTest {
         characterChannel.close();
     }
 
+    @Test(description = "Read lines of multi byte characters while reusing the character buffer of the channel")
+    public void readLinesReusingCharacterBuffer()
+            throws IOException, BallerinaIOException, ReflectiveOperationException {
+        StringBuilder content = new StringBuilder();
+        List<String[]> records = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String[] record = {Integer.toString(i), "Ǌmployee " + i, "\uD83D\uDE00" + i};
+            content.append(String.join(",", record)).append('\n');
+            records.add(record);
+        }
+        Path filePath = Paths.get(currentDirectoryPath, "multiByteLines.csv");
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, content.toString().getBytes(StandardCharsets.UTF_8));
+
+        Field charBufferField = CharacterChannel.class.getDeclaredField("charBuffer");
+        charBufferField.setAccessible(true);
+        Set<Object> charBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            CharacterChannel characterChannel = new CharacterChannel(new FileIOChannel(fileChannel),
+                                                                     StandardCharsets.UTF_8.name());
+            DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, "\n", ",");
+            for (String[] record : records) {
+                Assert.assertTrue(recordChannel.hasNext());
+                Assert.assertEquals(recordChannel.read(), record);
+                charBuffers.add(charBufferField.get(characterChannel));
+            }
+            Assert.assertFalse(recordChannel.hasNext());
+            recordChannel.close();
+        } finally {
+            Files.deleteIfExists(filePath);
+        }
+        // The file is read through many channel reads, all of which decode into the same buffer
+        Assert.assertEquals(charBuffers.size(), 1);
+    }
+
     @Test(description = "Write characters to file")
     public void writeCharacters() throws IOException {
         //Number of characters in this file would be 6
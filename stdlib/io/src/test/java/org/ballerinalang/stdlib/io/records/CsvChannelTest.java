@@ -435,6 +435,26 @@ public class CsvChannelTest {
         }
     }
 
+    @Test(description = "Test streaming typed records from a file")
+    public void streamRecordsFromFile() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample5.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "streamRecords", args);
+        final BFloat totalSalary = (BFloat) result[0];
+        Assert.assertEquals(totalSalary.floatValue(), 60001.00d);
+    }
+
+    @Test(description = "Test streaming typed records with nil values")
+    public void streamRecordsWithNull() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "streamRecordsWithNil", args);
+        BString names = (BString) result[0];
+        BString departments = (BString) result[1];
+        Assert.assertEquals(names.toString(), "Person1Person2Person3");
+        Assert.assertEquals(departments.toString(), "EngMrk-1");
+    }
+
     private String getAbsoluteFilePath(String relativePath) throws URISyntaxException {
         URL fileResource = BCompileUtil.class.getClassLoader().getResource(relativePath);
         String pathValue = "";
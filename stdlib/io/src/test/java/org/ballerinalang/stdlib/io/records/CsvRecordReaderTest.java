@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.records;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.CsvRecordReader;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tests reading typed records through {@link CsvRecordReader}.
+ */
+public class CsvRecordReaderTest {
+
+    private static final Module TEST_MODULE = new Module("test", "csv", "1.0.0");
+
+    private String currentDirectoryPath = "/tmp/";
+
+    @BeforeSuite
+    public void setup() {
+        currentDirectoryPath = System.getProperty("user.dir") + "/build/";
+    }
+
+    @Test(description = "Read records with values of all the supported types")
+    public void readTypedRecords() throws IOException, BallerinaIOException {
+        RecordType type = recordType(
+                field("name", PredefinedTypes.TYPE_STRING, 0),
+                field("count", PredefinedTypes.TYPE_INT, 0),
+                field("ratio", PredefinedTypes.TYPE_FLOAT, 0),
+                field("amount", PredefinedTypes.TYPE_DECIMAL, 0),
+                field("active", PredefinedTypes.TYPE_BOOLEAN, 0));
+        String content = "apple,42,0.25,10.50,true\n" +
+                "banana, -9223372036854775808 , 1.5e3 ,-0.001, FALSE\r\n" +
+                "\n" +
+                "cherry,0,123456789012345678901234567890.5,12345678901234567890.123,True";
+        try (CsvRecordReader reader = reader(content, type)) {
+            BMap<BString, Object> first = reader.next();
+            Assert.assertEquals(first.getStringValue(key("name")).getValue(), "apple");
+            Assert.assertEquals(first.getIntValue(key("count")).longValue(), 42L);
+            Assert.assertEquals((double) first.getFloatValue(key("ratio")), 0.25d);
+            Assert.assertEquals(((BDecimal) first.get(key("amount"))).decimalValue(), new BigDecimal("10.50"));
+            Assert.assertTrue(first.getBooleanValue(key("active")));
+
+            BMap<BString, Object> second = reader.next();
+            Assert.assertEquals(second.getStringValue(key("name")).getValue(), "banana");
+            Assert.assertEquals(second.getIntValue(key("count")).longValue(), Long.MIN_VALUE);
+            Assert.assertEquals((double) second.getFloatValue(key("ratio")), 1500d);
+            Assert.assertEquals(((BDecimal) second.get(key("amount"))).decimalValue(), new BigDecimal("-0.001"));
+            Assert.assertFalse(second.getBooleanValue(key("active")));
+
+            BMap<BString, Object> third = reader.next();
+            Assert.assertEquals(third.getStringValue(key("name")).getValue(), "cherry");
+            Assert.assertEquals((double) third.getFloatValue(key("ratio")),
+                                Double.parseDouble("123456789012345678901234567890.5"));
+            Assert.assertEquals(((BDecimal) third.get(key("amount"))).decimalValue(),
+                                new BigDecimal("12345678901234567890.123"));
+            Assert.assertTrue(third.getBooleanValue(key("active")));
+
+            Assert.assertNull(reader.next());
+        }
+    }
+
+    @Test(description = "Read records with quoted fields as specified in RFC 4180")
+    public void readQuotedFields() throws IOException, BallerinaIOException {
+        RecordType type = recordType(
+                field("id", PredefinedTypes.TYPE_INT, 0),
+                field("text", PredefinedTypes.TYPE_STRING, 0));
+        String content = "1,\"plain\"\n" +
+                "2,\"with, separator\"\n" +
+                "3,\"with \"\"quotes\"\"\"\n" +
+                "4,\"multi\nline\r\nvalue\"\n" +
+                "5,\"\"\n" +
+                "6,\"\u00fcn\u00efc\u00f6d\u00e9\"\n";
+        try (CsvRecordReader reader = reader(content, type)) {
+            String[] expected = {
+                    "plain", "with, separator", "with \"quotes\"", "multi\nline\r\nvalue", "",
+                    "\u00fcn\u00efc\u00f6d\u00e9"
+            };
+            for (int i = 0; i < expected.length; i++) {
+                BMap<BString, Object> record = reader.next();
+                Assert.assertEquals(record.getIntValue(key("id")).longValue(), i + 1);
+                Assert.assertEquals(record.getStringValue(key("text")).getValue(), expected[i]);
+            }
+            Assert.assertNull(reader.next());
+        }
+    }
+
+    @Test(description = "Read records with empty values for nillable and optional fields")
+    public void readEmptyValues() throws IOException, BallerinaIOException {
+        Type nillableInt = TypeCreator.createUnionType(
+                Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_NULL));
+        Type nillableString = TypeCreator.createUnionType(
+                Arrays.asList(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_NULL));
+        RecordType type = recordType(
+                field("id", PredefinedTypes.TYPE_INT, 0),
+                field("allowance", nillableInt, 0),
+                field("total", PredefinedTypes.TYPE_FLOAT, SymbolFlags.OPTIONAL),
+                field("department", nillableString, 0),
+                field("note", PredefinedTypes.TYPE_STRING, 0));
+        String content = "ID,Allowance,Total,Department,Note\n" +
+                "1,3,3.5,Eng,first\n" +
+                "2,,,\"\",\n" +
+                "3, ,,";
+        try (CsvRecordReader reader = reader(content, type)) {
+            reader.skipRecords(1);
+            BMap<BString, Object> first = reader.next();
+            Assert.assertEquals(first.getIntValue(key("allowance")).longValue(), 3L);
+            Assert.assertEquals((double) first.getFloatValue(key("total")), 3.5d);
+            Assert.assertEquals(first.getStringValue(key("department")).getValue(), "Eng");
+
+            BMap<BString, Object> second = reader.next();
+            Assert.assertTrue(second.containsKey(key("allowance")));
+            Assert.assertNull(second.get(key("allowance")));
+            Assert.assertFalse(second.containsKey(key("total")));
+            Assert.assertEquals(second.getStringValue(key("department")).getValue(), "");
+            Assert.assertEquals(second.getStringValue(key("note")).getValue(), "");
+
+            BMap<BString, Object> third = reader.next();
+            Assert.assertNull(third.get(key("allowance")));
+            Assert.assertNull(third.get(key("department")));
+            Assert.assertEquals(third.getStringValue(key("note")).getValue(), "");
+            Assert.assertNull(reader.next());
+        }
+    }
+
+    @Test(description = "Read records larger than the read buffer and records spanning buffer boundaries")
+    public void readLargeRecords() throws IOException, BallerinaIOException {
+        RecordType type = recordType(
+                field("id", PredefinedTypes.TYPE_INT, 0),
+                field("payload", PredefinedTypes.TYPE_STRING, 0));
+        char[] chars = new char[200 * 1024];
+        Arrays.fill(chars, 'x');
+        String largeValue = new String(chars);
+        StringBuilder content = new StringBuilder();
+        int numberOfRecords = 20000;
+        for (int i = 0; i < numberOfRecords; i++) {
+            if (i == numberOfRecords / 2) {
+                content.append(i).append(",\"").append(largeValue).append("\"\n");
+            } else {
+                content.append(i).append(",value-").append(i).append('\n');
+            }
+        }
+        try (CsvRecordReader reader = reader(content.toString(), type)) {
+            for (int i = 0; i < numberOfRecords; i++) {
+                BMap<BString, Object> record = reader.next();
+                Assert.assertEquals(record.getIntValue(key("id")).longValue(), i);
+                String expected = i == numberOfRecords / 2 ? largeValue : "value-" + i;
+                Assert.assertEquals(record.getStringValue(key("payload")).getValue(), expected);
+            }
+            Assert.assertNull(reader.next());
+        }
+    }
+
+    @Test(description = "Read the same values as the delimited record channel from a memory mapped file")
+    public void readAsDelimitedRecordChannel() throws IOException, BallerinaIOException {
+        RecordType type = recordType(
+                field("id", PredefinedTypes.TYPE_INT, 0),
+                field("name", PredefinedTypes.TYPE_STRING, 0),
+                field("salary", PredefinedTypes.TYPE_FLOAT, 0),
+                field("allowance", PredefinedTypes.TYPE_DECIMAL, 0));
+        StringBuilder content = new StringBuilder();
+        int numberOfRecords = 50000;
+        for (int i = 0; i < numberOfRecords; i++) {
+            content.append(i).append(",Employee ").append(i).append(',').append(i % 100000).append('.')
+                    .append(i % 100).append(',').append(i % 1000).append(".25\n");
+        }
+        Path path = Paths.get(currentDirectoryPath, "csvRecordReaderMapped.csv");
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel delimitedFileChannel = FileChannel.open(path, StandardOpenOption.READ);
+             CsvRecordReader reader = new CsvRecordReader(
+                     new FileIOChannel(FileChannel.open(path, StandardOpenOption.READ), true), type, (byte) ',',
+                     StandardCharsets.UTF_8)) {
+            CharacterChannel characterChannel = new CharacterChannel(new FileIOChannel(delimitedFileChannel),
+                                                                     StandardCharsets.UTF_8.name());
+            DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, "\n", ",");
+            int count = 0;
+            while (recordChannel.hasNext()) {
+                String[] fields = recordChannel.read();
+                if (fields.length == 0) {
+                    continue;
+                }
+                BMap<BString, Object> record = reader.next();
+                Assert.assertEquals(record.getIntValue(key("id")).longValue(), Long.parseLong(fields[0]));
+                Assert.assertEquals(record.getStringValue(key("name")).getValue(), fields[1]);
+                Assert.assertEquals((double) record.getFloatValue(key("salary")), Double.parseDouble(fields[2]));
+                Assert.assertEquals(((BDecimal) record.get(key("allowance"))).decimalValue(),
+                                    new BigDecimal(fields[3]));
+                count++;
+            }
+            Assert.assertNull(reader.next());
+            Assert.assertEquals(count, numberOfRecords);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test(description = "Read a record with an invalid value", expectedExceptions = BallerinaIOException.class)
+    public void readInvalidValue() throws IOException, BallerinaIOException {
+        RecordType type = recordType(
+                field("id", PredefinedTypes.TYPE_INT, 0),
+                field("name", PredefinedTypes.TYPE_STRING, 0));
+        try (CsvRecordReader reader = reader("1,first\n9223372036854775808,second\n", type)) {
+            Assert.assertNotNull(reader.next());
+            reader.next();
+        }
+    }
+
+    @Test(description = "Create a reader for a record with an unsupported field type",
+            expectedExceptions = BallerinaIOException.class)
+    public void unsupportedFieldType() throws IOException, BallerinaIOException {
+        RecordType type = recordType(field("values", TypeCreator.createArrayType(PredefinedTypes.TYPE_INT), 0));
+        reader("1\n", type).close();
+    }
+
+    private CsvRecordReader reader(String content, RecordType type) throws IOException, BallerinaIOException {
+        Path path = Paths.get(currentDirectoryPath, "csvRecordReader.csv");
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        return new CsvRecordReader(new MockByteChannel(fileChannel), type, (byte) ',', StandardCharsets.UTF_8);
+    }
+
+    private static RecordType recordType(Field... fields) {
+        Map<String, Field> fieldMap = new LinkedHashMap<>();
+        for (Field field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        return TypeCreator.createRecordType("TestRecord", TEST_MODULE, 0, fieldMap, null, true, 0);
+    }
+
+    private static Field field(String name, Type type, long flags) {
+        return TypeCreator.createField(type, name, flags);
+    }
+
+    private static BString key(String name) {
+        return StringUtils.fromString(name);
+    }
+}
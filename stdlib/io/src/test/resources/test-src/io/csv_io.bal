@@ -179,3 +179,35 @@ function getTableWithHeader(string filePath) returns @tainted string[] | error {
     }
     return keys;
 }
+
+function streamRecords(string filePath) returns @tainted float|error {
+    stream<record {}, io:Error> employees = check io:openCsvRecordStream(filePath, Employee);
+    float total = 0.0;
+    record {| record {} value; |}|io:Error? next = employees.next();
+    while (next is record {| record {} value; |}) {
+        Employee employee = <Employee> next.value;
+        total = total + employee.salary;
+        next = employees.next();
+    }
+    if (next is io:Error) {
+        return next;
+    }
+    return total;
+}
+
+function streamRecordsWithNil(string filePath) returns @tainted [string, string]|error {
+    stream<record {}, io:Error> perDiems = check io:openCsvRecordStream(filePath, PerDiem, skipHeaders = 1);
+    string name = "";
+    string dep = "";
+    record {| record {} value; |}|io:Error? next = perDiems.next();
+    while (next is record {| record {} value; |}) {
+        PerDiem perDiem = <PerDiem> next.value;
+        name = name + perDiem.name;
+        dep = dep + (perDiem.department ?: "-1");
+        next = perDiems.next();
+    }
+    if (next is io:Error) {
+        return next;
+    }
+    return [name, dep];
+}
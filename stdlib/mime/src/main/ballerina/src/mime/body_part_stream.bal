@@ -0,0 +1,52 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Reads the body parts of a multipart entity one at a time, as they arrive. The body of each part is read straight
+# from the message, hence the memory used does not depend on the size of the message. The body of a part can be read
+# only until the next part is requested.
+public class BodyPartStream {
+
+    # Reads the next body part up to its headers. The body of the part can be read through
+    # `Entity.getByteChannel()`. Any content of the previous part, which has not been read, is skipped.
+    # ```ballerina
+    # mime:Entity|mime:ParserError? bodyPart = bodyPartStream.next();
+    # ```
+    #
+    # + return - The next body part, `()` if there are no more body parts or else a `mime:ParserError` in case of
+    #            errors
+    public function next() returns @tainted Entity|ParserError? {
+        return externNextBodyPart(self);
+    }
+
+    # Closes the stream. The body parts which have been read can no longer be read after the stream is closed.
+    #
+    # + return - A `mime:ParserError` if the stream cannot be closed
+    public function close() returns ParserError? {
+        return externCloseBodyPartStream(self);
+    }
+}
+
+function externNextBodyPart(BodyPartStream bodyPartStream) returns @tainted Entity|ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeBodyPartStream",
+    name: "next"
+} external;
+
+function externCloseBodyPartStream(BodyPartStream bodyPartStream) returns ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeBodyPartStream",
+    name: "close"
+} external;
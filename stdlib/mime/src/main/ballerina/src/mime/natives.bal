@@ -402,6 +402,15 @@ public class Entity {
         return externGetBodyParts(self);
     }
 
+    # Gets the body parts of a multipart entity as a stream, which reads each body part as it arrives instead of
+    # decoding all of them upfront. Use this instead of `Entity.getBodyParts()` for large multipart bodies.
+    #
+    # + return - A `mime:BodyPartStream` or else a `mime:ParserError` if the entity body is not a multipart body or
+    #            if it has already been consumed
+    public function getBodyPartStream() returns @tainted BodyPartStream|ParserError {
+        return externGetBodyPartStream(self);
+    }
+
     # Gets the body parts as a byte channel from a given entity.
     #
     # + return - Body parts as a byte channel
@@ -591,6 +600,11 @@ function externGetBodyParts(Entity entity) returns Entity[]|ParserError = @java:
     name: "getBodyParts"
 } external;
 
+function externGetBodyPartStream(Entity entity) returns @tainted BodyPartStream|ParserError = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "getBodyPartStream"
+} external;
+
 function externGetBodyPartsAsChannel(Entity entity) returns @tainted io:ReadableByteChannel|ParserError = @java:Method {
     'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
     name: "getBodyPartsAsChannel"
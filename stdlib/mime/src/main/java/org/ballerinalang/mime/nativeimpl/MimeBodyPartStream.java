@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.mime.nativeimpl;
+
+import io.ballerina.runtime.api.values.BObject;
+import org.ballerinalang.mime.util.MimeUtil;
+import org.ballerinalang.mime.util.MultipartDecoder;
+import org.ballerinalang.mime.util.StreamingMultipartDecoder;
+
+import java.io.IOException;
+
+import static org.ballerinalang.mime.nativeimpl.MimeDataSourceBuilder.getErrorMsg;
+import static org.ballerinalang.mime.util.MimeConstants.BODY_PART_DECODER;
+import static org.ballerinalang.mime.util.MimeConstants.PARSER_ERROR;
+
+/**
+ * Functionality related to reading the body parts of a multipart entity one at a time.
+ *
+ * @since 2.0.0
+ */
+public class MimeBodyPartStream {
+
+    public static Object next(BObject bodyPartStream) {
+        StreamingMultipartDecoder decoder = (StreamingMultipartDecoder) bodyPartStream.getNativeData(
+                BODY_PART_DECODER);
+        try {
+            StreamingMultipartDecoder.Part part = decoder.nextPart();
+            return part == null ? null : MultipartDecoder.createBodyPart(part);
+        } catch (Throwable err) {
+            return MimeUtil.createError(PARSER_ERROR, "Error occurred while reading the next body part: " +
+                    getErrorMsg(err));
+        }
+    }
+
+    public static Object close(BObject bodyPartStream) {
+        StreamingMultipartDecoder decoder = (StreamingMultipartDecoder) bodyPartStream.getNativeData(
+                BODY_PART_DECODER);
+        try {
+            decoder.close();
+            return null;
+        } catch (IOException e) {
+            return MimeUtil.createError(PARSER_ERROR, "Error occurred while closing the body part stream: " +
+                    e.getMessage());
+        }
+    }
+}
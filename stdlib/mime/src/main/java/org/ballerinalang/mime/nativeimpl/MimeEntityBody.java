@@ -29,6 +29,7 @@ import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
+import org.ballerinalang.mime.util.StreamingMultipartDecoder;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.slf4j.Logger;
@@ -43,6 +44,8 @@ import static org.ballerinalang.mime.util.HeaderUtil.isMultipart;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_JSON;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_XML;
 import static org.ballerinalang.mime.util.MimeConstants.BODY_PARTS;
+import static org.ballerinalang.mime.util.MimeConstants.BODY_PART_DECODER;
+import static org.ballerinalang.mime.util.MimeConstants.BODY_PART_STREAM;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE_ERROR;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
@@ -124,6 +127,35 @@ public class MimeEntityBody {
         }
     }
 
+    public static Object getBodyPartStream(BObject entityObj) {
+        try {
+            String contentType = getContentTypeWithParameters(entityObj);
+            if (!isMultipart(contentType)) {
+                return MimeUtil.createError(PARSER_ERROR, "Entity body is not a type of multipart media type. " +
+                        "Received content-type : " + contentType);
+            }
+            String boundary = HeaderUtil.extractBoundaryParameter(contentType);
+            if (boundary == null) {
+                return MimeUtil.createError(PARSER_ERROR, "Boundary parameter is not found in the content-type : " +
+                        contentType);
+            }
+            Channel byteChannel = EntityBodyHandler.getByteChannel(entityObj);
+            if (byteChannel == null) {
+                return MimeUtil.createError(PARSER_ERROR, "Body parts are not available as a stream since the " +
+                        "entity body has already been consumed");
+            }
+            BObject bodyPartStream = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, BODY_PART_STREAM);
+            bodyPartStream.addNativeData(BODY_PART_DECODER, new StreamingMultipartDecoder(
+                    byteChannel.getInputStream(), boundary));
+            //The parent entity's byte channel is consumed by the stream
+            entityObj.addNativeData(ENTITY_BYTE_CHANNEL, null);
+            return bodyPartStream;
+        } catch (Throwable err) {
+            return MimeUtil.createError(PARSER_ERROR, "Error occurred while constructing a stream of body parts " +
+                    "from entity: " + getErrorMsg(err));
+        }
+    }
+
     public static Object getByteChannel(BObject entityObj) {
         BObject byteChannelObj;
         try {
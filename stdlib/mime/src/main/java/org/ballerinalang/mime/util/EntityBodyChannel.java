@@ -18,30 +18,62 @@
 
 package org.ballerinalang.mime.util;
 
+import org.ballerinalang.stdlib.io.channels.base.BufferPool;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ClosedChannelException;
 
 /**
  * Represent entity body as a byte channel.
+ * <p>
+ * Bytes are read from the stream straight into the array of the destination buffer. An intermediate buffer, which is
+ * taken from the {@link BufferPool}, is used only when the destination is not backed by an accessible array.
  *
  * @since 0.963.0
  */
 public class EntityBodyChannel implements ByteChannel {
+
+    private static final int TRANSFER_SIZE = 8192;
+
     private InputStream inputStream;
-    private ReadableByteChannel byteChannel;
+    private volatile boolean open = true;
 
     public EntityBodyChannel(InputStream inputStream) {
         this.inputStream = inputStream;
-        this.byteChannel = Channels.newChannel(inputStream);
     }
 
     @Override
     public int read(ByteBuffer dst) throws IOException {
-        return byteChannel.read(dst);
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        int length = dst.remaining();
+        if (length == 0) {
+            return 0;
+        }
+        if (dst.hasArray()) {
+            int position = dst.position();
+            int numberOfBytesRead = inputStream.read(dst.array(), dst.arrayOffset() + position, length);
+            if (numberOfBytesRead > 0) {
+                dst.position(position + numberOfBytesRead);
+            }
+            return numberOfBytesRead;
+        }
+        ByteBuffer transferBuffer = BufferPool.getInstance().acquire(Math.min(length, TRANSFER_SIZE));
+        try {
+            int numberOfBytesRead = inputStream.read(transferBuffer.array(), 0,
+                                                     Math.min(length, transferBuffer.capacity()));
+            if (numberOfBytesRead > 0) {
+                transferBuffer.limit(numberOfBytesRead);
+                dst.put(transferBuffer);
+            }
+            return numberOfBytesRead;
+        } finally {
+            BufferPool.getInstance().release(transferBuffer);
+        }
     }
 
     @Override
@@ -51,12 +83,12 @@ public class EntityBodyChannel implements ByteChannel {
 
     @Override
     public boolean isOpen() {
-        return byteChannel.isOpen();
+        return open;
     }
 
     @Override
     public void close() throws IOException {
-        byteChannel.close();
+        open = false;
         inputStream.close();
     }
 }
@@ -32,6 +32,7 @@ public class MimeConstants {
 
     public static final String ENTITY = "Entity";
     public static final String MEDIA_TYPE = "MediaType";
+    public static final String BODY_PART_STREAM = "BodyPartStream";
     public static final String CONTENT_DISPOSITION_STRUCT = "ContentDisposition";
     public static final String PROTOCOL_PACKAGE_MIME = BALLERINA_PACKAGE_PREFIX + "mime";
     public static final String PROTOCOL_MIME_PKG_VERSION = "1.0.0";
@@ -124,6 +125,7 @@ public class MimeConstants {
     public static final String ENTITY_BYTE_CHANNEL = "entity_byte_channel";
     public static final String MULTIPART_ENCODER = "MultipartEncoder";
     public static final String BODY_PARTS = "body_parts";
+    public static final String BODY_PART_DECODER = "body_part_decoder";
     public static final String TRANSPORT_MESSAGE = "transport_message";
     public static final String PARSE_AS_JSON = "PARSE_AS_TEXT";
 
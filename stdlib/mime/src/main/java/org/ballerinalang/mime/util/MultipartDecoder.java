@@ -36,6 +36,7 @@ import static org.ballerinalang.mime.util.MimeConstants.BOUNDARY;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_STRUCT;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_ID_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
+import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_ELEMENT;
 import static org.ballerinalang.mime.util.MimeConstants.MAX_THRESHOLD_PERCENTAGE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
@@ -123,6 +124,31 @@ public class MultipartDecoder {
         EntityBodyHandler.setPartsToTopLevelEntity(entity, bodyParts);
     }
 
+    /**
+     * Create a ballerina body part out of a part read by a {@link StreamingMultipartDecoder}. The body of the part is
+     * exposed as a byte channel which reads straight from the multipart stream.
+     *
+     * @param part Represent a body part which has been read up to its headers
+     * @return Ballerina body part
+     */
+    public static BObject createBodyPart(StreamingMultipartDecoder.Part part) {
+        BObject partStruct = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, ENTITY);
+        BObject mediaType = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, MEDIA_TYPE);
+        EntityHeaderHandler.populateBodyPartHeaders(partStruct, part.getAllHeaders());
+        populateContentLength(part.getHeader(MimeConstants.CONTENT_LENGTH), partStruct);
+        partStruct.set(CONTENT_ID_FIELD, StringUtils.fromString(part.getContentId()));
+        MimeUtil.setContentType(mediaType, partStruct, part.getContentType());
+        List<String> contentDispositionHeaders = part.getHeader(MimeConstants.CONTENT_DISPOSITION);
+        if (HeaderUtil.isHeaderExist(contentDispositionHeaders)) {
+            BObject contentDisposition = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID,
+                                                                        CONTENT_DISPOSITION_STRUCT);
+            populateContentDisposition(partStruct, contentDispositionHeaders, contentDisposition);
+        }
+        partStruct.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(new EntityBodyChannel(
+                part.getInputStream())));
+        return partStruct;
+    }
+
     /**
      * Populate ballerina body part with header info and actual body.
      *
@@ -133,7 +159,7 @@ public class MultipartDecoder {
     private static void populateBodyPart(MIMEPart mimePart, BObject partStruct,
                                          BObject mediaType) {
         EntityHeaderHandler.populateBodyPartHeaders(partStruct, mimePart.getAllHeaders());
-        populateContentLength(mimePart, partStruct);
+        populateContentLength(mimePart.getHeader(MimeConstants.CONTENT_LENGTH), partStruct);
         populateContentId(mimePart, partStruct);
         populateContentType(mimePart, partStruct, mediaType);
         List<String> contentDispositionHeaders = mimePart.getHeader(MimeConstants.CONTENT_DISPOSITION);
@@ -160,8 +186,7 @@ public class MultipartDecoder {
         partStruct.set(CONTENT_ID_FIELD, StringUtils.fromString(mimePart.getContentId()));
     }
 
-    private static void populateContentLength(MIMEPart mimePart, BObject partStruct) {
-        List<String> lengthHeaders = mimePart.getHeader(MimeConstants.CONTENT_LENGTH);
+    private static void populateContentLength(List<String> lengthHeaders, BObject partStruct) {
         if (HeaderUtil.isHeaderExist(lengthHeaders)) {
             MimeUtil.setContentLength(partStruct, Integer.parseInt(lengthHeaders.get(FIRST_ELEMENT)));
         } else {
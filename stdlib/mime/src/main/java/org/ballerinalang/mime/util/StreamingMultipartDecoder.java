@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.mime.util;
+
+import org.jvnet.mimepull.Header;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Decodes the body parts of a multipart stream one at a time, as they are pulled by the reader.
+ * </p>
+ * <p>
+ * Unlike {@link MultipartDecoder}, which reads the whole message and keeps the parts in memory or in temporary files,
+ * the body of a part is read straight from the underlying stream through {@link Part#getInputStream()}. Only a buffer
+ * of a fixed size is held, hence the memory used does not depend on the size of the message. The body of a part is
+ * readable until the next part is requested, any content of it which was not read is skipped at that point.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class StreamingMultipartDecoder implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MAX_HEADER_SIZE = 16 * 1024;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final InputStream inputStream;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    /**
+     * End of the body bytes in the buffer which have been scanned for a delimiter.
+     */
+    private int bodyLimit;
+    /**
+     * Whether a delimiter begins at the body limit.
+     */
+    private boolean delimiterReached;
+    private boolean endOfStream;
+    private boolean finished;
+    private Part currentPart;
+
+    /**
+     * Creates a decoder which reads the body parts separated by the given boundary.
+     *
+     * @param inputStream stream of the multipart body
+     * @param boundary    boundary parameter of the content type of the message
+     */
+    public StreamingMultipartDecoder(InputStream inputStream, String boundary) {
+        this(inputStream, boundary, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a decoder which reads the body parts separated by the given boundary through a buffer of the given size.
+     *
+     * @param inputStream stream of the multipart body
+     * @param boundary    boundary parameter of the content type of the message
+     * @param bufferSize  size of the buffer, which is at least twice the length of the delimiter
+     */
+    public StreamingMultipartDecoder(InputStream inputStream, String boundary, int bufferSize) {
+        if (boundary == null || boundary.isEmpty()) {
+            throw new IllegalArgumentException("Multipart boundary is not specified");
+        }
+        this.inputStream = inputStream;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        this.buffer = new byte[Math.max(bufferSize, delimiter.length * 2)];
+        // The first delimiter need not be preceded by a line break, hence one is assumed before the content
+        buffer[0] = CR;
+        buffer[1] = LF;
+        this.limit = 2;
+    }
+
+    /**
+     * Reads up to the headers of the next body part. The content of the previous part which has not been read is
+     * skipped.
+     *
+     * @return the next body part or null once the closing delimiter has been reached
+     * @throws IOException when the stream cannot be read or is not a valid multipart body
+     */
+    public Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (currentPart != null) {
+            currentPart.detach();
+        }
+        // Skips the remaining content of the previous part, or the preamble before the first part
+        while (skipBody() > 0) {
+            // Continues till the delimiter
+        }
+        position += delimiter.length;
+        delimiterReached = false;
+        if (!fill(2)) {
+            throw new IOException("Unexpected end of the multipart stream after a delimiter");
+        }
+        if (buffer[position] == DASH && buffer[position + 1] == DASH) {
+            finished = true;
+            currentPart = null;
+            return null;
+        }
+        readLine();
+        currentPart = new Part(readHeaders());
+        return currentPart;
+    }
+
+    /**
+     * Closes the underlying stream, any part which has been returned is no longer readable.
+     *
+     * @throws IOException when the underlying stream cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        if (currentPart != null) {
+            currentPart.detach();
+            currentPart = null;
+        }
+        inputStream.close();
+    }
+
+    private int skipBody() throws IOException {
+        int available = bodyBytesAvailable();
+        if (available > 0) {
+            position += available;
+        }
+        return available;
+    }
+
+    /**
+     * Gets the number of bytes of the current body which are available in the buffer, the buffer is filled if none
+     * are available.
+     *
+     * @return the number of bytes available in the buffer at the current position or 0 if the position is at a
+     * delimiter
+     * @throws IOException when the stream ends before a delimiter
+     */
+    private int bodyBytesAvailable() throws IOException {
+        while (true) {
+            if (position < bodyLimit || (delimiterReached && position == bodyLimit)) {
+                return bodyLimit - position;
+            }
+            int delimiterIndex = indexOfDelimiter(Math.max(position, bodyLimit));
+            if (delimiterIndex >= 0) {
+                bodyLimit = delimiterIndex;
+                delimiterReached = true;
+                continue;
+            }
+            // A delimiter may begin within the tail of the buffer, hence those bytes are not handed out yet
+            int safeLimit = limit - delimiter.length + 1;
+            if (safeLimit > position) {
+                bodyLimit = safeLimit;
+                continue;
+            }
+            if (!fill(delimiter.length)) {
+                throw new IOException("Unexpected end of the multipart stream, closing delimiter is not found");
+            }
+        }
+    }
+
+    private int indexOfDelimiter(int from) {
+        int last = limit - delimiter.length;
+        for (int i = from; i <= last; i++) {
+            if (buffer[i] != CR) {
+                continue;
+            }
+            int j = 1;
+            while (j < delimiter.length && buffer[i + j] == delimiter[j]) {
+                j++;
+            }
+            if (j == delimiter.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Fills the buffer till the given number of bytes are available from the current position.
+     *
+     * @param required the number of bytes required
+     * @return false if the stream ended before the required number of bytes were available
+     * @throws IOException when the stream cannot be read
+     */
+    private boolean fill(int required) throws IOException {
+        if (limit - position >= required) {
+            return true;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+            bodyLimit = 0;
+        }
+        while (limit < required && !endOfStream) {
+            int read = inputStream.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                endOfStream = true;
+            } else {
+                limit += read;
+            }
+        }
+        return limit >= required;
+    }
+
+    /**
+     * Reads a line terminated with CRLF or LF, without the terminator.
+     *
+     * @return the line
+     * @throws IOException when the line is longer than the maximum header size or the stream ends before it
+     */
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        while (true) {
+            if (!fill(1)) {
+                throw new IOException("Unexpected end of the multipart stream while reading the part headers");
+            }
+            byte current = buffer[position++];
+            if (current == LF) {
+                int length = line.length();
+                if (length > 0 && line.charAt(length - 1) == CR) {
+                    line.setLength(length - 1);
+                }
+                return line.toString();
+            }
+            if (line.length() >= MAX_HEADER_SIZE) {
+                throw new IOException("Body part headers exceed the maximum size of " + MAX_HEADER_SIZE + " bytes");
+            }
+            line.append((char) (current & 0xFF));
+        }
+    }
+
+    private List<PartHeader> readHeaders() throws IOException {
+        List<PartHeader> headers = new ArrayList<>();
+        int headerSize = 0;
+        StringBuilder header = null;
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            headerSize += line.length();
+            if (headerSize > MAX_HEADER_SIZE) {
+                throw new IOException("Body part headers exceed the maximum size of " + MAX_HEADER_SIZE + " bytes");
+            }
+            char first = line.charAt(0);
+            if ((first == ' ' || first == '\t') && header != null) {
+                // A folded header continues on this line
+                header.append(' ').append(line.trim());
+                continue;
+            }
+            addHeader(headers, header);
+            header = new StringBuilder(line);
+        }
+        addHeader(headers, header);
+        return headers;
+    }
+
+    private static void addHeader(List<PartHeader> headers, StringBuilder header) throws IOException {
+        if (header == null) {
+            return;
+        }
+        int separator = header.indexOf(":");
+        if (separator <= 0) {
+            throw new IOException("Invalid body part header: " + header);
+        }
+        headers.add(new PartHeader(header.substring(0, separator).trim(), header.substring(separator + 1).trim()));
+    }
+
+    /**
+     * A body part whose content is read from the multipart stream.
+     */
+    public class Part {
+
+        private final List<PartHeader> headers;
+        private final PartInputStream partInputStream = new PartInputStream();
+        private boolean detached;
+
+        private Part(List<PartHeader> headers) {
+            this.headers = headers;
+        }
+
+        /**
+         * Gets all the headers of the part in the order they were received.
+         *
+         * @return the headers of the part
+         */
+        public List<? extends Header> getAllHeaders() {
+            return Collections.unmodifiableList(headers);
+        }
+
+        /**
+         * Gets the values of a header.
+         *
+         * @param name case insensitive name of the header
+         * @return the values of the header or null if the header does not exist
+         */
+        public List<String> getHeader(String name) {
+            List<String> values = null;
+            for (PartHeader header : headers) {
+                if (header.getName().equalsIgnoreCase(name)) {
+                    if (values == null) {
+                        values = new ArrayList<>();
+                    }
+                    values.add(header.getValue());
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Gets the content type of the part, which defaults to {@code application/octet-stream} as with mimepull.
+         *
+         * @return the content type of the part
+         */
+        public String getContentType() {
+            List<String> values = getHeader(MimeConstants.CONTENT_TYPE);
+            return values == null ? MimeConstants.OCTET_STREAM : values.get(0);
+        }
+
+        /**
+         * Gets the content id of the part without the enclosing angle brackets.
+         *
+         * @return the content id or null if the part does not have one
+         */
+        public String getContentId() {
+            List<String> values = getHeader(MimeConstants.CONTENT_ID);
+            if (values == null) {
+                return null;
+            }
+            String contentId = values.get(0);
+            if (contentId.length() > 2 && contentId.charAt(0) == '<') {
+                return contentId.substring(1, contentId.length() - 1);
+            }
+            return contentId;
+        }
+
+        /**
+         * Gets the stream of the content of the part, which ends at the delimiter of the next part.
+         *
+         * @return the content of the part
+         */
+        public InputStream getInputStream() {
+            return partInputStream;
+        }
+
+        private void detach() {
+            detached = true;
+        }
+
+        /**
+         * Reads the content of the part out of the buffer of the decoder.
+         */
+        private class PartInputStream extends InputStream {
+
+            private boolean ended;
+
+            @Override
+            public int read() throws IOException {
+                byte[] single = new byte[1];
+                return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] destination, int offset, int length) throws IOException {
+                if (detached) {
+                    throw new IOException("Body part is no longer readable since the stream has moved past it");
+                }
+                if (length == 0) {
+                    return 0;
+                }
+                if (ended) {
+                    return -1;
+                }
+                int available = bodyBytesAvailable();
+                if (available == 0) {
+                    ended = true;
+                    return -1;
+                }
+                int count = Math.min(available, length);
+                System.arraycopy(buffer, position, destination, offset, count);
+                position += count;
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return detached || ended ? 0 : Math.max(bodyLimit - position, 0);
+            }
+        }
+    }
+
+    /**
+     * A header of a body part.
+     */
+    private static class PartHeader implements Header {
+
+        private final String name;
+        private final String value;
+
+        private PartHeader(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
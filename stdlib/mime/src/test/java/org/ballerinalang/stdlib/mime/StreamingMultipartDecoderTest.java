@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.mime;
+
+import org.ballerinalang.mime.util.StreamingMultipartDecoder;
+import org.ballerinalang.mime.util.StreamingMultipartDecoder.Part;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test cases for reading the body parts of a multipart stream one at a time.
+ *
+ * @since 2.0.0
+ */
+public class StreamingMultipartDecoderTest {
+
+    private static final String BOUNDARY = "e3a0b532dc8a7b4c";
+
+    @Test(description = "Read the headers and the content of each body part")
+    public void testReadParts() throws IOException {
+        String message = "This is the preamble\r\n" +
+                "--" + BOUNDARY + "\r\n" +
+                "Content-Type: text/plain\r\n" +
+                "Content-Id: <part1>\r\n" +
+                "Content-Disposition: form-data;\r\n" +
+                " name=\"first\"\r\n" +
+                "\r\n" +
+                "Hello\r\n" +
+                "World\r\n" +
+                "--" + BOUNDARY + "  \r\n" +
+                "\r\n" +
+                "\r\n" +
+                "--" + BOUNDARY + "--\r\n" +
+                "This is the epilogue";
+        StreamingMultipartDecoder decoder = new StreamingMultipartDecoder(stream(message), BOUNDARY);
+
+        Part first = decoder.nextPart();
+        Assert.assertEquals(first.getAllHeaders().size(), 3);
+        Assert.assertEquals(first.getContentType(), "text/plain");
+        Assert.assertEquals(first.getContentId(), "part1");
+        Assert.assertEquals(first.getHeader("content-disposition"),
+                            Collections.singletonList("form-data; name=\"first\""));
+        Assert.assertEquals(read(first.getInputStream()), "Hello\r\nWorld");
+
+        Part second = decoder.nextPart();
+        Assert.assertTrue(second.getAllHeaders().isEmpty());
+        Assert.assertEquals(second.getContentType(), "application/octet-stream");
+        Assert.assertNull(second.getContentId());
+        Assert.assertEquals(read(second.getInputStream()), "");
+
+        Assert.assertNull(decoder.nextPart());
+        Assert.assertNull(decoder.nextPart());
+        decoder.close();
+    }
+
+    @Test(description = "Skip the content of a part which was not read when the next part is requested")
+    public void testSkipUnreadPart() throws IOException {
+        String message = "--" + BOUNDARY + "\r\n\r\n" + repeat('a', 1000) + "\r\n" +
+                "--" + BOUNDARY + "\r\nContent-Type: text/plain\r\n\r\nsecond\r\n" +
+                "--" + BOUNDARY + "--";
+        StreamingMultipartDecoder decoder = new StreamingMultipartDecoder(stream(message), BOUNDARY, 64);
+        Part first = decoder.nextPart();
+        Assert.assertEquals(first.getInputStream().read(), 'a');
+
+        Part second = decoder.nextPart();
+        Assert.assertEquals(read(second.getInputStream()), "second");
+        try {
+            first.getInputStream().read();
+            Assert.fail("A body part which has been skipped should not be readable");
+        } catch (IOException e) {
+            Assert.assertEquals(e.getMessage(), "Body part is no longer readable since the stream has moved past it");
+        }
+        Assert.assertNull(decoder.nextPart());
+    }
+
+    @Test(description = "Read content which has partial delimiters spanning the boundaries of the buffer")
+    public void testPartialDelimiters() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            content.append("\r\n--").append(BOUNDARY, 0, i % BOUNDARY.length()).append(i).append('\r');
+        }
+        String message = "--" + BOUNDARY + "\r\n\r\n" + content + "\r\n--" + BOUNDARY + "--\r\n";
+        StreamingMultipartDecoder decoder = new StreamingMultipartDecoder(new TrickleInputStream(
+                message.getBytes(StandardCharsets.US_ASCII)), BOUNDARY, 48);
+        Part part = decoder.nextPart();
+        InputStream inputStream = part.getInputStream();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int read;
+        while ((read = inputStream.read()) != -1) {
+            outputStream.write(read);
+        }
+        Assert.assertEquals(new String(outputStream.toByteArray(), StandardCharsets.US_ASCII), content.toString());
+        Assert.assertNull(decoder.nextPart());
+    }
+
+    @Test(description = "Read a large part through a buffer of a fixed size")
+    public void testLargePart() throws IOException {
+        long size = 64L * 1024 * 1024;
+        InputStream message = new SequenceInputStream(Collections.enumeration(Arrays.asList(
+                stream("--" + BOUNDARY + "\r\n\r\n"), new CarriageReturnInputStream(size),
+                stream("\r\n--" + BOUNDARY + "--"))));
+        StreamingMultipartDecoder decoder = new StreamingMultipartDecoder(message, BOUNDARY);
+        InputStream inputStream = decoder.nextPart().getInputStream();
+        byte[] buffer = new byte[16 * 1024];
+        long total = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            total += read;
+        }
+        Assert.assertEquals(total, size);
+        Assert.assertNull(decoder.nextPart());
+    }
+
+    @Test(description = "Fail when the stream ends without a closing delimiter",
+          expectedExceptions = IOException.class,
+          expectedExceptionsMessageRegExp = "Unexpected end of the multipart stream, closing delimiter is not found")
+    public void testMissingClosingDelimiter() throws IOException {
+        String message = "--" + BOUNDARY + "\r\n\r\nincomplete";
+        StreamingMultipartDecoder decoder = new StreamingMultipartDecoder(stream(message), BOUNDARY);
+        read(decoder.nextPart().getInputStream());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static String repeat(char character, int count) {
+        char[] characters = new char[count];
+        Arrays.fill(characters, character);
+        return new String(characters);
+    }
+
+    /**
+     * Generates the given number of carriage returns, each of which could begin a delimiter.
+     */
+    private static class CarriageReturnInputStream extends InputStream {
+
+        private long remaining;
+
+        private CarriageReturnInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            return read(new byte[1], 0, 1) < 0 ? -1 : '\r';
+        }
+
+        @Override
+        public int read(byte[] destination, int offset, int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            Arrays.fill(destination, offset, offset + count, (byte) '\r');
+            remaining -= count;
+            return count;
+        }
+    }
+
+    /**
+     * Returns a few bytes for each read, as a network stream would.
+     */
+    private static class TrickleInputStream extends ByteArrayInputStream {
+
+        private TrickleInputStream(byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public synchronized int read(byte[] destination, int offset, int length) {
+            return super.read(destination, offset, Math.min(length, 5));
+        }
+    }
+}
@@ -18,21 +18,16 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
+import org.ballerinalang.stdlib.task.utils.TimerWheel;
 
-import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_MISFIRE_THRESHOLD_MILLIS;
 
 /**
- * Represents a Timer object used to create and run Timers.
+ * Represents a Timer object used to create and run Timers. Timers are run by the {@link TimerWheel} of the
+ * {@link TaskManager}, which dispatches each run onto the Ballerina scheduler.
  *
  * @since 0.995.0
  */
@@ -40,6 +35,17 @@ public class Timer extends AbstractTask {
 
     private long interval, delay;
 
+    /**
+     * The pending run of the timer, null if the timer is not running.
+     */
+    private TimerWheel.Timeout timeout;
+    /**
+     * The time of the next run as of {@link System#nanoTime()}, runs are aligned to the initial schedule.
+     */
+    private long nextRunTime;
+    private long runs;
+    private boolean paused;
+
     /**
      * Creates a Timer object.
      *
@@ -73,15 +79,53 @@ public class Timer extends AbstractTask {
      * {@inheritDoc}
      */
     @Override
-    public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+    public synchronized void start() throws SchedulingException {
+        if (timeout != null) {
+            throw new SchedulingException("Failed to schedule task, the task has already been started.");
+        }
+        runs = 0;
+        paused = false;
+        nextRunTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.getDelay());
+        scheduleNextRun();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+        paused = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        if (timeout != null && !paused) {
+            timeout.cancel();
+            paused = true;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (timeout == null || !paused) {
+            return;
+        }
+        paused = false;
+        // The runs missed while paused are skipped, the timer resumes at the next run of its schedule
+        skipMissedRuns(0);
+        scheduleNextRun();
+    }
+
     /**
      * Gets the interval of this Timer.
      *
@@ -119,49 +163,44 @@ public class Timer extends AbstractTask {
     }
 
     /**
-     * Schedule a Timer.
+     * Moves the next run to the next time of the schedule which is not yet due, if it is late by more than the given
+     * threshold.
      *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * @param threshold how late the next run could be, in nanoseconds
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private void skipMissedRuns(long threshold) {
+        long now = System.nanoTime();
+        if (nextRunTime < now - threshold) {
+            long intervalNanos = TimeUnit.MILLISECONDS.toNanos(this.getInterval());
+            nextRunTime += ((now - nextRunTime) / intervalNanos + 1) * intervalNanos;
         }
+    }
 
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
+    private void scheduleNextRun() {
+        timeout = TaskManager.getInstance().getTimerWheel().scheduleAt(this::run, nextRunTime);
     }
 
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
+    /**
+     * Runs the attached services and schedules the next run, unless the timer has run the maximum number of times.
+     */
+    private void run() {
+        synchronized (this) {
+            if (timeout == null || paused || !timeout.isExpired()) {
+                // The timer has been stopped, paused or restarted since this run was scheduled
+                return;
+            }
+            runs++;
+            if (this.getMaxRuns() > 0 && runs >= this.getMaxRuns()) {
+                timeout = null;
+            } else {
+                nextRunTime += TimeUnit.MILLISECONDS.toNanos(this.getInterval());
+                // Runs which are too late are skipped rather than run in a burst, as with the misfire threshold of Quartz
+                skipMissedRuns(TimeUnit.MILLISECONDS.toNanos(TIMER_MISFIRE_THRESHOLD_MILLIS));
+                scheduleNextRun();
+            }
+        }
+        for (ServiceInformation serviceInformation : this.getServicesMap().values()) {
+            TaskExecutor.executeFunction(serviceInformation);
         }
-        return simpleScheduleBuilder;
     }
 }
@@ -81,4 +81,10 @@ public class TaskConstants {
     public static final String QUARTZ_THREAD_COUNT_VALUE = "10";
     // Defines how late the trigger should be to be considered misfired
     public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
+
+    // Timer wheel which runs the timers
+    public static final long TIMER_WHEEL_TICK_MILLIS = 5;
+    public static final String TIMER_WHEEL_THREAD_NAME = "ballerina-task-timer-wheel";
+    // Defines how late a run of a timer should be to be skipped
+    public static final long TIMER_MISFIRE_THRESHOLD_MILLIS = 5000;
 }
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.task.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A hierarchical timing wheel which runs tasks after a delay.
+ * </p>
+ * <p>
+ * Time is divided into ticks of a fixed duration. The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots,
+ * where a slot of a level spans all the slots of the level below it. A timeout is placed in the lowest level which
+ * covers its deadline and is moved down a level each time the wheel turns past the slot holding it, until it expires
+ * from the lowest level. Scheduling and cancelling a timeout are hence O(1), regardless of the number of timeouts.
+ * </p>
+ * <p>
+ * The wheel is turned by a single worker thread. Timeouts are scheduled and cancelled through queues which are drained
+ * by the worker, so that callers never contend on the slots. Tasks are run on the worker thread, hence they should
+ * only hand the work over, as the task timers do by dispatching onto the Ballerina scheduler.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class TimerWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private final long tickNanos;
+    private final long startTime;
+    private final Bucket[][] wheel = new Bucket[LEVELS][SLOTS];
+    private final Queue<Timeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean shutdown;
+    /**
+     * Whether the worker is parked till a timeout is scheduled.
+     */
+    private volatile boolean idle;
+    /**
+     * The last tick which has been processed, only accessed by the worker.
+     */
+    private long currentTick;
+    /**
+     * Number of timeouts which are in the slots of the wheel, only accessed by the worker.
+     */
+    private int timeoutsInWheel;
+
+    /**
+     * Creates a timer wheel and starts its worker thread.
+     *
+     * @param tickDuration duration of a tick, which is the precision of the deadlines
+     * @param unit         unit of the tick duration
+     * @param threadName   name of the worker thread
+     */
+    public TimerWheel(long tickDuration, TimeUnit unit, String threadName) {
+        this.tickNanos = unit.toNanos(tickDuration);
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick duration should be a positive value");
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[level][slot] = new Bucket();
+            }
+        }
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task  task to run
+     * @param delay delay before running the task
+     * @param unit  unit of the delay
+     * @return a handle to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return scheduleAt(task, System.nanoTime() + unit.toNanos(Math.max(delay, 0)));
+    }
+
+    /**
+     * Schedules a task to run once at the given time.
+     *
+     * @param task     task to run
+     * @param deadline time as of {@link System#nanoTime()} at which the task should run
+     * @return a handle to cancel the task
+     */
+    public Timeout scheduleAt(Runnable task, long deadline) {
+        if (shutdown) {
+            throw new IllegalStateException("Timer wheel has been shut down");
+        }
+        long elapsed = Math.max(deadline - startTime, 0);
+        // Rounded up, so that a task never runs before its deadline
+        Timeout timeout = new Timeout(this, task, deadline, (elapsed + tickNanos - 1) / tickNanos);
+        pendingCount.incrementAndGet();
+        scheduledTimeouts.add(timeout);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    /**
+     * Gets the number of timeouts which have been scheduled but have neither expired nor been cancelled.
+     *
+     * @return the number of pending timeouts
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Gets the number of timeouts which have expired since the wheel was created.
+     *
+     * @return the number of expired timeouts
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    /**
+     * Stops the worker thread, the pending timeouts will not expire.
+     */
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(worker);
+    }
+
+    private void run() {
+        while (!shutdown) {
+            long dueTick = (System.nanoTime() - startTime) / tickNanos;
+            removeCancelledTimeouts();
+            addScheduledTimeouts();
+            if (timeoutsInWheel == 0) {
+                // Nothing to expire, hence the wheel can skip straight to the due tick
+                currentTick = Math.max(currentTick, dueTick);
+            }
+            while (currentTick < dueTick) {
+                tick();
+            }
+            if (timeoutsInWheel == 0) {
+                // The queue is checked after the flag is set, so that a timeout scheduled meanwhile either is seen
+                // here or unparks the worker
+                idle = true;
+                if (scheduledTimeouts.isEmpty() && !shutdown) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+            } else {
+                long nextTickTime = startTime + (currentTick + 1) * tickNanos;
+                LockSupport.parkNanos(this, nextTickTime - System.nanoTime());
+            }
+        }
+    }
+
+    private void tick() {
+        currentTick++;
+        int topLevel = 0;
+        while (topLevel + 1 < LEVELS && (currentTick & ((1L << (SLOT_BITS * (topLevel + 1))) - 1)) == 0) {
+            topLevel++;
+        }
+        // Moves the timeouts of a higher level slot down once the lower levels have turned past it. The higher
+        // levels go first, as their timeouts may move into the current slot of a lower level.
+        for (int level = topLevel; level > 0; level--) {
+            Bucket bucket = wheel[level][(int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK];
+            Timeout timeout = bucket.clear();
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.next = null;
+                timeout.previous = null;
+                timeoutsInWheel--;
+                place(timeout);
+                timeout = next;
+            }
+        }
+        Bucket bucket = wheel[0][(int) currentTick & SLOT_MASK];
+        Timeout timeout = bucket.clear();
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+            timeout.previous = null;
+            timeoutsInWheel--;
+            if (timeout.deadlineTick <= currentTick) {
+                expire(timeout);
+            } else {
+                // A deadline beyond the span of the wheel, which is placed in the farthest slot till it comes closer
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void addScheduledTimeouts() {
+        Timeout timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            place(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                timeoutsInWheel--;
+            }
+        }
+    }
+
+    /**
+     * Places a timeout in the lowest level whose slots cover its deadline.
+     *
+     * @param timeout the timeout to place
+     */
+    private void place(Timeout timeout) {
+        if (timeout.state.get() == STATE_CANCELLED) {
+            return;
+        }
+        long deadlineTick = timeout.deadlineTick;
+        if (deadlineTick <= currentTick) {
+            expire(timeout);
+            return;
+        }
+        int level = 0;
+        long slotTick = deadlineTick;
+        while (level < LEVELS) {
+            int shift = SLOT_BITS * level;
+            if ((deadlineTick >>> shift) - (currentTick >>> shift) < SLOTS) {
+                break;
+            }
+            level++;
+        }
+        if (level == LEVELS) {
+            level = LEVELS - 1;
+            slotTick = currentTick + ((long) SLOT_MASK << (SLOT_BITS * level));
+        }
+        Bucket bucket = wheel[level][(int) (slotTick >>> (SLOT_BITS * level)) & SLOT_MASK];
+        bucket.add(timeout);
+        timeoutsInWheel++;
+    }
+
+    private void expire(Timeout timeout) {
+        if (!timeout.state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+            return;
+        }
+        pendingCount.decrementAndGet();
+        expiredCount.incrementAndGet();
+        try {
+            timeout.task.run();
+        } catch (Throwable t) {
+            // The error is reported without stopping the worker, as the other timeouts still need to expire
+            worker.getUncaughtExceptionHandler().uncaughtException(worker, t);
+        }
+    }
+
+    /**
+     * A handle of a task which has been scheduled on the wheel.
+     */
+    public static class Timeout {
+
+        private final TimerWheel timerWheel;
+        private final Runnable task;
+        private final long deadline;
+        private final long deadlineTick;
+        private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+        // Links of the bucket which holds the timeout, only accessed by the worker
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout previous;
+
+        private Timeout(TimerWheel timerWheel, Runnable task, long deadline, long deadlineTick) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return true if the task was cancelled, false if it has already run or been cancelled
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+                return false;
+            }
+            timerWheel.pendingCount.decrementAndGet();
+            timerWheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        /**
+         * Gets the time at which the task is due.
+         *
+         * @return the deadline as of {@link System#nanoTime()}
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts in a slot.
+     */
+    private static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.next = null;
+            timeout.previous = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Removes all the timeouts of the bucket.
+         *
+         * @return the first of the removed timeouts, which are still linked to each other
+         */
+        private Timeout clear() {
+            Timeout first = head;
+            for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
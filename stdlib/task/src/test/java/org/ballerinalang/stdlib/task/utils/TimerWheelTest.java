@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.task.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the timer wheel which runs the task timers.
+ *
+ * @since 2.0.0
+ */
+public class TimerWheelTest {
+
+    private TimerWheel timerWheel;
+
+    @BeforeClass
+    public void setup() {
+        timerWheel = new TimerWheel(1, TimeUnit.MILLISECONDS, "timer-wheel-test");
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        timerWheel.shutdown();
+    }
+
+    @Test(description = "Run the tasks in the order of their deadlines, not before the deadlines")
+    public void testExpiryOrder() throws InterruptedException {
+        ConcurrentLinkedQueue<Integer> order = new ConcurrentLinkedQueue<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        long start = System.nanoTime();
+        long[] expiredAt = new long[3];
+        int[] delays = {150, 10, 80};
+        for (int i = 0; i < delays.length; i++) {
+            int index = i;
+            timerWheel.schedule(() -> {
+                expiredAt[index] = System.nanoTime();
+                order.add(delays[index]);
+                latch.countDown();
+            }, delays[i], TimeUnit.MILLISECONDS);
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(new ArrayList<>(order), Arrays.asList(10, 80, 150));
+        for (int i = 0; i < delays.length; i++) {
+            Assert.assertTrue(expiredAt[i] - start >= TimeUnit.MILLISECONDS.toNanos(delays[i]));
+        }
+    }
+
+    @Test(description = "Do not run the tasks which have been cancelled")
+    public void testCancel() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        TimerWheel.Timeout cancelled = timerWheel.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        TimerWheel.Timeout expired = timerWheel.schedule(latch::countDown, 60, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(cancelled.cancel());
+        Assert.assertFalse(cancelled.cancel());
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(runs.get(), 0);
+        Assert.assertTrue(cancelled.isCancelled());
+        Assert.assertTrue(expired.isExpired());
+        Assert.assertFalse(expired.cancel());
+    }
+
+    @Test(description = "Run only the tasks which are not cancelled out of many scheduled timeouts")
+    public void testCancelManyTimeouts() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS, "timer-wheel-cancel-test");
+        try {
+            int count = 100000;
+            CountDownLatch latch = new CountDownLatch(count / 2);
+            AtomicInteger cancelledRuns = new AtomicInteger();
+            TimerWheel.Timeout[] timeouts = new TimerWheel.Timeout[count];
+            for (int i = 0; i < count; i++) {
+                Runnable task = i % 2 == 0 ? cancelledRuns::incrementAndGet : latch::countDown;
+                // The deadlines are far enough for all the timeouts to be cancelled before the first one expires
+                timeouts[i] = wheel.schedule(task, 1000 + i % 1000, TimeUnit.MILLISECONDS);
+            }
+            for (int i = 0; i < count; i += 2) {
+                Assert.assertTrue(timeouts[i].cancel());
+            }
+            // A cancelled timeout stops being pending at once, without waiting for the worker to remove it
+            Assert.assertEquals(wheel.getPendingCount(), count / 2);
+
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(cancelledRuns.get(), 0);
+            Assert.assertEquals(wheel.getPendingCount(), 0);
+            Assert.assertEquals(wheel.getExpiredCount(), count / 2);
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals(timeouts[i].isExpired(), i % 2 != 0);
+                Assert.assertEquals(timeouts[i].isCancelled(), i % 2 == 0);
+            }
+        } finally {
+            wheel.shutdown();
+        }
+    }
+
+    @Test(description = "Move the timeouts of the higher levels down till they expire")
+    public void testCascade() throws InterruptedException {
+        // Deadlines of more than 64 ticks are placed in the higher levels of the wheel
+        int[] delays = {63, 64, 65, 127, 128, 4095, 4096, 4097};
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        AtomicInteger early = new AtomicInteger();
+        for (int delay : delays) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            timerWheel.scheduleAt(() -> {
+                if (System.nanoTime() < deadline) {
+                    early.incrementAndGet();
+                }
+                latch.countDown();
+            }, deadline);
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(early.get(), 0);
+    }
+
+    @Test(description = "Run a task which has already passed its deadline at once")
+    public void testPastDeadline() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        timerWheel.scheduleAt(latch::countDown, System.nanoTime() - TimeUnit.SECONDS.toNanos(1));
+        Assert.assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,86 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Scheduler throughput benchmarks. Run these with the `BALLERINA_SCHEDULER_MODE` environment variable set to
+// `global` (default) and `work-stealing` to compare the two run queue implementations.
+
+const int STRAND_BATCH_SIZE = 1000;
+const int STRAND_WORK_SIZE = 100;
+const int STRAND_TREE_DEPTH = 10;
+
+isolated function strandWork(int size) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < size) {
+        sum += i;
+        i += 1;
+    }
+    return sum;
+}
+
+function startAndWaitStrands(int count) {
+    int remaining = count;
+    while (remaining > 0) {
+        int batchSize = remaining < STRAND_BATCH_SIZE ? remaining : STRAND_BATCH_SIZE;
+        future<int>[] futures = [];
+        int i = 0;
+        while (i < batchSize) {
+            futures.push(start strandWork(STRAND_WORK_SIZE));
+            i += 1;
+        }
+        foreach var f in futures {
+            int result = wait f;
+        }
+        remaining -= batchSize;
+    }
+}
+
+function strandTree(int depth) returns int {
+    if (depth == 0) {
+        return strandWork(STRAND_WORK_SIZE);
+    }
+    future<int> left = start strandTree(depth - 1);
+    future<int> right = start strandTree(depth - 1);
+    int leftResult = wait left;
+    int rightResult = wait right;
+    return leftResult + rightResult;
+}
+
+function startAndWaitStrandTrees(int count) {
+    int i = 0;
+    while (i < count) {
+        int result = strandTree(STRAND_TREE_DEPTH);
+        i += 1;
+    }
+}
+
+public function benchmarkStrandStartAndWait(int warmupCount, int benchmarkCount) returns int {
+    startAndWaitStrands(warmupCount);
+
+    int startTime = nanoTime();
+    startAndWaitStrands(benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkStrandTree(int warmupCount, int benchmarkCount) returns int {
+    // Each tree starts 2^(STRAND_TREE_DEPTH + 1) - 2 strands, hence scale down the iteration counts.
+    int treeSize = 2 * (1 << STRAND_TREE_DEPTH);
+    startAndWaitStrandTrees(warmupCount / treeSize);
+
+    int startTime = nanoTime();
+    startAndWaitStrandTrees(benchmarkCount / treeSize);
+    return nanoTime() - startTime;
+}
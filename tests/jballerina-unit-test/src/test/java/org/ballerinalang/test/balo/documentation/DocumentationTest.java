@@ -24,12 +24,15 @@ import org.ballerinalang.test.CompileResult;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.writer.CPEntry;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.Name;
 
+import java.lang.reflect.Field;
+
 /**
  * Test cases for Documentation in BALO.
  */
@@ -52,62 +55,110 @@ public class DocumentationTest {
         BPackageSymbol testOrgPackage = (BPackageSymbol) symbol.scope.lookup(new Name("test_documentation")).symbol;
         BSymbol functionSymbol = testOrgPackage.scope.lookup(new Name("open")).symbol;
 
-        Assert.assertNotNull(functionSymbol.markdownDocumentation);
-        Assert.assertEquals(functionSymbol.markdownDocumentation.description.replaceAll(CARRIAGE_RETURN_CHAR,
+        Assert.assertNotNull(functionSymbol.getMarkdownDocAttachment());
+        Assert.assertEquals(functionSymbol.getMarkdownDocAttachment().description.replaceAll(CARRIAGE_RETURN_CHAR,
                 EMPTY_STRING), "Gets a access parameter value (`true` or `false`) for a given key. Please note that " +
                 "#foo will always be bigger than #bar.\nExample:\n``SymbolEnv pkgEnv = symbolEnter.packageEnvs.get" +
                 "(pkgNode.symbol);``");
-        Assert.assertEquals(functionSymbol.markdownDocumentation.parameters.size(), 1);
-        Assert.assertEquals(functionSymbol.markdownDocumentation.parameters.get(0).description
+        Assert.assertEquals(functionSymbol.getMarkdownDocAttachment().parameters.size(), 1);
+        Assert.assertEquals(functionSymbol.getMarkdownDocAttachment().parameters.get(0).description
                 .replaceAll(CARRIAGE_RETURN_CHAR, EMPTY_STRING), "read or write mode");
 
-        Assert.assertNotNull(functionSymbol.markdownDocumentation.returnValueDescription);
-        Assert.assertEquals(functionSymbol.markdownDocumentation.returnValueDescription.replaceAll
+        Assert.assertNotNull(functionSymbol.getMarkdownDocAttachment().returnValueDescription);
+        Assert.assertEquals(functionSymbol.getMarkdownDocAttachment().returnValueDescription.replaceAll
                 (CARRIAGE_RETURN_CHAR, EMPTY_STRING), "success or not");
 
         BSymbol personSymbol = testOrgPackage.scope.lookup(new Name("Person")).symbol;
-        Assert.assertNotNull(personSymbol.markdownDocumentation);
-        Assert.assertEquals(personSymbol.markdownDocumentation.description.replaceAll(CARRIAGE_RETURN_CHAR,
+        Assert.assertNotNull(personSymbol.getMarkdownDocAttachment());
+        Assert.assertEquals(personSymbol.getMarkdownDocAttachment().description.replaceAll(CARRIAGE_RETURN_CHAR,
                 EMPTY_STRING),
                 "Represents a Person type in ballerina.");
-        Assert.assertEquals(personSymbol.markdownDocumentation.parameters.size(), 1);
-        Assert.assertEquals(personSymbol.markdownDocumentation.parameters.get(0).description
+        Assert.assertEquals(personSymbol.getMarkdownDocAttachment().parameters.size(), 1);
+        Assert.assertEquals(personSymbol.getMarkdownDocAttachment().parameters.get(0).description
                 .replaceAll(CARRIAGE_RETURN_CHAR, EMPTY_STRING), "name of the person.");
 
         BSymbol personNameSymbol = personSymbol.scope.lookup(new Name("name")).symbol;
-        Assert.assertNotNull(personNameSymbol.markdownDocumentation);
-        Assert.assertNull(personNameSymbol.markdownDocumentation.description);
-        Assert.assertEquals(personNameSymbol.markdownDocumentation.parameters.size(), 0);
-        Assert.assertNull(personNameSymbol.markdownDocumentation.returnValueDescription);
+        Assert.assertNotNull(personNameSymbol.getMarkdownDocAttachment());
+        Assert.assertNull(personNameSymbol.getMarkdownDocAttachment().description);
+        Assert.assertEquals(personNameSymbol.getMarkdownDocAttachment().parameters.size(), 0);
+        Assert.assertNull(personNameSymbol.getMarkdownDocAttachment().returnValueDescription);
 
         BObjectTypeSymbol personObjSymbol = (BObjectTypeSymbol) personSymbol;
 
         BSymbol getNameFuncSymbol = personObjSymbol.scope.lookup(new Name("Person.getName")).symbol;
-        Assert.assertNotNull(getNameFuncSymbol.markdownDocumentation);
-        Assert.assertEquals(getNameFuncSymbol.markdownDocumentation.description.replaceAll
+        Assert.assertNotNull(getNameFuncSymbol.getMarkdownDocAttachment());
+        Assert.assertEquals(getNameFuncSymbol.getMarkdownDocAttachment().description.replaceAll
                 (CARRIAGE_RETURN_CHAR, EMPTY_STRING), "get the users name.");
-        Assert.assertEquals(getNameFuncSymbol.markdownDocumentation.parameters.size(), 1);
-        Assert.assertEquals(getNameFuncSymbol.markdownDocumentation.parameters.get(0).description
+        Assert.assertEquals(getNameFuncSymbol.getMarkdownDocAttachment().parameters.size(), 1);
+        Assert.assertEquals(getNameFuncSymbol.getMarkdownDocAttachment().parameters.get(0).description
                 .replaceAll(CARRIAGE_RETURN_CHAR, EMPTY_STRING), "integer value");
 
         BSymbol isMaleFuncSymbol = personObjSymbol.scope.lookup(new Name("Person.isMale")).symbol;
-        Assert.assertNotNull(isMaleFuncSymbol.markdownDocumentation);
-        Assert.assertEquals(isMaleFuncSymbol.markdownDocumentation.description.replaceAll(CARRIAGE_RETURN_CHAR,
+        Assert.assertNotNull(isMaleFuncSymbol.getMarkdownDocAttachment());
+        Assert.assertEquals(isMaleFuncSymbol.getMarkdownDocAttachment().description.replaceAll(CARRIAGE_RETURN_CHAR,
                 EMPTY_STRING), "Indicate whether this is a male or female.");
-        Assert.assertEquals(isMaleFuncSymbol.markdownDocumentation.parameters.size(), 0);
-        Assert.assertNotNull(isMaleFuncSymbol.markdownDocumentation.returnValueDescription);
-        Assert.assertEquals(isMaleFuncSymbol.markdownDocumentation.returnValueDescription
+        Assert.assertEquals(isMaleFuncSymbol.getMarkdownDocAttachment().parameters.size(), 0);
+        Assert.assertNotNull(isMaleFuncSymbol.getMarkdownDocAttachment().returnValueDescription);
+        Assert.assertEquals(isMaleFuncSymbol.getMarkdownDocAttachment().returnValueDescription
                 .replaceAll(CARRIAGE_RETURN_CHAR, EMPTY_STRING), "True if male");
     }
 
+    @Test(description = "Test doc attachments in Balo are read when first accessed")
+    public void testDocAttachmentLoadedOnAccess() {
+        BPackageSymbol testOrgPackage = (BPackageSymbol) symbol.scope.lookup(new Name("test_documentation")).symbol;
+        BSymbol recordSymbol = testOrgPackage.scope.lookup(new Name("Tst")).symbol;
+
+        Assert.assertNull(getField(recordSymbol, "markdownDocumentation"));
+        Assert.assertNotNull(getField(recordSymbol, "markdownDocumentationLoader"));
+        MarkdownDocAttachment markdownDocumentation = recordSymbol.getMarkdownDocAttachment();
+        Assert.assertEquals(markdownDocumentation.description, "Documentation for Test annotation");
+        Assert.assertEquals(markdownDocumentation.parameters.size(), 3);
+        Assert.assertSame(getField(recordSymbol, "markdownDocumentation"), markdownDocumentation);
+        Assert.assertNull(getField(recordSymbol, "markdownDocumentationLoader"));
+    }
+
+    @Test(description = "Test doc attachments in Balo keep only their own strings till they are read")
+    public void testDocAttachmentLoaderKeepsOnlyDocStrings() {
+        BPackageSymbol testOrgPackage = (BPackageSymbol) symbol.scope.lookup(new Name("test_documentation")).symbol;
+        BSymbol functionSymbol = testOrgPackage.scope.lookup(new Name("menu")).symbol;
+
+        // The loader captures the description, the return value description and the name and the description of
+        // the parameter, but neither the constant pool nor the symbol enter of the module
+        Object loader = getField(functionSymbol, "markdownDocumentationLoader");
+        Assert.assertNotNull(loader);
+        Field[] capturedFields = loader.getClass().getDeclaredFields();
+        Assert.assertEquals(capturedFields.length, 1);
+        Assert.assertEquals(capturedFields[0].getType(), CPEntry.StringCPEntry[].class);
+
+        // The strings are decoded as UTF-8, the same as they are written
+        MarkdownDocAttachment markdownDocumentation = functionSymbol.getMarkdownDocAttachment();
+        Assert.assertEquals(markdownDocumentation.description,
+                "Gets the menu of the caf\u00e9 in a given language, such as \u65e5\u672c\u8a9e.");
+        Assert.assertEquals(markdownDocumentation.parameters.size(), 1);
+        Assert.assertEquals(markdownDocumentation.parameters.get(0).name, "language");
+        Assert.assertEquals(markdownDocumentation.parameters.get(0).description,
+                "language of the menu, such as fran\u00e7ais");
+        Assert.assertEquals(markdownDocumentation.returnValueDescription, "the menu");
+    }
+
     @Test(description = "Test doc attachments in annotations")
     public void testAnnotationDoc() {
         BPackageSymbol testOrgPackage = (BPackageSymbol) symbol.scope.lookup(new Name("test_documentation")).symbol;
         BSymbol annotationSymbol = testOrgPackage.scope.lookup(new Name("Test")).symbol;
 
-        MarkdownDocAttachment markdownDocumentation = annotationSymbol.markdownDocumentation;
+        MarkdownDocAttachment markdownDocumentation = annotationSymbol.getMarkdownDocAttachment();
 
-        Assert.assertNotNull(annotationSymbol.markdownDocumentation);
+        Assert.assertNotNull(annotationSymbol.getMarkdownDocAttachment());
         Assert.assertEquals(markdownDocumentation.description, "Documentation for Test annotation");
     }
+
+    private static Object getField(BSymbol symbol, String fieldName) {
+        try {
+            Field field = BSymbol.class.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field.get(symbol);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new AssertionError("cannot read the field " + fieldName, e);
+        }
+    }
 }
@@ -17,6 +17,9 @@
 
 package org.ballerinalang.test.lock;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.BLock;
 import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
@@ -24,6 +27,7 @@ import org.ballerinalang.test.CompileResult;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -69,4 +73,15 @@ public class FieldLockTest {
         BValue[] returns2 = BRunUtil.invoke(compileResult2, "arrayFieldLock");
         assertTrue((returns2[0].stringValue().equals("1001000") || returns2[0].stringValue().equals("500500")));
     }
+
+    @Test(description = "Test the field locks of a newly created object")
+    public void testFieldLocksOfNewObject() throws ReflectiveOperationException {
+
+        BObject student = (BObject) BRunUtil.invokeAndGetJVMResult(compileResult, "lockFieldOfNewObject");
+        assertEquals(student.get(StringUtils.fromString("score")), 10L);
+
+        // Each field gets its own lock, named after the object type and the field
+        BLock lock = (BLock) student.getClass().getField("$lockscore").get(student);
+        assertEquals(lock.getName(), "Student.score");
+    }
 }
@@ -115,6 +115,12 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clause matching keys by value rather than by string representation")
+    public void testJoinClauseComparesKeysByValue() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseComparesKeysByValue");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(groups = {"disableOnOldParser"}, description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
@@ -20,6 +20,9 @@ package org.ballerinalang.test.record;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
@@ -28,6 +31,7 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.StringJoiner;
 
@@ -170,6 +174,34 @@ public class RecordValueTest {
         person.clear();
     }
 
+    @Test
+    public void testStaticallyKnownFieldAccess() {
+        BRunUtil.invoke(compileResult, "testStaticallyKnownFieldAccess");
+    }
+
+    @Test
+    public void testFieldAccessMatchesKeyLookup() {
+        BValue[] args = {new BInteger(100)};
+        BValue[] fieldAccess = BRunUtil.invoke(compileResult, "sumWithFieldAccess", args);
+        BValue[] keyLookup = BRunUtil.invoke(compileResult, "sumWithKeyLookup", args);
+        Assert.assertEquals(((BInteger) fieldAccess[0]).intValue(), 14850);
+        Assert.assertEquals(((BInteger) keyLookup[0]).intValue(), 14850);
+    }
+
+    @Test
+    public void testNativeDataAllocatedOnFirstUse() throws ReflectiveOperationException {
+        MapValueImpl<?, ?> person = (MapValueImpl<?, ?>) BRunUtil.invokeAndGetJVMResult(compileResult,
+                                                                                          "getNewPerson");
+        Field nativeData = MapValueImpl.class.getDeclaredField("nativeData");
+        nativeData.setAccessible(true);
+        Assert.assertNull(nativeData.get(person));
+        Assert.assertNull(person.getNativeData("key"));
+        Assert.assertNull(nativeData.get(person));
+
+        person.addNativeData("key", "value");
+        Assert.assertEquals(person.getNativeData("key"), "value");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
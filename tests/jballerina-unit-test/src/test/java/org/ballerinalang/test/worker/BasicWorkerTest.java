@@ -91,6 +91,13 @@ public class BasicWorkerTest {
         Assert.assertEquals(result.get("w"), result.get("w2"));
     }
 
+    @Test
+    public void messageOrderTest() {
+        BValue[] vals = BRunUtil.invoke(result, "messageOrderTest", new BValue[0]);
+        Assert.assertEquals(vals.length, 1);
+        Assert.assertEquals(vals[0].stringValue(), "12_345678910");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
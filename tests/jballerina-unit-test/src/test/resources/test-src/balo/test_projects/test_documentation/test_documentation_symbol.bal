@@ -38,3 +38,10 @@ public type Tst record {
 
 # Documentation for Test annotation
 public annotation Tst Test on function;
+
+# Gets the menu of the café in a given language, such as 日本語.
+# + language - language of the menu, such as français
+# + return - the menu
+public function menu(string language) returns string {
+    return "";
+}
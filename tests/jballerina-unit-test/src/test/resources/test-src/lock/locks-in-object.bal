@@ -94,6 +94,16 @@ function incrementParam(Student param, person p) {
     }
 }
 
+//----------------------------------------------------
+// Test locking a field of a newly created object
+function lockFieldOfNewObject() returns Student {
+    Student st = new;
+    lock {
+        st.score = st.score + 10;
+    }
+    return st;
+}
+
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Sleep"
 } external;
@@ -455,3 +455,21 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type Item record {|
+    int|string code;
+    string name;
+|};
+
+function testJoinClauseComparesKeysByValue() returns boolean {
+    Item[] lhs = [{code: 1, name: "int"}, {code: "1", name: "string"}];
+    Item[] rhs = [{code: "1", name: "A"}, {code: 2, name: "B"}, {code: "1", name: "C"}];
+
+    string[] names =
+       from var l in lhs
+       join var r in rhs
+       on l.code equals r.code
+       select l.name + r.name;
+
+    return names.length() == 2 && names[0] == "stringA" && names[1] == "stringC";
+}
@@ -28,3 +28,83 @@ function getNewPerson() returns Person {
 	Person p = {name: "Jane", age: 25, spouse: "John", "gender": "female"};
 	return p;
 }
+
+type Counter record {|
+    int count;
+    float total = 0.0;
+    string label?;
+|};
+
+type LabelledCounter record {|
+    int count;
+    float total = 0.0;
+    string label = "default";
+|};
+
+function testStaticallyKnownFieldAccess() {
+    Counter c = {count: 1};
+    c.count = c.count + 41;
+    c.total += 1.5;
+    assertEquality(42, c.count);
+    assertEquality(1.5, c.total);
+
+    assertEquality((), c["label"]);
+    c.label = "hits";
+    assertEquality("hits", c["label"]);
+    assertEquality(["count", "total", "label"], c.keys());
+
+    // a value of a subtype, with a different value class
+    Counter sub = <LabelledCounter> {count: 3};
+    sub.count = sub.count + 1;
+    assertEquality(4, sub.count);
+    assertEquality("default", sub["label"]);
+
+    Counter frozen = c.cloneReadOnly();
+    assertEquality(42, frozen.count);
+    var fn = function () {
+        frozen.count = 0;
+    };
+    error? res = trap fn();
+    assertEquality(true, res is error);
+    error err = <error> res;
+    assertEquality("{ballerina/lang.map}InvalidUpdate", err.message());
+    assertEquality(42, frozen.count);
+}
+
+type Point record {|
+    int x;
+    int y;
+    float weight = 1.0;
+|};
+
+function sumWithFieldAccess(int iterations) returns int {
+    Point p = {x: 0, y: 0};
+    int sum = 0;
+    foreach int i in 0 ..< iterations {
+        p.x = i;
+        p.y = i * 2;
+        sum += p.x + p.y;
+    }
+    return sum;
+}
+
+function sumWithKeyLookup(int iterations) returns int {
+    Point p = {x: 0, y: 0};
+    // the static type of the view does not tell which fields the value has, so these are looked up by name
+    record {} view = p;
+    int sum = 0;
+    foreach int i in 0 ..< iterations {
+        view["x"] = i;
+        view["y"] = i * 2;
+        sum += <int> view["x"] + <int> view["y"];
+    }
+    return sum;
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString () + "'");
+}
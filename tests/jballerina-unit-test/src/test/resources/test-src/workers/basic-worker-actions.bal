@@ -119,6 +119,55 @@ function workerSameThreadTest() returns any {
     return res;
 }
 
+function messageOrderTest() returns string {
+    @strand{thread:"any"}
+    worker w1 {
+        int? nilValue = ();
+        1 -> w2;
+        2 -> w2;
+        nilValue -> w2;
+        3 -> w2;
+        sleep(10);
+        4 -> w2;
+        5 -> w2;
+        6 -> w2;
+        7 -> w2;
+        8 -> w2;
+        9 -> w2;
+        10 -> w2;
+    }
+
+    @strand{thread:"any"}
+    worker w2 returns string {
+        string received = "";
+        int? a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a is () ? "_" : a.toString();
+        a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a.toString();
+        a = <- w1;
+        received += a.toString();
+        return received;
+    }
+
+    return wait w2;
+}
+
 function getCurrentThreadName() returns string {
     handle t = currentThread();
     handle tName = getName(t);
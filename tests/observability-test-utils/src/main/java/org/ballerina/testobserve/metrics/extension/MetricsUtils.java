@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.observability.metrics.Counter;
 import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
 import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Histogram;
 import io.ballerina.runtime.observability.metrics.Metric;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
 import org.ballerina.testobserve.metrics.extension.model.Metrics;
@@ -59,6 +60,16 @@ public class MetricsUtils {
                 mockPolledGauge.setId(polledGauge.getId());
                 mockPolledGauge.setValue(polledGauge.getValue());
                 metrics.addPolledGauge(mockPolledGauge);
+            } else if (metric instanceof Histogram) {
+                // Histograms are reported in the same shape as summarized gauges
+                Histogram histogram = (Histogram) metric;
+                MockGauge mockGauge = new MockGauge();
+                mockGauge.setId(histogram.getId());
+                mockGauge.setValue(histogram.getValue());
+                mockGauge.setCount(histogram.getCount());
+                mockGauge.setSum(histogram.getSum());
+                mockGauge.setSnapshots(histogram.getSnapshots());
+                metrics.addGauge(mockGauge);
             }
         }
         return JsonUtils.parse(new Gson().toJson(metrics));